@@ -0,0 +1,59 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.EvaluationResult;
+import io.split.android.client.Evaluator;
+import io.split.android.client.EvaluatorImpl;
+import io.split.android.client.dtos.Split;
+import io.split.android.engine.experiments.SplitParser;
+
+/**
+ * Evaluation of splits that depend on other splits through
+ * {@link io.split.android.engine.matchers.DependencyMatcher}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DependencyMatcherBenchmark {
+
+    private static final String KEY = "user_key";
+
+    @Param({"1", "5", "10"})
+    public int depth;
+
+    private Evaluator mEvaluator;
+    private String mTopSplitName;
+
+    @Setup
+    public void setup() {
+        List<Split> splits = new ArrayList<>(SplitFixtures.dependencyChain("chain", depth));
+        splits.add(SplitFixtures.loadSplit("split_dependency.json"));
+        splits.addAll(SplitFixtures.loadSplitChange("split_changes_1.json"));
+        mTopSplitName = splits.get(depth - 1).name;
+        mEvaluator = new EvaluatorImpl(new InMemorySplitsStorage(splits),
+                new SplitParser(new InMemoryMySegmentsStorageContainer(Collections.<String>emptySet())));
+    }
+
+    @Benchmark
+    public EvaluationResult dependencyChain() {
+        return mEvaluator.getTreatment(KEY, null, mTopSplitName, null);
+    }
+
+    @Benchmark
+    public EvaluationResult fixtureDependency() {
+        return mEvaluator.getTreatment(KEY, null, "dep_split", null);
+    }
+}
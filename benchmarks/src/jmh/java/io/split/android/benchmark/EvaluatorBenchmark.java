@@ -0,0 +1,114 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.EvaluationResult;
+import io.split.android.client.Evaluator;
+import io.split.android.client.EvaluatorImpl;
+import io.split.android.client.dtos.Split;
+import io.split.android.engine.experiments.SplitParser;
+
+/**
+ * Single and bulk evaluations through {@link EvaluatorImpl}.
+ * The amount of conditions per split is capped by {@link SplitParser#CONDITIONS_UPPER_LIMIT},
+ * splits over that limit are dropped by the parser and never evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EvaluatorBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"10", "50"})
+    public int conditions;
+
+    @Param({"10", "100", "1000"})
+    public int splits;
+
+    private Evaluator mEvaluator;
+    private Evaluator mFixturesEvaluator;
+    private String[] mKeys;
+    private List<String> mSplitNames;
+    private List<String> mFixtureSplitNames;
+    private Map<String, Object> mAttributes;
+    private int mKeyIndex;
+
+    @Setup
+    public void setup() {
+        List<Split> splitList = new ArrayList<>();
+        mSplitNames = new ArrayList<>();
+        for (int i = 0; i < splits; i++) {
+            Split split = SplitFixtures.whitelistSplit("split_" + i, conditions);
+            splitList.add(split);
+            mSplitNames.add(split.name);
+        }
+
+        InMemoryMySegmentsStorageContainer segments = new InMemoryMySegmentsStorageContainer(
+                new HashSet<>(Arrays.asList("s1", "s2", "test_copy")));
+        mEvaluator = new EvaluatorImpl(new InMemorySplitsStorage(splitList), new SplitParser(segments));
+
+        List<Split> fixtures = SplitFixtures.loadSplitChange("split_changes_1.json");
+        mFixtureSplitNames = new ArrayList<>();
+        for (Split split : fixtures) {
+            mFixtureSplitNames.add(split.name);
+        }
+        mFixturesEvaluator = new EvaluatorImpl(new InMemorySplitsStorage(fixtures), new SplitParser(segments));
+
+        mKeys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            mKeys[i] = "user_" + i;
+        }
+
+        mAttributes = new HashMap<>();
+        mAttributes.put("age", 25);
+        mAttributes.put("country", "argentina");
+    }
+
+    @Benchmark
+    public EvaluationResult singleEvaluation() {
+        return mEvaluator.getTreatment(nextKey(), null, mSplitNames.get(0), mAttributes);
+    }
+
+    @Benchmark
+    public void bulkEvaluation(Blackhole blackhole) {
+        String key = nextKey();
+        for (int i = 0; i < mSplitNames.size(); i++) {
+            blackhole.consume(mEvaluator.getTreatment(key, null, mSplitNames.get(i), mAttributes));
+        }
+    }
+
+    @Benchmark
+    public void batchEvaluation(Blackhole blackhole) {
+        blackhole.consume(mEvaluator.getTreatments(nextKey(), null, mSplitNames, mAttributes));
+    }
+
+    @Benchmark
+    public void fixturesEvaluation(Blackhole blackhole) {
+        String key = nextKey();
+        for (int i = 0; i < mFixtureSplitNames.size(); i++) {
+            blackhole.consume(mFixturesEvaluator.getTreatment(key, null, mFixtureSplitNames.get(i), mAttributes));
+        }
+    }
+
+    private String nextKey() {
+        mKeyIndex = (mKeyIndex + 1) & (KEY_COUNT - 1);
+        return mKeys[mKeyIndex];
+    }
+}
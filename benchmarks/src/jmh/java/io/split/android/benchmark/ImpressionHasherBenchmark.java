@@ -0,0 +1,53 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.impressions.Impression;
+import io.split.android.client.service.impressions.ImpressionHasher;
+import io.split.android.client.service.impressions.ImpressionsObserver;
+
+/**
+ * Hashing and last seen lookup done for every impression to dedupe them in OPTIMIZED mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImpressionHasherBenchmark {
+
+    private static final int IMPRESSION_COUNT = 1024;
+
+    private Impression[] mImpressions;
+    private ImpressionsObserver mObserver;
+    private int mIndex;
+
+    @Setup
+    public void setup() {
+        mImpressions = new Impression[IMPRESSION_COUNT];
+        for (int i = 0; i < IMPRESSION_COUNT; i++) {
+            mImpressions[i] = new Impression("user_key_" + i, null, "split_" + (i % 50),
+                    (i % 2 == 0) ? "on" : "off", System.currentTimeMillis(), "default rule",
+                    1506703262916L, null);
+        }
+        mObserver = new ImpressionsObserver(500);
+    }
+
+    @Benchmark
+    public Long hash() {
+        mIndex = (mIndex + 1) & (IMPRESSION_COUNT - 1);
+        return ImpressionHasher.process(mImpressions[mIndex]);
+    }
+
+    @Benchmark
+    public Long observe() {
+        mIndex = (mIndex + 1) & (IMPRESSION_COUNT - 1);
+        return mObserver.testAndSet(mImpressions[mIndex]);
+    }
+}
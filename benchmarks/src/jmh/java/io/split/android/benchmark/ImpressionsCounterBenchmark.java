@@ -0,0 +1,58 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.service.impressions.ImpressionsCounter;
+
+/**
+ * Impression counting done for every evaluation in OPTIMIZED mode.
+ * Run with {@code -prof gc} to see allocations per increment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImpressionsCounterBenchmark {
+
+    private static final int FEATURE_COUNT = 64;
+
+    private String[] mFeatures;
+    private ImpressionsCounter mCounter;
+    private long mTime;
+
+    @Setup
+    public void setup() {
+        mFeatures = new String[FEATURE_COUNT];
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            mFeatures[i] = "split_" + i;
+        }
+        mCounter = new ImpressionsCounter();
+        mTime = System.currentTimeMillis();
+    }
+
+    @State(Scope.Thread)
+    public static class FeatureIndex {
+        int value;
+    }
+
+    @Benchmark
+    public void inc(FeatureIndex index) {
+        index.value = (index.value + 1) & (FEATURE_COUNT - 1);
+        mCounter.inc(mFeatures[index.value], mTime, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void incConcurrent(FeatureIndex index) {
+        index.value = (index.value + 1) & (FEATURE_COUNT - 1);
+        mCounter.inc(mFeatures[index.value], mTime, 1);
+    }
+}
@@ -0,0 +1,81 @@
+package io.split.android.benchmark;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.split.android.client.storage.mysegments.MySegmentsSnapshot;
+import io.split.android.client.storage.mysegments.MySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
+
+/**
+ * Segments container where every key belongs to the same fixed set of segments.
+ */
+class InMemoryMySegmentsStorageContainer implements MySegmentsStorageContainer {
+
+    private final Set<String> mSegments;
+    private final Map<String, MySegmentsStorage> mStorages = new ConcurrentHashMap<>();
+
+    InMemoryMySegmentsStorageContainer(Set<String> segments) {
+        mSegments = MySegmentsSnapshot.of(segments);
+    }
+
+    @Override
+    public MySegmentsStorage getStorageForKey(String matchingKey) {
+        MySegmentsStorage storage = mStorages.get(matchingKey);
+        if (storage == null) {
+            storage = new FixedMySegmentsStorage(mSegments);
+            mStorages.put(matchingKey, storage);
+        }
+        return storage;
+    }
+
+    @Override
+    public MySegmentsStorage getStorageIfPresent(String matchingKey) {
+        return getStorageForKey(matchingKey);
+    }
+
+    @Override
+    public long getUniqueAmount() {
+        return mSegments.size();
+    }
+
+    private static class FixedMySegmentsStorage implements MySegmentsStorage {
+
+        private final Set<String> mSegments;
+
+        FixedMySegmentsStorage(Set<String> segments) {
+            mSegments = segments;
+        }
+
+        @Override
+        public void loadLocal() {
+        }
+
+        @Override
+        public Set<String> getAll() {
+            return mSegments;
+        }
+
+        @Override
+        public void set(@NonNull List<String> mySegments) {
+        }
+
+        @Override
+        public boolean add(@NonNull String segmentName) {
+            return false;
+        }
+
+        @Override
+        public boolean remove(@NonNull String segmentName) {
+            return false;
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+}
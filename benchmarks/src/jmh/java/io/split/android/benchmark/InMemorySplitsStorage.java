@@ -0,0 +1,114 @@
+package io.split.android.benchmark;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.split.android.client.dtos.Split;
+import io.split.android.client.storage.splits.ProcessedSplitChange;
+import io.split.android.client.storage.splits.SplitViews;
+import io.split.android.client.storage.splits.SplitViewsCache;
+import io.split.android.client.storage.splits.SplitsStorage;
+
+/**
+ * Splits storage without persistence, so that benchmarks measure only the evaluation path.
+ */
+class InMemorySplitsStorage implements SplitsStorage {
+
+    private final Map<String, Split> mSplits = new ConcurrentHashMap<>();
+    private final SplitViewsCache mSplitViewsCache = new SplitViewsCache();
+    private long mChangeNumber = -1;
+
+    InMemorySplitsStorage(List<Split> splits) {
+        for (Split split : splits) {
+            mSplits.put(split.name, split);
+        }
+    }
+
+    @Override
+    public void loadLocal() {
+    }
+
+    @Override
+    public Split get(@NonNull String name) {
+        return mSplits.get(name);
+    }
+
+    @Override
+    public Map<String, Split> getMany(@NonNull List<String> splitNames) {
+        Map<String, Split> splits = new HashMap<>();
+        if (splitNames == null || splitNames.isEmpty()) {
+            splits.putAll(mSplits);
+            return splits;
+        }
+
+        for (String name : splitNames) {
+            Split split = mSplits.get(name);
+            if (split != null) {
+                splits.put(name, split);
+            }
+        }
+        return splits;
+    }
+
+    @Override
+    public Map<String, Split> getAll() {
+        return getMany(null);
+    }
+
+    @Override
+    public SplitViews getSplitViews() {
+        return mSplitViewsCache.get(mSplits.values());
+    }
+
+    @Override
+    public void update(ProcessedSplitChange splitChange) {
+        for (Split split : splitChange.getActiveSplits()) {
+            mSplits.put(split.name, split);
+        }
+        for (Split split : splitChange.getArchivedSplits()) {
+            mSplits.remove(split.name);
+        }
+        mSplitViewsCache.invalidate();
+        mChangeNumber = splitChange.getChangeNumber();
+    }
+
+    @Override
+    public void updateWithoutChecks(Split split) {
+        mSplits.put(split.name, split);
+        mSplitViewsCache.invalidate();
+    }
+
+    @Override
+    public boolean isValidTrafficType(@NonNull String name) {
+        return true;
+    }
+
+    @Override
+    public long getTill() {
+        return mChangeNumber;
+    }
+
+    @Override
+    public long getUpdateTimestamp() {
+        return 0;
+    }
+
+    @Override
+    public String getSplitsFilterQueryString() {
+        return null;
+    }
+
+    @Override
+    public void updateSplitsFilterQueryString(String queryString) {
+    }
+
+    @Override
+    public void clear() {
+        mSplits.clear();
+        mSplitViewsCache.invalidate();
+    }
+}
@@ -0,0 +1,62 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.utils.LogMessageSupplier;
+import io.split.android.client.utils.LogSink;
+import io.split.android.client.utils.Logger;
+
+/**
+ * Debug logs of a fetched response with debug disabled, which is the production setup.
+ * {@code legacyDebugDisabled} builds the message before the level check, as the
+ * previous logger did.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerBenchmark {
+
+    private URI mUri;
+    private String mResponse;
+
+    @Setup
+    public void setup() {
+        Logger.instance().debugLevel(false);
+        Logger.setSink(new LogSink() {
+            @Override
+            public void log(int priority, String tag, String message, Throwable throwable) {
+            }
+        });
+        mUri = URI.create("https://sdk.split.io/api/splitChanges?since=-1");
+        mResponse = SplitFixtures.loadResource("split_changes_1.json");
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        Logger.d("Received from: %s -> %s", mUri, mResponse);
+    }
+
+    @Benchmark
+    public void debugDisabledWithSupplier() {
+        Logger.d(new LogMessageSupplier() {
+            @Override
+            public String getMessage() {
+                return "Received from: " + mUri + " -> " + mResponse;
+            }
+        });
+    }
+
+    @Benchmark
+    public void legacyDebugDisabled() {
+        Logger.d("Received from: " + mUri.toString() + " -> " + mResponse);
+    }
+}
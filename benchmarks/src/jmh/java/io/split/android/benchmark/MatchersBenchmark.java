@@ -0,0 +1,195 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.EvaluationResult;
+import io.split.android.client.Evaluator;
+import io.split.android.client.EvaluatorImpl;
+import io.split.android.client.dtos.DataType;
+import io.split.android.engine.experiments.SplitParser;
+import io.split.android.engine.matchers.AllKeysMatcher;
+import io.split.android.engine.matchers.BetweenMatcher;
+import io.split.android.engine.matchers.BooleanMatcher;
+import io.split.android.engine.matchers.EqualToMatcher;
+import io.split.android.engine.matchers.GreaterThanOrEqualToMatcher;
+import io.split.android.engine.matchers.LessThanOrEqualToMatcher;
+import io.split.android.engine.matchers.Matcher;
+import io.split.android.engine.matchers.MySegmentsMatcher;
+import io.split.android.engine.matchers.collections.ContainsAllOfSetMatcher;
+import io.split.android.engine.matchers.collections.ContainsAnyOfSetMatcher;
+import io.split.android.engine.matchers.collections.EqualToSetMatcher;
+import io.split.android.engine.matchers.collections.PartOfSetMatcher;
+import io.split.android.engine.matchers.strings.ContainsAnyOfMatcher;
+import io.split.android.engine.matchers.strings.EndsWithAnyOfMatcher;
+import io.split.android.engine.matchers.strings.RegularExpressionMatcher;
+import io.split.android.engine.matchers.strings.StartsWithAnyOfMatcher;
+import io.split.android.engine.matchers.strings.WhitelistMatcher;
+
+/**
+ * Each matcher of the engine on its own, plus evaluation of splits made of regex and set matchers.
+ * {@code setSize} controls the size of the sets and lists the matchers compare against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchersBenchmark {
+
+    private static final String KEY = "user_1234_7";
+
+    @Param({"10", "100"})
+    public int setSize;
+
+    private Matcher mAllKeys;
+    private Matcher mWhitelist;
+    private Matcher mMySegments;
+    private Matcher mEqualTo;
+    private Matcher mGreaterThanOrEqualTo;
+    private Matcher mLessThanOrEqualTo;
+    private Matcher mBetween;
+    private Matcher mBoolean;
+    private Matcher mRegex;
+    private Matcher mStartsWith;
+    private Matcher mEndsWith;
+    private Matcher mContainsString;
+    private Matcher mEqualToSet;
+    private Matcher mPartOfSet;
+    private Matcher mContainsAllOfSet;
+    private Matcher mContainsAnyOfSet;
+    private List<String> mAttributeSet;
+    private Evaluator mEvaluator;
+    private Map<String, Object> mAttributes;
+
+    @Setup
+    public void setup() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < setSize; i++) {
+            values.add("value_" + i);
+        }
+        mAttributeSet = new ArrayList<>(values.subList(0, Math.min(5, values.size())));
+        InMemoryMySegmentsStorageContainer segments = new InMemoryMySegmentsStorageContainer(
+                new java.util.HashSet<>(values));
+
+        mAllKeys = new AllKeysMatcher();
+        mWhitelist = new WhitelistMatcher(values);
+        mMySegments = new MySegmentsMatcher(segments, "value_" + (setSize - 1));
+        mEqualTo = new EqualToMatcher(100, DataType.NUMBER);
+        mGreaterThanOrEqualTo = new GreaterThanOrEqualToMatcher(100, DataType.NUMBER);
+        mLessThanOrEqualTo = new LessThanOrEqualToMatcher(100, DataType.NUMBER);
+        mBetween = new BetweenMatcher(10, 1000, DataType.NUMBER);
+        mBoolean = new BooleanMatcher(true);
+        mRegex = new RegularExpressionMatcher("^user_[0-9]+_[0-9]$");
+        mStartsWith = new StartsWithAnyOfMatcher(values);
+        mEndsWith = new EndsWithAnyOfMatcher(values);
+        mContainsString = new ContainsAnyOfMatcher(values);
+        mEqualToSet = new EqualToSetMatcher(values);
+        mPartOfSet = new PartOfSetMatcher(values);
+        mContainsAllOfSet = new ContainsAllOfSetMatcher(values.subList(0, Math.min(5, values.size())));
+        mContainsAnyOfSet = new ContainsAnyOfSetMatcher(values);
+
+        mEvaluator = new EvaluatorImpl(
+                new InMemorySplitsStorage(Arrays.asList(SplitFixtures.regexAndSetSplit("regex_and_set", 10))),
+                new SplitParser(segments));
+        mAttributes = new HashMap<>();
+        mAttributes.put("tags", Arrays.asList("tag_a", "tag_b"));
+        mAttributes.put("age", 30);
+    }
+
+    @Benchmark
+    public boolean allKeys() {
+        return mAllKeys.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean whitelist() {
+        return mWhitelist.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean mySegments() {
+        return mMySegments.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean equalTo() {
+        return mEqualTo.match(100L, null, null, null);
+    }
+
+    @Benchmark
+    public boolean greaterThanOrEqualTo() {
+        return mGreaterThanOrEqualTo.match(100L, null, null, null);
+    }
+
+    @Benchmark
+    public boolean lessThanOrEqualTo() {
+        return mLessThanOrEqualTo.match(100L, null, null, null);
+    }
+
+    @Benchmark
+    public boolean between() {
+        return mBetween.match(100L, null, null, null);
+    }
+
+    @Benchmark
+    public boolean booleanMatcher() {
+        return mBoolean.match("true", null, null, null);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return mRegex.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean startsWith() {
+        return mStartsWith.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean endsWith() {
+        return mEndsWith.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean containsString() {
+        return mContainsString.match(KEY, null, null, null);
+    }
+
+    @Benchmark
+    public boolean equalToSet() {
+        return mEqualToSet.match(mAttributeSet, null, null, null);
+    }
+
+    @Benchmark
+    public boolean partOfSet() {
+        return mPartOfSet.match(mAttributeSet, null, null, null);
+    }
+
+    @Benchmark
+    public boolean containsAllOfSet() {
+        return mContainsAllOfSet.match(mAttributeSet, null, null, null);
+    }
+
+    @Benchmark
+    public boolean containsAnyOfSet() {
+        return mContainsAnyOfSet.match(mAttributeSet, null, null, null);
+    }
+
+    @Benchmark
+    public EvaluationResult regexAndSetSplitEvaluation() {
+        return mEvaluator.getTreatment(KEY, null, "regex_and_set", mAttributes);
+    }
+}
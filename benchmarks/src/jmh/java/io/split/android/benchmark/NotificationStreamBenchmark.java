@@ -0,0 +1,134 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.service.sseclient.EventStreamParser;
+import io.split.android.client.service.sseclient.notifications.IncomingNotification;
+import io.split.android.client.service.sseclient.notifications.IncomingNotificationType;
+import io.split.android.client.service.sseclient.notifications.NotificationParser;
+import io.split.android.client.service.sseclient.notifications.NotificationType;
+import io.split.android.client.utils.Json;
+
+/**
+ * Decoding of a streaming connection replaying the recorded push messages used by
+ * the instrumented tests. {@code legacyDecode} reproduces the previous decoding,
+ * which parsed the message data once to read its type and again to bind it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationStreamBenchmark {
+
+    private static final String[] RECORDED_MESSAGES = {
+            "push_msg-split_update.txt",
+            "push_msg-split_kill_old.txt",
+            "push_msg-segment_update.txt",
+            "push_msg-control.txt",
+            "push_msg-occupancy.txt"
+    };
+    private static final String KEEP_ALIVE = ":keepalive\n\n";
+
+    @Param({"100"})
+    public int messageCount;
+
+    private String mStream;
+    private EventStreamParser mEventStreamParser;
+    private NotificationParser mNotificationParser;
+
+    @Setup
+    public void setup() {
+        String[] messages = new String[RECORDED_MESSAGES.length];
+        for (int i = 0; i < RECORDED_MESSAGES.length; i++) {
+            messages[i] = SplitFixtures.loadResource(RECORDED_MESSAGES[i])
+                    .replace("$TIMESTAMP$", "1584554772719")
+                    .replace("$CONTROL_TYPE$", "STREAMING_PAUSED")
+                    .replace("$CHANNEL$", "control_pri")
+                    .replace("$PUBLISHERS$", "1")
+                    .trim();
+        }
+
+        StringBuilder stream = new StringBuilder();
+        for (int i = 0; i < messageCount; i++) {
+            stream.append(messages[i % messages.length]).append("\n\n");
+            if (i % 10 == 9) {
+                stream.append(KEEP_ALIVE);
+            }
+        }
+        mStream = stream.toString();
+        mEventStreamParser = new EventStreamParser();
+        mNotificationParser = new NotificationParser();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(mStream));
+        Map<String, String> values = new HashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (mEventStreamParser.parseLineAndAppendValue(line, values)) {
+                if (!mEventStreamParser.isKeepAlive(values)) {
+                    blackhole.consume(mNotificationParser.parseIncoming(values.get(EventStreamParser.DATA_FIELD)));
+                }
+                values.clear();
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyDecode(Blackhole blackhole) throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(mStream));
+        Map<String, String> values = new HashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (mEventStreamParser.parseLineAndAppendValue(line, values)) {
+                if (!mEventStreamParser.isKeepAlive(values)) {
+                    blackhole.consume(legacyParse(values.get(EventStreamParser.DATA_FIELD)));
+                }
+                values = new HashMap<>();
+            }
+        }
+    }
+
+    private Object legacyParse(String message) {
+        Envelope envelope = Json.fromJson(message, Envelope.class);
+        NotificationType type = Json.fromJson(envelope.data, IncomingNotificationType.class).getType();
+        if (type == null) {
+            return mNotificationParser.parseOccupancy(envelope.data);
+        }
+        switch (type) {
+            case SPLIT_UPDATE:
+                return mNotificationParser.parseSplitUpdate(envelope.data);
+            case SPLIT_KILL:
+                return mNotificationParser.parseSplitKill(envelope.data);
+            case MY_SEGMENTS_UPDATE:
+                return mNotificationParser.parseMySegmentUpdate(envelope.data);
+            case CONTROL:
+                return mNotificationParser.parseControl(envelope.data);
+            default:
+                return Json.fromJson(envelope.data, IncomingNotification.class);
+        }
+    }
+
+    private static class Envelope {
+        String clientId;
+        String name;
+        String data;
+        String channel;
+        long timestamp;
+    }
+}
@@ -0,0 +1,196 @@
+package io.split.android.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.ConditionType;
+import io.split.android.client.dtos.DataType;
+import io.split.android.client.dtos.DependencyMatcherData;
+import io.split.android.client.dtos.KeySelector;
+import io.split.android.client.dtos.Matcher;
+import io.split.android.client.dtos.MatcherCombiner;
+import io.split.android.client.dtos.MatcherGroup;
+import io.split.android.client.dtos.MatcherType;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.dtos.SplitChange;
+import io.split.android.client.dtos.Status;
+import io.split.android.client.dtos.UnaryNumericMatcherData;
+import io.split.android.client.dtos.WhitelistMatcherData;
+import io.split.android.client.utils.Json;
+
+/**
+ * Split definitions used by the benchmarks. Real definitions are loaded from the
+ * test fixtures, synthetic ones are built to scale the amount of conditions and matchers.
+ */
+final class SplitFixtures {
+
+    static final String TRAFFIC_TYPE = "user";
+
+    private SplitFixtures() {
+    }
+
+    static List<Split> loadSplitChange(String resource) {
+        return Json.fromJson(loadResource(resource), SplitChange.class).splits;
+    }
+
+    static Split loadSplit(String resource) {
+        return Json.fromJson(loadResource(resource), Split.class);
+    }
+
+    /**
+     * Builds a split with {@code conditions} conditions. All of them but the last one
+     * are whitelists the evaluated keys are not part of, so evaluation always walks every
+     * condition before reaching the rollout one.
+     */
+    static Split whitelistSplit(String name, int conditions) {
+        List<Condition> conditionList = new ArrayList<>();
+        for (int i = 0; i < conditions - 1; i++) {
+            conditionList.add(condition(ConditionType.WHITELIST,
+                    whitelistMatcher(MatcherType.WHITELIST, null, "wl_" + i + "_a", "wl_" + i + "_b", "wl_" + i + "_c")));
+        }
+        conditionList.add(condition(ConditionType.ROLLOUT, allKeysMatcher()));
+        return split(name, conditionList);
+    }
+
+    /**
+     * Builds a split where every condition combines a regex matcher with set matchers
+     * over attributes, followed by a rollout condition.
+     */
+    static Split regexAndSetSplit(String name, int conditions) {
+        List<Condition> conditionList = new ArrayList<>();
+        for (int i = 0; i < conditions - 1; i++) {
+            conditionList.add(condition(ConditionType.ROLLOUT,
+                    stringMatcher("^user_[0-9]+_" + i + "$"),
+                    whitelistMatcher(MatcherType.CONTAINS_ANY_OF_SET, "tags", "tag_" + i, "other_tag_" + i),
+                    whitelistMatcher(MatcherType.PART_OF_SET, "tags", "tag_a", "tag_b", "tag_c", "tag_" + i),
+                    numericMatcher(MatcherType.GREATER_THAN_OR_EQUAL_TO, "age", 18)));
+        }
+        conditionList.add(condition(ConditionType.ROLLOUT, allKeysMatcher()));
+        return split(name, conditionList);
+    }
+
+    /**
+     * Builds a chain of {@code depth} splits where each one depends on the previous one.
+     * The last split of the list is the top of the chain.
+     */
+    static List<Split> dependencyChain(String prefix, int depth) {
+        List<Split> splits = new ArrayList<>();
+        splits.add(split(prefix + "_0", Collections.singletonList(condition(ConditionType.ROLLOUT, allKeysMatcher()))));
+        for (int i = 1; i < depth; i++) {
+            Matcher matcher = new Matcher();
+            matcher.matcherType = MatcherType.IN_SPLIT_TREATMENT;
+            matcher.keySelector = keySelector(null);
+            matcher.dependencyMatcherData = new DependencyMatcherData();
+            matcher.dependencyMatcherData.split = prefix + "_" + (i - 1);
+            matcher.dependencyMatcherData.treatments = Arrays.asList("on", "off");
+            splits.add(split(prefix + "_" + i, Collections.singletonList(condition(ConditionType.ROLLOUT, matcher))));
+        }
+        return splits;
+    }
+
+    static List<Partition> partitions() {
+        return Arrays.asList(partition("on", 50), partition("off", 50));
+    }
+
+    private static Split split(String name, List<Condition> conditions) {
+        Split split = new Split();
+        split.name = name;
+        split.seed = name.hashCode();
+        split.status = Status.ACTIVE;
+        split.killed = false;
+        split.defaultTreatment = "off";
+        split.conditions = conditions;
+        split.trafficTypeName = TRAFFIC_TYPE;
+        split.changeNumber = 1;
+        split.trafficAllocation = 100;
+        split.trafficAllocationSeed = -name.hashCode();
+        split.algo = 2;
+        return split;
+    }
+
+    private static Condition condition(ConditionType type, Matcher... matchers) {
+        Condition condition = new Condition();
+        condition.conditionType = type;
+        condition.matcherGroup = new MatcherGroup();
+        condition.matcherGroup.combiner = MatcherCombiner.AND;
+        condition.matcherGroup.matchers = Arrays.asList(matchers);
+        condition.partitions = partitions();
+        condition.label = type.name().toLowerCase();
+        return condition;
+    }
+
+    private static Matcher allKeysMatcher() {
+        Matcher matcher = new Matcher();
+        matcher.matcherType = MatcherType.ALL_KEYS;
+        matcher.keySelector = keySelector(null);
+        return matcher;
+    }
+
+    private static Matcher whitelistMatcher(MatcherType type, String attribute, String... values) {
+        Matcher matcher = new Matcher();
+        matcher.matcherType = type;
+        matcher.keySelector = keySelector(attribute);
+        matcher.whitelistMatcherData = new WhitelistMatcherData();
+        matcher.whitelistMatcherData.whitelist = Arrays.asList(values);
+        return matcher;
+    }
+
+    private static Matcher stringMatcher(String regex) {
+        Matcher matcher = new Matcher();
+        matcher.matcherType = MatcherType.MATCHES_STRING;
+        matcher.keySelector = keySelector(null);
+        matcher.stringMatcherData = regex;
+        return matcher;
+    }
+
+    private static Matcher numericMatcher(MatcherType type, String attribute, long value) {
+        Matcher matcher = new Matcher();
+        matcher.matcherType = type;
+        matcher.keySelector = keySelector(attribute);
+        matcher.unaryNumericMatcherData = new UnaryNumericMatcherData();
+        matcher.unaryNumericMatcherData.dataType = DataType.NUMBER;
+        matcher.unaryNumericMatcherData.value = value;
+        return matcher;
+    }
+
+    private static KeySelector keySelector(String attribute) {
+        KeySelector keySelector = new KeySelector();
+        keySelector.trafficType = TRAFFIC_TYPE;
+        keySelector.attribute = attribute;
+        return keySelector;
+    }
+
+    private static Partition partition(String treatment, int size) {
+        Partition partition = new Partition();
+        partition.treatment = treatment;
+        partition.size = size;
+        return partition;
+    }
+
+    static String loadResource(String name) {
+        InputStream stream = SplitFixtures.class.getClassLoader().getResourceAsStream(name);
+        if (stream == null) {
+            throw new IllegalArgumentException("Fixture not found: " + name);
+        }
+
+        StringBuilder content = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                content.append(line).append('\n');
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read fixture: " + name, e);
+        }
+        return content.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.SplitManager;
+import io.split.android.client.SplitManagerImpl;
+import io.split.android.client.api.SplitView;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.validators.SplitValidatorImpl;
+import io.split.android.engine.experiments.ParsedCondition;
+import io.split.android.engine.experiments.ParsedSplit;
+import io.split.android.engine.experiments.SplitParser;
+
+/**
+ * Listing all splits through the manager, as debug screens do.
+ * {@code legacySplits} reproduces the previous implementation, which copied the
+ * storage and parsed every split on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitManagerBenchmark {
+
+    @Param({"100", "1000"})
+    public int splits;
+
+    private InMemorySplitsStorage mSplitsStorage;
+    private SplitManager mSplitManager;
+    private SplitParser mSplitParser;
+
+    @Setup
+    public void setup() {
+        List<Split> splitList = new ArrayList<>();
+        for (int i = 0; i < splits; i++) {
+            splitList.add(SplitFixtures.regexAndSetSplit("split_" + i, 10));
+        }
+        mSplitsStorage = new InMemorySplitsStorage(splitList);
+        mSplitManager = new SplitManagerImpl(mSplitsStorage, new SplitValidatorImpl());
+        mSplitParser = new SplitParser(new InMemoryMySegmentsStorageContainer(Collections.<String>emptySet()));
+    }
+
+    @Benchmark
+    public List<SplitView> splits() {
+        return mSplitManager.splits();
+    }
+
+    @Benchmark
+    public void legacySplits(Blackhole blackhole) {
+        List<SplitView> result = new ArrayList<>();
+        for (Split split : mSplitsStorage.getAll().values()) {
+            ParsedSplit parsedSplit = mSplitParser.parse(split);
+            if (parsedSplit != null) {
+                SplitView splitView = new SplitView();
+                splitView.name = parsedSplit.feature();
+                splitView.trafficType = parsedSplit.trafficTypeName();
+                splitView.killed = parsedSplit.killed();
+                splitView.changeNumber = parsedSplit.changeNumber();
+                splitView.configs = parsedSplit.configurations();
+
+                Set<String> treatments = new HashSet<>();
+                for (ParsedCondition condition : parsedSplit.parsedConditions()) {
+                    for (Partition partition : condition.partitions()) {
+                        treatments.add(partition.treatment);
+                    }
+                }
+                treatments.add(parsedSplit.defaultTreatment());
+                splitView.treatments = new ArrayList<>(treatments);
+                result.add(splitView);
+            }
+        }
+        blackhole.consume(result);
+    }
+}
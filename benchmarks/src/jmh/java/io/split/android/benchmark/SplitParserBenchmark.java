@@ -0,0 +1,61 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.dtos.Split;
+import io.split.android.engine.experiments.ParsedSplit;
+import io.split.android.engine.experiments.SplitParser;
+
+/**
+ * Cost of compiling split definitions into {@link ParsedSplit}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SplitParserBenchmark {
+
+    @Param({"10", "50"})
+    public int conditions;
+
+    private SplitParser mSplitParser;
+    private Split mWhitelistSplit;
+    private Split mRegexAndSetSplit;
+    private List<Split> mFixtures;
+
+    @Setup
+    public void setup() {
+        mSplitParser = new SplitParser(new InMemoryMySegmentsStorageContainer(Collections.<String>emptySet()));
+        mWhitelistSplit = SplitFixtures.whitelistSplit("whitelist_split", conditions);
+        mRegexAndSetSplit = SplitFixtures.regexAndSetSplit("regex_split", conditions);
+        mFixtures = SplitFixtures.loadSplitChange("split_changes_1.json");
+    }
+
+    @Benchmark
+    public ParsedSplit parseWhitelistSplit() {
+        return mSplitParser.parse(mWhitelistSplit);
+    }
+
+    @Benchmark
+    public ParsedSplit parseRegexAndSetSplit() {
+        return mSplitParser.parse(mRegexAndSetSplit);
+    }
+
+    @Benchmark
+    public void parseFixtures(Blackhole blackhole) {
+        for (int i = 0; i < mFixtures.size(); i++) {
+            blackhole.consume(mSplitParser.parse(mFixtures.get(i)));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.dtos.Split;
+import io.split.android.client.storage.splits.SplitsSnapshotFile;
+import io.split.android.client.utils.Json;
+
+/**
+ * Cost of loading cached splits on startup: parsing the JSON body of each split
+ * as stored in the database, compared to reading the binary snapshot file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitsSnapshotBenchmark {
+
+    private static final long CHANGE_NUMBER = 1000;
+
+    @Param({"100", "2000"})
+    public int splits;
+
+    private List<String> mJsonBodies;
+    private File mFile;
+    private SplitsSnapshotFile mSnapshotFile;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Split> fixtures = SplitFixtures.loadSplitChange("split_changes_1.json");
+        List<Split> splitList = new ArrayList<>(splits);
+        mJsonBodies = new ArrayList<>(splits);
+        for (int i = 0; i < splits; i++) {
+            Split split = Json.fromJson(Json.toJson(fixtures.get(i % fixtures.size())), Split.class);
+            split.name = split.name + "_" + i;
+            splitList.add(split);
+            mJsonBodies.add(Json.toJson(split));
+        }
+
+        mFile = File.createTempFile("splits_snapshot", ".bin");
+        mSnapshotFile = new SplitsSnapshotFile(mFile);
+        mSnapshotFile.write(splitList, CHANGE_NUMBER);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Benchmark
+    public List<Split> parseJsonBodies() {
+        List<Split> result = new ArrayList<>(mJsonBodies.size());
+        for (String body : mJsonBodies) {
+            result.add(Json.fromJson(body, Split.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Split> readSnapshotFile() {
+        return mSnapshotFile.read(CHANGE_NUMBER);
+    }
+}
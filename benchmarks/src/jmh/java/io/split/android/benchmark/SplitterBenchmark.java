@@ -0,0 +1,69 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.utils.MurmurHash3;
+import io.split.android.engine.splitter.Splitter;
+
+/**
+ * Bucketing and hashing used to pick a treatment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SplitterBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+    private static final int SEED = 1570767299;
+    private static final int ALGO_MURMUR = 2;
+    private static final int ALGO_LEGACY = 1;
+
+    private String[] mKeys;
+    private List<Partition> mPartitions;
+    private int mKeyIndex;
+
+    @Setup
+    public void setup() {
+        mKeys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            mKeys[i] = "user_key_" + i + "_áéí";
+        }
+        mPartitions = SplitFixtures.partitions();
+    }
+
+    @Benchmark
+    public long murmurHash() {
+        String key = nextKey();
+        return MurmurHash3.murmurhash3_x86_32(key, 0, key.length(), SEED);
+    }
+
+    @Benchmark
+    public int murmurBucket() {
+        return Splitter.getBucket(nextKey(), SEED, ALGO_MURMUR);
+    }
+
+    @Benchmark
+    public int legacyBucket() {
+        return Splitter.getBucket(nextKey(), SEED, ALGO_LEGACY);
+    }
+
+    @Benchmark
+    public String treatment() {
+        return Splitter.getTreatment(nextKey(), SEED, mPartitions, ALGO_MURMUR);
+    }
+
+    private String nextKey() {
+        mKeyIndex = (mKeyIndex + 1) & (KEY_COUNT - 1);
+        return mKeys[mKeyIndex];
+    }
+}
@@ -0,0 +1,87 @@
+package io.split.android.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.EventPropertiesProcessor;
+import io.split.android.client.EventPropertiesProcessorImpl;
+import io.split.android.client.dtos.Event;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.validators.EventValidator;
+import io.split.android.client.validators.EventValidatorImpl;
+import io.split.android.client.validators.KeyValidatorImpl;
+import io.split.android.client.validators.ValidationConfig;
+
+/**
+ * Validation done by {@code track} for an event with a few properties, repeating the
+ * same event type as apps usually do. {@code legacyValidate} reproduces the previous
+ * checks, which compiled the event name regex and encoded every property per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrackValidationBenchmark {
+
+    private static final String TYPE_REGEX = ValidationConfig.getInstance().getTrackEventNamePattern();
+
+    private Event mEvent;
+    private Map<String, Object> mProperties;
+    private EventValidator mEventValidator;
+    private EventPropertiesProcessor mPropertiesProcessor;
+
+    @Setup
+    public void setup() {
+        mEvent = new Event();
+        mEvent.key = "user_key";
+        mEvent.trafficTypeName = "user";
+        mEvent.eventTypeId = "checkout.completed";
+        mEvent.value = 10.5;
+
+        mProperties = new HashMap<>();
+        mProperties.put("plan", "premium");
+        mProperties.put("country", "uruguay");
+        mProperties.put("items", 3);
+        mProperties.put("returning", true);
+
+        mEventValidator = new EventValidatorImpl(new KeyValidatorImpl(),
+                new InMemorySplitsStorage(Collections.<Split>emptyList()));
+        mPropertiesProcessor = new EventPropertiesProcessorImpl();
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        blackhole.consume(mEventValidator.validate(mEvent, false));
+        blackhole.consume(mPropertiesProcessor.process(mProperties));
+    }
+
+    @Benchmark
+    public void legacyValidate(Blackhole blackhole) {
+        blackhole.consume(mEvent.trafficTypeName.trim().isEmpty());
+        blackhole.consume(mEvent.eventTypeId.trim().isEmpty());
+        blackhole.consume(mEvent.eventTypeId.matches(TYPE_REGEX));
+        blackhole.consume(mEvent.trafficTypeName.toLowerCase().equals(mEvent.trafficTypeName));
+
+        int sizeInBytes = 0;
+        Map<String, Object> finalProperties = new HashMap<>(mProperties);
+        for (Map.Entry<String, Object> entry : mProperties.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                sizeInBytes += ((String) value).getBytes().length;
+            }
+            sizeInBytes += entry.getKey().getBytes().length;
+        }
+        blackhole.consume(finalProperties);
+        blackhole.consume(sizeInBytes);
+    }
+}
@@ -3,10 +3,17 @@ package fake;
 import io.split.android.client.network.HttpException;
 import io.split.android.client.network.HttpRequest;
 import io.split.android.client.network.HttpResponse;
+import io.split.android.client.network.HttpStreamResponse;
+import io.split.android.client.network.HttpStreamResponseImpl;
 
 public class HttpRequestStub implements HttpRequest {
     @Override
     public HttpResponse execute() throws HttpException {
         return new HttpResponseStub(200, true);
     }
+
+    @Override
+    public HttpStreamResponse executeStreaming() throws HttpException {
+        return new HttpStreamResponseImpl(200, null);
+    }
 }
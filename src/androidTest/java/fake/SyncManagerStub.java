@@ -1,5 +1,7 @@
 package fake;
 
+import java.util.List;
+
 import io.split.android.client.dtos.Event;
 import io.split.android.client.impressions.Impression;
 import io.split.android.client.service.synchronizer.SyncManager;
@@ -38,4 +40,8 @@ public class SyncManagerStub implements SyncManager {
     @Override
     public void pushImpression(Impression impression) {
     }
+
+    @Override
+    public void pushImpressions(List<Impression> impressions) {
+    }
 }
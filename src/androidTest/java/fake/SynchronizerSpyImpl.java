@@ -1,5 +1,6 @@
 package fake;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -102,6 +103,11 @@ public class SynchronizerSpyImpl implements SynchronizerSpy, MySegmentsSynchroni
         mSynchronizer.pushImpression(impression);
     }
 
+    @Override
+    public void pushImpressions(List<Impression> impressions) {
+        mSynchronizer.pushImpressions(impressions);
+    }
+
     @Override
     public void flush() {
         mSynchronizer.flush();
@@ -0,0 +1,335 @@
+package io.split.android.client;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.split.android.client.events.SplitEvent;
+import io.split.android.client.events.SplitEventTask;
+import io.split.android.client.events.executors.SplitEventExecutorWithClient;
+import io.split.android.client.utils.Logger;
+import io.split.android.grammar.Treatments;
+
+/**
+ * Client returned by a factory that is still being built.
+ * Until the actual client is available, evaluations return control and
+ * calls with side effects are kept and replayed on the actual client in order.
+ * Attributes set in the meantime are only readable once the client is available.
+ * If the factory can't be built, pending calls are discarded and
+ * SDK_READY_TIMED_OUT listeners are notified.
+ */
+class AsyncSplitClient implements SplitClient {
+
+    private static final int MAX_PENDING_CALLS = 1000;
+
+    private interface PendingCall {
+        void run(SplitClient client);
+    }
+
+    private static class EventListenerCall implements PendingCall {
+        final SplitEvent event;
+        final SplitEventTask task;
+
+        EventListenerCall(SplitEvent event, SplitEventTask task) {
+            this.event = event;
+            this.task = task;
+        }
+
+        @Override
+        public void run(SplitClient client) {
+            client.on(event, task);
+        }
+    }
+
+    private volatile SplitClient mClient;
+    private volatile boolean mIsFailed = false;
+    private final List<PendingCall> mPendingCalls = new ArrayList<>();
+
+    void attach(@NonNull SplitClient client) {
+        synchronized (mPendingCalls) {
+            for (PendingCall call : mPendingCalls) {
+                call.run(client);
+            }
+            mPendingCalls.clear();
+            mClient = client;
+        }
+    }
+
+    /**
+     * Called when the factory couldn't be built. This client stays in not ready mode.
+     */
+    void fail() {
+        List<SplitEventTask> timedOutTasks = new ArrayList<>();
+        synchronized (mPendingCalls) {
+            mIsFailed = true;
+            for (PendingCall call : mPendingCalls) {
+                if (call instanceof EventListenerCall &&
+                        ((EventListenerCall) call).event == SplitEvent.SDK_READY_TIMED_OUT) {
+                    timedOutTasks.add(((EventListenerCall) call).task);
+                }
+            }
+            mPendingCalls.clear();
+        }
+
+        for (SplitEventTask task : timedOutTasks) {
+            executeEventTask(task);
+        }
+    }
+
+    @Override
+    public String getTreatment(String split) {
+        SplitClient client = mClient;
+        return (client != null) ? client.getTreatment(split) : Treatments.CONTROL;
+    }
+
+    @Override
+    public String getTreatment(String split, Map<String, Object> attributes) {
+        SplitClient client = mClient;
+        return (client != null) ? client.getTreatment(split, attributes) : Treatments.CONTROL;
+    }
+
+    @Override
+    public SplitResult getTreatmentWithConfig(String split, Map<String, Object> attributes) {
+        SplitClient client = mClient;
+        return (client != null) ? client.getTreatmentWithConfig(split, attributes) : new SplitResult(Treatments.CONTROL);
+    }
+
+    @Override
+    public Map<String, String> getTreatments(List<String> splits, Map<String, Object> attributes) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.getTreatments(splits, attributes);
+        }
+
+        Map<String, String> result = new HashMap<>();
+        if (splits != null) {
+            for (String split : splits) {
+                result.put(split, Treatments.CONTROL);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, SplitResult> getTreatmentsWithConfig(List<String> splits, Map<String, Object> attributes) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.getTreatmentsWithConfig(splits, attributes);
+        }
+
+        Map<String, SplitResult> result = new HashMap<>();
+        if (splits != null) {
+            for (String split : splits) {
+                result.put(split, new SplitResult(Treatments.CONTROL));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.destroy();
+            }
+        });
+    }
+
+    @Override
+    public void flush() {
+        runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.flush();
+            }
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        SplitClient client = mClient;
+        return client != null && client.isReady();
+    }
+
+    @Override
+    public void on(SplitEvent event, SplitEventTask task) {
+        if (!runOrKeep(new EventListenerCall(event, task)) &&
+                mIsFailed && event == SplitEvent.SDK_READY_TIMED_OUT) {
+            executeEventTask(task);
+        }
+    }
+
+    @Override
+    public boolean track(String eventType) {
+        return track(true, null, eventType, null, null);
+    }
+
+    @Override
+    public boolean track(String trafficType, String eventType, double value) {
+        return track(false, trafficType, eventType, value, null);
+    }
+
+    @Override
+    public boolean track(String trafficType, String eventType) {
+        return track(false, trafficType, eventType, null, null);
+    }
+
+    @Override
+    public boolean track(String eventType, double value) {
+        return track(true, null, eventType, value, null);
+    }
+
+    @Override
+    public boolean track(String eventType, Map<String, Object> properties) {
+        return track(true, null, eventType, null, properties);
+    }
+
+    @Override
+    public boolean track(String trafficType, String eventType, double value, Map<String, Object> properties) {
+        return track(false, trafficType, eventType, value, properties);
+    }
+
+    @Override
+    public boolean track(String trafficType, String eventType, Map<String, Object> properties) {
+        return track(false, trafficType, eventType, null, properties);
+    }
+
+    @Override
+    public boolean track(String eventType, double value, Map<String, Object> properties) {
+        return track(true, null, eventType, value, properties);
+    }
+
+    @Override
+    public boolean setAttribute(final String attributeName, final Object value) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.setAttribute(attributeName, value);
+        }
+
+        return runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.setAttribute(attributeName, value);
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public Object getAttribute(String attributeName) {
+        SplitClient client = mClient;
+        return (client != null) ? client.getAttribute(attributeName) : null;
+    }
+
+    @Override
+    public boolean setAttributes(Map<String, Object> attributes) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.setAttributes(attributes);
+        }
+
+        final Map<String, Object> attributesCopy = (attributes != null) ? new HashMap<>(attributes) : null;
+        return runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.setAttributes(attributesCopy);
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public Map<String, Object> getAllAttributes() {
+        SplitClient client = mClient;
+        return (client != null) ? client.getAllAttributes() : Collections.<String, Object>emptyMap();
+    }
+
+    @Override
+    public boolean removeAttribute(final String attributeName) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.removeAttribute(attributeName);
+        }
+
+        return runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.removeAttribute(attributeName);
+            }
+        });
+    }
+
+    @Override
+    public boolean clearAttributes() {
+        SplitClient client = mClient;
+        if (client != null) {
+            return client.clearAttributes();
+        }
+
+        return runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                client.clearAttributes();
+            }
+        });
+    }
+
+    private boolean track(final boolean defaultTrafficType, final String trafficType, final String eventType,
+                          final Double value, Map<String, Object> properties) {
+        SplitClient client = mClient;
+        if (client != null) {
+            return track(client, defaultTrafficType, trafficType, eventType, value, properties);
+        }
+
+        final Map<String, Object> propertiesCopy = (properties != null) ? new HashMap<>(properties) : null;
+        return runOrKeep(new PendingCall() {
+            @Override
+            public void run(SplitClient client) {
+                track(client, defaultTrafficType, trafficType, eventType, value, propertiesCopy);
+            }
+        });
+    }
+
+    private static boolean track(SplitClient client, boolean defaultTrafficType, String trafficType,
+                                 String eventType, Double value, Map<String, Object> properties) {
+        if (defaultTrafficType) {
+            return (value == null) ? client.track(eventType, properties) : client.track(eventType, value, properties);
+        }
+        return (value == null) ? client.track(trafficType, eventType, properties) : client.track(trafficType, eventType, value, properties);
+    }
+
+    private boolean runOrKeep(PendingCall call) {
+        SplitClient client = mClient;
+        if (client == null) {
+            synchronized (mPendingCalls) {
+                client = mClient;
+                if (client == null) {
+                    if (mIsFailed) {
+                        Logger.w("Split factory could not be built. Call discarded");
+                        return false;
+                    }
+                    if (mPendingCalls.size() >= MAX_PENDING_CALLS) {
+                        Logger.w("Split factory is still being initialized and too many calls are pending. Call discarded");
+                        return false;
+                    }
+                    mPendingCalls.add(call);
+                    return true;
+                }
+            }
+        }
+        call.run(client);
+        return true;
+    }
+
+    @VisibleForTesting
+    void executeEventTask(SplitEventTask task) {
+        new SplitEventExecutorWithClient(task, this).execute();
+    }
+}
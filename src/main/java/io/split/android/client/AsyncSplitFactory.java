@@ -0,0 +1,163 @@
+package io.split.android.client;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.split.android.client.api.Key;
+import io.split.android.client.api.SplitView;
+import io.split.android.client.utils.Logger;
+
+/**
+ * Factory returned by {@link SplitFactoryBuilder#buildAsync} while the actual
+ * factory is being built in background.
+ * Clients obtained before the factory is available work in not ready mode
+ * and are attached to the actual clients once it's built.
+ * If the build fails, the factory stays in that mode and behaves as destroyed.
+ */
+class AsyncSplitFactory implements SplitFactory {
+
+    private final Key mDefaultClientKey;
+    private final Object mLock = new Object();
+    private final Map<Key, AsyncSplitClient> mClients = new HashMap<>();
+    private final SplitManager mManager = new AsyncSplitManager();
+    private volatile SplitFactory mFactory;
+    private boolean mIsDestroyed = false;
+    private boolean mIsFailed = false;
+
+    AsyncSplitFactory(@NonNull Key defaultClientKey) {
+        mDefaultClientKey = checkNotNull(defaultClientKey);
+        client(mDefaultClientKey);
+    }
+
+    void onFactoryBuilt(@NonNull SplitFactory factory) {
+        List<Map.Entry<Key, AsyncSplitClient>> clients;
+        synchronized (mLock) {
+            if (mIsDestroyed) {
+                factory.destroy();
+                return;
+            }
+            mFactory = factory;
+            clients = new ArrayList<>(mClients.entrySet());
+        }
+
+        for (Map.Entry<Key, AsyncSplitClient> client : clients) {
+            client.getValue().attach(factory.client(client.getKey()));
+        }
+    }
+
+    void onFactoryBuildFailed() {
+        List<AsyncSplitClient> clients;
+        synchronized (mLock) {
+            mIsFailed = true;
+            mIsDestroyed = true;
+            clients = new ArrayList<>(mClients.values());
+        }
+
+        for (AsyncSplitClient client : clients) {
+            client.fail();
+        }
+    }
+
+    @Override
+    public SplitClient client() {
+        return client(mDefaultClientKey);
+    }
+
+    @Override
+    public SplitClient client(Key key) {
+        synchronized (mLock) {
+            AsyncSplitClient client = mClients.get(key);
+            if (client != null) {
+                return client;
+            }
+
+            if (mFactory != null) {
+                return mFactory.client(key);
+            }
+
+            client = new AsyncSplitClient();
+            if (mIsFailed) {
+                client.fail();
+            }
+            mClients.put(key, client);
+            return client;
+        }
+    }
+
+    @Override
+    public SplitClient client(String matchingKey) {
+        return client(new Key(matchingKey));
+    }
+
+    @Override
+    public SplitClient client(String matchingKey, String bucketingKey) {
+        return client(new Key(matchingKey, bucketingKey));
+    }
+
+    @Override
+    public SplitManager manager() {
+        return mManager;
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (mLock) {
+            mIsDestroyed = true;
+            if (mFactory == null) {
+                Logger.d("Factory destroyed before being built");
+                return;
+            }
+        }
+        mFactory.destroy();
+    }
+
+    @Override
+    public void flush() {
+        SplitFactory factory = mFactory;
+        if (factory != null) {
+            factory.flush();
+        }
+    }
+
+    @Override
+    @Deprecated
+    public boolean isReady() {
+        SplitFactory factory = mFactory;
+        return factory != null && factory.isReady();
+    }
+
+    private class AsyncSplitManager implements SplitManager {
+
+        @Override
+        public List<SplitView> splits() {
+            SplitFactory factory = mFactory;
+            return (factory != null) ? factory.manager().splits() : new ArrayList<SplitView>();
+        }
+
+        @Override
+        public SplitView split(String featureName) {
+            SplitFactory factory = mFactory;
+            return (factory != null) ? factory.manager().split(featureName) : null;
+        }
+
+        @Override
+        public List<String> splitNames() {
+            SplitFactory factory = mFactory;
+            return (factory != null) ? factory.manager().splitNames() : new ArrayList<String>();
+        }
+
+        @Override
+        public void destroy() {
+            SplitFactory factory = mFactory;
+            if (factory != null) {
+                factory.manager().destroy();
+            }
+        }
+    }
+}
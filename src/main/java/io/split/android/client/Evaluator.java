@@ -1,7 +1,16 @@
 package io.split.android.client;
 
+import java.util.Collection;
 import java.util.Map;
 
 public interface Evaluator {
     EvaluationResult getTreatment(String matchingKey, String bucketingKey, String split, Map<String, Object> attributes);
+
+    /**
+     * Evaluates all the given splits for the same key in one pass.
+     * Splits are read from storage once for the whole batch.
+     *
+     * @return a result for each distinct split name
+     */
+    Map<String, EvaluationResult> getTreatments(String matchingKey, String bucketingKey, Collection<String> splits, Map<String, Object> attributes);
 }
@@ -1,13 +1,22 @@
 package io.split.android.client;
 
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.split.android.client.dtos.ConditionType;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
 import io.split.android.client.exceptions.ChangeNumberExceptionWrapper;
 import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.utils.Logger;
 import io.split.android.engine.experiments.ParsedCondition;
 import io.split.android.engine.experiments.ParsedSplit;
+import io.split.android.engine.experiments.ParsedSplitsCache;
 import io.split.android.engine.experiments.SplitParser;
 import io.split.android.engine.splitter.Splitter;
 import io.split.android.grammar.Treatments;
@@ -16,22 +25,57 @@ public class EvaluatorImpl implements Evaluator {
 
     private final SplitsStorage mSplitsStorage;
     private final SplitParser mSplitParser;
+    private final ParsedSplitsCache mParsedSplitsCache;
 
     public EvaluatorImpl(SplitsStorage splitsStorage, SplitParser splitParser) {
+        this(splitsStorage, splitParser, new ParsedSplitsCache());
+    }
+
+    public EvaluatorImpl(SplitsStorage splitsStorage, SplitParser splitParser, ParsedSplitsCache parsedSplitsCache) {
         mSplitsStorage = splitsStorage;
         mSplitParser = splitParser;
+        mParsedSplitsCache = parsedSplitsCache;
     }
 
     @Override
     public EvaluationResult getTreatment(String matchingKey, String bucketingKey, String splitName, Map<String, Object> attributes) {
+        return evaluate(matchingKey, bucketingKey, splitName, attributes, null);
+    }
+
+    @Override
+    public Map<String, EvaluationResult> getTreatments(String matchingKey, String bucketingKey, Collection<String> splitNames, Map<String, Object> attributes) {
+        if (splitNames.isEmpty()) {
+            return new HashMap<>();
+        }
 
+        // All splits are resolved from a single storage read so the whole
+        // batch is evaluated against the same definitions
+        List<String> names = (splitNames instanceof List) ? (List<String>) splitNames : new ArrayList<>(splitNames);
+        Map<String, Split> splits = mSplitsStorage.getMany(names);
+        BucketsCache buckets = new BucketsCache((bucketingKey == null) ? matchingKey : bucketingKey, names.size());
+        return new EvaluationContext(splits, buckets).getTreatments(matchingKey, bucketingKey, names, attributes);
+    }
+
+    /**
+     * Evaluates a split within the given context. Without one, a context is only
+     * created when the split has dependency matchers, which are the only ones using it.
+     */
+    private EvaluationResult evaluate(String matchingKey, String bucketingKey, String splitName, Map<String, Object> attributes,
+                                      @Nullable EvaluationContext context) {
         try {
-            ParsedSplit parsedSplit = mSplitParser.parse(mSplitsStorage.get(splitName), matchingKey);
+            Split split = (context != null) ? context.getSplit(splitName) : mSplitsStorage.get(splitName);
+            ParsedSplit parsedSplit = getParsedSplit(splitName, split);
             if (parsedSplit == null) {
                 return new EvaluationResult(Treatments.CONTROL, TreatmentLabels.DEFINITION_NOT_FOUND);
             }
 
-            return getTreatment(matchingKey, bucketingKey, parsedSplit, attributes);
+            if (context != null) {
+                return getTreatment(matchingKey, bucketingKey, parsedSplit, attributes, context, context.bucketsFor(matchingKey, bucketingKey));
+            }
+            if (parsedSplit.hasDependencies()) {
+                return new EvaluationContext(null, null).evaluate(matchingKey, bucketingKey, parsedSplit, attributes);
+            }
+            return getTreatment(matchingKey, bucketingKey, parsedSplit, attributes, null, null);
         } catch (ChangeNumberExceptionWrapper ex) {
             Logger.e(ex, "Catch Change Number Exception");
         } catch (Exception e) {
@@ -45,10 +89,14 @@ public class EvaluatorImpl implements Evaluator {
      * @param bucketingKey
      * @param parsedSplit  MUST NOT be null
      * @param attributes   MUST NOT be null
+     * @param context      evaluator passed to the matchers, so that dependencies are
+     *                     evaluated within the same call. Null if the split has no dependencies
+     * @param buckets      buckets already computed for this call. Can be null
      * @return
      * @throws ChangeNumberExceptionWrapper
      */
-    private EvaluationResult getTreatment(String matchingKey, String bucketingKey, ParsedSplit parsedSplit, Map<String, Object> attributes) throws ChangeNumberExceptionWrapper {
+    private EvaluationResult getTreatment(String matchingKey, String bucketingKey, ParsedSplit parsedSplit, Map<String, Object> attributes,
+                                          @Nullable EvaluationContext context, @Nullable BucketsCache buckets) throws ChangeNumberExceptionWrapper {
         try {
             if (parsedSplit.killed()) {
                 return new EvaluationResult(parsedSplit.defaultTreatment(), TreatmentLabels.KILLED, parsedSplit.changeNumber(), configForTreatment(parsedSplit, parsedSplit.defaultTreatment()));
@@ -64,13 +112,15 @@ public class EvaluatorImpl implements Evaluator {
 
             String bk = (bucketingKey == null) ? matchingKey : bucketingKey;
 
-            for (ParsedCondition parsedCondition : parsedSplit.parsedConditions()) {
+            List<ParsedCondition> parsedConditions = parsedSplit.parsedConditions();
+            for (int i = 0; i < parsedConditions.size(); i++) {
+                ParsedCondition parsedCondition = parsedConditions.get(i);
 
                 if (!inRollout && parsedCondition.conditionType() == ConditionType.ROLLOUT) {
 
                     if (parsedSplit.trafficAllocation() < 100) {
                         // if the traffic allocation is 100%, no need to do anything special.
-                        int bucket = Splitter.getBucket(bk, parsedSplit.trafficAllocationSeed(), parsedSplit.algo());
+                        int bucket = getBucket(buckets, bk, parsedSplit.trafficAllocationSeed(), parsedSplit.algo());
 
                         if (bucket > parsedSplit.trafficAllocation()) {
                             // out of split
@@ -81,8 +131,8 @@ public class EvaluatorImpl implements Evaluator {
                     inRollout = true;
                 }
 
-                if (parsedCondition.matcher().match(matchingKey, bucketingKey, attributes, this)) {
-                    String treatment = Splitter.getTreatment(bk, parsedSplit.seed(), parsedCondition.partitions(), parsedSplit.algo());
+                if (parsedCondition.matcher().match(matchingKey, bucketingKey, attributes, context)) {
+                    String treatment = getTreatment(bk, parsedSplit, parsedCondition.partitions(), buckets);
                     return new EvaluationResult(treatment, parsedCondition.label(), parsedSplit.changeNumber(), configForTreatment(parsedSplit, treatment));
                 }
             }
@@ -93,6 +143,44 @@ public class EvaluatorImpl implements Evaluator {
         }
     }
 
+    @Nullable
+    private ParsedSplit getParsedSplit(String splitName, @Nullable Split split) {
+        if (split == null) {
+            mParsedSplitsCache.remove(splitName);
+            return null;
+        }
+
+        ParsedSplit parsedSplit = mParsedSplitsCache.get(split);
+        if (parsedSplit == null) {
+            parsedSplit = mSplitParser.parse(split);
+            if (parsedSplit != null) {
+                mParsedSplitsCache.put(split, parsedSplit);
+            }
+        }
+        return parsedSplit;
+    }
+
+    private static String getTreatment(String bucketingKey, ParsedSplit parsedSplit, List<Partition> partitions,
+                                       @Nullable BucketsCache buckets) {
+        if (buckets == null) {
+            return Splitter.getTreatment(bucketingKey, parsedSplit.seed(), partitions, parsedSplit.algo());
+        }
+
+        // No need to hash the key for conditions with a single treatment
+        String treatment = Splitter.getTreatmentWithoutBucket(partitions);
+        if (treatment != null) {
+            return treatment;
+        }
+        return Splitter.getTreatmentForBucket(buckets.get(parsedSplit.seed(), parsedSplit.algo()), partitions);
+    }
+
+    private static int getBucket(@Nullable BucketsCache buckets, String bucketingKey, int seed, int algo) {
+        if (buckets == null) {
+            return Splitter.getBucket(bucketingKey, seed, algo);
+        }
+        return buckets.get(seed, algo);
+    }
+
     private String configForTreatment(ParsedSplit split, String treatment) {
         String config = null;
         if (split.configurations() != null) {
@@ -100,4 +188,171 @@ public class EvaluatorImpl implements Evaluator {
         }
         return config;
     }
+
+    /**
+     * State shared by everything evaluated for one top level call, including the splits
+     * reached through dependency matchers, which receive this context as their evaluator.
+     * Each (split, matching key, bucketing key) is evaluated once per call, and a split
+     * that depends on itself, directly or not, evaluates to control instead of recursing.
+     */
+    private final class EvaluationContext implements Evaluator {
+        @Nullable
+        private final Map<String, Split> mSplits;
+        @Nullable
+        private final BucketsCache mBuckets;
+        private final List<EvaluationKey> mInProgress = new ArrayList<>(4);
+        private Map<EvaluationKey, EvaluationResult> mResults;
+
+        EvaluationContext(@Nullable Map<String, Split> splits, @Nullable BucketsCache buckets) {
+            mSplits = splits;
+            mBuckets = buckets;
+        }
+
+        @Override
+        public EvaluationResult getTreatment(String matchingKey, String bucketingKey, String splitName, Map<String, Object> attributes) {
+            EvaluationKey key = new EvaluationKey(splitName, matchingKey, bucketingKey);
+            EvaluationResult result = (mResults != null) ? mResults.get(key) : null;
+            if (result != null) {
+                return result;
+            }
+
+            if (mInProgress.contains(key)) {
+                Logger.e("Circular dependency found while evaluating split " + splitName);
+                return new EvaluationResult(Treatments.CONTROL, TreatmentLabels.EXCEPTION);
+            }
+
+            boolean isTopLevel = mInProgress.isEmpty();
+            mInProgress.add(key);
+            try {
+                result = EvaluatorImpl.this.evaluate(matchingKey, bucketingKey, splitName, attributes, this);
+            } finally {
+                mInProgress.remove(mInProgress.size() - 1);
+            }
+
+            // A single top level result can't be requested again, no need to keep it
+            if (!isTopLevel || mSplits != null) {
+                if (mResults == null) {
+                    mResults = new HashMap<>();
+                }
+                mResults.put(key, result);
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, EvaluationResult> getTreatments(String matchingKey, String bucketingKey, Collection<String> splitNames, Map<String, Object> attributes) {
+            Map<String, EvaluationResult> results = new HashMap<>(splitNames.size() * 4 / 3 + 1);
+            for (String splitName : splitNames) {
+                results.put(splitName, getTreatment(matchingKey, bucketingKey, splitName, attributes));
+            }
+            return results;
+        }
+
+        /**
+         * Evaluates a single top level split that was already resolved.
+         */
+        private EvaluationResult evaluate(String matchingKey, String bucketingKey, ParsedSplit parsedSplit, Map<String, Object> attributes)
+                throws ChangeNumberExceptionWrapper {
+            mInProgress.add(new EvaluationKey(parsedSplit.feature(), matchingKey, bucketingKey));
+            return EvaluatorImpl.this.getTreatment(matchingKey, bucketingKey, parsedSplit, attributes, this, null);
+        }
+
+        @Nullable
+        private Split getSplit(String splitName) {
+            // Dependencies may not be part of the requested splits
+            Split split = (mSplits != null) ? mSplits.get(splitName) : null;
+            return (split != null) ? split : mSplitsStorage.get(splitName);
+        }
+
+        @Nullable
+        private BucketsCache bucketsFor(String matchingKey, String bucketingKey) {
+            if (mBuckets == null) {
+                return null;
+            }
+            String bk = (bucketingKey == null) ? matchingKey : bucketingKey;
+            return mBuckets.isFor(bk) ? mBuckets : null;
+        }
+    }
+
+    private static final class EvaluationKey {
+        private final String mSplitName;
+        private final String mMatchingKey;
+        @Nullable
+        private final String mBucketingKey;
+
+        EvaluationKey(String splitName, String matchingKey, @Nullable String bucketingKey) {
+            mSplitName = splitName;
+            mMatchingKey = matchingKey;
+            mBucketingKey = bucketingKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EvaluationKey)) return false;
+
+            EvaluationKey that = (EvaluationKey) o;
+            return equal(mSplitName, that.mSplitName)
+                    && equal(mMatchingKey, that.mMatchingKey)
+                    && equal(mBucketingKey, that.mBucketingKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (mSplitName != null) ? mSplitName.hashCode() : 0;
+            result = 31 * result + ((mMatchingKey != null) ? mMatchingKey.hashCode() : 0);
+            result = 31 * result + ((mBucketingKey != null) ? mBucketingKey.hashCode() : 0);
+            return result;
+        }
+
+        private static boolean equal(@Nullable String a, @Nullable String b) {
+            return (a == null) ? b == null : a.equals(b);
+        }
+    }
+
+    /**
+     * Buckets for a single bucketing key, computed once per seed and algorithm
+     * during a {@link #getTreatments} call.
+     * Open addressing table so that lookups don't box; buckets are always
+     * between 1 and 100 so 0 marks an empty slot.
+     */
+    private static final class BucketsCache {
+        private final String mBucketingKey;
+        private final long[] mKeys;
+        private final int[] mBuckets;
+        private final int mMask;
+        private int mUsed = 0;
+
+        BucketsCache(String bucketingKey, int splitCount) {
+            mBucketingKey = bucketingKey;
+            // Two seeds per split (traffic allocation and treatment) at half load
+            int capacity = Integer.highestOneBit(Math.max(splitCount, 4) * 4 - 1) << 1;
+            mKeys = new long[capacity];
+            mBuckets = new int[capacity];
+            mMask = capacity - 1;
+        }
+
+        boolean isFor(String bucketingKey) {
+            return mBucketingKey.equals(bucketingKey);
+        }
+
+        int get(int seed, int algo) {
+            long key = ((long) seed << 32) | (algo & 0xFFFFFFFFL);
+            int index = (seed * 31 + algo) & mMask;
+            while (mBuckets[index] != 0) {
+                if (mKeys[index] == key) {
+                    return mBuckets[index];
+                }
+                index = (index + 1) & mMask;
+            }
+
+            int bucket = Splitter.getBucket(mBucketingKey, seed, algo);
+            if (mUsed < mKeys.length / 2) {
+                mKeys[index] = key;
+                mBuckets[index] = bucket;
+                mUsed++;
+            }
+            return bucket;
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package io.split.android.client;
 
+import com.google.common.base.Utf8;
+
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,6 +14,7 @@ public class EventPropertiesProcessorImpl implements EventPropertiesProcessor {
 
     private static final String VALIDATION_TAG = "track";
     private final static int MAX_PROPS_COUNT = 300;
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
     private final static int MAXIMUM_EVENT_PROPERTY_BYTES =
             ValidationConfig.getInstance().getMaximumEventPropertyBytes();
 
@@ -56,9 +60,21 @@ public class EventPropertiesProcessorImpl implements EventPropertiesProcessor {
     private int calculateEventSizeInBytes(String key, Object value) {
         int valueSize = 0;
         if(value != null && value.getClass() == String.class) {
-            valueSize = value.toString().getBytes().length;
+            valueSize = sizeInBytes((String) value);
+        }
+        return valueSize + sizeInBytes(key);
+    }
+
+    /**
+     * UTF-8 length computed without encoding the string.
+     * Malformed strings fall back to the encoder, which replaces unpaired surrogates.
+     */
+    private static int sizeInBytes(String value) {
+        try {
+            return Utf8.encodedLength(value);
+        } catch (IllegalArgumentException e) {
+            return value.getBytes(UTF_8).length;
         }
-        return valueSize + key.getBytes().length;
     }
 
 
@@ -18,6 +18,7 @@ import io.split.android.client.network.HttpProxy;
 import io.split.android.client.service.ServiceConstants;
 import io.split.android.client.service.impressions.ImpressionsMode;
 import io.split.android.client.telemetry.TelemetryHelperImpl;
+import io.split.android.client.utils.LogSink;
 import io.split.android.client.utils.Logger;
 import okhttp3.Authenticator;
 
@@ -58,6 +59,8 @@ public class SplitClientConfig {
 
     private static final int DEFAULT_AUTH_RETRY_BACKOFF_BASE_SECS = 1;
     private static final int DEFAULT_STREAMING_RECONNECT_BACKOFF_BASE_SECS = 1;
+    private static final int DEFAULT_SPLIT_UPDATES_COALESCING_WINDOW_MS = 500;
+    private static final int DEFAULT_THREAD_POOL_SIZE = 6;
 
     private static final int IMPRESSIONS_MAX_SENT_ATTEMPTS = 3;
     private static final int IMPRESSIONS_CHUNK_OUTDATED_TIME = 3600 * 1000; // One day millis
@@ -130,6 +133,10 @@ public class SplitClientConfig {
     private final int _offlineRefreshRate;
     private boolean _shouldRecordTelemetry;
     private final long _telemetryRefreshRate;
+    private final boolean _requestCompressionEnabled;
+    private final int _splitUpdatesCoalescingWindow;
+    private final LogSink _logSink;
+    private final int _threadPoolSize;
 
     // To be set during startup
     public static String splitSdkVersion;
@@ -182,7 +189,11 @@ public class SplitClientConfig {
                               int offlineRefreshRate,
                               String telemetryEndpoint,
                               long telemetryRefreshRate,
-                              boolean shouldRecordTelemetry) {
+                              boolean shouldRecordTelemetry,
+                              boolean requestCompressionEnabled,
+                              int splitUpdatesCoalescingWindow,
+                              LogSink logSink,
+                              int threadPoolSize) {
         _endpoint = endpoint;
         _eventsEndpoint = eventsEndpoint;
         _telemetryEndpoint = telemetryEndpoint;
@@ -228,6 +239,10 @@ public class SplitClientConfig {
         _isPersistentAttributesEnabled = isPersistentAttributesEnabled;
         _offlineRefreshRate = offlineRefreshRate;
         _telemetryRefreshRate = telemetryRefreshRate;
+        _requestCompressionEnabled = requestCompressionEnabled;
+        _splitUpdatesCoalescingWindow = splitUpdatesCoalescingWindow;
+        _logSink = logSink;
+        _threadPoolSize = threadPoolSize;
 
         splitSdkVersion = "Android-" + BuildConfig.SPLIT_VERSION_NAME;
 
@@ -235,6 +250,10 @@ public class SplitClientConfig {
             Logger.instance().debugLevel(true);
         }
 
+        if (_logSink != null) {
+            Logger.setSink(_logSink);
+        }
+
         _shouldRecordTelemetry = shouldRecordTelemetry;
     }
 
@@ -502,6 +521,22 @@ public class SplitClientConfig {
         return _telemetryRefreshRate;
     }
 
+    public boolean requestCompressionEnabled() {
+        return _requestCompressionEnabled;
+    }
+
+    public int splitUpdatesCoalescingWindow() {
+        return _splitUpdatesCoalescingWindow;
+    }
+
+    public LogSink logSink() {
+        return _logSink;
+    }
+
+    public int threadPoolSize() {
+        return _threadPoolSize;
+    }
+
     private void enableTelemetry() {
         this._shouldRecordTelemetry = true;
     }
@@ -527,6 +562,10 @@ public class SplitClientConfig {
         private int _waitBeforeShutdown = DEFAULT_WAIT_BEFORE_SHUTDOW_SECS;
         private long _impressionsChunkSize = DEFAULT_IMPRESSIONS_CHUNK_SIZE; //2KB default size
         private boolean _isPersistentAttributesEnabled = false;
+        private boolean _requestCompressionEnabled = false;
+        private int _splitUpdatesCoalescingWindow = DEFAULT_SPLIT_UPDATES_COALESCING_WINDOW_MS;
+        private LogSink _logSink = null;
+        private int _threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
         static final int OFFLINE_REFRESH_RATE_DEFAULT = -1;
         static final int DEFAULT_TELEMETRY_REFRESH_RATE = 3600;
 
@@ -765,6 +804,18 @@ public class SplitClientConfig {
             return this;
         }
 
+        /**
+         * Sends the SDK logs to the given sink instead of Logcat.
+         *
+         * @param logSink Receives every enabled log message
+         * @return: This builder
+         * @default: Logcat
+         */
+        public Builder logSink(LogSink logSink) {
+            _logSink = logSink;
+            return this;
+        }
+
         /**
          * Disable label capturing
          *
@@ -1047,6 +1098,48 @@ public class SplitClientConfig {
             return this;
         }
 
+        /**
+         * Whether impressions, events and telemetry are sent gzip compressed.
+         *
+         * @return: This builder
+         * @default: false
+         */
+        public Builder requestCompressionEnabled(boolean enabled) {
+            _requestCompressionEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Time to wait for more split update notifications from streaming
+         * before fetching changes, so that bursts result in a single fetch.
+         *
+         * @param milliseconds MUST be >= 0. Zero fetches on every notification.
+         * @return: This builder
+         * @default: 500 milliseconds
+         */
+        public Builder splitUpdatesCoalescingWindow(int milliseconds) {
+            _splitUpdatesCoalescingWindow = milliseconds;
+            return this;
+        }
+
+        /**
+         * Maximum number of threads of the SDK's general task pool, which runs segment
+         * fetches, impressions and events recording and storage tasks. It also caps the
+         * threads used to load splits from the local database on startup.
+         * Threads are released when idle.
+         * Split synchronization, streaming, internal events, background-only work (such as
+         * the streaming disconnection timer), delayed storage writes and asynchronous
+         * factory building run on their own threads and are not bounded by this value.
+         *
+         * @param threadPoolSize MUST be greater than 0.
+         * @return: This builder
+         * @default: 6
+         */
+        public Builder threadPoolSize(int threadPoolSize) {
+            _threadPoolSize = threadPoolSize;
+            return this;
+        }
+
         /**
          * Only used in localhost mode. If offlineRefreshRate is a positive integer, split values
          * will be loaded from a local file every `offlineRefreshRate` seconds.
@@ -1134,6 +1227,14 @@ public class SplitClientConfig {
                 _telemetryRefreshRate = DEFAULT_TELEMETRY_REFRESH_RATE;
             }
 
+            if (_splitUpdatesCoalescingWindow < 0) {
+                throw new IllegalArgumentException("Split updates coalescing window MUST NOT be negative");
+            }
+
+            if (_threadPoolSize <= 0) {
+                throw new IllegalArgumentException("Thread pool size MUST be greater than 0");
+            }
+
             HttpProxy proxy = parseProxyHost(_proxyHost);
 
             return new SplitClientConfig(
@@ -1180,7 +1281,11 @@ public class SplitClientConfig {
                     _offlineRefreshRate,
                     _serviceEndpoints.getTelemetryEndpoint(),
                     _telemetryRefreshRate,
-                    new TelemetryHelperImpl().shouldRecordTelemetry());
+                    new TelemetryHelperImpl().shouldRecordTelemetry(),
+                    _requestCompressionEnabled,
+                    _splitUpdatesCoalescingWindow,
+                    _logSink,
+                    _threadPoolSize);
         }
 
         public void set_impressionsChunkSize(long _impressionsChunkSize) {
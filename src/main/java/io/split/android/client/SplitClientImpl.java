@@ -8,6 +8,7 @@ import androidx.annotation.VisibleForTesting;
 
 import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -295,7 +296,7 @@ public final class SplitClientImpl implements SplitClient {
     @Override
     public Map<String, Object> getAllAttributes() {
         try {
-            return mAttributesManager.getAllAttributes();
+            return new HashMap<>(mAttributesManager.getAllAttributes());
         } catch (Exception exception) {
             Logger.e("Error getting attributes: " + exception.getLocalizedMessage());
 
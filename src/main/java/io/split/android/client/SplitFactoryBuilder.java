@@ -2,10 +2,15 @@ package io.split.android.client;
 
 import android.content.Context;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import io.split.android.client.api.Key;
@@ -19,6 +24,9 @@ import io.split.android.grammar.Treatments;
  */
 public class SplitFactoryBuilder {
 
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+    private static final ThreadPoolExecutor ASYNC_BUILD_EXECUTOR = buildAsyncExecutor();
+
     /**
      *
      * @param apiToken
@@ -70,6 +78,44 @@ public class SplitFactoryBuilder {
         }
     }
 
+    /**
+     * Instantiates a SplitFactory without blocking the calling thread.
+     * The factory is built in background. Until then, clients return control treatments,
+     * and events tracked or listeners registered on them are applied once the factory is built.
+     * If the factory can't be built, SDK_READY_TIMED_OUT is emitted on the clients,
+     * pending calls are discarded and the factory behaves as destroyed.
+     *
+     * @param apiToken the API token. MUST NOT be null
+     * @param config   parameters to control sdk construction. MUST NOT be null.
+     * @return a SplitFactory
+     */
+    public static SplitFactory buildAsync(final String apiToken, final Key key,
+                                          final SplitClientConfig config, final Context context) {
+        final AsyncSplitFactory asyncFactory = new AsyncSplitFactory(key);
+        ASYNC_BUILD_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    asyncFactory.onFactoryBuilt(build(apiToken, key, config, context));
+                } catch (Exception e) {
+                    Logger.e(e, "Error while building Split factory");
+                    asyncFactory.onFactoryBuildFailed();
+                }
+            }
+        });
+        return asyncFactory;
+    }
+
+    /**
+     * Instantiates a SplitFactory with default configurations without blocking the calling thread.
+     *
+     * @param apiToken the API token. MUST NOT be null
+     * @return a SplitFactory
+     */
+    public static SplitFactory buildAsync(String apiToken, Key key, Context context) {
+        return buildAsync(apiToken, key, SplitClientConfig.builder().build(), context);
+    }
+
     /**
      * Instantiates a local Off-The-Grid SplitFactory
      *
@@ -80,6 +126,16 @@ public class SplitFactoryBuilder {
         return new LocalhostSplitFactory(key, context, SplitClientConfig.builder().build() );
     }
 
+    // Builds run before the factory and its executors exist
+    private static ThreadPoolExecutor buildAsyncExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("split-factory-build-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public static void main(String... args) throws IOException, InterruptedException, TimeoutException, URISyntaxException {
         if (args.length != 1) {
             System.out.println("Usage: <api_token>");
@@ -3,6 +3,7 @@ package io.split.android.client;
 import android.content.Context;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.work.WorkManager;
 
 import java.io.File;
@@ -20,6 +21,7 @@ import io.split.android.client.network.SplitHttpHeadersBuilder;
 import io.split.android.client.service.ServiceFactory;
 import io.split.android.client.service.SplitApiFacade;
 import io.split.android.client.service.executor.SplitTaskExecutor;
+import io.split.android.client.service.executor.parallel.SplitParallelTaskExecutorFactoryImpl;
 import io.split.android.client.service.executor.SplitTaskFactory;
 import io.split.android.client.service.http.mysegments.MySegmentsFetcherFactoryImpl;
 import io.split.android.client.service.sseclient.EventStreamParser;
@@ -38,6 +40,7 @@ import io.split.android.client.service.sseclient.sseclient.SseAuthenticator;
 import io.split.android.client.service.sseclient.sseclient.SseClient;
 import io.split.android.client.service.sseclient.sseclient.SseClientImpl;
 import io.split.android.client.service.sseclient.sseclient.SseHandler;
+import io.split.android.client.service.sseclient.sseclient.SseDisconnectionTimer;
 import io.split.android.client.service.sseclient.sseclient.SseRefreshTokenTimer;
 import io.split.android.client.service.synchronizer.SyncManager;
 import io.split.android.client.service.synchronizer.SyncManagerImpl;
@@ -52,6 +55,9 @@ import io.split.android.client.shared.ClientComponentsRegisterImpl;
 import io.split.android.client.storage.SplitStorageContainer;
 import io.split.android.client.storage.db.SplitRoomDatabase;
 import io.split.android.client.storage.db.StorageFactory;
+import io.split.android.client.storage.splits.PersistentSplitsStorage;
+import io.split.android.client.storage.splits.SplitsSnapshotFile;
+import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.telemetry.TelemetrySynchronizer;
 import io.split.android.client.telemetry.TelemetrySynchronizerImpl;
 import io.split.android.client.telemetry.TelemetrySynchronizerStub;
@@ -114,17 +120,25 @@ class SplitFactoryHelper {
         return headersBuilder.build();
     }
 
-    SplitStorageContainer buildStorageContainer(SplitRoomDatabase splitRoomDatabase, Key key, boolean shouldRecordTelemetry) {
+    SplitStorageContainer buildStorageContainer(SplitRoomDatabase splitRoomDatabase,
+                                                @Nullable SplitsSnapshotFile splitsSnapshotFile,
+                                                Key key,
+                                                boolean shouldRecordTelemetry,
+                                                int threadPoolSize) {
+        int parallelThreads = Math.min(threadPoolSize, Runtime.getRuntime().availableProcessors());
+        PersistentSplitsStorage persistentSplitsStorage = StorageFactory.getPersistentSplitsStorage(splitRoomDatabase,
+                new SplitParallelTaskExecutorFactoryImpl(parallelThreads), splitsSnapshotFile);
         return new SplitStorageContainer(
-                StorageFactory.getSplitsStorage(splitRoomDatabase),
+                StorageFactory.getSplitsStorage(persistentSplitsStorage),
                 StorageFactory.getMySegmentsStorage(splitRoomDatabase),
-                StorageFactory.getPersistentSplitsStorage(splitRoomDatabase),
+                persistentSplitsStorage,
                 StorageFactory.getPersistenEventsStorage(splitRoomDatabase),
                 StorageFactory.getPersistenImpressionsStorage(splitRoomDatabase),
                 StorageFactory.getPersistenImpressionsCountStorage(splitRoomDatabase),
                 StorageFactory.getAttributesStorage(),
                 StorageFactory.getPersistentSplitsStorage(splitRoomDatabase, key.matchingKey()),
-                StorageFactory.getTelemetryStorage(shouldRecordTelemetry));
+                StorageFactory.getTelemetryStorage(shouldRecordTelemetry),
+                StorageFactory.getWriteBehindScheduler());
     }
 
     String buildSplitsFilterQueryString(SplitClientConfig config) {
@@ -148,15 +162,15 @@ class SplitFactoryHelper {
                 ServiceFactory.getSseAuthenticationFetcher(networkHelper, httpClient,
                         splitClientConfig.authServiceUrl()),
                 ServiceFactory.getEventsRecorder(networkHelper, httpClient,
-                        splitClientConfig.eventsEndpoint()),
+                        splitClientConfig.eventsEndpoint(), splitClientConfig.requestCompressionEnabled()),
                 ServiceFactory.getImpressionsRecorder(networkHelper, httpClient,
-                        splitClientConfig.eventsEndpoint()),
+                        splitClientConfig.eventsEndpoint(), splitClientConfig.requestCompressionEnabled()),
                 ServiceFactory.getImpressionsCountRecorder(networkHelper, httpClient,
-                        splitClientConfig.eventsEndpoint()),
+                        splitClientConfig.eventsEndpoint(), splitClientConfig.requestCompressionEnabled()),
                 ServiceFactory.getTelemetryConfigRecorder(networkHelper, httpClient,
-                        splitClientConfig.telemetryEndpoint()),
+                        splitClientConfig.telemetryEndpoint(), splitClientConfig.requestCompressionEnabled()),
                 ServiceFactory.getTelemetryStatsRecorder(networkHelper, httpClient,
-                        splitClientConfig.telemetryEndpoint()));
+                        splitClientConfig.telemetryEndpoint(), splitClientConfig.requestCompressionEnabled()));
     }
 
     WorkManagerWrapper buildWorkManagerWrapper(Context context, SplitClientConfig splitClientConfig,
@@ -172,12 +186,15 @@ class SplitFactoryHelper {
                                  TelemetrySynchronizer telemetrySynchronizer,
                                  PushNotificationManager pushNotificationManager,
                                  BlockingQueue<SplitsChangeNotification> splitsUpdateNotificationQueue,
-                                 PushManagerEventBroadcaster pushManagerEventBroadcaster) {
+                                 PushManagerEventBroadcaster pushManagerEventBroadcaster,
+                                 SplitsStorage splitsStorage,
+                                 TelemetryRuntimeProducer telemetryRuntimeProducer) {
 
         return new SyncManagerImpl(config,
                 synchronizer,
                 pushNotificationManager,
-                new SplitUpdatesWorker(synchronizer, splitsUpdateNotificationQueue),
+                new SplitUpdatesWorker(synchronizer, splitsUpdateNotificationQueue, splitsStorage,
+                        telemetryRuntimeProducer, config.splitUpdatesCoalescingWindow()),
                 pushManagerEventBroadcaster,
                 new BackoffCounterTimer(splitTaskExecutor, new ReconnectBackoffCounter(1)),
                 telemetrySynchronizer);
@@ -185,6 +202,7 @@ class SplitFactoryHelper {
 
     @NonNull
     PushNotificationManager getPushNotificationManager(SplitTaskExecutor _splitTaskExecutor,
+                                                       SplitTaskExecutor backgroundTaskExecutor,
                                                        SseAuthenticator sseAuthenticator,
                                                        PushManagerEventBroadcaster pushManagerEventBroadcaster,
                                                        SseClient sseClient,
@@ -193,6 +211,8 @@ class SplitFactoryHelper {
                 sseAuthenticator,
                 sseClient,
                 new SseRefreshTokenTimer(_splitTaskExecutor, pushManagerEventBroadcaster),
+                // Runs while in background, when the main task executor is paused
+                new SseDisconnectionTimer(backgroundTaskExecutor),
                 telemetryRuntimeProducer,
                 null);
     }
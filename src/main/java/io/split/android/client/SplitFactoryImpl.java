@@ -10,6 +10,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingDeque;
 
 import io.split.android.client.api.Key;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.events.EventsManagerCoordinator;
 import io.split.android.client.factory.FactoryMonitor;
 import io.split.android.client.factory.FactoryMonitorImpl;
@@ -44,7 +45,10 @@ import io.split.android.client.shared.SplitClientContainer;
 import io.split.android.client.shared.SplitClientContainerImpl;
 import io.split.android.client.storage.SplitStorageContainer;
 import io.split.android.client.storage.db.SplitRoomDatabase;
+import io.split.android.client.storage.db.StorageFactory;
+import io.split.android.client.storage.splits.SplitsSnapshotFile;
 import io.split.android.client.telemetry.TelemetrySynchronizer;
+import io.split.android.client.telemetry.model.StartupPhase;
 import io.split.android.client.utils.Logger;
 import io.split.android.client.validators.ApiKeyValidator;
 import io.split.android.client.validators.ApiKeyValidatorImpl;
@@ -55,7 +59,6 @@ import io.split.android.client.validators.ValidationConfig;
 import io.split.android.client.validators.ValidationErrorInfo;
 import io.split.android.client.validators.ValidationMessageLogger;
 import io.split.android.client.validators.ValidationMessageLoggerImpl;
-import io.split.android.engine.experiments.SplitParser;
 
 public class SplitFactoryImpl implements SplitFactory {
 
@@ -85,6 +88,7 @@ public class SplitFactoryImpl implements SplitFactory {
 
         mDefaultClientKey = key;
         final long initializationStartTime = System.currentTimeMillis();
+        StartupTimer startupTimer = new StartupTimer();
         SplitFactoryHelper factoryHelper = new SplitFactoryHelper();
         setupValidations(config);
         ApiKeyValidator apiKeyValidator = new ApiKeyValidatorImpl();
@@ -125,29 +129,36 @@ public class SplitFactoryImpl implements SplitFactory {
         }
         mFactoryMonitor.add(apiToken);
         mApiKey = apiToken;
+        startupTimer.phaseFinished(StartupPhase.HTTP_CLIENT);
 
         // Check if test database available
         String databaseName = factoryHelper.getDatabaseName(config, apiToken, context);
         SplitRoomDatabase _splitDatabase;
+        SplitsSnapshotFile splitsSnapshotFile = null;
         if (testDatabase == null) {
             _splitDatabase = SplitRoomDatabase.getDatabase(context, databaseName);
+            splitsSnapshotFile = StorageFactory.getSplitsSnapshotFile(context, databaseName);
         } else {
             _splitDatabase = testDatabase;
             Logger.d("Using test database");
         }
+        startupTimer.phaseFinished(StartupPhase.DATABASE);
 
         defaultHttpClient.addHeaders(factoryHelper.buildHeaders(config, apiToken));
         defaultHttpClient.addStreamingHeaders(factoryHelper.buildStreamingHeaders(apiToken));
 
-        mStorageContainer = factoryHelper.buildStorageContainer(_splitDatabase, key, config.shouldRecordTelemetry());
+        mStorageContainer = factoryHelper.buildStorageContainer(_splitDatabase, splitsSnapshotFile, key,
+                config.shouldRecordTelemetry(), config.threadPoolSize());
+        startupTimer.phaseFinished(StartupPhase.STORAGE);
 
-        SplitTaskExecutor splitTaskExecutor = new SplitTaskExecutorImpl();
+        SplitTaskExecutor splitTaskExecutor = new SplitTaskExecutorImpl(config.threadPoolSize());
 
         String splitsFilterQueryString = factoryHelper.buildSplitsFilterQueryString(config);
         SplitApiFacade splitApiFacade = factoryHelper.buildApiFacade(
                 config, defaultHttpClient, splitsFilterQueryString);
 
-        EventsManagerCoordinator mEventsManagerCoordinator = new EventsManagerCoordinator();
+        EventsDispatcher eventsDispatcher = new EventsDispatcher();
+        EventsManagerCoordinator mEventsManagerCoordinator = new EventsManagerCoordinator(eventsDispatcher);
 
         SplitTaskFactory splitTaskFactory = new SplitTaskFactoryImpl(
                 config, splitApiFacade, mStorageContainer, splitsFilterQueryString, mEventsManagerCoordinator);
@@ -156,10 +167,13 @@ public class SplitFactoryImpl implements SplitFactory {
 
         WorkManagerWrapper workManagerWrapper = factoryHelper.buildWorkManagerWrapper(context, config, apiToken, databaseName);
         SplitSingleThreadTaskExecutor splitSingleThreadTaskExecutor = new SplitSingleThreadTaskExecutor();
+        // Never paused, runs the little work that has to be done while the app is in background
+        SplitSingleThreadTaskExecutor backgroundTaskExecutor = new SplitSingleThreadTaskExecutor();
         Synchronizer mSynchronizer = new SynchronizerImpl(
                 config,
                 splitTaskExecutor,
                 splitSingleThreadTaskExecutor,
+                backgroundTaskExecutor,
                 mStorageContainer,
                 splitTaskFactory,
                 mEventsManagerCoordinator,
@@ -174,6 +188,7 @@ public class SplitFactoryImpl implements SplitFactory {
             synchronizerSpy.setSynchronizer(mSynchronizer);
             mSynchronizer = synchronizerSpy;
         }
+        startupTimer.phaseFinished(StartupPhase.SYNCHRONIZER);
 
         BlockingQueue<SplitsChangeNotification> splitsUpdateNotificationQueue = new LinkedBlockingDeque<>();
         NotificationParser notificationParser = new NotificationParser();
@@ -194,6 +209,7 @@ public class SplitFactoryImpl implements SplitFactory {
                 new SseJwtParser());
 
         PushNotificationManager pushNotificationManager = factoryHelper.getPushNotificationManager(splitTaskExecutor,
+                backgroundTaskExecutor,
                 sseAuthenticator,
                 pushManagerEventBroadcaster,
                 sseClient,
@@ -211,11 +227,15 @@ public class SplitFactoryImpl implements SplitFactory {
                 telemetrySynchronizer,
                 pushNotificationManager,
                 splitsUpdateNotificationQueue,
-                pushManagerEventBroadcaster
+                pushManagerEventBroadcaster,
+                mStorageContainer.getSplitsStorage(),
+                mStorageContainer.getTelemetryStorage()
         );
 
         mLifecycleManager = new SplitLifecycleManager();
         mLifecycleManager.register(mSyncManager);
+        mLifecycleManager.register(mStorageContainer.getWriteBehindScheduler());
+        startupTimer.phaseFinished(StartupPhase.STREAMING);
 
         final ImpressionListener splitImpressionListener
                 = new SyncImpressionListener(mSyncManager);
@@ -237,7 +257,7 @@ public class SplitFactoryImpl implements SplitFactory {
                 factoryHelper.getClientComponentsRegister(config, splitTaskExecutor,
                         mEventsManagerCoordinator, mSynchronizer, notificationParser,
                         notificationProcessor, sseAuthenticator, mStorageContainer, mSyncManager,
-                        mDefaultClientKey.matchingKey()), workManagerWrapper
+                        mDefaultClientKey.matchingKey()), workManagerWrapper, eventsDispatcher
         );
 
         mDestroyer = new Runnable() {
@@ -262,7 +282,10 @@ public class SplitFactoryImpl implements SplitFactory {
                     Logger.i("Successful shutdown of manager");
                     splitTaskExecutor.stop();
                     splitSingleThreadTaskExecutor.stop();
+                    backgroundTaskExecutor.stop();
                     Logger.i("Successful shutdown of task executor");
+                    mStorageContainer.closePendingWrites();
+                    Logger.i("Successful flush of pending storage writes");
                     mStorageContainer.getAttributesStorageContainer().destroy();
                     Logger.i("Successful shutdown of attributes storage");
                 } catch (Exception e) {
@@ -284,10 +307,11 @@ public class SplitFactoryImpl implements SplitFactory {
         // Initialize default client
         client();
 
-        SplitParser mSplitParser = new SplitParser(mStorageContainer.getMySegmentsStorageContainer());
         mManager = new SplitManagerImpl(
                 mStorageContainer.getSplitsStorage(),
-                new SplitValidatorImpl(), mSplitParser);
+                new SplitValidatorImpl());
+        startupTimer.phaseFinished(StartupPhase.CLIENTS);
+        startupTimer.record(mStorageContainer.getTelemetryStorage());
 
         mSyncManager.start();
 
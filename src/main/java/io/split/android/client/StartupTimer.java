@@ -0,0 +1,36 @@
+package io.split.android.client;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.split.android.client.telemetry.model.StartupPhase;
+import io.split.android.client.telemetry.storage.TelemetryInitProducer;
+
+/**
+ * Measures consecutive phases of the factory initialization.
+ * Phases are kept until the telemetry storage is available.
+ */
+class StartupTimer {
+
+    private final long mStartTime;
+    private long mPhaseStartTime;
+    private final Map<StartupPhase, Long> mPhases = new EnumMap<>(StartupPhase.class);
+
+    StartupTimer() {
+        mStartTime = System.currentTimeMillis();
+        mPhaseStartTime = mStartTime;
+    }
+
+    void phaseFinished(StartupPhase phase) {
+        long now = System.currentTimeMillis();
+        mPhases.put(phase, now - mPhaseStartTime);
+        mPhaseStartTime = now;
+    }
+
+    void record(TelemetryInitProducer telemetryInitProducer) {
+        for (Map.Entry<StartupPhase, Long> phase : mPhases.entrySet()) {
+            telemetryInitProducer.recordStartupPhase(phase.getKey(), phase.getValue());
+        }
+        telemetryInitProducer.recordStartupPhase(StartupPhase.TOTAL, System.currentTimeMillis() - mStartTime);
+    }
+}
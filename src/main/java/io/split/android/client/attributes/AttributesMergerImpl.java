@@ -1,22 +1,27 @@
 package io.split.android.client.attributes;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 public class AttributesMergerImpl implements AttributesMerger {
 
+    /**
+     * The returned map is read only. When only one of the maps has values it is returned as is,
+     * otherwise a view that gives precedence to one-time attributes is returned.
+     */
     @Override
     public Map<String, Object> merge(final Map<String, Object> storedAttributes, final Map<String, Object> oneTimeAttributes) {
-        Map<String, Object> mergedAttributes = new HashMap<>();
+        boolean hasStored = storedAttributes != null && !storedAttributes.isEmpty();
+        boolean hasOneTime = oneTimeAttributes != null && !oneTimeAttributes.isEmpty();
 
-        if (storedAttributes != null) {
-            mergedAttributes.putAll(storedAttributes);
+        if (!hasOneTime) {
+            return hasStored ? storedAttributes : Collections.<String, Object>emptyMap();
         }
 
-        if (oneTimeAttributes != null) {
-            mergedAttributes.putAll(oneTimeAttributes);
+        if (!hasStored) {
+            return oneTimeAttributes;
         }
 
-        return mergedAttributes;
+        return new LayeredAttributesMap(storedAttributes, oneTimeAttributes);
     }
 }
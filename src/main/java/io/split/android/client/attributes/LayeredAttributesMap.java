@@ -0,0 +1,65 @@
+package io.split.android.client.attributes;
+
+import androidx.annotation.NonNull;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read only view of one-time attributes layered over stored attributes.
+ * Lookups check the one-time attributes first, so nothing is copied on the evaluation path.
+ * The merged map is only built if the view is iterated.
+ */
+class LayeredAttributesMap extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> mStoredAttributes;
+    private final Map<String, Object> mOneTimeAttributes;
+    private Map<String, Object> mMergedAttributes;
+
+    LayeredAttributesMap(@NonNull Map<String, Object> storedAttributes, @NonNull Map<String, Object> oneTimeAttributes) {
+        mStoredAttributes = storedAttributes;
+        mOneTimeAttributes = oneTimeAttributes;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = mOneTimeAttributes.get(key);
+        if (value != null || mOneTimeAttributes.containsKey(key)) {
+            return value;
+        }
+        return mStoredAttributes.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return mOneTimeAttributes.containsKey(key) || mStoredAttributes.containsKey(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mOneTimeAttributes.isEmpty() && mStoredAttributes.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return merged().size();
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return merged().entrySet();
+    }
+
+    private synchronized Map<String, Object> merged() {
+        if (mMergedAttributes == null) {
+            Map<String, Object> merged = new HashMap<>(mStoredAttributes);
+            merged.putAll(mOneTimeAttributes);
+            mMergedAttributes = Collections.unmodifiableMap(merged);
+        }
+        return mMergedAttributes;
+    }
+}
@@ -1,19 +1,16 @@
 package io.split.android.client.events;
 
-import androidx.annotation.NonNull;
+import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import androidx.annotation.NonNull;
 
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ThreadFactory;
 
 import io.split.android.client.utils.ConcurrentSet;
 import io.split.android.client.utils.Logger;
-import io.split.android.engine.scheduler.PausableThreadPoolExecutor;
-import io.split.android.engine.scheduler.PausableThreadPoolExecutorImpl;
 
-public abstract class BaseEventsManager implements Runnable {
+public abstract class BaseEventsManager {
 
     private final static int QUEUE_CAPACITY = 20;
 
@@ -21,40 +18,49 @@ public abstract class BaseEventsManager implements Runnable {
 
     protected final Set<SplitInternalEvent> mTriggered;
 
-    public BaseEventsManager() {
+    protected final EventsDispatcher mEventsDispatcher;
+
+    private final Runnable mProcessQueuedEvents;
+
+    public BaseEventsManager(@NonNull EventsDispatcher eventsDispatcher) {
 
         mQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
         mTriggered = new ConcurrentSet<>();
-
-        ThreadFactory threadFactory = new ThreadFactoryBuilder()
-                .setDaemon(true)
-                .setNameFormat("Split-FactoryEventsManager-%d")
-                .setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
-                    @Override
-                    public void uncaughtException(@NonNull Thread t, @NonNull Throwable e) {
-                        Logger.e("Unexpected error " + e.getLocalizedMessage());
-                    }
-                })
-                .build();
-        launch(threadFactory);
+        mEventsDispatcher = checkNotNull(eventsDispatcher);
+        mProcessQueuedEvents = new Runnable() {
+            @Override
+            public void run() {
+                processQueuedEvents();
+            }
+        };
     }
 
-    @Override
-    public void run() {
-        // This code was intentionally designed this way
-        // noinspection InfiniteLoopStatement
-        while (true) {
-            triggerEventsWhenAreAvailable();
+    /**
+     * Queues the event and asks the dispatcher to process the queue.
+     * Extra requests find the queue empty and do nothing.
+     */
+    protected void enqueue(SplitInternalEvent event) {
+        try {
+            mQueue.add(event);
+        } catch (IllegalStateException e) {
+            Logger.d("Internal events queue is full");
+            return;
         }
+        mEventsDispatcher.dispatch(mProcessQueuedEvents);
     }
 
-    private void launch(ThreadFactory threadFactory) {
-        PausableThreadPoolExecutor mScheduler = PausableThreadPoolExecutorImpl.newSingleThreadExecutor(threadFactory);
-        mScheduler.submit(this);
-        mScheduler.resume();
+    private void processQueuedEvents() {
+        SplitInternalEvent event;
+        while ((event = mQueue.poll()) != null) {
+            try {
+                triggerEvent(event);
+            } catch (Exception e) {
+                Logger.e("Unexpected error " + e.getLocalizedMessage());
+            }
+        }
     }
 
-    protected abstract void triggerEventsWhenAreAvailable();
+    protected abstract void triggerEvent(SplitInternalEvent event);
 
     protected abstract void notifyInternalEvent(SplitInternalEvent event);
 }
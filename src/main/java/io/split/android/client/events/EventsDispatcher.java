@@ -0,0 +1,52 @@
+package io.split.android.client.events;
+
+import androidx.annotation.NonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.utils.Logger;
+
+/**
+ * Processes the internal events of all the events managers of a factory in a single thread.
+ * Because there is only one thread, each manager processes its events serially and in
+ * arrival order. The thread is created when needed and stops after being idle for a while.
+ * It doesn't use the SDK task executors: they are paused while in background and
+ * their delays have a one second precision, while the ready timeout is in milliseconds.
+ */
+public class EventsDispatcher {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private final ScheduledThreadPoolExecutor mExecutor;
+
+    public EventsDispatcher() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Split-EventsDispatcher-%d")
+                .build();
+        mExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        mExecutor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public void dispatch(@NonNull Runnable task) {
+        try {
+            mExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            Logger.w("Events dispatcher is stopped, internal event discarded");
+        }
+    }
+
+    public void schedule(@NonNull Runnable task, long delayInMillis) {
+        try {
+            mExecutor.schedule(task, delayInMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            Logger.w("Events dispatcher is stopped, task not scheduled");
+        }
+    }
+}
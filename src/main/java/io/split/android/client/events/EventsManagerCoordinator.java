@@ -6,7 +6,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import io.split.android.client.api.Key;
-import io.split.android.client.utils.Logger;
 
 /**
  * Special case event manager which handles events that should be shared among all client instances.
@@ -16,37 +15,34 @@ public class EventsManagerCoordinator extends BaseEventsManager implements ISpli
     private final ConcurrentMap<Key, ISplitEventsManager> mChildren = new ConcurrentHashMap<>();
     private final Object mEventLock = new Object();
 
+    public EventsManagerCoordinator() {
+        this(new EventsDispatcher());
+    }
+
+    public EventsManagerCoordinator(EventsDispatcher eventsDispatcher) {
+        super(eventsDispatcher);
+    }
+
     @Override
     public void notifyInternalEvent(SplitInternalEvent internalEvent) {
         checkNotNull(internalEvent);
-        try {
-            mQueue.add(internalEvent);
-        } catch (IllegalStateException e) {
-            Logger.d("Internal events queue is full");
-        }
+        enqueue(internalEvent);
     }
 
     @Override
-    protected void triggerEventsWhenAreAvailable() {
-        try {
-            SplitInternalEvent event = mQueue.take(); //Blocking method (waiting if necessary until an element becomes available.)
-            synchronized (mEventLock) {
-                mTriggered.add(event);
-                switch (event) {
-                    case SPLITS_UPDATED:
-                    case SPLITS_FETCHED:
-                    case SPLITS_LOADED_FROM_STORAGE:
-                    case SPLIT_KILLED_NOTIFICATION:
-                        for (ISplitEventsManager child : mChildren.values()) {
-                            child.notifyInternalEvent(event);
-                        }
-                        break;
-                }
+    protected void triggerEvent(SplitInternalEvent event) {
+        synchronized (mEventLock) {
+            mTriggered.add(event);
+            switch (event) {
+                case SPLITS_UPDATED:
+                case SPLITS_FETCHED:
+                case SPLITS_LOADED_FROM_STORAGE:
+                case SPLIT_KILLED_NOTIFICATION:
+                    for (ISplitEventsManager child : mChildren.values()) {
+                        child.notifyInternalEvent(event);
+                    }
+                    break;
             }
-        } catch (InterruptedException e) {
-            //Catching the InterruptedException that can be thrown by _queue.take() if interrupted while waiting
-            // for further information read https://docs.oracle.com/javase/7/docs/api/java/util/concurrent/ArrayBlockingQueue.html#take()
-            Logger.d(e.getMessage());
         }
     }
 
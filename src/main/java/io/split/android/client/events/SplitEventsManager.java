@@ -14,13 +14,12 @@ import io.split.android.client.events.executors.SplitEventExecutorAbstract;
 import io.split.android.client.events.executors.SplitEventExecutorFactory;
 import io.split.android.client.events.executors.SplitEventExecutorResources;
 import io.split.android.client.events.executors.SplitEventExecutorResourcesImpl;
-import io.split.android.client.utils.Logger;
 
 /**
  * Created by sarrubia on 4/3/18.
  */
 
-public class SplitEventsManager extends BaseEventsManager implements ISplitEventsManager, ListenableEventsManager, Runnable {
+public class SplitEventsManager extends BaseEventsManager implements ISplitEventsManager, ListenableEventsManager {
 
     private final Map<SplitEvent, List<SplitEventTask>> mSubscriptions;
 
@@ -29,32 +28,25 @@ public class SplitEventsManager extends BaseEventsManager implements ISplitEvent
     private final Map<SplitEvent, Integer> mExecutionTimes;
 
     public SplitEventsManager(SplitClientConfig config) {
-        super();
+        this(config, new EventsDispatcher());
+    }
+
+    public SplitEventsManager(SplitClientConfig config, EventsDispatcher eventsDispatcher) {
+        super(eventsDispatcher);
 
         mSubscriptions = new ConcurrentHashMap<>();
         mExecutionTimes = new ConcurrentHashMap<>();
         mResources = new SplitEventExecutorResourcesImpl();
         registerMaxAllowedExecutionTimesPerEvent();
 
-        Runnable SDKReadyTimeout = new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    if (config.blockUntilReady() > 0) {
-                        Thread.sleep(config.blockUntilReady());
-                        notifyInternalEvent(SplitInternalEvent.SDK_READY_TIMEOUT_REACHED);
-                    }
-                } catch (InterruptedException e) {
-                    //InterruptedException could be thrown by Thread.sleep trying to wait before check if sdk is ready
-                    Logger.d("Waiting before to check if SDK is READY has been interrupted", e.getMessage());
-                    notifyInternalEvent(SplitInternalEvent.SDK_READY_TIMEOUT_REACHED);
-                } catch (Throwable e) {
-                    Logger.d("Waiting before to check if SDK is READY interrupted ", e.getMessage());
+        if (config.blockUntilReady() > 0) {
+            mEventsDispatcher.schedule(new Runnable() {
+                @Override
+                public void run() {
                     notifyInternalEvent(SplitInternalEvent.SDK_READY_TIMEOUT_REACHED);
                 }
-            }
-        };
-        new Thread(SDKReadyTimeout).start();
+            }, config.blockUntilReady());
+        }
     }
 
     @VisibleForTesting
@@ -90,11 +82,7 @@ public class SplitEventsManager extends BaseEventsManager implements ISplitEvent
                 isTriggered(SplitEvent.SDK_READY)) {
             return;
         }
-        try {
-            mQueue.add(internalEvent);
-        } catch (IllegalStateException e) {
-            Logger.d("Internal events queue is full");
-        }
+        enqueue(internalEvent);
     }
 
     public void register(SplitEvent event, SplitEventTask task) {
@@ -123,54 +111,47 @@ public class SplitEventsManager extends BaseEventsManager implements ISplitEvent
     }
 
     @Override
-    protected void triggerEventsWhenAreAvailable() {
-        try {
-            SplitInternalEvent event = mQueue.take(); //Blocking method (waiting if necessary until an element becomes available.)
-            mTriggered.add(event);
-            switch (event) {
-                case SPLITS_UPDATED:
-                case MY_SEGMENTS_UPDATED:
-                    if (isTriggered(SplitEvent.SDK_READY)) {
-                        trigger(SplitEvent.SDK_UPDATE);
-                        return;
-                    }
-                    triggerSdkReadyIfNeeded();
-                    break;
-
-                case SPLITS_FETCHED:
-                case MY_SEGMENTS_FETCHED:
-                    if (isTriggered(SplitEvent.SDK_READY)) {
-                        return;
-                    }
-                    triggerSdkReadyIfNeeded();
-                    break;
-
-                case SPLITS_LOADED_FROM_STORAGE:
-                case MY_SEGMENTS_LOADED_FROM_STORAGE:
-                case ATTRIBUTES_LOADED_FROM_STORAGE:
-                    if (wasTriggered(SplitInternalEvent.SPLITS_LOADED_FROM_STORAGE) &&
-                            wasTriggered(SplitInternalEvent.MY_SEGMENTS_LOADED_FROM_STORAGE) &&
-                            wasTriggered(SplitInternalEvent.ATTRIBUTES_LOADED_FROM_STORAGE)) {
-                        trigger(SplitEvent.SDK_READY_FROM_CACHE);
-                    }
-                    break;
-
-                case SPLIT_KILLED_NOTIFICATION:
-                    if (isTriggered(SplitEvent.SDK_READY)) {
-                        trigger(SplitEvent.SDK_UPDATE);
-                    }
-                    break;
-
-                case SDK_READY_TIMEOUT_REACHED:
-                    if (!isTriggered(SplitEvent.SDK_READY)) {
-                        trigger(SplitEvent.SDK_READY_TIMED_OUT);
-                    }
-                    break;
-            }
-        } catch (InterruptedException e) {
-            //Catching the InterruptedException that can be thrown by _queue.take() if interrupted while waiting
-            // for further information read https://docs.oracle.com/javase/7/docs/api/java/util/concurrent/ArrayBlockingQueue.html#take()
-            Logger.d(e.getMessage());
+    protected void triggerEvent(SplitInternalEvent event) {
+        mTriggered.add(event);
+        switch (event) {
+            case SPLITS_UPDATED:
+            case MY_SEGMENTS_UPDATED:
+                if (isTriggered(SplitEvent.SDK_READY)) {
+                    trigger(SplitEvent.SDK_UPDATE);
+                    return;
+                }
+                triggerSdkReadyIfNeeded();
+                break;
+
+            case SPLITS_FETCHED:
+            case MY_SEGMENTS_FETCHED:
+                if (isTriggered(SplitEvent.SDK_READY)) {
+                    return;
+                }
+                triggerSdkReadyIfNeeded();
+                break;
+
+            case SPLITS_LOADED_FROM_STORAGE:
+            case MY_SEGMENTS_LOADED_FROM_STORAGE:
+            case ATTRIBUTES_LOADED_FROM_STORAGE:
+                if (wasTriggered(SplitInternalEvent.SPLITS_LOADED_FROM_STORAGE) &&
+                        wasTriggered(SplitInternalEvent.MY_SEGMENTS_LOADED_FROM_STORAGE) &&
+                        wasTriggered(SplitInternalEvent.ATTRIBUTES_LOADED_FROM_STORAGE)) {
+                    trigger(SplitEvent.SDK_READY_FROM_CACHE);
+                }
+                break;
+
+            case SPLIT_KILLED_NOTIFICATION:
+                if (isTriggered(SplitEvent.SDK_READY)) {
+                    trigger(SplitEvent.SDK_UPDATE);
+                }
+                break;
+
+            case SDK_READY_TIMEOUT_REACHED:
+                if (!isTriggered(SplitEvent.SDK_READY)) {
+                    trigger(SplitEvent.SDK_READY_TIMED_OUT);
+                }
+                break;
         }
     }
 
@@ -31,7 +31,7 @@ public interface ImpressionListener {
         }
     }
 
-    final class FederatedImpressionListener implements ImpressionListener {
+    final class FederatedImpressionListener implements BatchImpressionListener {
         private List<ImpressionListener> _delegates;
 
         public FederatedImpressionListener(List<ImpressionListener> delegates) {
@@ -45,6 +45,19 @@ public interface ImpressionListener {
             }
         }
 
+        @Override
+        public void log(List<Impression> impressions) {
+            for (ImpressionListener listener : _delegates) {
+                if (listener instanceof BatchImpressionListener) {
+                    ((BatchImpressionListener) listener).log(impressions);
+                } else {
+                    for (Impression impression : impressions) {
+                        listener.log(impression);
+                    }
+                }
+            }
+        }
+
         @Override
         public void close() {
             for (ImpressionListener listener : _delegates) {
@@ -13,6 +13,11 @@ public class LocalhostMySegmentsStorageContainer implements MySegmentsStorageCon
         return mEmptyMySegmentsStorage;
     }
 
+    @Override
+    public MySegmentsStorage getStorageIfPresent(String matchingKey) {
+        return mEmptyMySegmentsStorage;
+    }
+
     @Override
     public long getUniqueAmount() {
         return mEmptyMySegmentsStorage.getAll().size();
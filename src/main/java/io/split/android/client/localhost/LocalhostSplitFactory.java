@@ -16,6 +16,7 @@ import io.split.android.client.api.Key;
 import io.split.android.client.attributes.AttributesManagerFactory;
 import io.split.android.client.attributes.AttributesManagerFactoryImpl;
 import io.split.android.client.attributes.AttributesMergerImpl;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.events.EventsManagerCoordinator;
 import io.split.android.client.localhost.shared.LocalhostSplitClientContainerImpl;
 import io.split.android.client.service.ServiceConstants;
@@ -57,14 +58,15 @@ public class LocalhostSplitFactory implements SplitFactory {
         }
 
         mDefaultKey = key;
-        EventsManagerCoordinator eventsManagerCoordinator = new EventsManagerCoordinator();
+        EventsDispatcher eventsDispatcher = new EventsDispatcher();
+        EventsManagerCoordinator eventsManagerCoordinator = new EventsManagerCoordinator(eventsDispatcher);
         FileStorage fileStorage = new FileStorage(context.getCacheDir(), ServiceConstants.LOCALHOST_FOLDER);
         SplitsStorage splitsStorage = new LocalhostSplitsStorage(mLocalhostFileName, context, fileStorage, eventsManagerCoordinator);
         SplitParser splitParser = new SplitParser(new LocalhostMySegmentsStorageContainer());
-        SplitTaskExecutorImpl taskExecutor = new SplitTaskExecutorImpl();
+        SplitTaskExecutorImpl taskExecutor = new SplitTaskExecutorImpl(config.threadPoolSize());
         AttributesManagerFactory attributesManagerFactory = new AttributesManagerFactoryImpl(new AttributesValidatorImpl(), new ValidationMessageLoggerImpl());
 
-        mManager = new SplitManagerImpl(splitsStorage, new SplitValidatorImpl(), splitParser);
+        mManager = new SplitManagerImpl(splitsStorage, new SplitValidatorImpl());
 
         mClientContainer = new LocalhostSplitClientContainerImpl(this,
                 config,
@@ -73,7 +75,8 @@ public class LocalhostSplitFactory implements SplitFactory {
                 attributesManagerFactory,
                 new AttributesMergerImpl(),
                 new NoOpTelemetryStorage(),
-                eventsManagerCoordinator);
+                eventsManagerCoordinator,
+                eventsDispatcher);
 
         mSynchronizer = new LocalhostSynchronizer(taskExecutor, config, splitsStorage);
         mSynchronizer.start();
@@ -91,7 +94,7 @@ public class LocalhostSplitFactory implements SplitFactory {
         mSynchronizer = synchronizer;
         mClientContainer = clientContainer;
         mDefaultKey = defaultKey;
-        mManager = new SplitManagerImpl(splitsStorage, new SplitValidatorImpl(), splitParser);
+        mManager = new SplitManagerImpl(splitsStorage, new SplitValidatorImpl());
     }
 
     @Override
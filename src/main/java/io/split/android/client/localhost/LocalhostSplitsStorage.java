@@ -24,6 +24,8 @@ import io.split.android.client.events.SplitInternalEvent;
 import io.split.android.client.service.ServiceConstants;
 import io.split.android.client.storage.legacy.FileStorage;
 import io.split.android.client.storage.splits.ProcessedSplitChange;
+import io.split.android.client.storage.splits.SplitViews;
+import io.split.android.client.storage.splits.SplitViewsCache;
 import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.utils.FileUtils;
 import io.split.android.client.utils.Logger;
@@ -38,6 +40,7 @@ public class LocalhostSplitsStorage implements SplitsStorage {
     private final EventsManagerCoordinator mEventsManager;
     private final FileUtils mFileUtils = new FileUtils();
     private String mLastContentLoaded = "";
+    private final SplitViewsCache mSplitViewsCache = new SplitViewsCache();
 
     public LocalhostSplitsStorage(@Nullable String fileName,
                                   @NonNull Context context,
@@ -89,6 +92,13 @@ public class LocalhostSplitsStorage implements SplitsStorage {
         return splits;
     }
 
+    @Override
+    public SplitViews getSplitViews() {
+        synchronized (this) {
+            return mSplitViewsCache.get(mInMemorySplits.values());
+        }
+    }
+
     @Override
     public void update(ProcessedSplitChange splitChange) {
     }
@@ -123,7 +133,10 @@ public class LocalhostSplitsStorage implements SplitsStorage {
 
     @Override
     public void clear() {
-        mInMemorySplits.clear();
+        synchronized (this) {
+            mInMemorySplits.clear();
+            mSplitViewsCache.invalidate();
+        }
     }
 
     private void setup() {
@@ -170,6 +183,7 @@ public class LocalhostSplitsStorage implements SplitsStorage {
             if (values != null) {
                 mInMemorySplits.putAll(values);
             }
+            mSplitViewsCache.invalidate();
             if (!content.equals(mLastContentLoaded)) {
                 mEventsManager.notifyInternalEvent(SplitInternalEvent.SPLITS_LOADED_FROM_STORAGE);
                 mEventsManager.notifyInternalEvent(SplitInternalEvent.SPLITS_FETCHED);
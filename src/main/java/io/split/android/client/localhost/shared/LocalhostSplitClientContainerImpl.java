@@ -6,6 +6,7 @@ import io.split.android.client.api.Key;
 import io.split.android.client.attributes.AttributesManager;
 import io.split.android.client.attributes.AttributesManagerFactory;
 import io.split.android.client.attributes.AttributesMerger;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.events.EventsManagerCoordinator;
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.events.SplitInternalEvent;
@@ -27,6 +28,7 @@ public class LocalhostSplitClientContainerImpl extends BaseSplitClientContainer
     private final AttributesMerger mAttributesMerger;
     private final TelemetryStorageProducer mTelemetryStorageProducer;
     private final EventsManagerCoordinator mEventsManagerCoordinator;
+    private final EventsDispatcher mEventsDispatcher;
 
     public LocalhostSplitClientContainerImpl(LocalhostSplitFactory splitFactory,
                                              SplitClientConfig config,
@@ -35,7 +37,8 @@ public class LocalhostSplitClientContainerImpl extends BaseSplitClientContainer
                                              AttributesManagerFactory attributesManagerFactory,
                                              AttributesMerger attributesMerger,
                                              TelemetryStorageProducer telemetryStorageProducer,
-                                             EventsManagerCoordinator eventsManagerCoordinator) {
+                                             EventsManagerCoordinator eventsManagerCoordinator,
+                                             EventsDispatcher eventsDispatcher) {
         mSplitFactory = splitFactory;
         mConfig = config;
         mSplitStorage = splitsStorage;
@@ -44,11 +47,12 @@ public class LocalhostSplitClientContainerImpl extends BaseSplitClientContainer
         mAttributesMerger = attributesMerger;
         mTelemetryStorageProducer = telemetryStorageProducer;
         mEventsManagerCoordinator = eventsManagerCoordinator;
+        mEventsDispatcher = eventsDispatcher;
     }
 
     @Override
     protected void createNewClient(Key key) {
-        SplitEventsManager eventsManager = new SplitEventsManager(mConfig);
+        SplitEventsManager eventsManager = new SplitEventsManager(mConfig, mEventsDispatcher);
         eventsManager.notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_LOADED_FROM_STORAGE);
         eventsManager.notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_FETCHED);
         eventsManager.notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
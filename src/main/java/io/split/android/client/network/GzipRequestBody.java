@@ -0,0 +1,56 @@
+package io.split.android.client.network;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * Body that is gzipped while being written to the connection.
+ * Content length is unknown so it's sent chunked.
+ */
+class GzipRequestBody extends RequestBody {
+
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    static final String GZIP_ENCODING = "gzip";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final MediaType mContentType;
+    private final HttpRequestBodyWriter mBodyWriter;
+
+    GzipRequestBody(@NonNull MediaType contentType, @NonNull HttpRequestBodyWriter bodyWriter) {
+        mContentType = checkNotNull(contentType);
+        mBodyWriter = checkNotNull(bodyWriter);
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType() {
+        return mContentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeTo(@NonNull BufferedSink sink) throws IOException {
+        BufferedSink gzipSink = Okio.buffer(new GzipSink(sink));
+        Writer writer = new OutputStreamWriter(gzipSink.outputStream(), UTF_8);
+        mBodyWriter.writeTo(writer);
+        writer.close();
+    }
+}
@@ -18,6 +18,11 @@ public interface HttpClient {
 
     HttpRequest request(URI uri, HttpMethod httpMethod, String body);
 
+    /**
+     * Request whose body is streamed from {@code bodyWriter} and sent gzip compressed.
+     */
+    HttpRequest compressedRequest(URI uri, HttpMethod httpMethod, HttpRequestBodyWriter bodyWriter);
+
     HttpStreamRequest streamRequest(URI uri);
 
     void close();
@@ -66,6 +66,11 @@ public class HttpClientImpl implements HttpClient {
         return request(uri, requestMethod, body, null);
     }
 
+    @Override
+    public HttpRequest compressedRequest(URI uri, HttpMethod requestMethod, HttpRequestBodyWriter bodyWriter) {
+        return new HttpRequestImpl(mOkHttpClient, uri, requestMethod, bodyWriter, new HashMap<>(mCommonHeaders));
+    }
+
     @Override
     public HttpStreamRequest streamRequest(URI uri) {
         return new HttpStreamRequestImpl(mOkHttpClientStreaming, uri, mStreamingHeaders);
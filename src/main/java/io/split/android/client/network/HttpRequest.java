@@ -2,4 +2,10 @@ package io.split.android.client.network;
 
 public interface HttpRequest {
     HttpResponse execute() throws HttpException;
+
+    /**
+     * Executes the request without buffering the response body.
+     * The reader of the returned response must be closed by the caller.
+     */
+    HttpStreamResponse executeStreaming() throws HttpException;
 }
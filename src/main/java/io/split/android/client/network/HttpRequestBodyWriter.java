@@ -0,0 +1,14 @@
+package io.split.android.client.network;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a request body directly into the connection instead of
+ * building it as a String first.
+ */
+public interface HttpRequestBodyWriter {
+    void writeTo(@NonNull Writer writer) throws IOException;
+}
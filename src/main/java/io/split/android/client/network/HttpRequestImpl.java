@@ -21,6 +21,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 public class HttpRequestImpl implements HttpRequest {
 
@@ -29,6 +30,7 @@ public class HttpRequestImpl implements HttpRequest {
     private final OkHttpClient mOkHttpClient;
     private final URI mUri;
     private final String mBody;
+    private final HttpRequestBodyWriter mBodyWriter;
     private final HttpMethod mHttpMethod;
     private final Map<String, String> mHeaders;
     private final UrlSanitizer mUrlSanitizer;
@@ -36,17 +38,35 @@ public class HttpRequestImpl implements HttpRequest {
     HttpRequestImpl(@NonNull OkHttpClient okHttpClient, @NonNull URI uri,
                     @NonNull HttpMethod httpMethod,
                     @Nullable String body, @NonNull Map<String, String> headers) {
-        this(okHttpClient, uri, httpMethod, body, headers, new UrlSanitizerImpl());
+        this(okHttpClient, uri, httpMethod, body, null, headers, new UrlSanitizerImpl());
+    }
+
+    /**
+     * Request whose body is written by {@code bodyWriter} and sent gzip compressed.
+     */
+    HttpRequestImpl(@NonNull OkHttpClient okHttpClient, @NonNull URI uri,
+                    @NonNull HttpMethod httpMethod,
+                    @NonNull HttpRequestBodyWriter bodyWriter, @NonNull Map<String, String> headers) {
+        this(okHttpClient, uri, httpMethod, null, checkNotNull(bodyWriter), headers, new UrlSanitizerImpl());
     }
 
     HttpRequestImpl(@NonNull OkHttpClient okHttpClient, @NonNull URI uri,
                     @NonNull HttpMethod httpMethod,
                     @Nullable String body, @NonNull Map<String, String> headers,
                     @NonNull UrlSanitizer urlSanitizer) {
+        this(okHttpClient, uri, httpMethod, body, null, headers, urlSanitizer);
+    }
+
+    private HttpRequestImpl(@NonNull OkHttpClient okHttpClient, @NonNull URI uri,
+                            @NonNull HttpMethod httpMethod,
+                            @Nullable String body, @Nullable HttpRequestBodyWriter bodyWriter,
+                            @NonNull Map<String, String> headers,
+                            @NonNull UrlSanitizer urlSanitizer) {
         mOkHttpClient = checkNotNull(okHttpClient);
         mUri = checkNotNull(uri);
         mHttpMethod = checkNotNull(httpMethod);
         mBody = body;
+        mBodyWriter = bodyWriter;
         mHeaders = new HashMap<>(checkNotNull(headers));
         mUrlSanitizer = checkNotNull(urlSanitizer);
     }
@@ -69,19 +89,40 @@ public class HttpRequestImpl implements HttpRequest {
         }
     }
 
+    @Override
+    public HttpStreamResponse executeStreaming() throws HttpException {
+        if (mHttpMethod != HttpMethod.GET) {
+            throw new IllegalArgumentException("Streaming not supported for HTTP Method: " + mHttpMethod.name());
+        }
+
+        Response okHttpResponse = executeGet();
+        int responseCode = okHttpResponse.code();
+        ResponseBody body = okHttpResponse.body();
+        if (isSuccess(responseCode) && body != null) {
+            return new HttpStreamResponseImpl(responseCode, new BufferedReader(body.charStream()));
+        }
+        okHttpResponse.close();
+        return new HttpStreamResponseImpl(responseCode);
+    }
+
     private HttpResponse getRequest() throws HttpException {
-        URL url;
-        HttpResponse response;
+        Response okHttpResponse = executeGet();
         try {
+            return buildResponse(okHttpResponse);
+        } catch (IOException e) {
+            throw new HttpException("Something happened while retrieving data: " + e.getLocalizedMessage());
+        }
+    }
 
-            url = mUrlSanitizer.getUrl(mUri);
+    private Response executeGet() throws HttpException {
+        try {
+            URL url = mUrlSanitizer.getUrl(mUri);
 
             Request.Builder requestBuilder = new Request.Builder()
                     .url(url);
             addHeaders(requestBuilder);
             Request okHttpRequest = requestBuilder.build();
-            Response okHttpResponse = mOkHttpClient.newCall(okHttpRequest).execute();
-            response = buildResponse(okHttpResponse);
+            return mOkHttpClient.newCall(okHttpRequest).execute();
 
         } catch (MalformedURLException e) {
             throw new HttpException("URL is malformed: " + e.getLocalizedMessage());
@@ -90,22 +131,28 @@ public class HttpRequestImpl implements HttpRequest {
         } catch (IOException e) {
             throw new HttpException("Something happened while retrieving data: " + e.getLocalizedMessage());
         }
-        return response;
     }
 
     private HttpResponse postRequest() throws IOException {
 
-        if (mBody == null) {
+        RequestBody body;
+        if (mBodyWriter != null) {
+            body = new GzipRequestBody(JSON, mBodyWriter);
+        } else if (mBody != null) {
+            body = RequestBody.create(JSON, mBody);
+        } else {
             throw new IOException("Json data is null");
         }
 
         URL url = mUri.toURL();
-        RequestBody body = RequestBody.create(JSON, mBody);
         Request.Builder builder = new Request.Builder()
                 .url(url)
                 .post(body);
 
         addHeaders(builder);
+        if (mBodyWriter != null) {
+            builder.header(GzipRequestBody.CONTENT_ENCODING_HEADER, GzipRequestBody.GZIP_ENCODING);
+        }
         Request httpOkRequest = builder.build();
         Response httpOkResponse = mOkHttpClient.newCall(httpOkRequest).execute();
         HttpResponse httpResponse = buildResponse(httpOkResponse);
@@ -120,7 +167,7 @@ public class HttpRequestImpl implements HttpRequest {
 
     private HttpResponse buildResponse(Response okHttpResponse) throws IOException {
         int responseCode = okHttpResponse.code();
-        if (responseCode >= HttpURLConnection.HTTP_OK && responseCode < 300) {
+        if (isSuccess(responseCode)) {
             BufferedReader in = new BufferedReader(new InputStreamReader(
                     okHttpResponse.body().byteStream()));
 
@@ -136,4 +183,8 @@ public class HttpRequestImpl implements HttpRequest {
         return new HttpResponseImpl(responseCode);
     }
 
+    private static boolean isSuccess(int responseCode) {
+        return responseCode >= HttpURLConnection.HTTP_OK && responseCode < 300;
+    }
+
 }
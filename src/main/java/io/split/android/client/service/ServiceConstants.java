@@ -11,6 +11,7 @@ public class ServiceConstants {
     public static final long DEFAULT_SPLITS_CACHE_EXPIRATION_IN_SECONDS = 864000; // 10 days
 
     public static final int MAX_ROWS_PER_QUERY = 100;
+    public static final long PERSISTENT_WRITE_WINDOW_MILLIS = 1000;
 
     public static final int DEFAULT_IMPRESSION_COUNT_ROWS_POP = 200;
 
@@ -19,6 +20,8 @@ public class ServiceConstants {
     public final static String TASK_INFO_FIELD_RECORDS_NON_SENT = "recordNonSent";
     public final static String TASK_INFO_FIELD_BYTES_NON_SET = "bytesNonSent";
 
+    public static final int BACKGROUND_SYNC_PARALLEL_THREADS = 2;
+
     public final static String WORKER_PARAM_DATABASE_NAME = "databaseName";
     public final static String WORKER_PARAM_KEY = "key";
     public final static String WORKER_PARAM_API_KEY = "apiKey";
@@ -27,6 +30,7 @@ public class ServiceConstants {
     public final static String WORKER_PARAM_IMPRESSIONS_PER_PUSH = "impressionsPerPush";
     public final static String WORKER_PARAM_EVENTS_PER_PUSH = "eventsPerPush";
     public final static String WORKER_PARAM_SPLIT_CACHE_EXPIRATION = "splitCacheExpiration";
+    public final static String WORKER_PARAM_REQUEST_COMPRESSION_ENABLED = "requestCompressionEnabled";
 
     public static final long LAST_SEEN_IMPRESSION_CACHE_SIZE = 500;
     public static final int MY_SEGMENT_V2_DATA_SIZE = 1024 * 10;// bytes
@@ -57,28 +57,31 @@ public class ServiceFactory {
     public static HttpRecorder<List<Event>> getEventsRecorder(
             NetworkHelper networkHelper,
             HttpClient httpClient,
-            String endPoint) throws URISyntaxException {
+            String endPoint,
+            boolean compressionEnabled) throws URISyntaxException {
         return new HttpRecorderImpl<>(
                 httpClient, SdkTargetPath.events(endPoint), networkHelper,
-                new EventsRequestBodySerializer());
+                new EventsRequestBodySerializer(), compressionEnabled);
     }
 
     public static HttpRecorder<List<KeyImpression>> getImpressionsRecorder(
             NetworkHelper networkHelper,
             HttpClient httpClient,
-            String endPoint) throws URISyntaxException {
+            String endPoint,
+            boolean compressionEnabled) throws URISyntaxException {
         return new HttpRecorderImpl<>(
                 httpClient, SdkTargetPath.impressions(endPoint), networkHelper,
-                new ImpressionsRequestBodySerializer());
+                new ImpressionsRequestBodySerializer(), compressionEnabled);
     }
 
     public static HttpRecorder<ImpressionsCount> getImpressionsCountRecorder(
             NetworkHelper networkHelper,
             HttpClient httpClient,
-            String endPoint) throws URISyntaxException {
+            String endPoint,
+            boolean compressionEnabled) throws URISyntaxException {
         return new HttpRecorderImpl<>(
                 httpClient, SdkTargetPath.impressionsCount(endPoint), networkHelper,
-                new ImpressionsCountRequestBodySerializer());
+                new ImpressionsCountRequestBodySerializer(), compressionEnabled);
     }
 
     public static HttpSseAuthTokenFetcher getSseAuthenticationFetcher(
@@ -94,19 +97,20 @@ public class ServiceFactory {
     public static HttpRecorder<Config> getTelemetryConfigRecorder(
             NetworkHelper networkHelper,
             HttpClient httpClient,
-            String endpoint) throws URISyntaxException {
+            String endpoint,
+            boolean compressionEnabled) throws URISyntaxException {
         return new HttpRecorderImpl<>(
                 httpClient, SdkTargetPath.telemetryConfig(endpoint), networkHelper,
-                new TelemetryConfigBodySerializer());
+                new TelemetryConfigBodySerializer(), compressionEnabled);
     }
 
     public static HttpRecorder<Stats> getTelemetryStatsRecorder(
             NetworkHelper networkHelper,
             HttpClient httpClient,
-            String endpoint) throws URISyntaxException {
+            String endpoint,
+            boolean compressionEnabled) throws URISyntaxException {
         return new HttpRecorderImpl<>(
                 httpClient, SdkTargetPath.telemetryStats(endpoint), networkHelper,
-                new TelemetryStatsBodySerializer()
-        );
+                new TelemetryStatsBodySerializer(), compressionEnabled);
     }
 }
@@ -2,17 +2,27 @@ package io.split.android.client.service.events;
 
 import androidx.annotation.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 import io.split.android.client.dtos.Event;
 import io.split.android.client.dtos.SerializableEvent;
-import io.split.android.client.service.http.HttpRequestBodySerializer;
+import io.split.android.client.service.http.HttpStreamingRequestBodySerializer;
 import io.split.android.client.utils.Json;
 
-public class EventsRequestBodySerializer implements HttpRequestBodySerializer<List<Event>> {
+public class EventsRequestBodySerializer implements HttpStreamingRequestBodySerializer<List<Event>> {
 
     public String serialize(@NonNull List<Event> inputData) {
+        return Json.toJson(toSerializableEvents(inputData));
+    }
+
+    public void serialize(@NonNull List<Event> inputData, @NonNull Writer writer) throws IOException {
+        Json.toJson(toSerializableEvents(inputData), writer);
+    }
+
+    private List<SerializableEvent> toSerializableEvents(List<Event> inputData) {
         List<SerializableEvent> data = new ArrayList<>();
 
         for (Event event : inputData) {
@@ -27,6 +37,6 @@ public class EventsRequestBodySerializer implements HttpRequestBodySerializer<Li
             data.add(serializableEvent);
         }
 
-        return Json.toJson(data);
+        return data;
     }
 }
@@ -27,6 +27,11 @@ public abstract class SplitBaseTaskExecutor implements SplitTaskExecutor {
         mScheduledTasks = new ConcurrentHashMap<>();
     }
 
+    protected SplitBaseTaskExecutor(@NonNull PausableScheduledThreadPoolExecutor scheduler) {
+        mScheduler = checkNotNull(scheduler);
+        mScheduledTasks = new ConcurrentHashMap<>();
+    }
+
     @NonNull
     protected abstract PausableScheduledThreadPoolExecutor buildScheduler();
 
@@ -105,6 +110,21 @@ public abstract class SplitBaseTaskExecutor implements SplitTaskExecutor {
         mScheduler.resume();
     }
 
+    @Override
+    public int getThreadCount() {
+        return mScheduler.getPoolSize();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return mScheduler.getActiveCount();
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return mScheduler.getQueue().size();
+    }
+
     @Override
     public void stop() {
         if (!mScheduler.isShutdown()) {
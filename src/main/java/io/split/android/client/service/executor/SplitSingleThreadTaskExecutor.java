@@ -4,12 +4,15 @@ import androidx.annotation.NonNull;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import java.util.concurrent.TimeUnit;
+
 import io.split.android.engine.scheduler.PausableScheduledThreadPoolExecutor;
 import io.split.android.engine.scheduler.PausableScheduledThreadPoolExecutorImpl;
 
 public class SplitSingleThreadTaskExecutor extends SplitBaseTaskExecutor {
 
     private static final String THREAD_NAME_FORMAT = "split-singleThreadTaskExecutor-%d";
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
 
     @NonNull
     @Override
@@ -18,6 +21,10 @@ public class SplitSingleThreadTaskExecutor extends SplitBaseTaskExecutor {
         threadFactoryBuilder.setDaemon(true);
         threadFactoryBuilder.setNameFormat(THREAD_NAME_FORMAT);
 
-        return PausableScheduledThreadPoolExecutorImpl.newSingleThreadScheduledExecutor(threadFactoryBuilder.build());
+        PausableScheduledThreadPoolExecutorImpl scheduler = (PausableScheduledThreadPoolExecutorImpl)
+                PausableScheduledThreadPoolExecutorImpl.newSingleThreadScheduledExecutor(threadFactoryBuilder.build());
+        scheduler.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
     }
 }
@@ -27,4 +27,19 @@ public interface SplitTaskExecutor {
     void stopTask(String taskId);
 
     void stop();
+
+    /**
+     * Number of threads currently alive.
+     */
+    int getThreadCount();
+
+    /**
+     * Number of threads currently running a task.
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Number of tasks waiting to run, including scheduled ones.
+     */
+    int getQueuedTaskCount();
 }
@@ -22,15 +22,34 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 public class SplitTaskExecutorImpl extends SplitBaseTaskExecutor {
 
-    private static final int MIN_THREADPOOL_SIZE_WHEN_IDLE = 6;
+    private static final int DEFAULT_THREAD_POOL_SIZE = 6;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
     private static final String THREAD_NAME_FORMAT = "split-taskExecutor-%d";
 
+    public SplitTaskExecutorImpl() {
+        this(DEFAULT_THREAD_POOL_SIZE);
+    }
+
+    public SplitTaskExecutorImpl(int threadPoolSize) {
+        super(createScheduler(threadPoolSize));
+    }
+
     @NonNull
     @Override
     protected PausableScheduledThreadPoolExecutorImpl buildScheduler() {
+        return createScheduler(DEFAULT_THREAD_POOL_SIZE);
+    }
+
+    private static PausableScheduledThreadPoolExecutorImpl createScheduler(int threadPoolSize) {
+        checkArgument(threadPoolSize > 0);
         ThreadFactoryBuilder threadFactoryBuilder = new ThreadFactoryBuilder();
         threadFactoryBuilder.setDaemon(true);
         threadFactoryBuilder.setNameFormat(THREAD_NAME_FORMAT);
-        return new PausableScheduledThreadPoolExecutorImpl(MIN_THREADPOOL_SIZE_WHEN_IDLE, threadFactoryBuilder.build());
+        PausableScheduledThreadPoolExecutorImpl scheduler =
+                new PausableScheduledThreadPoolExecutorImpl(threadPoolSize, threadFactoryBuilder.build());
+        // Idle threads are released; pending scheduled tasks keep at least one alive
+        scheduler.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
     }
 }
@@ -1,14 +1,39 @@
 package io.split.android.client.service.executor.parallel;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class SplitParallelTaskExecutorFactoryImpl implements SplitParallelTaskExecutorFactory {
 
-    private final int mThreads = Runtime.getRuntime().availableProcessors();
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private final int mThreads;
 
-    private final ExecutorService mScheduler = Executors.newFixedThreadPool(mThreads);
+    private final ExecutorService mScheduler;
+
+    public SplitParallelTaskExecutorFactoryImpl() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SplitParallelTaskExecutorFactoryImpl(int threads) {
+        this(threads, buildScheduler(threads));
+    }
+
+    /**
+     * @param threads   number of tasks work is split into
+     * @param scheduler pool running the tasks, which may be shared with other components
+     */
+    public SplitParallelTaskExecutorFactoryImpl(int threads, @NonNull ExecutorService scheduler) {
+        mThreads = threads;
+        mScheduler = checkNotNull(scheduler);
+    }
 
     @Override
     public <T> SplitParallelTaskExecutor<List<T>> createForList(Class<T> type) {
@@ -19,4 +44,12 @@ public class SplitParallelTaskExecutorFactoryImpl implements SplitParallelTaskEx
     public <T> SplitParallelTaskExecutor<T> create(Class<T> type) {
         return new SplitParallelTaskExecutorImpl<>(mThreads, mScheduler);
     }
+
+    private static ExecutorService buildScheduler(int threads) {
+        // Idle threads are released so that an unused factory doesn't keep them alive
+        ThreadPoolExecutor scheduler = new ThreadPoolExecutor(threads, threads,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
+    }
 }
@@ -5,12 +5,17 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
 
 import io.split.android.client.network.HttpClient;
+import io.split.android.client.network.HttpException;
 import io.split.android.client.network.HttpMethod;
+import io.split.android.client.network.HttpRequest;
 import io.split.android.client.network.HttpResponse;
+import io.split.android.client.network.HttpStreamResponse;
 import io.split.android.client.network.URIBuilder;
 import io.split.android.client.utils.Logger;
 import io.split.android.client.utils.NetworkHelper;
@@ -21,6 +26,8 @@ public class HttpFetcherImpl<T> implements HttpFetcher<T> {
     private final URI mTarget;
     private final NetworkHelper mNetworkHelper;
     private HttpResponseParser<T> mResponseParser;
+    @Nullable
+    private final HttpStreamingResponseParser<T> mStreamingResponseParser;
 
     public HttpFetcherImpl(@NonNull HttpClient client,
                            @NonNull URI target,
@@ -31,6 +38,8 @@ public class HttpFetcherImpl<T> implements HttpFetcher<T> {
         mTarget = checkNotNull(target);
         mNetworkHelper = checkNotNull(networkHelper);
         mResponseParser = checkNotNull(responseParser);
+        mStreamingResponseParser = (responseParser instanceof HttpStreamingResponseParser)
+                ? (HttpStreamingResponseParser<T>) responseParser : null;
     }
 
     @Override
@@ -48,13 +57,18 @@ public class HttpFetcherImpl<T> implements HttpFetcher<T> {
                 uriBuilder.addParameter(param.getKey(), value != null ? value.toString() : "");
             }
             URI builtUri = uriBuilder.build();
-            HttpResponse response = mClient.request(builtUri, HttpMethod.GET, null, headers).execute();
-            Logger.d("Received from: " + builtUri.toString() + " -> " + response.getData());
-            if (!response.isSuccess()) {
-                throw new IllegalStateException("http return code " + response.getHttpStatus());
-            }
+            HttpRequest request = mClient.request(builtUri, HttpMethod.GET, null, headers);
+            if (mStreamingResponseParser != null) {
+                responseData = executeStreaming(request, builtUri, mStreamingResponseParser);
+            } else {
+                HttpResponse response = request.execute();
+                Logger.d("Received from: %s -> %s", builtUri, response.getData());
+                if (!response.isSuccess()) {
+                    throw new IllegalStateException("http return code " + response.getHttpStatus());
+                }
 
-            responseData = mResponseParser.parse(response.getData());
+                responseData = mResponseParser.parse(response.getData());
+            }
 
             if (responseData == null) {
                 throw new IllegalStateException("Wrong data received from split changes server");
@@ -64,4 +78,27 @@ public class HttpFetcherImpl<T> implements HttpFetcher<T> {
         }
         return responseData;
     }
+
+    /**
+     * Body is handed to the parser while it's being downloaded.
+     * It isn't logged to avoid materializing it as a String.
+     */
+    @Nullable
+    private T executeStreaming(HttpRequest request,
+                               URI uri,
+                               HttpStreamingResponseParser<T> parser) throws HttpException, HttpResponseParserException, IOException {
+        HttpStreamResponse response = request.executeStreaming();
+        Logger.d("Received from: %s -> http status %d", uri, response.getHttpStatus());
+        BufferedReader reader = response.getBufferedReader();
+        try {
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("http return code " + response.getHttpStatus());
+            }
+            return (reader != null) ? parser.parse(reader) : null;
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
 }
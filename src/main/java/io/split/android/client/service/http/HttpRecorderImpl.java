@@ -2,10 +2,14 @@ package io.split.android.client.service.http;
 
 import androidx.annotation.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.net.URI;
 
 import io.split.android.client.network.HttpClient;
 import io.split.android.client.network.HttpMethod;
+import io.split.android.client.network.HttpRequest;
+import io.split.android.client.network.HttpRequestBodyWriter;
 import io.split.android.client.network.HttpResponse;
 import io.split.android.client.utils.NetworkHelper;
 
@@ -17,29 +21,43 @@ public class HttpRecorderImpl<T> implements HttpRecorder<T> {
     private final URI mTarget;
     private final NetworkHelper mNetworkHelper;
     private final HttpRequestBodySerializer<T> mRequestSerializer;
+    private final HttpStreamingRequestBodySerializer<T> mCompressedRequestSerializer;
 
     public HttpRecorderImpl(@NonNull HttpClient client,
                             @NonNull URI target,
                             @NonNull NetworkHelper networkHelper,
                             @NonNull HttpRequestBodySerializer<T> requestSerializer) {
+        this(client, target, networkHelper, requestSerializer, false);
+    }
+
+    /**
+     * @param compressionEnabled when true and the serializer supports streaming,
+     *                           bodies are written gzip compressed straight to the connection
+     */
+    public HttpRecorderImpl(@NonNull HttpClient client,
+                            @NonNull URI target,
+                            @NonNull NetworkHelper networkHelper,
+                            @NonNull HttpRequestBodySerializer<T> requestSerializer,
+                            boolean compressionEnabled) {
 
         mClient = checkNotNull(client);
         mTarget = checkNotNull(target);
         mNetworkHelper = checkNotNull(networkHelper);
         mRequestSerializer = checkNotNull(requestSerializer);
+        mCompressedRequestSerializer = (compressionEnabled && requestSerializer instanceof HttpStreamingRequestBodySerializer)
+                ? (HttpStreamingRequestBodySerializer<T>) requestSerializer : null;
     }
 
     @Override
     public void execute(@NonNull T data) throws HttpRecorderException {
         checkNotNull(data);
 
-        String serializedData = mRequestSerializer.serialize(data);
         try {
             if (!mNetworkHelper.isReachable(mTarget)) {
                 throw new IllegalStateException("Source not reachable");
             }
 
-            HttpResponse response = mClient.request(mTarget, HttpMethod.POST, serializedData).execute();
+            HttpResponse response = buildRequest(data).execute();
             if (!response.isSuccess()) {
                 int httpStatus = response.getHttpStatus();
                 throw new HttpRecorderException(mTarget.toString(), "http return code " + httpStatus, httpStatus);
@@ -50,4 +68,17 @@ public class HttpRecorderImpl<T> implements HttpRecorder<T> {
             throw new HttpRecorderException(mTarget.toString(), e.getLocalizedMessage());
         }
     }
+
+    private HttpRequest buildRequest(@NonNull final T data) {
+        final HttpStreamingRequestBodySerializer<T> serializer = mCompressedRequestSerializer;
+        if (serializer == null) {
+            return mClient.request(mTarget, HttpMethod.POST, mRequestSerializer.serialize(data));
+        }
+        return mClient.compressedRequest(mTarget, HttpMethod.POST, new HttpRequestBodyWriter() {
+            @Override
+            public void writeTo(@NonNull Writer writer) throws IOException {
+                serializer.serialize(data, writer);
+            }
+        });
+    }
 }
@@ -0,0 +1,14 @@
+package io.split.android.client.service.http;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Serializer able to write the request body straight to the connection
+ * without building it as a String.
+ */
+public interface HttpStreamingRequestBodySerializer<T> extends HttpRequestBodySerializer<T> {
+    void serialize(@NonNull T data, @NonNull Writer writer) throws IOException;
+}
@@ -0,0 +1,13 @@
+package io.split.android.client.service.http;
+
+import androidx.annotation.NonNull;
+
+import java.io.Reader;
+
+/**
+ * Parser able to decode the response body while it is being read,
+ * so that the whole payload is never held in memory as a String.
+ */
+public interface HttpStreamingResponseParser<T> extends HttpResponseParser<T> {
+    T parse(@NonNull Reader responseData) throws HttpResponseParserException;
+}
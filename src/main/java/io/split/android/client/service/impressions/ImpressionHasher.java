@@ -5,16 +5,26 @@ import io.split.android.client.utils.MurmurHash3;
 
 public class ImpressionHasher {
 
-    private static final String HASHABLE_FORMAT = "%s:%s:%s:%s:%d";
+    private static final char SEPARATOR = ':';
     private static final String UNKNOWN = "UNKNOWN";
     private static final int SEED = 0;
-    private static final int OFFSET = 0;
+
+    /**
+     * Fields are fed straight into the hash instead of building the
+     * "key:split:treatment:rule:changeNumber" string. One hasher is kept per thread.
+     */
+    private static final ThreadLocal<MurmurHash3.StreamingX86_32> HASHER = new ThreadLocal<MurmurHash3.StreamingX86_32>() {
+        @Override
+        protected MurmurHash3.StreamingX86_32 initialValue() {
+            return new MurmurHash3.StreamingX86_32();
+        }
+    };
 
     private static String unknownIfNull(String s) {
         return (s == null) ? UNKNOWN : s;
     }
 
-    private static Long zeroIfNull(Long l) {
+    private static long zeroIfNull(Long l) {
         return (l == null) ? 0 : l;
     }
 
@@ -22,13 +32,22 @@ public class ImpressionHasher {
         if (null == impression) {
             return null;
         }
-        String data = String.format(HASHABLE_FORMAT,
-                unknownIfNull(impression.key()),
-                unknownIfNull(impression.split()),
-                unknownIfNull(impression.treatment()),
-                unknownIfNull(impression.appliedRule()),
-                zeroIfNull(impression.changeNumber()));
-
-        return MurmurHash3.murmurhash3_x86_32(data, OFFSET, data.length(), SEED);
+        return hash(impression);
+    }
+
+    /**
+     * Same as {@link #process(Impression)} without boxing the result.
+     *
+     * @param impression MUST NOT be null
+     */
+    public static long hash(Impression impression) {
+        return HASHER.get()
+                .reset(SEED)
+                .update(unknownIfNull(impression.key())).update(SEPARATOR)
+                .update(unknownIfNull(impression.split())).update(SEPARATOR)
+                .update(unknownIfNull(impression.treatment())).update(SEPARATOR)
+                .update(unknownIfNull(impression.appliedRule())).update(SEPARATOR)
+                .updateDecimal(zeroIfNull(impression.changeNumber()))
+                .finish();
     }
-}
\ No newline at end of file
+}
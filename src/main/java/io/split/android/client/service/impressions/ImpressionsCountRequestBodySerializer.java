@@ -2,12 +2,19 @@ package io.split.android.client.service.impressions;
 
 import androidx.annotation.NonNull;
 
-import io.split.android.client.service.http.HttpRequestBodySerializer;
+import java.io.IOException;
+import java.io.Writer;
+
+import io.split.android.client.service.http.HttpStreamingRequestBodySerializer;
 import io.split.android.client.utils.Json;
 
-public class ImpressionsCountRequestBodySerializer implements HttpRequestBodySerializer<ImpressionsCount> {
+public class ImpressionsCountRequestBodySerializer implements HttpStreamingRequestBodySerializer<ImpressionsCount> {
 
     public String serialize(@NonNull ImpressionsCount data) {
         return Json.toJson(data);
     }
+
+    public void serialize(@NonNull ImpressionsCount data, @NonNull Writer writer) throws IOException {
+        Json.toJson(data, writer);
+    }
 }
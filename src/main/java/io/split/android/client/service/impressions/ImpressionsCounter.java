@@ -1,12 +1,18 @@
 package io.split.android.client.service.impressions;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+/**
+ * Counts impressions per feature and hour. Counting is done on every evaluation in OPTIMIZED mode,
+ * so lookups use a per thread key and counts are kept in striped primitive cells.
+ */
 public class ImpressionsCounter {
 
     public static class Key {
@@ -23,7 +29,7 @@ public class ImpressionsCounter {
 
         @Override
         public int hashCode() {
-            return String.format("%s%d", featureName, timeFrame).hashCode();
+            return CounterKey.hash(featureName, timeFrame);
         }
 
         @Override
@@ -37,36 +43,169 @@ public class ImpressionsCounter {
         }
     }
 
-    private final ConcurrentHashMap<Key, AtomicInteger> mCounts;
+    private static final ThreadLocal<CounterKey> LOOKUP_KEY = new ThreadLocal<CounterKey>() {
+        @Override
+        protected CounterKey initialValue() {
+            return new CounterKey();
+        }
+    };
+
+    private final ConcurrentHashMap<CounterKey, Cell> mCounts;
 
     public ImpressionsCounter() {
         mCounts = new ConcurrentHashMap<>();
     }
 
     public void inc(String featureName, long timeFrame, int amount) {
-        Key key = new Key(featureName, ImpressionUtils.truncateTimeframe(timeFrame));
-        AtomicInteger count = mCounts.get(key);
-        if (count == null) {
-            count = new AtomicInteger();
-            AtomicInteger old = mCounts.putIfAbsent(key, count);
-            if (old != null) { // Some other thread won the race, use that AtomicInteger instead
-                count = old;
+        CounterKey lookupKey = LOOKUP_KEY.get().set(checkNotNull(featureName), ImpressionUtils.truncateTimeframe(timeFrame));
+        boolean added;
+        do {
+            // A closed cell has already been removed, so the retry uses a new one
+            added = getOrCreateCell(lookupKey).add(amount);
+        } while (!added);
+    }
+
+    private Cell getOrCreateCell(CounterKey lookupKey) {
+        Cell cell = mCounts.get(lookupKey);
+        if (cell == null) {
+            cell = new Cell();
+            Cell old = mCounts.putIfAbsent(lookupKey.copy(), cell);
+            if (old != null) { // Some other thread won the race, use that cell instead
+                cell = old;
             }
         }
-        count.addAndGet(amount);
+        return cell;
     }
 
+    /**
+     * Returns the counts and resets them. Each stripe is taken and reset atomically,
+     * so concurrent increments are either returned now or in the next call.
+     * Cells for the current hour are kept to be reused. Cells for past hours are removed
+     * and then closed, taking their counts. An increment that got one of them before
+     * it was removed is either taken when closing it or added to a new cell.
+     */
     public List<ImpressionsCountPerFeature> popAll() {
+        long currentTimeFrame = ImpressionUtils.truncateTimeframe(System.currentTimeMillis());
         List<ImpressionsCountPerFeature> counts = new ArrayList<>();
-        List<Key> keys = new ArrayList(mCounts.keySet());
-        for (Key key : keys) {
-            AtomicInteger currentCount = mCounts.remove(key);
-            if(currentCount != null) {
-                counts.add(new ImpressionsCountPerFeature(key.featureName, key.timeFrame, currentCount.get()));
+        Iterator<Map.Entry<CounterKey, Cell>> iterator = mCounts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<CounterKey, Cell> entry = iterator.next();
+            CounterKey key = entry.getKey();
+            long count;
+            if (key.mTimeFrame < currentTimeFrame) {
+                iterator.remove();
+                count = entry.getValue().sumAndClose();
+            } else {
+                count = entry.getValue().sumAndReset();
+            }
+            if (count > 0) {
+                counts.add(new ImpressionsCountPerFeature(key.mFeatureName, key.mTimeFrame, (int) count));
             }
         }
         return counts;
     }
 
-    public boolean isEmpty() { return mCounts.isEmpty(); }
+    public boolean isEmpty() {
+        for (Cell cell : mCounts.values()) {
+            if (cell.sum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class CounterKey {
+        private String mFeatureName;
+        private long mTimeFrame;
+        private int mHash;
+
+        CounterKey set(String featureName, long timeFrame) {
+            mFeatureName = featureName;
+            mTimeFrame = timeFrame;
+            mHash = hash(featureName, timeFrame);
+            return this;
+        }
+
+        CounterKey copy() {
+            return new CounterKey().set(mFeatureName, mTimeFrame);
+        }
+
+        static int hash(String featureName, long timeFrame) {
+            return 31 * featureName.hashCode() + (int) (timeFrame ^ (timeFrame >>> 32));
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CounterKey)) return false;
+
+            CounterKey key = (CounterKey) o;
+            return mTimeFrame == key.mTimeFrame && mFeatureName.equals(key.mFeatureName);
+        }
+    }
+
+    /**
+     * Counter split in stripes selected by thread, so that threads counting
+     * the same feature don't contend on a single value.
+     * Stripes are spaced by a cache line to avoid false sharing.
+     * A closed stripe holds {@link #CLOSED} and doesn't accept more counts.
+     */
+    private static final class Cell {
+        private static final int STRIPES = 4;
+        private static final int SPACING = 8;
+        private static final long CLOSED = Long.MIN_VALUE;
+
+        private final AtomicLongArray mStripes = new AtomicLongArray(STRIPES * SPACING);
+
+        /**
+         * @return false when the cell is closed and the amount wasn't added
+         */
+        boolean add(long amount) {
+            int index = (int) (Thread.currentThread().getId() & (STRIPES - 1)) * SPACING;
+            while (true) {
+                long current = mStripes.get(index);
+                if (current == CLOSED) {
+                    return false;
+                }
+                if (mStripes.compareAndSet(index, current, current + amount)) {
+                    return true;
+                }
+            }
+        }
+
+        long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                long value = mStripes.get(i * SPACING);
+                if (value != CLOSED) {
+                    sum += value;
+                }
+            }
+            return sum;
+        }
+
+        long sumAndClose() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                long value = mStripes.getAndSet(i * SPACING, CLOSED);
+                if (value != CLOSED) {
+                    sum += value;
+                }
+            }
+            return sum;
+        }
+
+        long sumAndReset() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += mStripes.getAndSet(i * SPACING, 0);
+            }
+            return sum;
+        }
+    }
 }
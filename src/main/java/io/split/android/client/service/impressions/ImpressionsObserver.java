@@ -1,31 +1,23 @@
 package io.split.android.client.service.impressions;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
-import java.util.Objects;
-
 import io.split.android.client.impressions.Impression;
 
 public class ImpressionsObserver {
 
-    private final Cache<Long, Long> mCache;
+    private static final long NOT_SEEN = Long.MIN_VALUE;
+
+    private final ImpressionsObserverCache mCache;
 
     public ImpressionsObserver(long size) {
-        mCache = CacheBuilder.newBuilder()
-                .maximumSize(size)
-                .concurrencyLevel(4)  // Just setting the default value explicitly
-                .build();
+        mCache = new ImpressionsObserverCache(size);
     }
-    
+
     public Long testAndSet(Impression impression) {
         if (null == impression) {
             return null;
         }
 
-        Long hash = ImpressionHasher.process(impression);
-        Long previous = mCache.getIfPresent(hash);
-        mCache.put(hash, impression.time());
-        return (previous == null ? null : Math.min(previous, impression.time()));
+        long previous = mCache.put(ImpressionHasher.hash(impression), impression.time(), NOT_SEEN);
+        return (previous == NOT_SEEN ? null : Math.min(previous, impression.time()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package io.split.android.client.service.impressions;
+
+/**
+ * Fixed capacity map from impression hash to last seen time, used by {@link ImpressionsObserver}.
+ * Keys and values are kept in primitive arrays so lookups don't allocate.
+ * <p>
+ * The table is split in lock striped segments. Each segment is an open addressing table
+ * evicting with the CLOCK algorithm, an approximation of LRU: entries are marked when
+ * read or written and the clock hand evicts the first entry that isn't marked.
+ */
+public class ImpressionsObserverCache {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    private final Segment[] mSegments;
+
+    public ImpressionsObserverCache(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        int segmentCapacity = (int) Math.max(1, (size + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        mSegments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            mSegments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Stores the value for this key.
+     *
+     * @return the previous value or {@code missingValue} when the key was not present
+     */
+    public long put(long key, long value, long missingValue) {
+        int hash = spread(key);
+        Segment segment = mSegments[(hash >>> 30) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            return segment.put(key, hash, value, missingValue);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : mSegments) {
+            synchronized (segment) {
+                size += segment.mCount;
+            }
+        }
+        return size;
+    }
+
+    private static int spread(long key) {
+        int h = (int) (key ^ (key >>> 32));
+        return h * 0x9E3779B9;
+    }
+
+    private static final class Segment {
+        private static final byte EMPTY = 0;
+        private static final byte PRESENT = 1;
+        private static final byte REFERENCED = 2;
+
+        private final long[] mKeys;
+        private final long[] mValues;
+        private final byte[] mStates;
+        private final int mMask;
+        private final int mCapacity;
+        private int mCount = 0;
+        private int mHand = 0;
+
+        Segment(int capacity) {
+            // Keeps the load factor under 0.5 so probe sequences stay short
+            int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+            mKeys = new long[tableSize];
+            mValues = new long[tableSize];
+            mStates = new byte[tableSize];
+            mMask = tableSize - 1;
+            mCapacity = capacity;
+        }
+
+        long put(long key, int hash, long value, long missingValue) {
+            int index = hash & mMask;
+            while (mStates[index] != EMPTY) {
+                if (mKeys[index] == key) {
+                    long previous = mValues[index];
+                    mValues[index] = value;
+                    mStates[index] = REFERENCED;
+                    return previous;
+                }
+                index = (index + 1) & mMask;
+            }
+
+            if (mCount >= mCapacity) {
+                evict();
+                // removing an entry can shift others, look for the free slot again
+                index = hash & mMask;
+                while (mStates[index] != EMPTY) {
+                    index = (index + 1) & mMask;
+                }
+            }
+
+            mKeys[index] = key;
+            mValues[index] = value;
+            mStates[index] = PRESENT;
+            mCount++;
+            return missingValue;
+        }
+
+        private void evict() {
+            while (true) {
+                int index = mHand;
+                mHand = (mHand + 1) & mMask;
+                if (mStates[index] == REFERENCED) {
+                    mStates[index] = PRESENT;
+                } else if (mStates[index] == PRESENT) {
+                    remove(index);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Backward shift deletion, so that no tombstones are needed for linear probing.
+         */
+        private void remove(int index) {
+            int free = index;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mMask;
+                if (mStates[next] == EMPTY) {
+                    break;
+                }
+                int home = spread(mKeys[next]) & mMask;
+                // The entry can move to the free slot only if its home slot
+                // isn't cyclically between the free slot and its current slot
+                boolean canMove = (next > free) ? (home <= free || home > next) : (home <= free && home > next);
+                if (canMove) {
+                    mKeys[free] = mKeys[next];
+                    mValues[free] = mValues[next];
+                    mStates[free] = mStates[next];
+                    free = next;
+                }
+            }
+            mStates[free] = EMPTY;
+            mCount--;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package io.split.android.client.service.impressions;
 
 import androidx.annotation.NonNull;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -9,15 +11,19 @@ import java.util.Map;
 
 import io.split.android.client.dtos.KeyImpression;
 import io.split.android.client.dtos.TestImpressions;
-import io.split.android.client.service.http.HttpRequestBodySerializer;
+import io.split.android.client.service.http.HttpStreamingRequestBodySerializer;
 import io.split.android.client.utils.Json;
 
-public class ImpressionsRequestBodySerializer implements HttpRequestBodySerializer<List<KeyImpression>> {
+public class ImpressionsRequestBodySerializer implements HttpStreamingRequestBodySerializer<List<KeyImpression>> {
 
     public String serialize(@NonNull List<KeyImpression> data) {
         return Json.toJson(groupImpressions(data));
     }
 
+    public void serialize(@NonNull List<KeyImpression> data, @NonNull Writer writer) throws IOException {
+        Json.toJson(groupImpressions(data), writer);
+    }
+
     private List<TestImpressions> groupImpressions(List<KeyImpression> impressions) {
 
         Map<String, List<KeyImpression>> groupingImpressions = new HashMap<>();
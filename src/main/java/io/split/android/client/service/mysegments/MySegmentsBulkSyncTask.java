@@ -3,28 +3,101 @@ package io.split.android.client.service.mysegments;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.executor.SplitTaskType;
+import io.split.android.client.service.http.HttpFetcherException;
+import io.split.android.client.telemetry.model.OperationType;
+import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
+import io.split.android.client.utils.Logger;
 
+/**
+ * Syncs the segments of several keys in one round. Fetches run concurrently
+ * on a shared bounded pool and the round is tracked as a single sync in telemetry.
+ */
 public class MySegmentsBulkSyncTask implements SplitTask {
 
     private final Set<MySegmentsSyncTask> mMySegmentsSyncTasks;
+    private final TelemetryRuntimeProducer mTelemetryRuntimeProducer;
+    private final ExecutorService mExecutor;
 
-    public MySegmentsBulkSyncTask(@NonNull Set<MySegmentsSyncTask> mySegmentsSyncTasks) {
+    public MySegmentsBulkSyncTask(@NonNull Set<MySegmentsSyncTask> mySegmentsSyncTasks,
+                                  @NonNull TelemetryRuntimeProducer telemetryRuntimeProducer,
+                                  @NonNull ExecutorService executor) {
         mMySegmentsSyncTasks = checkNotNull(mySegmentsSyncTasks);
+        mTelemetryRuntimeProducer = checkNotNull(telemetryRuntimeProducer);
+        mExecutor = checkNotNull(executor);
     }
 
     @NonNull
     @Override
     public SplitTaskExecutionInfo execute() {
-        for (SplitTask task : mMySegmentsSyncTasks) {
-            task.execute();
+        if (mMySegmentsSyncTasks.isEmpty()) {
+            return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
         }
 
+        long startTime = System.currentTimeMillis();
+        HttpFetcherException lastFetchError = null;
+        try {
+            // Returns once every fetch is done; when interrupted, pending fetches are cancelled
+            List<Future<Void>> results = mExecutor.invokeAll(getCallables());
+            for (Future<Void> result : results) {
+                HttpFetcherException fetchError = getFetchError(result);
+                if (fetchError != null) {
+                    lastFetchError = fetchError;
+                }
+            }
+        } catch (InterruptedException e) {
+            Logger.e("My segments bulk sync interrupted");
+            Thread.currentThread().interrupt();
+        }
+
+        long now = System.currentTimeMillis();
+        if (lastFetchError != null) {
+            mTelemetryRuntimeProducer.recordSyncError(OperationType.MY_SEGMENT, lastFetchError.getHttpStatus());
+        } else {
+            mTelemetryRuntimeProducer.recordSuccessfulSync(OperationType.MY_SEGMENT, now);
+        }
+        mTelemetryRuntimeProducer.recordSyncLatency(OperationType.MY_SEGMENT, now - startTime);
+
         return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
     }
+
+    private List<Callable<Void>> getCallables() {
+        List<Callable<Void>> callables = new ArrayList<>(mMySegmentsSyncTasks.size());
+        for (final MySegmentsSyncTask task : mMySegmentsSyncTasks) {
+            callables.add(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    task.sync();
+                    return null;
+                }
+            });
+        }
+        return callables;
+    }
+
+    @Nullable
+    private static HttpFetcherException getFetchError(Future<Void> result) throws InterruptedException {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Logger.e("Error while executing my segments sync task: " + (cause != null ? cause.getLocalizedMessage() : e.getLocalizedMessage()));
+            if (cause instanceof HttpFetcherException) {
+                return (HttpFetcherException) cause;
+            }
+        }
+        return null;
+    }
 }
@@ -1,23 +1,33 @@
 package io.split.android.client.service.mysegments;
 
+import androidx.annotation.NonNull;
+
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import io.split.android.client.dtos.MySegment;
-import io.split.android.client.service.http.HttpResponseParser;
 import io.split.android.client.service.http.HttpResponseParserException;
+import io.split.android.client.service.http.HttpStreamingResponseParser;
 import io.split.android.client.utils.Json;
 
-public class MySegmentsResponseParser implements HttpResponseParser<List<MySegment>> {
+public class MySegmentsResponseParser implements HttpStreamingResponseParser<List<MySegment>> {
 
     static final private Type MY_SEGMENTS_RESPONSE_TYPE
             = new TypeToken<Map<String, List<MySegment>>>() {
     }.getType();
 
+    private static final String FIELD_MY_SEGMENTS = "mySegments";
+
     @Override
     public List<MySegment> parse(String responseData) throws HttpResponseParserException {
         try {
@@ -29,4 +39,41 @@ public class MySegmentsResponseParser implements HttpResponseParser<List<MySegme
             throw new HttpResponseParserException("Unknown error parsing my segments http response: " + e.getLocalizedMessage());
         }
     }
+
+    @Override
+    public List<MySegment> parse(@NonNull Reader responseData) throws HttpResponseParserException {
+        try {
+            JsonReader reader = new JsonReader(responseData);
+            reader.setLenient(true);
+            List<MySegment> mySegments = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (FIELD_MY_SEGMENTS.equals(reader.nextName())) {
+                    mySegments = readMySegments(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return mySegments;
+        } catch (JsonSyntaxException | MalformedJsonException | IllegalStateException e) {
+            throw new HttpResponseParserException("Syntax error parsing my segments http response: " + e.getLocalizedMessage());
+        } catch (Exception e) {
+            throw new HttpResponseParserException("Unknown error parsing my segments http response: " + e.getLocalizedMessage());
+        }
+    }
+
+    private static List<MySegment> readMySegments(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        List<MySegment> mySegments = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            mySegments.add(Json.fromJson(reader, MySegment.class));
+        }
+        reader.endArray();
+        return mySegments;
+    }
 }
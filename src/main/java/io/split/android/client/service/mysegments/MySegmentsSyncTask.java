@@ -5,15 +5,14 @@ import androidx.annotation.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.split.android.client.dtos.MySegment;
 import io.split.android.client.network.SplitHttpHeadersBuilder;
-import io.split.android.client.service.ServiceConstants;
-import io.split.android.client.events.SplitEvent;
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.events.SplitInternalEvent;
 import io.split.android.client.service.executor.SplitTask;
@@ -21,7 +20,6 @@ import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.executor.SplitTaskType;
 import io.split.android.client.service.http.HttpFetcher;
 import io.split.android.client.service.http.HttpFetcherException;
-import io.split.android.client.service.synchronizer.MySegmentsChangeChecker;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.telemetry.model.OperationType;
 import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
@@ -35,7 +33,6 @@ public class MySegmentsSyncTask implements SplitTask {
     private final MySegmentsStorage mMySegmentsStorage;
     private final boolean mAvoidCache;
     private final SplitEventsManager mEventsManager;
-    private final MySegmentsChangeChecker mMySegmentsChangeChecker;
     private final TelemetryRuntimeProducer mTelemetryRuntimeProducer;
 
     public MySegmentsSyncTask(@NonNull HttpFetcher<List<MySegment>> mySegmentsFetcher,
@@ -47,7 +44,6 @@ public class MySegmentsSyncTask implements SplitTask {
         mMySegmentsStorage = checkNotNull(mySegmentsStorage);
         mAvoidCache = avoidCache;
         mEventsManager = eventsManager;
-        mMySegmentsChangeChecker = new MySegmentsChangeChecker();
         mTelemetryRuntimeProducer = checkNotNull(telemetryRuntimeProducer);
     }
 
@@ -57,16 +53,11 @@ public class MySegmentsSyncTask implements SplitTask {
         long startTime = System.currentTimeMillis();
         long latency = 0;
         try {
-            List<MySegment> segments = mMySegmentsFetcher.execute(new HashMap<>(), getHeaders());
+            sync();
 
             long now = System.currentTimeMillis();
             latency = now - startTime;
-            List<String> oldSegments = new ArrayList(mMySegmentsStorage.getAll());
-            List<String> mySegments = getNameList(segments);
-            mMySegmentsStorage.set(mySegments);
-
             mTelemetryRuntimeProducer.recordSuccessfulSync(OperationType.MY_SEGMENT, now);
-            fireMySegmentsUpdatedIfNeeded(oldSegments, mySegments);
         } catch (HttpFetcherException e) {
             logError("Network error while retrieving my segments: " + e.getLocalizedMessage());
             mTelemetryRuntimeProducer.recordSyncError(OperationType.MY_SEGMENT, e.getHttpStatus());
@@ -82,16 +73,31 @@ public class MySegmentsSyncTask implements SplitTask {
         return SplitTaskExecutionInfo.success(SplitTaskType.MY_SEGMENTS_SYNC);
     }
 
+    /**
+     * Fetches the segments and updates the storage only if they have changed.
+     * Telemetry is left to the caller.
+     */
+    void sync() throws HttpFetcherException {
+        List<MySegment> segments = mMySegmentsFetcher.execute(new HashMap<>(), getHeaders());
+
+        Set<String> mySegments = getNameSet(segments);
+        boolean haveChanged = !mySegments.equals(mMySegmentsStorage.getAll());
+        if (haveChanged) {
+            mMySegmentsStorage.set(new ArrayList<>(mySegments));
+        }
+        fireMySegmentsUpdatedIfNeeded(haveChanged);
+    }
+
     private void logError(String message) {
         Logger.e("Error while executing my segments sync task: " + message);
     }
 
-    private List<String> getNameList(List<MySegment> mySegments) {
-        List<String> nameList = new ArrayList<String>();
+    private Set<String> getNameSet(List<MySegment> mySegments) {
+        Set<String> nameSet = new HashSet<>();
         for (MySegment segment : mySegments) {
-            nameList.add(segment.name);
+            nameSet.add(segment.name);
         }
-        return nameList;
+        return nameSet;
     }
 
     private @Nullable Map<String, String> getHeaders() {
@@ -101,18 +107,10 @@ public class MySegmentsSyncTask implements SplitTask {
         return null;
     }
 
-    private void fireMySegmentsUpdatedIfNeeded(List<String> oldSegments, List<String> newSegments) {
-        if(mEventsManager == null) {
+    private void fireMySegmentsUpdatedIfNeeded(boolean haveChanged) {
+        if (mEventsManager == null) {
             return;
         }
-        mEventsManager.notifyInternalEvent(getInternalEvent(oldSegments, newSegments));
-    }
-
-    private SplitInternalEvent getInternalEvent(List<String> oldSegments, List<String> newSegments) {
-        boolean haveChanged = mMySegmentsChangeChecker.mySegmentsHaveChanged(oldSegments, newSegments);
-        if(haveChanged) {
-            return SplitInternalEvent.MY_SEGMENTS_UPDATED;
-        }
-        return SplitInternalEvent.MY_SEGMENTS_FETCHED;
+        mEventsManager.notifyInternalEvent(haveChanged ? SplitInternalEvent.MY_SEGMENTS_UPDATED : SplitInternalEvent.MY_SEGMENTS_FETCHED);
     }
 }
@@ -2,9 +2,6 @@ package io.split.android.client.service.mysegments;
 
 import androidx.annotation.NonNull;
 
-import java.util.ArrayList;
-import java.util.Set;
-
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.events.SplitInternalEvent;
 import io.split.android.client.service.executor.SplitTask;
@@ -43,10 +40,8 @@ public class MySegmentsUpdateTask implements SplitTask {
 
     private SplitTaskExecutionInfo add() {
         try {
-            Set<String> segments = mMySegmentsStorage.getAll();
-            if (!segments.contains(mSegmentName)) {
-                segments.add(mSegmentName);
-                updateAndNotify(segments);
+            if (mMySegmentsStorage.add(mSegmentName)) {
+                notifyUpdate();
             }
         } catch (Exception e) {
             logError("Unknown error while adding segment " + mSegmentName + ": " + e.getLocalizedMessage());
@@ -58,9 +53,8 @@ public class MySegmentsUpdateTask implements SplitTask {
 
     public SplitTaskExecutionInfo remove() {
         try {
-            Set<String> segments = mMySegmentsStorage.getAll();
-            if(segments.remove(mSegmentName)) {
-                updateAndNotify(segments);
+            if (mMySegmentsStorage.remove(mSegmentName)) {
+                notifyUpdate();
             }
         } catch (Exception e) {
             logError("Unknown error while removing segment " + mSegmentName + ": " + e.getLocalizedMessage());
@@ -70,8 +64,7 @@ public class MySegmentsUpdateTask implements SplitTask {
         return SplitTaskExecutionInfo.success(SplitTaskType.MY_SEGMENTS_UPDATE);
     }
 
-    private void updateAndNotify(Set<String> segments) {
-        mMySegmentsStorage.set(new ArrayList<>(segments));
+    private void notifyUpdate() {
         mEventsManager.notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
     }
 
@@ -1,13 +1,28 @@
 package io.split.android.client.service.splits;
 
+import androidx.annotation.NonNull;
+
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 
+import io.split.android.client.dtos.Split;
 import io.split.android.client.dtos.SplitChange;
-import io.split.android.client.service.http.HttpResponseParser;
 import io.split.android.client.service.http.HttpResponseParserException;
+import io.split.android.client.service.http.HttpStreamingResponseParser;
 import io.split.android.client.utils.Json;
 
-public class SplitChangeResponseParser implements HttpResponseParser<SplitChange> {
+public class SplitChangeResponseParser implements HttpStreamingResponseParser<SplitChange> {
+
+    private static final String FIELD_SPLITS = "splits";
+    private static final String FIELD_SINCE = "since";
+    private static final String FIELD_TILL = "till";
 
     @Override
     public SplitChange parse(String responseData) throws HttpResponseParserException {
@@ -19,4 +34,61 @@ public class SplitChangeResponseParser implements HttpResponseParser<SplitChange
             throw new HttpResponseParserException("Unknown error parsing my segments http response: " + e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Decodes the response one split at a time, so only the split
+     * being read is held as raw json.
+     */
+    @Override
+    public SplitChange parse(@NonNull Reader responseData) throws HttpResponseParserException {
+        try {
+            JsonReader reader = new JsonReader(responseData);
+            reader.setLenient(true);
+            SplitChange splitChange = new SplitChange();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case FIELD_SPLITS:
+                        splitChange.splits = readSplits(reader);
+                        break;
+                    case FIELD_SINCE:
+                        splitChange.since = readLong(reader, splitChange.since);
+                        break;
+                    case FIELD_TILL:
+                        splitChange.till = readLong(reader, splitChange.till);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return splitChange;
+        } catch (JsonSyntaxException | MalformedJsonException | IllegalStateException e) {
+            throw new HttpResponseParserException("Syntax error parsing split changes http response: " + e.getLocalizedMessage());
+        } catch (Exception e) {
+            throw new HttpResponseParserException("Unknown error parsing split changes http response: " + e.getLocalizedMessage());
+        }
+    }
+
+    private static List<Split> readSplits(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        List<Split> splits = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            splits.add(Json.fromJson(reader, Split.class));
+        }
+        reader.endArray();
+        return splits;
+    }
+
+    private static long readLong(JsonReader reader, long defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextLong();
+    }
 }
@@ -9,7 +9,8 @@ public class EventStreamParser {
     public final static String DATA_FIELD = "data";
     public final static String ID_FIELD = "data";
     public final static String KEEP_ALIVE_EVENT = "keepalive";
-    private final static String FIELD_SEPARATOR = ":";
+    private final static String EVENT_ID = "id";
+    private final static char FIELD_SEPARATOR = ':';
     private final static String KEEP_ALIVE_TOKEN = ":" + KEEP_ALIVE_EVENT;
 
     /**
@@ -29,36 +30,46 @@ public class EventStreamParser {
             return false;
         }
 
-        String trimmedLine = streamLine.trim();
+        // Works on indexes over the line instead of trimming and
+        // splitting it, so only the field value gets copied
+        int start = 0;
+        int end = streamLine.length();
+        while (start < end && streamLine.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && streamLine.charAt(end - 1) <= ' ') {
+            end--;
+        }
 
-        if (KEEP_ALIVE_TOKEN.equals(trimmedLine)) {
+        if (end - start == KEEP_ALIVE_TOKEN.length()
+                && streamLine.startsWith(KEEP_ALIVE_TOKEN, start)) {
             messageValues.put(EVENT_FIELD, KEEP_ALIVE_EVENT);
             return true;
         }
 
-        if (trimmedLine.isEmpty() && messageValues.size() == 0) {
-            return false;
-        }
-
-        if (trimmedLine.isEmpty()) {
-            return true;
+        if (start == end) {
+            return messageValues.size() > 0;
         }
 
-        int separatorIndex = trimmedLine.indexOf(FIELD_SEPARATOR);
+        int separatorIndex = streamLine.indexOf(FIELD_SEPARATOR, start);
 
-        if (separatorIndex == 0) {
+        if (separatorIndex == start) {
             return false;
         }
 
         if (separatorIndex > -1) {
-            String field = trimmedLine.substring(0, separatorIndex).trim();
-            String value = "";
-            if (separatorIndex < trimmedLine.length() - 1) {
-                value = trimmedLine.substring(separatorIndex + 1, trimmedLine.length()).trim();
+            int valueStart = separatorIndex + 1;
+            while (valueStart < end && streamLine.charAt(valueStart) <= ' ') {
+                valueStart++;
             }
-            messageValues.put(field, value);
+            int fieldEnd = separatorIndex;
+            while (fieldEnd > start && streamLine.charAt(fieldEnd - 1) <= ' ') {
+                fieldEnd--;
+            }
+            String value = (valueStart < end) ? streamLine.substring(valueStart, end) : "";
+            messageValues.put(fieldName(streamLine, start, fieldEnd), value);
         } else {
-            messageValues.put(trimmedLine.trim(), "");
+            messageValues.put(fieldName(streamLine, start, end), "");
         }
         return false;
     }
@@ -66,4 +77,18 @@ public class EventStreamParser {
     public boolean isKeepAlive(Map<String, String> values) {
         return KEEP_ALIVE_EVENT.equals(values.get(EVENT_FIELD));
     }
+
+    private static String fieldName(String line, int start, int end) {
+        int length = end - start;
+        if (length == EVENT_FIELD.length() && line.startsWith(EVENT_FIELD, start)) {
+            return EVENT_FIELD;
+        }
+        if (length == DATA_FIELD.length() && line.startsWith(DATA_FIELD, start)) {
+            return DATA_FIELD;
+        }
+        if (length == EVENT_ID.length() && line.startsWith(EVENT_ID, start)) {
+            return EVENT_ID;
+        }
+        return line.substring(start, end);
+    }
 }
@@ -8,6 +8,13 @@ public class ControlNotification extends IncomingNotification {
     @SuppressWarnings("unused")
     private ControlType controlType;
 
+    public ControlNotification() {
+    }
+
+    ControlNotification(ControlType controlType) {
+        this.controlType = controlType;
+    }
+
     public ControlType getControlType() {
         return controlType;
     }
@@ -18,6 +18,13 @@ public class IncomingNotification extends IncomingNotificationType {
         this.timestamp = timestamp;
     }
 
+    void setEnvelope(NotificationType type, String channel, String jsonData, long timestamp) {
+        this.type = type;
+        this.channel = channel;
+        this.jsonData = jsonData;
+        this.timestamp = timestamp;
+    }
+
     public NotificationType getType() {
         return type;
     }
@@ -7,6 +7,15 @@ public class MySegmentChangeNotification extends IncomingNotification {
     private boolean includesPayload;
     private List<String> segmentList;
 
+    public MySegmentChangeNotification() {
+    }
+
+    MySegmentChangeNotification(long changeNumber, boolean includesPayload, List<String> segmentList) {
+        this.changeNumber = changeNumber;
+        this.includesPayload = includesPayload;
+        this.segmentList = segmentList;
+    }
+
     public long getChangeNumber() {
         return changeNumber;
     }
@@ -24,6 +24,18 @@ public class MySegmentChangeV2Notification extends IncomingNotification {
     @SerializedName(FIELD_DATE)
     private String data;
 
+    public MySegmentChangeV2Notification() {
+    }
+
+    MySegmentChangeV2Notification(Long changeNumber, String segmentName, CompressionType compression,
+                                  MySegmentUpdateStrategy updateStrategy, String data) {
+        this.changeNumber = changeNumber;
+        this.segmentName = segmentName;
+        this.compression = compression;
+        this.updateStrategy = updateStrategy;
+        this.data = data;
+    }
+
     @Nullable
     public Long getChangeNumber() {
         return changeNumber;
@@ -0,0 +1,70 @@
+package io.split.android.client.service.sseclient.notifications;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+import io.split.android.client.common.CompressionType;
+
+/**
+ * Union of the fields of every notification type, so that notification data
+ * can be read in a single pass before its type is known.
+ */
+class NotificationData {
+
+    @SuppressWarnings("unused")
+    private String type;
+
+    private Long changeNumber;
+    private String splitName;
+    private String defaultTreatment;
+    private boolean includesPayload;
+    private List<String> segmentList;
+    private String segmentName;
+    private ControlNotification.ControlType controlType;
+    private OccupancyNotification.Metrics metrics;
+
+    @SerializedName("c")
+    private CompressionType compression;
+
+    @SerializedName("u")
+    private MySegmentUpdateStrategy updateStrategy;
+
+    @SerializedName("d")
+    private String data;
+
+    /**
+     * Notifications without a known type are handled as occupancy notifications
+     */
+    NotificationType getType() {
+        if (type != null) {
+            for (NotificationType notificationType : NotificationType.values()) {
+                if (notificationType.name().equals(type)) {
+                    return notificationType;
+                }
+            }
+        }
+        return NotificationType.OCCUPANCY;
+    }
+
+    IncomingNotification toNotification(NotificationType type) {
+        long changeNumber = (this.changeNumber != null) ? this.changeNumber : 0;
+        switch (type) {
+            case SPLIT_UPDATE:
+                return new SplitsChangeNotification(changeNumber);
+            case SPLIT_KILL:
+                return new SplitKillNotification(changeNumber, splitName, defaultTreatment);
+            case MY_SEGMENTS_UPDATE:
+                return new MySegmentChangeNotification(changeNumber, includesPayload, segmentList);
+            case MY_SEGMENTS_UPDATE_V2:
+                return new MySegmentChangeV2Notification(this.changeNumber, segmentName,
+                        compression, updateStrategy, data);
+            case CONTROL:
+                return new ControlNotification(controlType);
+            case OCCUPANCY:
+                return new OccupancyNotification(metrics);
+            default:
+                return new IncomingNotification();
+        }
+    }
+}
@@ -6,7 +6,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.StringReader;
 import java.util.Map;
 
 import io.split.android.client.utils.Json;
@@ -15,25 +18,64 @@ import io.split.android.client.utils.Logger;
 public class NotificationParser {
     private final static String EVENT_TYPE_ERROR = "error";
     private static final String EVENT_TYPE_FIELD = "event";
-
-    @NonNull
+    private static final String CHANNEL_FIELD = "channel";
+    private static final String DATA_FIELD = "data";
+    private static final String TIMESTAMP_FIELD = "timestamp";
+
+    /**
+     * Reads the message envelope and its data in a single streaming pass. The returned
+     * instance is of the notification class for its type, so it's not necessary to parse
+     * the json data again.
+     */
+    @Nullable
     public IncomingNotification parseIncoming(String jsonData) throws JsonSyntaxException {
-        NotificationType type;
-        RawNotification rawNotification = null;
+        String channel = null;
+        String data = null;
+        long timestamp = 0;
         try {
-            rawNotification = Json.fromJson(jsonData, RawNotification.class);
-        } catch (JsonSyntaxException e) {
+            JsonReader reader = new JsonReader(new StringReader(jsonData));
+            reader.setLenient(true);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case CHANNEL_FIELD:
+                        channel = reader.nextString();
+                        break;
+                    case DATA_FIELD:
+                        data = reader.nextString();
+                        break;
+                    case TIMESTAMP_FIELD:
+                        timestamp = reader.nextLong();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+        } catch (Exception e) {
             Logger.e("Unexpected error while parsing raw notification: " + e.getLocalizedMessage());
             return null;
         }
 
+        if (data == null) {
+            Logger.e("Error parsing notification: no data received");
+            return null;
+        }
+
         try {
-            IncomingNotificationType notificationType
-                    = Json.fromJson(rawNotification.getData(), IncomingNotificationType.class);
-            type = notificationType.getType();
-            if(type == null) {
-                type = OCCUPANCY;
+            NotificationData notificationData = Json.fromJson(new JsonReader(new StringReader(data)), NotificationData.class);
+            if (notificationData == null) {
+                Logger.e("Error parsing notification: empty data received");
+                return null;
             }
+            NotificationType type = notificationData.getType();
+            IncomingNotification notification = notificationData.toNotification(type);
+            notification.setEnvelope(type, channel, data, timestamp);
+            return notification;
         } catch (JsonSyntaxException e) {
             Logger.e("Error parsing notification: " + e.getLocalizedMessage());
             return null;
@@ -41,8 +83,6 @@ public class NotificationParser {
             Logger.e("Unexpected error while parsing incomming notification: " + e.getLocalizedMessage());
             return null;
         }
-        return new IncomingNotification(type, rawNotification.getChannel(),
-                rawNotification.getData(), rawNotification.getTimestamp());
     }
 
     @NonNull
@@ -41,22 +41,34 @@ public class NotificationProcessor implements MySegmentsNotificationProcessorReg
         mMySegmentsNotificationProcessors = new ConcurrentHashMap<>();
     }
 
+    /**
+     * Notifications returned by {@link NotificationParser#parseIncoming(String)} are already
+     * bound to their concrete class. Json data is only parsed for other instances.
+     */
     public void process(IncomingNotification incomingNotification) {
         try {
             String notificationJson = incomingNotification.getJsonData();
             switch (incomingNotification.getType()) {
                 case SPLIT_UPDATE:
-                    processSplitUpdate(mNotificationParser.parseSplitUpdate(notificationJson));
+                    processSplitUpdate(incomingNotification instanceof SplitsChangeNotification ?
+                            (SplitsChangeNotification) incomingNotification :
+                            mNotificationParser.parseSplitUpdate(notificationJson));
                     break;
                 case SPLIT_KILL:
-                    processSplitKill(mNotificationParser.parseSplitKill(notificationJson));
+                    processSplitKill(incomingNotification instanceof SplitKillNotification ?
+                            (SplitKillNotification) incomingNotification :
+                            mNotificationParser.parseSplitKill(notificationJson));
                     break;
                 case MY_SEGMENTS_UPDATE:
-                    processMySegmentUpdate(mNotificationParser.parseMySegmentUpdate(notificationJson),
+                    processMySegmentUpdate(incomingNotification instanceof MySegmentChangeNotification ?
+                                    (MySegmentChangeNotification) incomingNotification :
+                                    mNotificationParser.parseMySegmentUpdate(notificationJson),
                             mNotificationParser.extractUserKeyHashFromChannel(incomingNotification.getChannel()));
                     break;
                 case MY_SEGMENTS_UPDATE_V2:
-                    processMySegmentUpdateV2(mNotificationParser.parseMySegmentUpdateV2(notificationJson));
+                    processMySegmentUpdateV2(incomingNotification instanceof MySegmentChangeV2Notification ?
+                            (MySegmentChangeV2Notification) incomingNotification :
+                            mNotificationParser.parseMySegmentUpdateV2(notificationJson));
                     break;
                 default:
                     Logger.e("Unknow notification arrived: " + notificationJson);
@@ -10,6 +10,11 @@ public class OccupancyNotification extends IncomingNotification {
         this.type = NotificationType.OCCUPANCY;
     }
 
+    OccupancyNotification(Metrics metrics) {
+        this();
+        this.metrics = metrics;
+    }
+
     public static class Metrics {
         private int publishers;
         public int getPublishers() {
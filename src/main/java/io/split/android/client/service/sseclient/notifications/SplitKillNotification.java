@@ -5,6 +5,15 @@ public class SplitKillNotification extends IncomingNotification {
     private String splitName;
     private String defaultTreatment;
 
+    public SplitKillNotification() {
+    }
+
+    SplitKillNotification(long changeNumber, String splitName, String defaultTreatment) {
+        this.changeNumber = changeNumber;
+        this.splitName = splitName;
+        this.defaultTreatment = defaultTreatment;
+    }
+
     public long getChangeNumber() {
         return changeNumber;
     }
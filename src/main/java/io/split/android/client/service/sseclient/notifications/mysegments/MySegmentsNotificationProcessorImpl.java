@@ -115,7 +115,7 @@ public class MySegmentsNotificationProcessorImpl implements MySegmentsNotificati
         if (action == KeyList.Action.NONE) {
             return;
         }
-        Logger.d("Executing KeyList my segment fetch request: Adding = " + actionIsAdd);
+        Logger.d("Executing KeyList my segment fetch request: Adding = %b", actionIsAdd);
         MySegmentsUpdateTask task = mConfiguration.getMySegmentsTaskFactory().createMySegmentsUpdateTask(actionIsAdd, segmentName);
         mSplitTaskExecutor.submit(task, null);
     }
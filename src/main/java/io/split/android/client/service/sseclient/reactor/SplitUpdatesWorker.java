@@ -1,36 +1,78 @@
 package io.split.android.client.service.sseclient.reactor;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import io.split.android.client.service.sseclient.notifications.SplitsChangeNotification;
 import io.split.android.client.service.synchronizer.Synchronizer;
+import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
 import io.split.android.client.utils.Logger;
 
 public class SplitUpdatesWorker extends UpdateWorker {
 
     /***
      * This class will be in charge of update splits when a new notification arrived.
+     * Notifications arriving within the coalescing window of the first one are merged,
+     * keeping the highest change number, so a burst results in a single fetch.
      */
 
     private final BlockingQueue<SplitsChangeNotification> mNotificationsQueue;
     private final Synchronizer mSynchronizer;
+    private final SplitsStorage mSplitsStorage;
+    private final TelemetryRuntimeProducer mTelemetryRuntimeProducer;
+    private final long mCoalescingWindowMillis;
 
     public SplitUpdatesWorker(@NonNull Synchronizer synchronizer,
-                              @NonNull BlockingQueue<SplitsChangeNotification> notificationsQueue) {
+                              @NonNull BlockingQueue<SplitsChangeNotification> notificationsQueue,
+                              @NonNull SplitsStorage splitsStorage,
+                              @NonNull TelemetryRuntimeProducer telemetryRuntimeProducer,
+                              long coalescingWindowMillis) {
         super();
+        checkArgument(coalescingWindowMillis >= 0);
         mSynchronizer = checkNotNull(synchronizer);
         mNotificationsQueue = checkNotNull(notificationsQueue);
+        mSplitsStorage = checkNotNull(splitsStorage);
+        mTelemetryRuntimeProducer = checkNotNull(telemetryRuntimeProducer);
+        mCoalescingWindowMillis = coalescingWindowMillis;
     }
 
     @Override
     protected void onWaitForNotificationLoop() throws InterruptedException {
         try {
-            SplitsChangeNotification notification = mNotificationsQueue.take();
-            mSynchronizer.synchronizeSplits(notification.getChangeNumber());
+            long changeNumber = mNotificationsQueue.take().getChangeNumber();
+            long coalescedCount = 0;
+
+            long deadline = System.currentTimeMillis() + mCoalescingWindowMillis;
+            long remaining = mCoalescingWindowMillis;
+            SplitsChangeNotification notification;
+            while (remaining > 0
+                    && (notification = mNotificationsQueue.poll(remaining, TimeUnit.MILLISECONDS)) != null) {
+                changeNumber = Math.max(changeNumber, notification.getChangeNumber());
+                coalescedCount++;
+                remaining = deadline - System.currentTimeMillis();
+            }
+            while ((notification = mNotificationsQueue.poll()) != null) {
+                changeNumber = Math.max(changeNumber, notification.getChangeNumber());
+                coalescedCount++;
+            }
+
+            if (coalescedCount > 0) {
+                mTelemetryRuntimeProducer.recordSplitUpdatesCoalesced(coalescedCount);
+            }
+
+            if (changeNumber <= mSplitsStorage.getTill()) {
+                Logger.d("Splits are already up to date with change number " + changeNumber +
+                        ". Avoiding fetch.");
+                return;
+            }
+
+            mSynchronizer.synchronizeSplits(changeNumber);
             Logger.d("A new notification to update splits has been received. " +
                     "Enqueuing polling task.");
         } catch (InterruptedException e) {
@@ -1,5 +1,7 @@
 package io.split.android.client.service.sseclient.reactor;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -16,7 +18,11 @@ public abstract class UpdateWorker {
     private static final int SHUTDOWN_WAIT_TIME = 30;
 
     public UpdateWorker() {
-        mExecutorService = Executors.newSingleThreadExecutor();
+        // Blocks on the notifications queue for its whole life, so it can't borrow a pooled thread
+        mExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("split-update-worker-%d")
+                .build());
     }
 
     public void start() {
@@ -5,7 +5,6 @@ import static java.lang.Thread.sleep;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.annotation.VisibleForTesting;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
@@ -17,7 +16,6 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
-import io.split.android.client.service.executor.SplitTaskExecutorImpl;
 import io.split.android.client.service.executor.SplitTaskType;
 import io.split.android.client.service.sseclient.SseJwtToken;
 import io.split.android.client.service.sseclient.feedbackchannel.PushManagerEventBroadcaster;
@@ -45,22 +43,6 @@ public class PushNotificationManager {
     private final AtomicBoolean mIsStopped;
     private Future<?> mConnectionTask;
 
-    public PushNotificationManager(@NonNull PushManagerEventBroadcaster pushManagerEventBroadcaster,
-                                   @NonNull SseAuthenticator sseAuthenticator,
-                                   @NonNull SseClient sseClient,
-                                   @NonNull SseRefreshTokenTimer refreshTokenTimer,
-                                   @NonNull TelemetryRuntimeProducer telemetryRuntimeProducer,
-                                   @Nullable ScheduledExecutorService executorService) {
-        this(pushManagerEventBroadcaster,
-                sseAuthenticator,
-                sseClient,
-                refreshTokenTimer,
-                new SseDisconnectionTimer(new SplitTaskExecutorImpl()),
-                telemetryRuntimeProducer,
-                executorService);
-    }
-
-    @VisibleForTesting
     public PushNotificationManager(@NonNull PushManagerEventBroadcaster broadcasterChannel,
                                    @NonNull SseAuthenticator sseAuthenticator,
                                    @NonNull SseClient sseClient,
@@ -155,6 +137,7 @@ public class PushNotificationManager {
         }
     }
 
+    // The streaming connection blocks its thread while connected
     private ScheduledThreadPoolExecutor buildExecutor() {
         ThreadFactoryBuilder threadFactoryBuilder = new ThreadFactoryBuilder();
         threadFactoryBuilder.setDaemon(true);
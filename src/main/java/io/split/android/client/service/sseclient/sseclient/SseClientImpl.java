@@ -100,6 +100,7 @@ public class SseClientImpl implements SseClient {
                     Logger.d("Streaming connection opened");
                     mStatus.set(CONNECTED);
                     String inputLine;
+                    // Handlers consume the values synchronously, so the map is reused between events
                     Map<String, String> values = new HashMap<>();
                     while ((inputLine = mBufferedReader.readLine()) != null) {
                         if (mEventStreamParser.parseLineAndAppendValue(inputLine, values)) {
@@ -118,7 +119,7 @@ public class SseClientImpl implements SseClient {
                             if (!mEventStreamParser.isKeepAlive(values)) {
                                 mSseHandler.handleIncomingMessage(values);
                             }
-                            values = new HashMap<>();
+                            values.clear();
                         }
                     }
                 } else {
@@ -111,7 +111,9 @@ public class SseHandler {
 
     private void handleControlNotification(IncomingNotification incomingNotification) {
         try {
-            ControlNotification notification = mNotificationParser.parseControl(incomingNotification.getJsonData());
+            ControlNotification notification = incomingNotification instanceof ControlNotification ?
+                    (ControlNotification) incomingNotification :
+                    mNotificationParser.parseControl(incomingNotification.getJsonData());
             notification.setTimestamp(incomingNotification.getTimestamp());
             mNotificationManagerKeeper.handleControlNotification(notification);
         } catch (JsonSyntaxException e) {
@@ -126,7 +128,9 @@ public class SseHandler {
     private void handleOccupancyNotification(IncomingNotification incomingNotification) {
 
         try {
-            OccupancyNotification notification = mNotificationParser.parseOccupancy(incomingNotification.getJsonData());
+            OccupancyNotification notification = incomingNotification instanceof OccupancyNotification ?
+                    (OccupancyNotification) incomingNotification :
+                    mNotificationParser.parseOccupancy(incomingNotification.getJsonData());
             notification.setChannel(incomingNotification.getChannel());
             notification.setTimestamp(incomingNotification.getTimestamp());
             mNotificationManagerKeeper.handleOccupancyNotification(notification);
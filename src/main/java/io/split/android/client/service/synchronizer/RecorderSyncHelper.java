@@ -1,8 +1,23 @@
 package io.split.android.client.service.synchronizer;
 
+import androidx.annotation.NonNull;
+
+import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.service.executor.SplitTaskExecutionListener;
 import io.split.android.client.storage.InBytesSizable;
 
 public interface RecorderSyncHelper<T extends InBytesSizable> extends SplitTaskExecutionListener {
     boolean pushAndCheckIfFlushNeeded(T entity);
+
+    /**
+     * Task that persists records pushed but not stored yet.
+     * Running it before a recorder task ensures all pushed records are sent.
+     */
+    @NonNull
+    SplitTask createPersistPendingTask();
+
+    /**
+     * Persists records pushed but not stored yet in the calling thread.
+     */
+    void persistPending();
 }
@@ -3,22 +3,39 @@ package io.split.android.client.service.synchronizer;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
-import io.split.android.client.service.executor.SplitTaskExecutionListener;
 import io.split.android.client.service.executor.SplitTaskExecutionStatus;
 import io.split.android.client.service.executor.SplitTaskExecutor;
 import io.split.android.client.service.executor.SplitTaskType;
 import io.split.android.client.storage.InBytesSizable;
 import io.split.android.client.storage.StoragePusher;
+import io.split.android.client.utils.Logger;
 
+/**
+ * Pushed records are queued in memory and persisted in batches by a single task,
+ * instead of submitting one task and running one insert per record.
+ * A new task is only submitted when there isn't one already pending.
+ * Records of a batch that fails to be stored are queued again, and are only
+ * dropped after {@link #MAX_PERSIST_ATTEMPTS} consecutive failures.
+ */
 class RecorderSyncHelperImpl<T extends InBytesSizable> implements RecorderSyncHelper<T> {
 
+    @VisibleForTesting
+    static final int MAX_RECORDS_PER_INSERT = 100;
+    @VisibleForTesting
+    static final int MAX_PERSIST_ATTEMPTS = 3;
+
     private final StoragePusher<T> mStorage;
     private final SplitTaskExecutor mSplitTaskExecutor;
     private final AtomicInteger mPushedCount;
@@ -26,6 +43,10 @@ class RecorderSyncHelperImpl<T extends InBytesSizable> implements RecorderSyncHe
     private final int mMaxQueueSize;
     private final long mMaxQueueSizeInBytes;
     private final SplitTaskType mTaskType;
+    private final Queue<T> mPendingRecords;
+    private final AtomicBoolean mPersistTaskPending;
+    private final SplitTask mPersistTask;
+    private final AtomicInteger mFailedPersistAttempts;
 
     public RecorderSyncHelperImpl(SplitTaskType taskType,
                                   StoragePusher<T> storage,
@@ -39,11 +60,27 @@ class RecorderSyncHelperImpl<T extends InBytesSizable> implements RecorderSyncHe
         mTotalPushedSizeInBytes = new AtomicLong(0);
         mMaxQueueSize = maxQueueSize;
         mMaxQueueSizeInBytes = maxQueueSizeInBytes;
+        mPendingRecords = new ConcurrentLinkedQueue<>();
+        mPersistTaskPending = new AtomicBoolean(false);
+        mFailedPersistAttempts = new AtomicInteger(0);
+        mPersistTask = new SplitTask() {
+            @NonNull
+            @Override
+            public SplitTaskExecutionInfo execute() {
+                mPersistTaskPending.set(false);
+                persistPending();
+                return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
+            }
+        };
     }
 
     @Override
     public boolean pushAndCheckIfFlushNeeded(T entity) {
-        pushAsync(entity);
+        mPendingRecords.add(entity);
+        if (mPersistTaskPending.compareAndSet(false, true)) {
+            mSplitTaskExecutor.submit(mPersistTask, null);
+        }
+
         int pushedEventCount = mPushedCount.addAndGet(1);
         long totalEventsSizeInBytes = mTotalPushedSizeInBytes.addAndGet(entity.getSizeInBytes());
         if (pushedEventCount > mMaxQueueSize ||
@@ -55,6 +92,19 @@ class RecorderSyncHelperImpl<T extends InBytesSizable> implements RecorderSyncHe
         return false;
     }
 
+    @NonNull
+    @Override
+    public SplitTask createPersistPendingTask() {
+        return new SplitTask() {
+            @NonNull
+            @Override
+            public SplitTaskExecutionInfo execute() {
+                persistPending();
+                return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
+            }
+        };
+    }
+
     @Override
     public void taskExecuted(@NonNull SplitTaskExecutionInfo taskInfo) {
         if (mTaskType.equals(taskInfo.getTaskType()) &&
@@ -66,14 +116,43 @@ class RecorderSyncHelperImpl<T extends InBytesSizable> implements RecorderSyncHe
         }
     }
 
-    private void pushAsync(T entity) {
-        mSplitTaskExecutor.submit(new SplitTask() {
-            @NonNull
-            @Override
-            public SplitTaskExecutionInfo execute() {
-                mStorage.push(entity);
-                return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
+    @Override
+    public void persistPending() {
+        List<T> batch = new ArrayList<>();
+        T record;
+        while ((record = mPendingRecords.poll()) != null) {
+            batch.add(record);
+            if (batch.size() == MAX_RECORDS_PER_INSERT) {
+                if (!pushMany(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>();
+            }
+        }
+        pushMany(batch);
+    }
+
+    /**
+     * @return false when the batch couldn't be stored and draining should stop
+     */
+    private boolean pushMany(List<T> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            mStorage.pushMany(batch);
+            mFailedPersistAttempts.set(0);
+            return true;
+        } catch (Exception e) {
+            if (mFailedPersistAttempts.incrementAndGet() < MAX_PERSIST_ATTEMPTS) {
+                // Retried on the next persist, which runs before any recorder task
+                mPendingRecords.addAll(batch);
+                Logger.w("Error persisting " + mTaskType + " records, will retry: " + e.getLocalizedMessage());
+            } else {
+                mFailedPersistAttempts.set(0);
+                Logger.e("Error persisting " + mTaskType + " records, dropping " + batch.size() + " of them: " + e.getLocalizedMessage());
             }
-        }, null);
+            return false;
+        }
     }
 }
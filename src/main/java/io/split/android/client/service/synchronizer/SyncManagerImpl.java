@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.split.android.client.SplitClientConfig;
@@ -128,6 +129,11 @@ public class SyncManagerImpl implements SyncManager, BroadcastedEventListener, M
         mSynchronizer.pushImpression(impression);
     }
 
+    @Override
+    public void pushImpressions(List<Impression> impressions) {
+        mSynchronizer.pushImpressions(impressions);
+    }
+
     @Override
     public void stop() {
         mSynchronizer.stopPeriodicFetching();
@@ -1,5 +1,7 @@
 package io.split.android.client.service.synchronizer;
 
+import java.util.List;
+
 import io.split.android.client.dtos.Event;
 import io.split.android.client.impressions.Impression;
 import io.split.android.client.lifecycle.SplitLifecycleAware;
@@ -34,6 +36,8 @@ public interface Synchronizer extends SplitLifecycleAware {
 
     void pushImpression(Impression impression);
 
+    void pushImpressions(List<Impression> impressions);
+
     void flush();
 
     void destroy();
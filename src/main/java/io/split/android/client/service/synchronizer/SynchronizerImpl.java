@@ -46,6 +46,7 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
 
     private final SplitTaskExecutor mTaskExecutor;
     private final SplitTaskExecutor mSplitsTaskExecutor;
+    private final SplitTaskExecutor mBackgroundTaskExecutor;
     private final SplitStorageContainer mSplitsStorageContainer;
     private final SplitClientConfig mSplitClientConfig;
     private final ISplitEventsManager mSplitEventsManager;
@@ -72,6 +73,7 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
     public SynchronizerImpl(@NonNull SplitClientConfig splitClientConfig,
                             @NonNull SplitTaskExecutor taskExecutor,
                             @NonNull SplitTaskExecutor splitSingleThreadTaskExecutor,
+                            @NonNull SplitTaskExecutor backgroundTaskExecutor,
                             @NonNull SplitStorageContainer splitStorageContainer,
                             @NonNull SplitTaskFactory splitTaskFactory,
                             @NonNull ISplitEventsManager splitEventsManager,
@@ -83,6 +85,7 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
 
         mTaskExecutor = checkNotNull(taskExecutor);
         mSplitsTaskExecutor = splitSingleThreadTaskExecutor;
+        mBackgroundTaskExecutor = checkNotNull(backgroundTaskExecutor);
         mSplitsStorageContainer = checkNotNull(splitStorageContainer);
         mSplitClientConfig = checkNotNull(splitClientConfig);
         mSplitEventsManager = checkNotNull(splitEventsManager);
@@ -215,6 +218,7 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
 
     public void pause() {
         stopPeriodicRecording();
+        persistPendingRecords();
         mTaskExecutor.pause();
         mSplitsTaskExecutor.pause();
     }
@@ -234,43 +238,33 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
     }
 
     public void flush() {
-        mTaskExecutor.submit(mSplitTaskFactory.createEventsRecorderTask(),
-                mEventsSyncHelper);
-        mTaskExecutor.submit(
-                mSplitTaskFactory.createImpressionsRecorderTask(),
-                mImpressionsSyncHelper);
+        submitRecorderTask(mSplitTaskFactory.createEventsRecorderTask(), mEventsSyncHelper);
+        submitRecorderTask(mSplitTaskFactory.createImpressionsRecorderTask(), mImpressionsSyncHelper);
         flushImpressionsCount();
     }
 
     @Override
     public void pushEvent(Event event) {
         if (mEventsSyncHelper.pushAndCheckIfFlushNeeded(event)) {
-            mTaskExecutor.submit(
-                    mSplitTaskFactory.createEventsRecorderTask(),
-                    mEventsSyncHelper);
+            submitRecorderTask(mSplitTaskFactory.createEventsRecorderTask(), mEventsSyncHelper);
         }
         mTelemetryRuntimeProducer.recordEventStats(EventsDataRecordsEnum.EVENTS_QUEUED, 1);
     }
 
     @Override
     public void pushImpression(Impression impression) {
-        impression = impression.withPreviousTime(mImpressionsObserver.testAndSet(impression));
-        KeyImpression keyImpression = KeyImpression.fromImpression(impression);
-        if (isOptimizedImpressionsMode()) {
-            mImpressionsCounter.inc(impression.split(), impression.time(), 1);
-        }
-
-        if (!isOptimizedImpressionsMode() || shouldPushImpression(keyImpression)) {
-            if (mImpressionsSyncHelper.pushAndCheckIfFlushNeeded(keyImpression)) {
-                mTaskExecutor.submit(
-                        mSplitTaskFactory.createImpressionsRecorderTask(),
-                        mImpressionsSyncHelper);
-            }
+        ImpressionsPushResult result = new ImpressionsPushResult();
+        enqueueImpression(impression, result);
+        submitImpressionsPush(result);
+    }
 
-            mTelemetryRuntimeProducer.recordImpressionStats(ImpressionsDataType.IMPRESSIONS_QUEUED, 1);
-        } else {
-            mTelemetryRuntimeProducer.recordImpressionStats(ImpressionsDataType.IMPRESSIONS_DEDUPED, 1);
+    @Override
+    public void pushImpressions(List<Impression> impressions) {
+        ImpressionsPushResult result = new ImpressionsPushResult();
+        for (int i = 0; i < impressions.size(); i++) {
+            enqueueImpression(impressions.get(i), result);
         }
+        submitImpressionsPush(result);
     }
 
     @Override
@@ -293,6 +287,67 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
         mAttributesSynchronizerRegistry.unregisterAttributesSynchronizer(userKey);
     }
 
+    private void enqueueImpression(Impression impression, ImpressionsPushResult result) {
+        impression = impression.withPreviousTime(mImpressionsObserver.testAndSet(impression));
+        KeyImpression keyImpression = KeyImpression.fromImpression(impression);
+        if (isOptimizedImpressionsMode()) {
+            mImpressionsCounter.inc(impression.split(), impression.time(), 1);
+        }
+
+        if (!isOptimizedImpressionsMode() || shouldPushImpression(keyImpression)) {
+            if (mImpressionsSyncHelper.pushAndCheckIfFlushNeeded(keyImpression)) {
+                result.flushNeeded = true;
+            }
+            result.queued++;
+        } else {
+            result.deduped++;
+        }
+    }
+
+    private void submitImpressionsPush(ImpressionsPushResult result) {
+        // A single recorder task is enough even if several impressions
+        // filled the queue, it sends everything stored so far
+        if (result.flushNeeded) {
+            submitRecorderTask(mSplitTaskFactory.createImpressionsRecorderTask(), mImpressionsSyncHelper);
+        }
+
+        if (result.queued > 0) {
+            mTelemetryRuntimeProducer.recordImpressionStats(ImpressionsDataType.IMPRESSIONS_QUEUED, result.queued);
+        }
+
+        if (result.deduped > 0) {
+            mTelemetryRuntimeProducer.recordImpressionStats(ImpressionsDataType.IMPRESSIONS_DEDUPED, result.deduped);
+        }
+    }
+
+    /**
+     * Records pushed but not persisted yet are stored before running the recorder task,
+     * so that it sends them too.
+     */
+    private void submitRecorderTask(SplitTask recorderTask, RecorderSyncHelper<?> syncHelper) {
+        List<SplitTaskBatchItem> enqueued = new ArrayList<>();
+        enqueued.add(new SplitTaskBatchItem(syncHelper.createPersistPendingTask(), null));
+        enqueued.add(new SplitTaskBatchItem(recorderTask, syncHelper));
+        mTaskExecutor.executeSerially(enqueued);
+    }
+
+    /**
+     * Queued records are stored by a task which would wait in the paused executor,
+     * so they are stored from the background executor, which is never paused,
+     * as database access is not allowed from the main thread.
+     */
+    private void persistPendingRecords() {
+        mBackgroundTaskExecutor.submit(new SplitTask() {
+            @NonNull
+            @Override
+            public SplitTaskExecutionInfo execute() {
+                mEventsSyncHelper.persistPending();
+                mImpressionsSyncHelper.persistPending();
+                return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
+            }
+        }, null);
+    }
+
     private void saveImpressionsCount() {
         if (!isOptimizedImpressionsMode()) {
             return;
@@ -375,4 +430,10 @@ public class SynchronizerImpl implements Synchronizer, SplitTaskExecutionListene
                 break;
         }
     }
+
+    private static class ImpressionsPushResult {
+        boolean flushNeeded = false;
+        int queued = 0;
+        int deduped = 0;
+    }
 }
@@ -197,6 +197,8 @@ public class WorkManagerWrapper implements MySegmentsWorkManagerWrapper {
                 ServiceConstants.WORKER_PARAM_ENDPOINT, mSplitClientConfig.eventsEndpoint());
         dataBuilder.putInt(
                 ServiceConstants.WORKER_PARAM_EVENTS_PER_PUSH, mSplitClientConfig.eventsPerPush());
+        dataBuilder.putBoolean(ServiceConstants.WORKER_PARAM_REQUEST_COMPRESSION_ENABLED,
+                mSplitClientConfig.requestCompressionEnabled());
         dataBuilder.putBoolean(
                 ServiceConstants.SHOULD_RECORD_TELEMETRY, mSplitClientConfig.shouldRecordTelemetry());
         return buildInputData(dataBuilder.build());
@@ -209,6 +211,8 @@ public class WorkManagerWrapper implements MySegmentsWorkManagerWrapper {
         dataBuilder.putInt(
                 ServiceConstants.WORKER_PARAM_IMPRESSIONS_PER_PUSH,
                 mSplitClientConfig.impressionsPerPush());
+        dataBuilder.putBoolean(ServiceConstants.WORKER_PARAM_REQUEST_COMPRESSION_ENABLED,
+                mSplitClientConfig.requestCompressionEnabled());
         dataBuilder.putBoolean(ServiceConstants.SHOULD_RECORD_TELEMETRY,
                 mSplitClientConfig.shouldRecordTelemetry());
 
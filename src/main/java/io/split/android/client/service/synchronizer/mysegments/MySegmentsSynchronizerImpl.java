@@ -3,6 +3,10 @@ package io.split.android.client.service.synchronizer.mysegments;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.events.SplitInternalEvent;
@@ -14,6 +18,10 @@ import io.split.android.client.service.synchronizer.LoadLocalDataListener;
 
 public class MySegmentsSynchronizerImpl implements MySegmentsSynchronizer {
 
+    private static final long NO_ANCHOR = Long.MIN_VALUE;
+    // Time of the first periodic fetch scheduled in the process
+    private static final AtomicLong sFirstScheduleNanos = new AtomicLong(NO_ANCHOR);
+
     private final RetryBackoffCounterTimer mMySegmentsSyncRetryTimer;
     private final SplitTaskExecutor mTaskExecutor;
     private final MySegmentsTaskFactory mSplitTaskFactory;
@@ -60,11 +68,32 @@ public class MySegmentsSynchronizerImpl implements MySegmentsSynchronizer {
     public void scheduleSegmentsSyncTask() {
         mMySegmentsFetcherTaskId = mTaskExecutor.schedule(
                 mSplitTaskFactory.createMySegmentsSyncTask(false),
-                mSegmentsRefreshRate,
+                getAlignedInitialDelay(mSegmentsRefreshRate),
                 mSegmentsRefreshRate,
                 null);
     }
 
+    /**
+     * Delay until the next multiple of the refresh rate counted from the first fetch
+     * scheduled in the process, so the periodic fetches of every key run on the same ticks.
+     * Ticks are anchored to the process rather than to wall-clock time so that
+     * different devices don't fetch at the same time.
+     */
+    private static long getAlignedInitialDelay(int refreshRate) {
+        long nowNanos = System.nanoTime();
+        sFirstScheduleNanos.compareAndSet(NO_ANCHOR, nowNanos);
+        return getAlignedInitialDelay(refreshRate, sFirstScheduleNanos.get(), nowNanos);
+    }
+
+    @VisibleForTesting
+    static long getAlignedInitialDelay(int refreshRate, long anchorNanos, long nowNanos) {
+        if (refreshRate <= 0) {
+            return refreshRate;
+        }
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(nowNanos - anchorNanos);
+        return refreshRate - (elapsedSeconds % refreshRate);
+    }
+
     @Override
     public void stopPeriodicFetching() {
         mTaskExecutor.stopTask(mMySegmentsFetcherTaskId);
@@ -0,0 +1,116 @@
+package io.split.android.client.service.workmanager;
+
+import androidx.annotation.NonNull;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.android_client.BuildConfig;
+import io.split.android.client.network.HttpClient;
+import io.split.android.client.network.HttpClientImpl;
+import io.split.android.client.network.SplitHttpHeadersBuilder;
+import io.split.android.client.service.ServiceConstants;
+import io.split.android.client.service.executor.parallel.SplitParallelTaskExecutorFactory;
+import io.split.android.client.service.executor.parallel.SplitParallelTaskExecutorFactoryImpl;
+import io.split.android.client.storage.db.SplitRoomDatabase;
+import io.split.android.client.storage.db.StorageFactory;
+import io.split.android.client.storage.splits.PersistentSplitsStorage;
+import io.split.android.client.utils.NetworkHelper;
+
+/**
+ * Components shared by every background worker run in the process, so that periodic
+ * jobs reuse HTTP connections and threads instead of creating them on each run.
+ * Created on first use.
+ */
+class BackgroundSyncContext {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private static volatile BackgroundSyncContext sInstance;
+
+    private final NetworkHelper mNetworkHelper = new NetworkHelper();
+    private final ExecutorService mExecutor = buildExecutor(ServiceConstants.BACKGROUND_SYNC_PARALLEL_THREADS);
+    private final SplitParallelTaskExecutorFactory mParallelTaskExecutorFactory =
+            new SplitParallelTaskExecutorFactoryImpl(ServiceConstants.BACKGROUND_SYNC_PARALLEL_THREADS, mExecutor);
+    private final ConcurrentMap<String, HttpClient> mHttpClients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PersistentSplitsStorage> mPersistentSplitsStorages = new ConcurrentHashMap<>();
+
+    static BackgroundSyncContext getInstance() {
+        if (sInstance == null) {
+            synchronized (BackgroundSyncContext.class) {
+                if (sInstance == null) {
+                    sInstance = new BackgroundSyncContext();
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    @NonNull
+    NetworkHelper getNetworkHelper() {
+        return mNetworkHelper;
+    }
+
+    /**
+     * Bounded pool for the work of the workers that runs concurrently.
+     */
+    @NonNull
+    ExecutorService getExecutor() {
+        return mExecutor;
+    }
+
+    @NonNull
+    HttpClient getHttpClient(String apiKey) {
+        String key = Strings.nullToEmpty(apiKey);
+        HttpClient httpClient = mHttpClients.get(key);
+        if (httpClient == null) {
+            synchronized (mHttpClients) {
+                httpClient = mHttpClients.get(key);
+                if (httpClient == null) {
+                    httpClient = buildHttpClient(apiKey);
+                    mHttpClients.put(key, httpClient);
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    @NonNull
+    PersistentSplitsStorage getPersistentSplitsStorage(@NonNull String databaseName, @NonNull SplitRoomDatabase database) {
+        PersistentSplitsStorage storage = mPersistentSplitsStorages.get(databaseName);
+        if (storage == null) {
+            storage = StorageFactory.getPersistentSplitsStorage(database, mParallelTaskExecutorFactory);
+            PersistentSplitsStorage previous = mPersistentSplitsStorages.putIfAbsent(databaseName, storage);
+            if (previous != null) {
+                storage = previous;
+            }
+        }
+        return storage;
+    }
+
+    private static ExecutorService buildExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("Split-BackgroundSync-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static HttpClient buildHttpClient(String apiKey) {
+        SplitHttpHeadersBuilder headersBuilder = new SplitHttpHeadersBuilder();
+        headersBuilder.setClientVersion(BuildConfig.SPLIT_VERSION_NAME);
+        headersBuilder.setApiToken(apiKey);
+        headersBuilder.addJsonTypeHeaders();
+        HttpClient httpClient = new HttpClientImpl.Builder().build();
+        httpClient.addHeaders(headersBuilder.build());
+        return httpClient;
+    }
+}
@@ -28,9 +28,11 @@ public class EventsRecorderWorker extends SplitWorker {
 
             boolean shouldRecordTelemetry = workerParams.getInputData().getBoolean(
                     ServiceConstants.SHOULD_RECORD_TELEMETRY, false);
+            boolean compressionEnabled = workerParams.getInputData().getBoolean(
+                    ServiceConstants.WORKER_PARAM_REQUEST_COMPRESSION_ENABLED, false);
 
             mSplitTask = new EventsRecorderTask(ServiceFactory.getEventsRecorder(
-                    getNetworkHelper(), getHttpClient(), getEndPoint()),
+                    getNetworkHelper(), getHttpClient(), getEndPoint(), compressionEnabled),
                     StorageFactory.getPersistenEventsStorage(getDatabase()),
                     new EventsRecorderTaskConfig(eventsPerPush),
                     StorageFactory.getTelemetryStorage(shouldRecordTelemetry));
@@ -24,6 +24,8 @@ public class ImpressionsRecorderWorker extends SplitWorker {
                     ServiceConstants.DEFAULT_RECORDS_PER_PUSH);
             boolean shouldRecordTelemetry = workerParams.getInputData().getBoolean(
                     ServiceConstants.SHOULD_RECORD_TELEMETRY, false);
+            boolean compressionEnabled = workerParams.getInputData().getBoolean(
+                    ServiceConstants.WORKER_PARAM_REQUEST_COMPRESSION_ENABLED, false);
 
             ImpressionsRecorderTaskConfig config =
                     new ImpressionsRecorderTaskConfig(
@@ -32,7 +34,7 @@ public class ImpressionsRecorderWorker extends SplitWorker {
                             shouldRecordTelemetry);
 
             mSplitTask = new ImpressionsRecorderTask(ServiceFactory.getImpressionsRecorder(
-                    getNetworkHelper(), getHttpClient(), getEndPoint()),
+                    getNetworkHelper(), getHttpClient(), getEndPoint(), compressionEnabled),
                     StorageFactory.getPersistenImpressionsStorage(getDatabase()),
                     config,
                     StorageFactory.getTelemetryStorage(config.shouldRecordTelemetry()));
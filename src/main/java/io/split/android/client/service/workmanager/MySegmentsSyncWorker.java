@@ -35,7 +35,9 @@ public class MySegmentsSyncWorker extends SplitWorker {
                 return;
             }
 
-            mSplitTask = new MySegmentsBulkSyncTask(Collections.unmodifiableSet(getIndividualMySegmentsSyncTasks(keys, shouldRecordTelemetry, getNetworkHelper(), getHttpClient(), getEndPoint(), getDatabase())));
+            mSplitTask = new MySegmentsBulkSyncTask(Collections.unmodifiableSet(getIndividualMySegmentsSyncTasks(keys, shouldRecordTelemetry, getNetworkHelper(), getHttpClient(), getEndPoint(), getDatabase())),
+                    StorageFactory.getTelemetryStorage(shouldRecordTelemetry),
+                    getExecutor());
 
         } catch (URISyntaxException e) {
             Logger.e("Error creating Split worker: " + e.getMessage());
@@ -9,17 +9,19 @@ import androidx.work.Data;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
-import io.split.android.android_client.BuildConfig;
+import java.util.concurrent.ExecutorService;
+
 import io.split.android.client.network.HttpClient;
-import io.split.android.client.network.HttpClientImpl;
-import io.split.android.client.network.SplitHttpHeadersBuilder;
 import io.split.android.client.service.ServiceConstants;
 import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.storage.db.SplitRoomDatabase;
+import io.split.android.client.storage.db.StorageFactory;
+import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.utils.NetworkHelper;
 
 public abstract class SplitWorker extends Worker {
 
+    private final String mDatabaseName;
     private final SplitRoomDatabase mDatabase;
     private final HttpClient mHttpClient;
     private final NetworkHelper mNetworkHelper;
@@ -36,23 +38,26 @@ public abstract class SplitWorker extends Worker {
         String databaseName = inputData.getString(ServiceConstants.WORKER_PARAM_DATABASE_NAME);
         String apiKey = inputData.getString(ServiceConstants.WORKER_PARAM_API_KEY);
         mEndpoint = inputData.getString(ServiceConstants.WORKER_PARAM_ENDPOINT);
+        mDatabaseName = databaseName;
         mDatabase = SplitRoomDatabase.getDatabase(context, databaseName);
         mCacheExpirationInSeconds = inputData.getLong(ServiceConstants.WORKER_PARAM_SPLIT_CACHE_EXPIRATION,
                 ServiceConstants.DEFAULT_SPLITS_CACHE_EXPIRATION_IN_SECONDS);
-        SplitHttpHeadersBuilder headersBuilder = new SplitHttpHeadersBuilder();
-        headersBuilder.setClientVersion(BuildConfig.SPLIT_VERSION_NAME);
-        headersBuilder.setApiToken(apiKey);
-        headersBuilder.addJsonTypeHeaders();
-        mHttpClient = new HttpClientImpl.Builder().build();
-        mHttpClient.addHeaders(headersBuilder.build());
-        mNetworkHelper = new NetworkHelper();
+        BackgroundSyncContext backgroundSyncContext = BackgroundSyncContext.getInstance();
+        mHttpClient = backgroundSyncContext.getHttpClient(apiKey);
+        mNetworkHelper = backgroundSyncContext.getNetworkHelper();
     }
 
     @NonNull
     @Override
     public Result doWork() {
         checkNotNull(mSplitTask);
-        mSplitTask.execute();
+        try {
+            mSplitTask.execute();
+        } finally {
+            // Storage writes are delayed, they have to be done before the work
+            // finishes since the process may be stopped right after
+            StorageFactory.getWriteBehindScheduler().flushAll();
+        }
         return Result.success();
     }
 
@@ -60,6 +65,15 @@ public abstract class SplitWorker extends Worker {
         return mDatabase;
     }
 
+    protected SplitsStorage getSplitsStorage() {
+        return StorageFactory.getSplitsStorage(
+                BackgroundSyncContext.getInstance().getPersistentSplitsStorage(mDatabaseName, mDatabase));
+    }
+
+    protected ExecutorService getExecutor() {
+        return BackgroundSyncContext.getInstance().getExecutor();
+    }
+
     public HttpClient getHttpClient() {
         return mHttpClient;
     }
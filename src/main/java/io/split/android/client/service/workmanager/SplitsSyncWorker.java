@@ -25,7 +25,7 @@ public class SplitsSyncWorker extends SplitWorker {
         super(context, workerParams);
         try {
             boolean shouldRecordTelemetry = workerParams.getInputData().getBoolean(ServiceConstants.SHOULD_RECORD_TELEMETRY, false);
-            SplitsStorage splitsStorage = StorageFactory.getSplitsStorage(getDatabase());
+            SplitsStorage splitsStorage = getSplitsStorage();
             HttpFetcher<SplitChange> splitsFetcher = ServiceFactory.getSplitsFetcher(getNetworkHelper(), getHttpClient(),
                             getEndPoint(), splitsStorage.getSplitsFilterQueryString());
             SplitsSyncHelper splitsSyncHelper = new SplitsSyncHelper(splitsFetcher, splitsStorage, new SplitChangeProcessor(), StorageFactory.getTelemetryStorage(shouldRecordTelemetry));
@@ -13,6 +13,7 @@ import io.split.android.client.SplitClientFactory;
 import io.split.android.client.SplitClientFactoryImpl;
 import io.split.android.client.SplitFactoryImpl;
 import io.split.android.client.api.Key;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.impressions.ImpressionListener;
 import io.split.android.client.service.ServiceConstants;
@@ -51,6 +52,7 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
     private final SplitTaskExecutionListener mStreamingConnectionExecutionListener;
     private final SplitTaskExecutionListener mSchedulingBackgroundSyncExecutionListener;
     private final MySegmentsWorkManagerWrapper mWorkManagerWrapper;
+    private final EventsDispatcher mEventsDispatcher;
 
     public SplitClientContainerImpl(@NonNull String defaultMatchingKey,
                                     @NonNull SplitFactoryImpl splitFactory,
@@ -65,7 +67,8 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
                                     @NonNull ImpressionListener customerImpressionListener,
                                     @NonNull PushNotificationManager pushNotificationManager,
                                     @NonNull ClientComponentsRegister clientComponentsRegister,
-                                    @NonNull MySegmentsWorkManagerWrapper workManagerWrapper) {
+                                    @NonNull MySegmentsWorkManagerWrapper workManagerWrapper,
+                                    @NonNull EventsDispatcher eventsDispatcher) {
         mDefaultMatchingKey = checkNotNull(defaultMatchingKey);
         mPushNotificationManager = checkNotNull(pushNotificationManager);
         mStreamingEnabled = config.streamingEnabled();
@@ -89,6 +92,7 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
         mStreamingConnectionExecutionListener = new StreamingConnectionExecutionListener(mConnecting);
         mSchedulingBackgroundSyncExecutionListener = new WorkManagerSchedulingListener(mSchedulingBackgroundSync);
         mWorkManagerWrapper = checkNotNull(workManagerWrapper);
+        mEventsDispatcher = checkNotNull(eventsDispatcher);
     }
 
     @VisibleForTesting
@@ -102,7 +106,8 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
                                     SplitClientConfig config,
                                     SplitClientFactory splitClientFactory,
                                     ClientComponentsRegister clientComponentsRegister,
-                                    MySegmentsWorkManagerWrapper workManagerWrapper) {
+                                    MySegmentsWorkManagerWrapper workManagerWrapper,
+                                    EventsDispatcher eventsDispatcher) {
         mDefaultMatchingKey = checkNotNull(defaultMatchingKey);
         mPushNotificationManager = checkNotNull(pushNotificationManager);
         mStreamingEnabled = streamingEnabled;
@@ -116,6 +121,7 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
         mStreamingConnectionExecutionListener = new StreamingConnectionExecutionListener(mConnecting);
         mSchedulingBackgroundSyncExecutionListener = new WorkManagerSchedulingListener(mConnecting);
         mWorkManagerWrapper = checkNotNull(workManagerWrapper);
+        mEventsDispatcher = checkNotNull(eventsDispatcher);
     }
 
     @Override
@@ -126,7 +132,7 @@ public final class SplitClientContainerImpl extends BaseSplitClientContainer {
 
     @Override
     public void createNewClient(Key key) {
-        SplitEventsManager eventsManager = new SplitEventsManager(mConfig);
+        SplitEventsManager eventsManager = new SplitEventsManager(mConfig, mEventsDispatcher);
         MySegmentsTaskFactory mySegmentsTaskFactory = getMySegmentsTaskFactory(key, eventsManager);
 
         SplitClient client = mSplitClientFactory.getClient(key, mySegmentsTaskFactory, eventsManager, mDefaultMatchingKey.equals(key.matchingKey()));
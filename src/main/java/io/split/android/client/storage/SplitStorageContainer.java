@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import io.split.android.client.storage.attributes.AttributesStorage;
 import io.split.android.client.storage.attributes.AttributesStorageContainer;
 import io.split.android.client.storage.attributes.PersistentAttributesStorage;
+import io.split.android.client.storage.attributes.WriteBehindPersistentAttributesStorage;
 import io.split.android.client.storage.events.PersistentEventsStorage;
 import io.split.android.client.storage.impressions.PersistentImpressionsCountStorage;
 import io.split.android.client.storage.impressions.PersistentImpressionsStorage;
@@ -27,6 +28,7 @@ public class SplitStorageContainer {
     private final AttributesStorageContainer mAttributesStorageContainer;
     private final PersistentAttributesStorage mPersistentAttributesStorage;
     private final TelemetryStorage mTelemetryStorage;
+    private final WriteBehindScheduler mWriteBehindScheduler;
 
     public SplitStorageContainer(@NonNull SplitsStorage splitStorage,
                                  @NonNull MySegmentsStorageContainer mySegmentsStorageContainer,
@@ -36,7 +38,8 @@ public class SplitStorageContainer {
                                  @NonNull PersistentImpressionsCountStorage persistentImpressionsCountStorage,
                                  @NonNull AttributesStorageContainer attributesStorageContainer,
                                  @NonNull PersistentAttributesStorage persistentAttributesStorage,
-                                 @NonNull TelemetryStorage telemetryStorage) {
+                                 @NonNull TelemetryStorage telemetryStorage,
+                                 @NonNull WriteBehindScheduler writeBehindScheduler) {
 
         mSplitStorage = checkNotNull(splitStorage);
         mMySegmentsStorageContainer = checkNotNull(mySegmentsStorageContainer);
@@ -47,6 +50,7 @@ public class SplitStorageContainer {
         mAttributesStorageContainer = checkNotNull(attributesStorageContainer);
         mPersistentAttributesStorage = checkNotNull(persistentAttributesStorage);
         mTelemetryStorage = checkNotNull(telemetryStorage);
+        mWriteBehindScheduler = checkNotNull(writeBehindScheduler);
     }
 
     public SplitsStorage getSplitsStorage() {
@@ -92,4 +96,19 @@ public class SplitStorageContainer {
     public TelemetryStorage getTelemetryStorage() {
         return mTelemetryStorage;
     }
+
+    public WriteBehindScheduler getWriteBehindScheduler() {
+        return mWriteBehindScheduler;
+    }
+
+    /**
+     * Writes all pending changes and releases the write behind buffers of this factory.
+     * The scheduler is shared by every factory in the process, so they have to be released.
+     */
+    public void closePendingWrites() {
+        mWriteBehindScheduler.flushAll();
+        if (mPersistentAttributesStorage instanceof WriteBehindPersistentAttributesStorage) {
+            ((WriteBehindPersistentAttributesStorage) mPersistentAttributesStorage).close();
+        }
+    }
 }
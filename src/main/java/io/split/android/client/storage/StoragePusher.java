@@ -2,6 +2,10 @@ package io.split.android.client.storage;
 
 import androidx.annotation.NonNull;
 
+import java.util.List;
+
 public interface StoragePusher<T> {
     void push(@NonNull T event);
+
+    void pushMany(@NonNull List<T> events);
 }
@@ -0,0 +1,81 @@
+package io.split.android.client.storage;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.split.android.client.utils.Logger;
+
+/**
+ * Keeps the last value written for each key and writes it to the persistent storage
+ * once per flush window, so a burst of changes for a key results in a single write.
+ * A value stays pending until it has been written, so reads can be served from here.
+ */
+public class WriteBehindBuffer<V> {
+
+    public interface Writer<V> {
+        void write(String key, V value);
+    }
+
+    private final ConcurrentMap<String, V> mPending = new ConcurrentHashMap<>();
+    private final WriteBehindScheduler mScheduler;
+    private final Writer<V> mWriter;
+    private final AtomicBoolean mFlushScheduled = new AtomicBoolean(false);
+    private final Object mFlushLock = new Object();
+    private final Runnable mScheduledFlush = new Runnable() {
+        @Override
+        public void run() {
+            mFlushScheduled.set(false);
+            flush();
+        }
+    };
+
+    public WriteBehindBuffer(@NonNull WriteBehindScheduler scheduler, @NonNull Writer<V> writer) {
+        mScheduler = checkNotNull(scheduler);
+        mWriter = checkNotNull(writer);
+        mScheduler.register(this);
+    }
+
+    public void put(@NonNull String key, @NonNull V value) {
+        mPending.put(key, value);
+        if (mFlushScheduled.compareAndSet(false, true)) {
+            mScheduler.scheduleFlush(mScheduledFlush);
+        }
+    }
+
+    @Nullable
+    public V getPending(@NonNull String key) {
+        return mPending.get(key);
+    }
+
+    public void flush() {
+        synchronized (mFlushLock) {
+            for (Map.Entry<String, V> entry : mPending.entrySet()) {
+                String key = entry.getKey();
+                V value = entry.getValue();
+                try {
+                    mWriter.write(key, value);
+                } catch (Exception e) {
+                    Logger.e("Error writing pending changes for key " + key + ": " + e.getLocalizedMessage());
+                }
+                // Kept if it was replaced while writing, so the newer value is written in the next flush
+                mPending.remove(key, value);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending changes and stops flushing this buffer with the scheduler.
+     * Must be called when the buffer is discarded, as the scheduler outlives it.
+     */
+    public void close() {
+        flush();
+        mScheduler.unregister(this);
+    }
+}
@@ -0,0 +1,86 @@
+package io.split.android.client.storage;
+
+import androidx.annotation.NonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.split.android.client.lifecycle.SplitLifecycleAware;
+import io.split.android.client.utils.Logger;
+
+/**
+ * Runs the delayed writes of {@link WriteBehindBuffer} instances in a single background thread.
+ * The thread is created when needed and stops after being idle for a while.
+ * Pending writes are flushed when the app goes to background.
+ * It's shared by every factory and background worker of the process, so it doesn't
+ * belong to any factory's task executors, which are also paused while in background.
+ */
+public class WriteBehindScheduler implements SplitLifecycleAware {
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private final ScheduledThreadPoolExecutor mExecutor;
+    private final long mWindowInMillis;
+    private final List<WriteBehindBuffer<?>> mBuffers = new CopyOnWriteArrayList<>();
+    private final Runnable mFlushAll = new Runnable() {
+        @Override
+        public void run() {
+            flushAll();
+        }
+    };
+
+    public WriteBehindScheduler(long windowInMillis) {
+        mWindowInMillis = windowInMillis;
+        mExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Split-WriteBehind-%d")
+                .build());
+        mExecutor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    void register(@NonNull WriteBehindBuffer<?> buffer) {
+        mBuffers.add(buffer);
+    }
+
+    void unregister(@NonNull WriteBehindBuffer<?> buffer) {
+        mBuffers.remove(buffer);
+    }
+
+    void scheduleFlush(@NonNull Runnable flush) {
+        try {
+            mExecutor.schedule(flush, mWindowInMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            Logger.e("Could not schedule pending writes: " + e.getLocalizedMessage());
+            flush.run();
+        }
+    }
+
+    /**
+     * Writes all pending changes in the calling thread.
+     */
+    public void flushAll() {
+        for (WriteBehindBuffer<?> buffer : mBuffers) {
+            buffer.flush();
+        }
+    }
+
+    @Override
+    public void pause() {
+        // Called from the main thread, so writes are done in the background
+        try {
+            mExecutor.execute(mFlushAll);
+        } catch (RejectedExecutionException e) {
+            Logger.e("Could not flush pending writes: " + e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    public void resume() {
+    }
+}
@@ -3,13 +3,18 @@ package io.split.android.client.storage.attributes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Attributes are kept in an immutable map that is replaced on every write.
+ * Reads, done on every evaluation, get the current map without locking or copying.
+ */
 public class AttributesStorageImpl implements AttributesStorage {
 
-    private final Map<String, Object> mInMemoryAttributes = new ConcurrentHashMap<>();
+    private final Object mWriteLock = new Object();
+    private volatile Map<String, Object> mInMemoryAttributes = Collections.emptyMap();
 
     @Nullable
     @Override
@@ -17,37 +22,68 @@ public class AttributesStorageImpl implements AttributesStorage {
         return mInMemoryAttributes.get(name);
     }
 
+    /**
+     * @return an immutable snapshot of the stored attributes
+     */
     @NonNull
     @Override
     public Map<String, Object> getAll() {
-        return new HashMap<>(mInMemoryAttributes);
+        return mInMemoryAttributes;
     }
 
     @Override
     public void set(String name, @NonNull Object value) {
-        mInMemoryAttributes.put(name, value);
+        if (value == null) {
+            return;
+        }
+
+        synchronized (mWriteLock) {
+            Map<String, Object> attributes = new HashMap<>(mInMemoryAttributes);
+            attributes.put(name, value);
+            publish(attributes);
+        }
     }
 
     @Override
     public void set(@Nullable Map<String, Object> attributes) {
         if (attributes == null) return;
 
-        mInMemoryAttributes.putAll(attributes);
+        synchronized (mWriteLock) {
+            Map<String, Object> newAttributes = new HashMap<>(mInMemoryAttributes);
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    newAttributes.put(entry.getKey(), entry.getValue());
+                }
+            }
+            publish(newAttributes);
+        }
     }
 
     @Override
     public void clear() {
-        mInMemoryAttributes.clear();
+        synchronized (mWriteLock) {
+            mInMemoryAttributes = Collections.emptyMap();
+        }
     }
 
     @Override
     public void destroy() {
-        mInMemoryAttributes.clear();
+        clear();
     }
 
     @Override
     public void remove(String key) {
-        mInMemoryAttributes.remove(key);
+        synchronized (mWriteLock) {
+            if (!mInMemoryAttributes.containsKey(key)) {
+                return;
+            }
+            Map<String, Object> attributes = new HashMap<>(mInMemoryAttributes);
+            attributes.remove(key);
+            publish(attributes);
+        }
     }
 
+    private void publish(Map<String, Object> attributes) {
+        mInMemoryAttributes = Collections.unmodifiableMap(attributes);
+    }
 }
@@ -0,0 +1,72 @@
+package io.split.android.client.storage.attributes;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.split.android.client.storage.WriteBehindBuffer;
+import io.split.android.client.storage.WriteBehindScheduler;
+
+/**
+ * Coalesces attribute updates and clears so that each key is written once per flush window.
+ */
+public class WriteBehindPersistentAttributesStorage implements PersistentAttributesStorage {
+
+    // Marks a pending clear. Compared by reference.
+    private static final Map<String, Object> CLEARED = new HashMap<>();
+
+    private final PersistentAttributesStorage mPersistentStorage;
+    private final WriteBehindBuffer<Map<String, Object>> mBuffer;
+
+    public WriteBehindPersistentAttributesStorage(@NonNull final PersistentAttributesStorage persistentStorage,
+                                                  @NonNull WriteBehindScheduler scheduler) {
+        mPersistentStorage = checkNotNull(persistentStorage);
+        mBuffer = new WriteBehindBuffer<>(scheduler, new WriteBehindBuffer.Writer<Map<String, Object>>() {
+            @Override
+            public void write(String key, Map<String, Object> value) {
+                if (value == CLEARED) {
+                    persistentStorage.clear(key);
+                } else {
+                    persistentStorage.set(key, value);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void set(String matchingKey, @Nullable Map<String, Object> attributes) {
+        if (attributes == null) {
+            return;
+        }
+        mBuffer.put(matchingKey, new HashMap<>(attributes));
+    }
+
+    @NonNull
+    @Override
+    public Map<String, Object> getAll(String matchingKey) {
+        Map<String, Object> pending = mBuffer.getPending(matchingKey);
+        if (pending == CLEARED) {
+            return new HashMap<>();
+        }
+        if (pending != null) {
+            return new HashMap<>(pending);
+        }
+        return mPersistentStorage.getAll(matchingKey);
+    }
+
+    @Override
+    public void clear(String matchingKey) {
+        mBuffer.put(matchingKey, CLEARED);
+    }
+
+    /**
+     * Writes the pending changes and releases the buffer.
+     */
+    public void close() {
+        mBuffer.close();
+    }
+}
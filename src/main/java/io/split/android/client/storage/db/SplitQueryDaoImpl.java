@@ -44,11 +44,12 @@ public class SplitQueryDaoImpl implements SplitQueryDao {
             }
             return entities;
         } catch (Exception e) {
+            // Rethrown so that a failed page isn't taken as the end of the table
             Logger.e("Error executing splits query: " + e.getLocalizedMessage());
+            throw e;
         } finally {
             cursor.close();
         }
-        return new ArrayList<>();
     }
 
     int getColumnIndexOrThrow(@NonNull Cursor c, @NonNull String name) {
@@ -2,13 +2,21 @@ package io.split.android.client.storage.db;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY;
 
+import android.content.Context;
+
+import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 
+import java.io.File;
+
 import io.split.android.client.service.ServiceConstants;
+import io.split.android.client.service.executor.parallel.SplitParallelTaskExecutorFactory;
+import io.split.android.client.storage.WriteBehindScheduler;
 import io.split.android.client.storage.attributes.AttributesStorageContainer;
 import io.split.android.client.storage.attributes.AttributesStorageContainerImpl;
 import io.split.android.client.storage.attributes.PersistentAttributesStorage;
 import io.split.android.client.storage.attributes.SqLitePersistentAttributesStorage;
+import io.split.android.client.storage.attributes.WriteBehindPersistentAttributesStorage;
 import io.split.android.client.storage.events.PersistentEventsStorage;
 import io.split.android.client.storage.events.SqLitePersistentEventsStorage;
 import io.split.android.client.storage.impressions.PersistentImpressionsCountStorage;
@@ -18,7 +26,9 @@ import io.split.android.client.storage.impressions.SqLitePersistentImpressionsSt
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainerImpl;
 import io.split.android.client.storage.mysegments.SqLitePersistentMySegmentsStorage;
+import io.split.android.client.storage.mysegments.WriteBehindPersistentMySegmentsStorage;
 import io.split.android.client.storage.splits.PersistentSplitsStorage;
+import io.split.android.client.storage.splits.SplitsSnapshotFile;
 import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.storage.splits.SplitsStorageImpl;
 import io.split.android.client.storage.splits.SqLitePersistentSplitsStorage;
@@ -33,6 +43,9 @@ public class StorageFactory {
     private static volatile TelemetryStorage telemetryStorageInstance;
     private static volatile MySegmentsStorageContainer mySegmentsStorageContainerInstance;
     private static volatile AttributesStorageContainer attributesStorageContainerInstance;
+    private static volatile WriteBehindScheduler writeBehindSchedulerInstance;
+
+    private static final String SPLITS_SNAPSHOT_FILE_SUFFIX = "_splits.bin";
 
     public static SplitsStorage getSplitsStorage(SplitRoomDatabase splitRoomDatabase) {
         PersistentSplitsStorage persistentSplitsStorage
@@ -40,6 +53,15 @@ public class StorageFactory {
         return new SplitsStorageImpl(persistentSplitsStorage);
     }
 
+    public static SplitsStorage getSplitsStorage(PersistentSplitsStorage persistentSplitsStorage) {
+        return new SplitsStorageImpl(persistentSplitsStorage);
+    }
+
+    public static SplitsSnapshotFile getSplitsSnapshotFile(Context context, String databaseName) {
+        File databaseFolder = context.getDatabasePath(databaseName).getParentFile();
+        return new SplitsSnapshotFile(new File(databaseFolder, databaseName + SPLITS_SNAPSHOT_FILE_SUFFIX));
+    }
+
     public static MySegmentsStorageContainer getMySegmentsStorage(SplitRoomDatabase splitRoomDatabase) {
         return getMySegmentsStorageContainer(splitRoomDatabase);
     }
@@ -48,6 +70,22 @@ public class StorageFactory {
         return new SqLitePersistentSplitsStorage(splitRoomDatabase);
     }
 
+    public static PersistentSplitsStorage getPersistentSplitsStorage(SplitRoomDatabase splitRoomDatabase,
+                                                                     @Nullable SplitsSnapshotFile splitsSnapshotFile) {
+        return new SqLitePersistentSplitsStorage(splitRoomDatabase, splitsSnapshotFile);
+    }
+
+    public static PersistentSplitsStorage getPersistentSplitsStorage(SplitRoomDatabase splitRoomDatabase,
+                                                                     SplitParallelTaskExecutorFactory executorFactory) {
+        return getPersistentSplitsStorage(splitRoomDatabase, executorFactory, null);
+    }
+
+    public static PersistentSplitsStorage getPersistentSplitsStorage(SplitRoomDatabase splitRoomDatabase,
+                                                                     SplitParallelTaskExecutorFactory executorFactory,
+                                                                     @Nullable SplitsSnapshotFile splitsSnapshotFile) {
+        return new SqLitePersistentSplitsStorage(splitRoomDatabase, executorFactory, splitsSnapshotFile);
+    }
+
     public static PersistentImpressionsStorage getPersistenImpressionsStorage(
             SplitRoomDatabase splitRoomDatabase) {
         return new SqLitePersistentImpressionsStorage(splitRoomDatabase,
@@ -71,7 +109,21 @@ public class StorageFactory {
     }
 
     public static PersistentAttributesStorage getPersistentSplitsStorage(SplitRoomDatabase splitRoomDatabase, String matchingKey) {
-        return new SqLitePersistentAttributesStorage(splitRoomDatabase.attributesDao(), matchingKey);
+        return new WriteBehindPersistentAttributesStorage(
+                new SqLitePersistentAttributesStorage(splitRoomDatabase.attributesDao(), matchingKey),
+                getWriteBehindScheduler());
+    }
+
+    public static WriteBehindScheduler getWriteBehindScheduler() {
+        if (writeBehindSchedulerInstance == null) {
+            synchronized (StorageFactory.class) {
+                if (writeBehindSchedulerInstance == null) {
+                    writeBehindSchedulerInstance = new WriteBehindScheduler(ServiceConstants.PERSISTENT_WRITE_WINDOW_MILLIS);
+                }
+            }
+        }
+
+        return writeBehindSchedulerInstance;
     }
 
     public static TelemetryStorage getTelemetryStorage(boolean shouldRecordTelemetry) {
@@ -94,7 +146,9 @@ public class StorageFactory {
         if (mySegmentsStorageContainerInstance == null) {
             synchronized (StorageFactory.class) {
                 if (mySegmentsStorageContainerInstance == null) {
-                    mySegmentsStorageContainerInstance = new MySegmentsStorageContainerImpl(new SqLitePersistentMySegmentsStorage(splitRoomDatabase));
+                    mySegmentsStorageContainerInstance = new MySegmentsStorageContainerImpl(
+                            new WriteBehindPersistentMySegmentsStorage(new SqLitePersistentMySegmentsStorage(splitRoomDatabase),
+                                    getWriteBehindScheduler()));
                 }
             }
         }
@@ -7,8 +7,7 @@ import io.split.android.client.dtos.KeyImpression;
 import io.split.android.client.storage.StoragePusher;
 
 public interface PersistentImpressionsStorage extends StoragePusher<KeyImpression> {
-    // Push method is defined in StoragePusher interface
-    void pushMany(@NonNull List<KeyImpression> impressions);
+    // Push methods are defined in StoragePusher interface
     List<KeyImpression> pop(int count);
     void setActive(@NonNull List<KeyImpression> impressions);
     void delete(@NonNull List<KeyImpression> impressions);
@@ -2,7 +2,6 @@ package io.split.android.client.storage.mysegments;
 
 import androidx.annotation.NonNull;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -13,13 +12,23 @@ public class EmptyMySegmentsStorage implements MySegmentsStorage{
 
     @Override
     public Set<String> getAll() {
-        return new HashSet<>();
+        return MySegmentsSnapshot.EMPTY;
     }
 
     @Override
     public void set(@NonNull List<String> mySegments) {
     }
 
+    @Override
+    public boolean add(@NonNull String segmentName) {
+        return false;
+    }
+
+    @Override
+    public boolean remove(@NonNull String segmentName) {
+        return false;
+    }
+
     @Override
     public void clear() {
     }
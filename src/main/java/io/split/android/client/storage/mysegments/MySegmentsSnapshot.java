@@ -0,0 +1,75 @@
+package io.split.android.client.storage.mysegments;
+
+import androidx.annotation.NonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Immutable set of segment names. Storages publish a new instance on each update
+ * instead of modifying the current one, so readers never see a partial update.
+ * Membership can also be checked by segment id from {@link SegmentIds}, which
+ * only reads a bitset.
+ */
+public final class MySegmentsSnapshot extends AbstractSet<String> {
+
+    public static final MySegmentsSnapshot EMPTY = new MySegmentsSnapshot(Collections.<String>emptySet());
+
+    private final Set<String> mSegments;
+    private final long[] mSegmentIds;
+
+    private MySegmentsSnapshot(Set<String> segments) {
+        mSegments = Collections.unmodifiableSet(segments);
+        int maxId = -1;
+        int[] ids = new int[segments.size()];
+        int i = 0;
+        for (String segment : segments) {
+            ids[i] = SegmentIds.idFor(segment);
+            maxId = Math.max(maxId, ids[i]);
+            i++;
+        }
+        mSegmentIds = new long[(maxId >> 6) + 1];
+        for (int id : ids) {
+            mSegmentIds[id >> 6] |= 1L << id;
+        }
+    }
+
+    @NonNull
+    public static MySegmentsSnapshot of(@NonNull Collection<String> segments) {
+        if (segments.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> copy = new HashSet<>();
+        for (String segment : segments) {
+            if (segment != null) {
+                copy.add(segment);
+            }
+        }
+        return new MySegmentsSnapshot(copy);
+    }
+
+    public boolean containsId(int segmentId) {
+        int word = segmentId >> 6;
+        return segmentId >= 0 && word < mSegmentIds.length && (mSegmentIds[word] & (1L << segmentId)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return mSegments.contains(o);
+    }
+
+    @NonNull
+    @Override
+    public Iterator<String> iterator() {
+        return mSegments.iterator();
+    }
+
+    @Override
+    public int size() {
+        return mSegments.size();
+    }
+}
@@ -12,5 +12,17 @@ public interface MySegmentsStorage {
 
     void set(@NonNull List<String> mySegments);
 
+    /**
+     * Adds a segment atomically with respect to other updates.
+     * @return true if the segment wasn't there
+     */
+    boolean add(@NonNull String segmentName);
+
+    /**
+     * Removes a segment atomically with respect to other updates.
+     * @return true if the segment was there
+     */
+    boolean remove(@NonNull String segmentName);
+
     void clear();
 }
@@ -1,9 +1,20 @@
 package io.split.android.client.storage.mysegments;
 
+import androidx.annotation.Nullable;
+
 public interface MySegmentsStorageContainer {
 
     MySegmentsStorage getStorageForKey(String matchingKey);
 
+    /**
+     * Same as {@link #getStorageForKey} but never creates a storage.
+     * Used on evaluation, where the key's client has already created it.
+     *
+     * @return the storage for the key or null when there is none.
+     */
+    @Nullable
+    MySegmentsStorage getStorageIfPresent(String matchingKey);
+
     /**
      * @return Amount of unique segments present in storage.
      */
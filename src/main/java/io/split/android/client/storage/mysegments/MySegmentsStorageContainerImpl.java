@@ -3,6 +3,7 @@ package io.split.android.client.storage.mysegments;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -22,6 +23,11 @@ public class MySegmentsStorageContainerImpl implements MySegmentsStorageContaine
     @NonNull
     @Override
     public MySegmentsStorage getStorageForKey(String matchingKey) {
+        MySegmentsStorage storage = mStorageMap.get(matchingKey);
+        if (storage != null) {
+            return storage;
+        }
+
         synchronized (lock) {
             if (mStorageMap.get(matchingKey) == null) {
                 mStorageMap.put(matchingKey, new MySegmentsStorageImpl(matchingKey, mPersistentMySegmentsStorage));
@@ -31,6 +37,12 @@ public class MySegmentsStorageContainerImpl implements MySegmentsStorageContaine
         }
     }
 
+    @Nullable
+    @Override
+    public MySegmentsStorage getStorageIfPresent(String matchingKey) {
+        return mStorageMap.get(matchingKey);
+    }
+
     @Override
     public long getUniqueAmount() {
         Set<String> segments = new HashSet<>();
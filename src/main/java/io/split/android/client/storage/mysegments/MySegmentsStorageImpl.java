@@ -2,9 +2,8 @@ package io.split.android.client.storage.mysegments;
 
 import androidx.annotation.NonNull;
 
-import com.google.common.collect.Sets;
-
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,19 +13,27 @@ class MySegmentsStorageImpl implements MySegmentsStorage {
 
     private final String mMatchingKey;
     private final PersistentMySegmentsStorage mPersistentStorage;
-    private final Set<String> mInMemoryMySegments;
+    private final Object mWriteLock = new Object();
+    private volatile MySegmentsSnapshot mInMemoryMySegments = MySegmentsSnapshot.EMPTY;
 
     public MySegmentsStorageImpl(@NonNull String matchingKey, @NonNull PersistentMySegmentsStorage persistentStorage) {
         mPersistentStorage = checkNotNull(persistentStorage);
         mMatchingKey = checkNotNull(matchingKey);
-        mInMemoryMySegments = Sets.newConcurrentHashSet();
     }
 
     @Override
     public void loadLocal() {
-        mInMemoryMySegments.addAll(mPersistentStorage.getSnapshot(mMatchingKey));
+        List<String> persistedSegments = mPersistentStorage.getSnapshot(mMatchingKey);
+        synchronized (mWriteLock) {
+            Set<String> segments = new HashSet<>(mInMemoryMySegments);
+            segments.addAll(persistedSegments);
+            mInMemoryMySegments = MySegmentsSnapshot.of(segments);
+        }
     }
 
+    /**
+     * Returns an immutable snapshot. Updates replace it instead of modifying it.
+     */
     @Override
     public Set<String> getAll() {
         return mInMemoryMySegments;
@@ -37,14 +44,51 @@ class MySegmentsStorageImpl implements MySegmentsStorage {
         if (mySegments == null) {
             return;
         }
-        mInMemoryMySegments.clear();
-        mInMemoryMySegments.addAll(mySegments);
-        mPersistentStorage.set(mMatchingKey, mySegments);
+        synchronized (mWriteLock) {
+            mInMemoryMySegments = MySegmentsSnapshot.of(mySegments);
+            mPersistentStorage.set(mMatchingKey, mySegments);
+        }
+    }
+
+    @Override
+    public boolean add(@NonNull String segmentName) {
+        synchronized (mWriteLock) {
+            if (mInMemoryMySegments.contains(segmentName)) {
+                return false;
+            }
+            Set<String> segments = new HashSet<>(mInMemoryMySegments);
+            segments.add(segmentName);
+            update(segments);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(@NonNull String segmentName) {
+        synchronized (mWriteLock) {
+            if (!mInMemoryMySegments.contains(segmentName)) {
+                return false;
+            }
+            Set<String> segments = new HashSet<>(mInMemoryMySegments);
+            segments.remove(segmentName);
+            update(segments);
+        }
+        return true;
     }
 
     @Override
     public void clear() {
-        mInMemoryMySegments.clear();
-        mPersistentStorage.set(mMatchingKey, new ArrayList<>());
+        synchronized (mWriteLock) {
+            mInMemoryMySegments = MySegmentsSnapshot.EMPTY;
+            mPersistentStorage.set(mMatchingKey, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Must be called holding the write lock, so that changes are persisted in the same order they are applied.
+     */
+    private void update(Set<String> segments) {
+        mInMemoryMySegments = MySegmentsSnapshot.of(segments);
+        mPersistentStorage.set(mMatchingKey, new ArrayList<>(segments));
     }
 }
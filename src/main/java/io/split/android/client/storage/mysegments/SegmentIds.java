@@ -0,0 +1,35 @@
+package io.split.android.client.storage.mysegments;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Assigns a small integer id to each segment name, so membership can be checked
+ * against a bitset in {@link MySegmentsSnapshot}. Ids are never released; the
+ * number of segment names in an environment is small.
+ */
+public final class SegmentIds {
+
+    private static final ConcurrentMap<String, Integer> sIds = new ConcurrentHashMap<>();
+
+    private SegmentIds() {
+    }
+
+    public static int idFor(@NonNull String segmentName) {
+        Integer id = sIds.get(segmentName);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (sIds) {
+            id = sIds.get(segmentName);
+            if (id == null) {
+                id = sIds.size();
+                sIds.put(segmentName, id);
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.split.android.client.storage.mysegments;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.split.android.client.storage.WriteBehindBuffer;
+import io.split.android.client.storage.WriteBehindScheduler;
+
+/**
+ * Coalesces segment list updates so that each key is written once per flush window.
+ */
+public class WriteBehindPersistentMySegmentsStorage implements PersistentMySegmentsStorage {
+
+    private final PersistentMySegmentsStorage mPersistentStorage;
+    private final WriteBehindBuffer<List<String>> mBuffer;
+
+    public WriteBehindPersistentMySegmentsStorage(@NonNull final PersistentMySegmentsStorage persistentStorage,
+                                                  @NonNull WriteBehindScheduler scheduler) {
+        mPersistentStorage = checkNotNull(persistentStorage);
+        mBuffer = new WriteBehindBuffer<>(scheduler, new WriteBehindBuffer.Writer<List<String>>() {
+            @Override
+            public void write(String key, List<String> value) {
+                persistentStorage.set(key, value);
+            }
+        });
+    }
+
+    @Override
+    public void set(String userKey, @NonNull List<String> mySegments) {
+        if (mySegments == null) {
+            return;
+        }
+        mBuffer.put(userKey, new ArrayList<>(mySegments));
+    }
+
+    @Override
+    public List<String> getSnapshot(String userKey) {
+        List<String> pending = mBuffer.getPending(userKey);
+        if (pending != null) {
+            return new ArrayList<>(pending);
+        }
+        return mPersistentStorage.getSnapshot(userKey);
+    }
+
+    @Override
+    public void close() {
+        mBuffer.close();
+        mPersistentStorage.close();
+    }
+}
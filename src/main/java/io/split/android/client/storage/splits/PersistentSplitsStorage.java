@@ -1,5 +1,7 @@
 package io.split.android.client.storage.splits;
 
+import androidx.annotation.NonNull;
+
 import java.util.List;
 
 import io.split.android.client.dtos.Split;
@@ -7,6 +9,17 @@ import io.split.android.client.dtos.Split;
 public interface PersistentSplitsStorage {
     boolean update(ProcessedSplitChange splitChange);
     SplitsSnapshot getSnapshot();
+
+    /**
+     * Same as {@link #getSnapshot()}, but loaded splits are also handed to the consumer
+     * page by page, so they can be used before the whole table is read.
+     */
+    SplitsSnapshot getSnapshot(@NonNull SplitsPageConsumer consumer);
+
+    /**
+     * Stores a copy of all the active splits used to speed up the next {@link #getSnapshot()}.
+     */
+    void updateSnapshot(List<Split> activeSplits, long changeNumber);
     List<Split> getAll();
     void update(Split splitName);
     String getFilterQueryString();
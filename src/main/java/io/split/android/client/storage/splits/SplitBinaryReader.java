@@ -0,0 +1,241 @@
+package io.split.android.client.storage.splits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.split.android.client.dtos.BetweenMatcherData;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.ConditionType;
+import io.split.android.client.dtos.DataType;
+import io.split.android.client.dtos.DependencyMatcherData;
+import io.split.android.client.dtos.KeySelector;
+import io.split.android.client.dtos.Matcher;
+import io.split.android.client.dtos.MatcherCombiner;
+import io.split.android.client.dtos.MatcherGroup;
+import io.split.android.client.dtos.MatcherType;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.dtos.Status;
+import io.split.android.client.dtos.UnaryNumericMatcherData;
+import io.split.android.client.dtos.UserDefinedSegmentMatcherData;
+import io.split.android.client.dtos.WhitelistMatcherData;
+
+/**
+ * Decodes splits written by {@link SplitBinaryWriter}.
+ * Any inconsistency in the data ends in an exception; callers are expected to discard the whole buffer.
+ */
+class SplitBinaryReader {
+
+    // StandardCharsets needs API 19
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer mInput;
+    private final List<String> mStringTable = new ArrayList<>();
+
+    SplitBinaryReader(ByteBuffer input) {
+        mInput = input;
+    }
+
+    long readLong() {
+        return mInput.getLong();
+    }
+
+    int readInt() {
+        return mInput.getInt();
+    }
+
+    List<Split> readSplits() throws IOException {
+        int count = readSize();
+        List<Split> splits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            splits.add(readSplit());
+        }
+        return splits;
+    }
+
+    private Split readSplit() throws IOException {
+        Split split = new Split();
+        split.name = readString();
+        split.seed = mInput.getInt();
+        split.status = readEnum(Status.class);
+        split.killed = readBoolean();
+        split.defaultTreatment = readString();
+        if (readBoolean()) {
+            int count = readSize();
+            split.conditions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                split.conditions.add(readCondition());
+            }
+        }
+        split.trafficTypeName = readString();
+        split.changeNumber = mInput.getLong();
+        split.trafficAllocation = readInteger();
+        split.trafficAllocationSeed = readInteger();
+        split.algo = mInput.getInt();
+        if (readBoolean()) {
+            int count = readSize();
+            split.configurations = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString();
+                split.configurations.put(key, readString());
+            }
+        }
+        return split;
+    }
+
+    private Condition readCondition() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        Condition condition = new Condition();
+        condition.conditionType = readEnum(ConditionType.class);
+        if (readBoolean()) {
+            MatcherGroup matcherGroup = new MatcherGroup();
+            matcherGroup.combiner = readEnum(MatcherCombiner.class);
+            if (readBoolean()) {
+                int count = readSize();
+                matcherGroup.matchers = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    matcherGroup.matchers.add(readMatcher());
+                }
+            }
+            condition.matcherGroup = matcherGroup;
+        }
+        if (readBoolean()) {
+            int count = readSize();
+            condition.partitions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Partition partition = null;
+                if (readBoolean()) {
+                    partition = new Partition();
+                    partition.treatment = readString();
+                    partition.size = mInput.getInt();
+                }
+                condition.partitions.add(partition);
+            }
+        }
+        condition.label = readString();
+        return condition;
+    }
+
+    private Matcher readMatcher() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        Matcher matcher = new Matcher();
+        if (readBoolean()) {
+            KeySelector keySelector = new KeySelector();
+            keySelector.trafficType = readString();
+            keySelector.attribute = readString();
+            matcher.keySelector = keySelector;
+        }
+        matcher.matcherType = readEnum(MatcherType.class);
+        matcher.negate = readBoolean();
+
+        if (readBoolean()) {
+            matcher.userDefinedSegmentMatcherData = new UserDefinedSegmentMatcherData();
+            matcher.userDefinedSegmentMatcherData.segmentName = readString();
+        }
+
+        if (readBoolean()) {
+            matcher.whitelistMatcherData = new WhitelistMatcherData();
+            matcher.whitelistMatcherData.whitelist = readStringList();
+        }
+
+        if (readBoolean()) {
+            UnaryNumericMatcherData unaryData = new UnaryNumericMatcherData();
+            unaryData.dataType = readEnum(DataType.class);
+            unaryData.value = mInput.getLong();
+            matcher.unaryNumericMatcherData = unaryData;
+        }
+
+        if (readBoolean()) {
+            BetweenMatcherData betweenData = new BetweenMatcherData();
+            betweenData.dataType = readEnum(DataType.class);
+            betweenData.start = mInput.getLong();
+            betweenData.end = mInput.getLong();
+            matcher.betweenMatcherData = betweenData;
+        }
+
+        if (readBoolean()) {
+            DependencyMatcherData dependencyData = new DependencyMatcherData();
+            dependencyData.split = readString();
+            dependencyData.treatments = readStringList();
+            matcher.dependencyMatcherData = dependencyData;
+        }
+
+        if (readBoolean()) {
+            matcher.booleanMatcherData = readBoolean();
+        }
+        matcher.stringMatcherData = readString();
+        return matcher;
+    }
+
+    private List<String> readStringList() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        int count = readSize();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    private Integer readInteger() {
+        return readBoolean() ? mInput.getInt() : null;
+    }
+
+    private <T extends Enum<T>> T readEnum(Class<T> type) throws IOException {
+        String name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + type.getSimpleName() + " value: " + name);
+        }
+    }
+
+    private String readString() throws IOException {
+        int reference = mInput.getInt();
+        if (reference == SplitBinaryWriter.NULL_STRING) {
+            return null;
+        }
+
+        if (reference != SplitBinaryWriter.NEW_STRING) {
+            if (reference < 0 || reference > mStringTable.size()) {
+                throw new IOException("Invalid string reference: " + reference);
+            }
+            return mStringTable.get(reference - 1);
+        }
+
+        int length = readSize();
+        if (length > mInput.remaining()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        String value = new String(mInput.array(), mInput.arrayOffset() + mInput.position(), length, UTF_8);
+        mInput.position(mInput.position() + length);
+        mStringTable.add(value);
+        return value;
+    }
+
+    private boolean readBoolean() {
+        return mInput.get() != 0;
+    }
+
+    private int readSize() throws IOException {
+        int size = mInput.getInt();
+        if (size < 0 || size > mInput.remaining()) {
+            throw new IOException("Invalid size: " + size);
+        }
+        return size;
+    }
+}
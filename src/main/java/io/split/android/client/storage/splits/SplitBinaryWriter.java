@@ -0,0 +1,211 @@
+package io.split.android.client.storage.splits;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.split.android.client.dtos.BetweenMatcherData;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.DependencyMatcherData;
+import io.split.android.client.dtos.KeySelector;
+import io.split.android.client.dtos.Matcher;
+import io.split.android.client.dtos.MatcherGroup;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.dtos.UnaryNumericMatcherData;
+import io.split.android.client.dtos.UserDefinedSegmentMatcherData;
+import io.split.android.client.dtos.WhitelistMatcherData;
+
+/**
+ * Encodes splits in the format read by {@link SplitBinaryReader}.
+ * <p>
+ * Strings are written once, later occurrences reference the first one by index.
+ * Enums are written as names so that the format doesn't depend on declaration order.
+ */
+class SplitBinaryWriter {
+
+    static final int NULL_STRING = -1;
+    static final int NEW_STRING = 0;
+    // StandardCharsets needs API 19
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteArrayOutputStream mBuffer;
+    private final DataOutputStream mOutput;
+    private final Map<String, Integer> mStringTable = new HashMap<>();
+
+    SplitBinaryWriter() {
+        mBuffer = new ByteArrayOutputStream(64 * 1024);
+        mOutput = new DataOutputStream(mBuffer);
+    }
+
+    SplitBinaryWriter writeLong(long value) throws IOException {
+        mOutput.writeLong(value);
+        return this;
+    }
+
+    SplitBinaryWriter writeInt(int value) throws IOException {
+        mOutput.writeInt(value);
+        return this;
+    }
+
+    SplitBinaryWriter writeSplits(List<Split> splits) throws IOException {
+        mOutput.writeInt(splits.size());
+        for (Split split : splits) {
+            writeSplit(split);
+        }
+        return this;
+    }
+
+    byte[] toByteArray() throws IOException {
+        mOutput.flush();
+        return mBuffer.toByteArray();
+    }
+
+    private void writeSplit(Split split) throws IOException {
+        writeString(split.name);
+        mOutput.writeInt(split.seed);
+        writeEnum(split.status);
+        mOutput.writeBoolean(split.killed);
+        writeString(split.defaultTreatment);
+        if (writePresence(split.conditions)) {
+            mOutput.writeInt(split.conditions.size());
+            for (Condition condition : split.conditions) {
+                writeCondition(condition);
+            }
+        }
+        writeString(split.trafficTypeName);
+        mOutput.writeLong(split.changeNumber);
+        writeInteger(split.trafficAllocation);
+        writeInteger(split.trafficAllocationSeed);
+        mOutput.writeInt(split.algo);
+        if (writePresence(split.configurations)) {
+            mOutput.writeInt(split.configurations.size());
+            for (Map.Entry<String, String> entry : split.configurations.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+        }
+    }
+
+    private void writeCondition(Condition condition) throws IOException {
+        if (!writePresence(condition)) {
+            return;
+        }
+        writeEnum(condition.conditionType);
+        MatcherGroup matcherGroup = condition.matcherGroup;
+        if (writePresence(matcherGroup)) {
+            writeEnum(matcherGroup.combiner);
+            if (writePresence(matcherGroup.matchers)) {
+                mOutput.writeInt(matcherGroup.matchers.size());
+                for (Matcher matcher : matcherGroup.matchers) {
+                    writeMatcher(matcher);
+                }
+            }
+        }
+        if (writePresence(condition.partitions)) {
+            mOutput.writeInt(condition.partitions.size());
+            for (Partition partition : condition.partitions) {
+                if (writePresence(partition)) {
+                    writeString(partition.treatment);
+                    mOutput.writeInt(partition.size);
+                }
+            }
+        }
+        writeString(condition.label);
+    }
+
+    private void writeMatcher(Matcher matcher) throws IOException {
+        if (!writePresence(matcher)) {
+            return;
+        }
+        KeySelector keySelector = matcher.keySelector;
+        if (writePresence(keySelector)) {
+            writeString(keySelector.trafficType);
+            writeString(keySelector.attribute);
+        }
+        writeEnum(matcher.matcherType);
+        mOutput.writeBoolean(matcher.negate);
+
+        UserDefinedSegmentMatcherData segmentData = matcher.userDefinedSegmentMatcherData;
+        if (writePresence(segmentData)) {
+            writeString(segmentData.segmentName);
+        }
+
+        WhitelistMatcherData whitelistData = matcher.whitelistMatcherData;
+        if (writePresence(whitelistData)) {
+            writeStringList(whitelistData.whitelist);
+        }
+
+        UnaryNumericMatcherData unaryData = matcher.unaryNumericMatcherData;
+        if (writePresence(unaryData)) {
+            writeEnum(unaryData.dataType);
+            mOutput.writeLong(unaryData.value);
+        }
+
+        BetweenMatcherData betweenData = matcher.betweenMatcherData;
+        if (writePresence(betweenData)) {
+            writeEnum(betweenData.dataType);
+            mOutput.writeLong(betweenData.start);
+            mOutput.writeLong(betweenData.end);
+        }
+
+        DependencyMatcherData dependencyData = matcher.dependencyMatcherData;
+        if (writePresence(dependencyData)) {
+            writeString(dependencyData.split);
+            writeStringList(dependencyData.treatments);
+        }
+
+        if (writePresence(matcher.booleanMatcherData)) {
+            mOutput.writeBoolean(matcher.booleanMatcherData);
+        }
+        writeString(matcher.stringMatcherData);
+    }
+
+    private void writeStringList(List<String> values) throws IOException {
+        if (writePresence(values)) {
+            mOutput.writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+    }
+
+    private void writeInteger(Integer value) throws IOException {
+        if (writePresence(value)) {
+            mOutput.writeInt(value);
+        }
+    }
+
+    private void writeEnum(Enum<?> value) throws IOException {
+        writeString(value != null ? value.name() : null);
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            mOutput.writeInt(NULL_STRING);
+            return;
+        }
+
+        Integer index = mStringTable.get(value);
+        if (index != null) {
+            mOutput.writeInt(index + 1);
+            return;
+        }
+
+        mStringTable.put(value, mStringTable.size());
+        byte[] bytes = value.getBytes(UTF_8);
+        mOutput.writeInt(NEW_STRING);
+        mOutput.writeInt(bytes.length);
+        mOutput.write(bytes);
+    }
+
+    private boolean writePresence(Object value) throws IOException {
+        boolean present = value != null;
+        mOutput.writeBoolean(present);
+        return present;
+    }
+}
@@ -0,0 +1,125 @@
+package io.split.android.client.storage.splits;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.split.android.client.api.SplitView;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.Partition;
+import io.split.android.client.dtos.Split;
+import io.split.android.engine.experiments.SplitParser;
+
+/**
+ * Immutable projection of the stored splits as exposed by SplitManager.
+ * Views are shared between reads, so they must not be modified.
+ */
+public class SplitViews {
+
+    public static final SplitViews EMPTY = new SplitViews(Collections.<String, Entry>emptyMap(),
+            Collections.<SplitView>emptyList(), Collections.<String>emptyList());
+
+    private final Map<String, Entry> mEntries;
+    private final List<SplitView> mViews;
+    private final List<String> mNames;
+
+    private SplitViews(Map<String, Entry> entries, List<SplitView> views, List<String> names) {
+        mEntries = entries;
+        mViews = views;
+        mNames = names;
+    }
+
+    /**
+     * Builds the views of the given splits.
+     * Views from the previous instance are reused for splits that didn't change.
+     */
+    @NonNull
+    public static SplitViews build(@NonNull Collection<Split> splits, @NonNull SplitViews previous) {
+        if (splits.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Entry> entries = new HashMap<>();
+        List<SplitView> views = new ArrayList<>(splits.size());
+        List<String> names = new ArrayList<>(splits.size());
+        for (Split split : splits) {
+            names.add(split.name);
+            Entry entry = previous.mEntries.get(split.name);
+            if (entry == null || entry.split != split || entry.changeNumber != split.changeNumber) {
+                entry = new Entry(split, toSplitView(split));
+            }
+            if (entry.view != null) {
+                entries.put(split.name, entry);
+                views.add(entry.view);
+            }
+        }
+        return new SplitViews(entries, Collections.unmodifiableList(views), Collections.unmodifiableList(names));
+    }
+
+    @NonNull
+    public List<SplitView> getAll() {
+        return mViews;
+    }
+
+    @Nullable
+    public SplitView get(String name) {
+        Entry entry = mEntries.get(name);
+        return (entry != null) ? entry.view : null;
+    }
+
+    @NonNull
+    public List<String> getNames() {
+        return mNames;
+    }
+
+    /**
+     * Only splits the parser accepts have a view, so that the manager doesn't list
+     * splits the client can't evaluate. Views are only built for changed splits.
+     */
+    @Nullable
+    private static SplitView toSplitView(Split split) {
+        if (!SplitParser.canParse(split)) {
+            return null;
+        }
+
+        Set<String> treatments = new LinkedHashSet<>();
+        for (Condition condition : split.conditions) {
+            if (condition.partitions != null) {
+                for (Partition partition : condition.partitions) {
+                    treatments.add(partition.treatment);
+                }
+            }
+        }
+        treatments.add(split.defaultTreatment);
+
+        SplitView splitView = new SplitView();
+        splitView.name = split.name;
+        splitView.trafficType = split.trafficTypeName;
+        splitView.killed = split.killed;
+        splitView.changeNumber = split.changeNumber;
+        splitView.configs = split.configurations;
+        splitView.treatments = Collections.unmodifiableList(new ArrayList<>(treatments));
+
+        return splitView;
+    }
+
+    private static class Entry {
+        final Split split;
+        final long changeNumber;
+        final SplitView view;
+
+        Entry(Split split, SplitView view) {
+            this.split = split;
+            this.changeNumber = split.changeNumber;
+            this.view = view;
+        }
+    }
+}
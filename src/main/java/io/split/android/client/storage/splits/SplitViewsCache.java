@@ -0,0 +1,38 @@
+package io.split.android.client.storage.splits;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collection;
+
+import io.split.android.client.dtos.Split;
+
+/**
+ * Keeps the {@link SplitViews} of a splits storage.
+ * Views are rebuilt on the first read after the storage changes.
+ */
+public class SplitViewsCache {
+
+    private final Object mLock = new Object();
+    private volatile SplitViews mSplitViews = SplitViews.EMPTY;
+    private volatile boolean mIsStale = true;
+
+    public void invalidate() {
+        mIsStale = true;
+    }
+
+    @NonNull
+    public SplitViews get(@NonNull Collection<Split> splits) {
+        if (!mIsStale) {
+            return mSplitViews;
+        }
+
+        synchronized (mLock) {
+            if (mIsStale) {
+                // Cleared before reading so that changes made while building mark it stale again
+                mIsStale = false;
+                mSplitViews = SplitViews.build(splits, mSplitViews);
+            }
+            return mSplitViews;
+        }
+    }
+}
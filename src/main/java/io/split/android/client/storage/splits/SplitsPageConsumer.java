@@ -0,0 +1,14 @@
+package io.split.android.client.storage.splits;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
+import io.split.android.client.dtos.Split;
+
+/**
+ * Receives splits in pages while they are being loaded from persistent storage.
+ */
+public interface SplitsPageConsumer {
+    void accept(@NonNull List<Split> splits);
+}
@@ -13,12 +13,18 @@ public class SplitsSnapshot {
     final private List<Split> splits;
     final private long updateTimestamp;
     final private String splitsFilterQueryString;
+    final private boolean complete;
 
     public SplitsSnapshot(List<Split> splits, long changeNumber, long updateTimestamp, String splitsFilterQueryString) {
+        this(splits, changeNumber, updateTimestamp, splitsFilterQueryString, true);
+    }
+
+    public SplitsSnapshot(List<Split> splits, long changeNumber, long updateTimestamp, String splitsFilterQueryString, boolean complete) {
         this.changeNumber = changeNumber;
         this.splits = splits;
         this.updateTimestamp = updateTimestamp;
         this.splitsFilterQueryString = splitsFilterQueryString;
+        this.complete = complete;
     }
 
     public long getChangeNumber() {
@@ -33,6 +39,13 @@ public class SplitsSnapshot {
         return splitsFilterQueryString;
     }
 
+    /**
+     * @return false if some persisted splits could not be loaded
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
     public @NonNull List<Split> getSplits() {
         return (splits != null ? splits : new ArrayList<>());
     }
@@ -0,0 +1,144 @@
+package io.split.android.client.storage.splits;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import io.split.android.client.dtos.Split;
+import io.split.android.client.utils.Logger;
+
+/**
+ * Binary copy of the active splits stored next to the database.
+ * It is loaded on startup instead of parsing the JSON body of every split.
+ * <p>
+ * Layout: magic, format version, change number, splits and a CRC32 of all the previous bytes.
+ * {@link #FORMAT_VERSION} has to be increased when {@link Split} or its children change.
+ */
+public class SplitsSnapshotFile {
+
+    private static final int MAGIC = 0x53504c54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+    private static final int CHECKSUM_SIZE = 8;
+
+    private final File mFile;
+
+    public SplitsSnapshotFile(@NonNull File file) {
+        mFile = checkNotNull(file);
+    }
+
+    /**
+     * @return the stored splits, or null if there is no snapshot for this change number
+     * or it can't be read. Unreadable files are removed.
+     */
+    @Nullable
+    @WorkerThread
+    public List<Split> read(long expectedChangeNumber) {
+        if (!mFile.exists()) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(readBytes());
+            if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new IOException("File too short");
+            }
+            int contentLength = buffer.limit() - CHECKSUM_SIZE;
+            if (checksum(buffer.array(), contentLength) != buffer.getLong(contentLength)) {
+                throw new IOException("Checksum mismatch");
+            }
+            buffer.limit(contentLength);
+
+            SplitBinaryReader reader = new SplitBinaryReader(buffer);
+            if (reader.readInt() != MAGIC || reader.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown format");
+            }
+            if (reader.readLong() != expectedChangeNumber) {
+                return null;
+            }
+            List<Split> splits = reader.readSplits();
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected trailing data");
+            }
+            return splits;
+        } catch (Exception e) {
+            Logger.w("Discarding splits snapshot: " + e.getLocalizedMessage());
+            delete();
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the stored snapshot. The file is written aside and renamed, so readers
+     * see either the previous snapshot or the new one.
+     */
+    @WorkerThread
+    public void write(@NonNull List<Split> splits, long changeNumber) {
+        File tempFile = null;
+        try {
+            byte[] content = new SplitBinaryWriter()
+                    .writeInt(MAGIC)
+                    .writeInt(FORMAT_VERSION)
+                    .writeLong(changeNumber)
+                    .writeSplits(splits)
+                    .toByteArray();
+
+            tempFile = File.createTempFile(mFile.getName(), ".tmp", mFile.getParentFile());
+            try (FileOutputStream output = new FileOutputStream(tempFile)) {
+                output.write(content);
+                output.write(ByteBuffer.allocate(CHECKSUM_SIZE).putLong(0, checksum(content, content.length)).array());
+            }
+
+            if (!tempFile.renameTo(mFile)) {
+                throw new IOException("Could not rename " + tempFile.getName());
+            }
+        } catch (Exception e) {
+            Logger.w("Could not write splits snapshot: " + e.getLocalizedMessage());
+            if (tempFile != null) {
+                tempFile.delete();
+            }
+            delete();
+        }
+    }
+
+    public void delete() {
+        if (mFile.exists() && !mFile.delete()) {
+            Logger.w("Could not delete splits snapshot " + mFile.getName());
+        }
+    }
+
+    private byte[] readBytes() throws IOException {
+        try (FileInputStream input = new FileInputStream(mFile)) {
+            long length = input.getChannel().size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("File too large");
+            }
+            byte[] bytes = new byte[(int) length];
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = input.read(bytes, offset, bytes.length - offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+                offset += read;
+            }
+            return bytes;
+        }
+    }
+
+    private static long checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return crc.getValue();
+    }
+}
@@ -16,6 +16,8 @@ public interface SplitsStorage {
 
     Map<String, Split> getAll();
 
+    SplitViews getSplitViews();
+
     void update(ProcessedSplitChange splitChange);
 
     void updateWithoutChecks(Split split);
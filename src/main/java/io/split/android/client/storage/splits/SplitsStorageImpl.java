@@ -2,6 +2,7 @@ package io.split.android.client.storage.splits;
 
 import androidx.annotation.NonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,9 @@ public class SplitsStorageImpl implements SplitsStorage {
     private long mUpdateTimestamp;
     private String mSplitsFilterQueryString;
     private Map<String, Integer> mTrafficTypes;
+    // The persisted snapshot is only updated when memory holds every split
+    private volatile boolean mHasAllSplits = false;
+    private final SplitViewsCache mSplitViewsCache = new SplitViewsCache();
 
     public SplitsStorageImpl(@NonNull PersistentSplitsStorage persistentStorage) {
         mPersistentStorage = checkNotNull(persistentStorage);
@@ -28,14 +32,20 @@ public class SplitsStorageImpl implements SplitsStorage {
 
     @Override
     public void loadLocal() {
-        SplitsSnapshot snapshot = mPersistentStorage.getSnapshot();
-        List<Split> splits = snapshot.getSplits();
+        // Splits are published as each page is read
+        SplitsSnapshot snapshot = mPersistentStorage.getSnapshot(new SplitsPageConsumer() {
+            @Override
+            public void accept(@NonNull List<Split> splits) {
+                for (Split split : splits) {
+                    mInMemorySplits.put(split.name, split);
+                }
+                mSplitViewsCache.invalidate();
+            }
+        });
         mChangeNumber = snapshot.getChangeNumber();
         mUpdateTimestamp = snapshot.getUpdateTimestamp();
         mSplitsFilterQueryString = snapshot.getSplitsFilterQueryString();
-        for (Split split : splits) {
-            mInMemorySplits.put(split.name, split);
-        }
+        mHasAllSplits = snapshot.isComplete();
     }
 
     @Override
@@ -65,6 +75,11 @@ public class SplitsStorageImpl implements SplitsStorage {
         return getMany(null);
     }
 
+    @Override
+    public SplitViews getSplitViews() {
+        return mSplitViewsCache.get(mInMemorySplits.values());
+    }
+
     @Override
     public void update(ProcessedSplitChange splitChange) {
         if(splitChange == null) {
@@ -91,14 +106,23 @@ public class SplitsStorageImpl implements SplitsStorage {
             }
         }
 
+        mSplitViewsCache.invalidate();
+
+        boolean hasChanges = mChangeNumber != splitChange.getChangeNumber() ||
+                (activeSplits != null && !activeSplits.isEmpty()) ||
+                (archivedSplits != null && !archivedSplits.isEmpty());
         mChangeNumber = splitChange.getChangeNumber();
         mUpdateTimestamp = splitChange.getUpdateTimestamp();
         mPersistentStorage.update(splitChange);
+        if (hasChanges && mHasAllSplits) {
+            mPersistentStorage.updateSnapshot(new ArrayList<>(mInMemorySplits.values()), mChangeNumber);
+        }
     }
 
     @Override
     public void updateWithoutChecks(Split split) {
         mInMemorySplits.put(split.name, split);
+        mSplitViewsCache.invalidate();
         mPersistentStorage.update(split);
     }
 
@@ -124,8 +148,10 @@ public class SplitsStorageImpl implements SplitsStorage {
     @Override
     public void clear() {
         mInMemorySplits.clear();
+        mSplitViewsCache.invalidate();
         mChangeNumber = -1;
         mPersistentStorage.clear();
+        mHasAllSplits = true;
     }
 
     @Override
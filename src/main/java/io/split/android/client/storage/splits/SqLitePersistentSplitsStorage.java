@@ -16,33 +16,56 @@ import io.split.android.client.service.executor.parallel.SplitParallelTaskExecut
 import io.split.android.client.service.executor.parallel.SplitParallelTaskExecutorFactoryImpl;
 import io.split.android.client.storage.db.GeneralInfoEntity;
 import io.split.android.client.storage.db.SplitEntity;
+import io.split.android.client.storage.db.SplitQueryDao;
 import io.split.android.client.storage.db.SplitRoomDatabase;
 import io.split.android.client.utils.Json;
+import io.split.android.client.utils.Logger;
 
 public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
 
     private static final int SQL_PARAM_BIND_SIZE = 20;
+    // Rows read at once when loading splits, keeps memory bounded for large split sets
+    @VisibleForTesting
+    static final int LOAD_PAGE_SIZE = 200;
     private final SplitListTransformer<SplitEntity, Split> mEntityToSplitTransformer;
     private final SplitListTransformer<Split, SplitEntity> mSplitToEntityTransformer;
     private final SplitRoomDatabase mDatabase;
+    @Nullable
+    private final SplitsSnapshotFile mSnapshotFile;
 
     public SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database) {
-        this(database, new SplitParallelTaskExecutorFactoryImpl());
+        this(database, (SplitsSnapshotFile) null);
+    }
+
+    public SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database, @Nullable SplitsSnapshotFile snapshotFile) {
+        this(database, new SplitParallelTaskExecutorFactoryImpl(), snapshotFile);
     }
 
     @VisibleForTesting
     public SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database,
                                          @NonNull SplitListTransformer<SplitEntity, Split> entityToSplitTransformer,
                                          @NonNull SplitListTransformer<Split, SplitEntity> splitToEntityTransformer) {
+        this(database, entityToSplitTransformer, splitToEntityTransformer, null);
+    }
+
+    @VisibleForTesting
+    public SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database,
+                                         @NonNull SplitListTransformer<SplitEntity, Split> entityToSplitTransformer,
+                                         @NonNull SplitListTransformer<Split, SplitEntity> splitToEntityTransformer,
+                                         @Nullable SplitsSnapshotFile snapshotFile) {
         mDatabase = checkNotNull(database);
         mEntityToSplitTransformer = checkNotNull(entityToSplitTransformer);
         mSplitToEntityTransformer = checkNotNull(splitToEntityTransformer);
+        mSnapshotFile = snapshotFile;
     }
 
-    private SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database, @NonNull SplitParallelTaskExecutorFactory executorFactory) {
+    public SqLitePersistentSplitsStorage(@NonNull SplitRoomDatabase database,
+                                         @NonNull SplitParallelTaskExecutorFactory executorFactory,
+                                         @Nullable SplitsSnapshotFile snapshotFile) {
         this(database,
                 new SplitEntityToSplitTransformer(executorFactory.createForList(Split.class)),
-                new SplitToSplitEntityTransformer(executorFactory.createForList(SplitEntity.class)));
+                new SplitToSplitEntityTransformer(executorFactory.createForList(SplitEntity.class)),
+                snapshotFile);
     }
 
     @Override
@@ -71,10 +94,27 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
 
     @Override
     public SplitsSnapshot getSnapshot() {
+        return loadSnapshot(null);
+    }
+
+    @Override
+    public SplitsSnapshot getSnapshot(@NonNull SplitsPageConsumer consumer) {
+        return loadSnapshot(checkNotNull(consumer));
+    }
+
+    private SplitsSnapshot loadSnapshot(@Nullable SplitsPageConsumer consumer) {
         SplitsSnapshotLoader loader = new SplitsSnapshotLoader(mDatabase);
         mDatabase.runInTransaction(loader);
-        return new SplitsSnapshot(loadSplits(), loader.getChangeNumber(),
-                loader.getUpdateTimestamp(), loader.getSplitsFilterQueryString());
+        LoadedSplits loadedSplits = loadSplits(loader.getChangeNumber(), consumer);
+        return new SplitsSnapshot(loadedSplits.splits, loader.getChangeNumber(),
+                loader.getUpdateTimestamp(), loader.getSplitsFilterQueryString(), loadedSplits.complete);
+    }
+
+    @Override
+    public void updateSnapshot(List<Split> activeSplits, long changeNumber) {
+        if (mSnapshotFile != null) {
+            mSnapshotFile.write(activeSplits, changeNumber);
+        }
     }
 
     @Override
@@ -82,6 +122,7 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
         List<Split> splits = new ArrayList<>();
         splits.add(split);
         mDatabase.splitDao().insert(convertSplitListToEntities(splits));
+        deleteSnapshot();
     }
 
     @Override
@@ -96,6 +137,7 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
         for (List<String> splits : deleteChunk) {
             mDatabase.splitDao().delete(splits);
         }
+        deleteSnapshot();
     }
 
     @Override
@@ -111,11 +153,12 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
                 mDatabase.splitDao().deleteAll();
             }
         });
+        deleteSnapshot();
     }
 
     @Override
     public List<Split> getAll() {
-        return loadSplits();
+        return loadSplits((SplitsPageConsumer) null).splits;
     }
 
     @Override
@@ -125,8 +168,67 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
         return generalInfoEntity != null ? generalInfoEntity.getStringValue() : null;
     }
 
-    private List<Split> loadSplits() {
-        return mEntityToSplitTransformer.transform(mDatabase.splitDao().getAll());
+    /**
+     * Reads the table in rowid order, {@link #LOAD_PAGE_SIZE} rows at a time,
+     * so that only one page of json bodies is in memory at once.
+     * The load is incomplete when any row could not be turned into a split.
+     */
+    private LoadedSplits loadSplits(@Nullable SplitsPageConsumer consumer) {
+        SplitQueryDao splitQueryDao = mDatabase.splitQueryDao();
+        List<Split> splits = new ArrayList<>();
+        boolean complete = true;
+        long lastRowId = 0;
+        List<SplitEntity> entities;
+        do {
+            entities = splitQueryDao.get(lastRowId, LOAD_PAGE_SIZE);
+            if (entities.isEmpty()) {
+                break;
+            }
+            lastRowId = entities.get(entities.size() - 1).getRowId();
+            List<Split> page = mEntityToSplitTransformer.transform(entities);
+            if (page.size() != entities.size()) {
+                complete = false;
+            }
+            splits.addAll(page);
+            if (consumer != null) {
+                consumer.accept(page);
+            }
+        } while (entities.size() == LOAD_PAGE_SIZE);
+        return new LoadedSplits(splits, complete);
+    }
+
+    /**
+     * Loads splits from the snapshot file when it matches the stored change number.
+     * Otherwise they are loaded from the database and the snapshot is rebuilt for the next load,
+     * as long as every row was loaded.
+     */
+    private LoadedSplits loadSplits(long changeNumber, @Nullable SplitsPageConsumer consumer) {
+        if (mSnapshotFile == null || changeNumber == -1) {
+            return loadSplits(consumer);
+        }
+
+        List<Split> splits = mSnapshotFile.read(changeNumber);
+        if (splits != null) {
+            if (consumer != null) {
+                consumer.accept(splits);
+            }
+            return new LoadedSplits(splits, true);
+        }
+
+        LoadedSplits loadedSplits = loadSplits(consumer);
+        if (loadedSplits.complete) {
+            mSnapshotFile.write(loadedSplits.splits, changeNumber);
+        } else {
+            Logger.w("Not all splits could be loaded, splits snapshot won't be stored");
+            mSnapshotFile.delete();
+        }
+        return loadedSplits;
+    }
+
+    private void deleteSnapshot() {
+        if (mSnapshotFile != null) {
+            mSnapshotFile.delete();
+        }
     }
 
     private List<SplitEntity> convertSplitListToEntities(List<Split> splits) {
@@ -144,6 +246,16 @@ public class SqLitePersistentSplitsStorage implements PersistentSplitsStorage {
         return names;
     }
 
+    private static final class LoadedSplits {
+        final List<Split> splits;
+        final boolean complete;
+
+        LoadedSplits(List<Split> splits, boolean complete) {
+            this.splits = splits;
+            this.complete = complete;
+        }
+    }
+
     private static class SplitsSnapshotLoader implements Runnable {
         private SplitRoomDatabase mDatabase;
         private Long mChangeNumber = -1L;
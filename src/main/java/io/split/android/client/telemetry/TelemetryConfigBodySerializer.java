@@ -2,14 +2,22 @@ package io.split.android.client.telemetry;
 
 import androidx.annotation.NonNull;
 
-import io.split.android.client.service.http.HttpRequestBodySerializer;
+import java.io.IOException;
+import java.io.Writer;
+
+import io.split.android.client.service.http.HttpStreamingRequestBodySerializer;
 import io.split.android.client.telemetry.model.Config;
 import io.split.android.client.utils.Json;
 
-public class TelemetryConfigBodySerializer implements HttpRequestBodySerializer<Config> {
+public class TelemetryConfigBodySerializer implements HttpStreamingRequestBodySerializer<Config> {
 
     @Override
     public String serialize(@NonNull Config data) {
         return Json.toJsonIgnoringNulls(data);
     }
+
+    @Override
+    public void serialize(@NonNull Config data, @NonNull Writer writer) throws IOException {
+        Json.toJsonIgnoringNulls(data, writer);
+    }
 }
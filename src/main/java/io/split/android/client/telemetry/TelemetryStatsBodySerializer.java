@@ -2,14 +2,22 @@ package io.split.android.client.telemetry;
 
 import androidx.annotation.NonNull;
 
-import io.split.android.client.service.http.HttpRequestBodySerializer;
+import java.io.IOException;
+import java.io.Writer;
+
+import io.split.android.client.service.http.HttpStreamingRequestBodySerializer;
 import io.split.android.client.telemetry.model.Stats;
 import io.split.android.client.utils.Json;
 
-public class TelemetryStatsBodySerializer implements HttpRequestBodySerializer<Stats> {
+public class TelemetryStatsBodySerializer implements HttpStreamingRequestBodySerializer<Stats> {
 
     @Override
     public String serialize(@NonNull Stats data) {
         return Json.toJsonIgnoringNulls(data);
     }
+
+    @Override
+    public void serialize(@NonNull Stats data, @NonNull Writer writer) throws IOException {
+        Json.toJsonIgnoringNulls(data, writer);
+    }
 }
@@ -51,6 +51,9 @@ public class Config {
     @SerializedName("nR")
     private long SDKNotReadyUsage;
 
+    @SerializedName("sP")
+    private StartupPhases startupPhases;
+
     @SerializedName("t")
     private List<String> tags;
 
@@ -169,6 +172,14 @@ public class Config {
         this.SDKNotReadyUsage = SDKNotReadyUsage;
     }
 
+    public StartupPhases getStartupPhases() {
+        return startupPhases;
+    }
+
+    public void setStartupPhases(StartupPhases startupPhases) {
+        this.startupPhases = startupPhases;
+    }
+
     public List<String> getTags() {
         return tags;
     }
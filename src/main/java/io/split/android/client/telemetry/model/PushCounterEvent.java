@@ -2,5 +2,6 @@ package io.split.android.client.telemetry.model;
 
 public enum PushCounterEvent {
     AUTH_REJECTIONS,
-    TOKEN_REFRESHES
+    TOKEN_REFRESHES,
+    SPLIT_UPDATES_COALESCED
 }
@@ -0,0 +1,11 @@
+package io.split.android.client.telemetry.model;
+
+public enum StartupPhase {
+    HTTP_CLIENT,
+    DATABASE,
+    STORAGE,
+    SYNCHRONIZER,
+    STREAMING,
+    CLIENTS,
+    TOTAL
+}
@@ -0,0 +1,86 @@
+package io.split.android.client.telemetry.model;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Time in milliseconds spent on each phase of the factory initialization.
+ */
+public class StartupPhases {
+
+    @SerializedName("hc")
+    private long httpClient;
+
+    @SerializedName("db")
+    private long database;
+
+    @SerializedName("st")
+    private long storage;
+
+    @SerializedName("sy")
+    private long synchronizer;
+
+    @SerializedName("ss")
+    private long streaming;
+
+    @SerializedName("cl")
+    private long clients;
+
+    @SerializedName("to")
+    private long total;
+
+    public long getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(long httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public long getDatabase() {
+        return database;
+    }
+
+    public void setDatabase(long database) {
+        this.database = database;
+    }
+
+    public long getStorage() {
+        return storage;
+    }
+
+    public void setStorage(long storage) {
+        this.storage = storage;
+    }
+
+    public long getSynchronizer() {
+        return synchronizer;
+    }
+
+    public void setSynchronizer(long synchronizer) {
+        this.synchronizer = synchronizer;
+    }
+
+    public long getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(long streaming) {
+        this.streaming = streaming;
+    }
+
+    public long getClients() {
+        return clients;
+    }
+
+    public void setClients(long clients) {
+        this.clients = clients;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
@@ -29,6 +29,10 @@ public class Stats {
     @SerializedName("aR")
     private long authRejections;
 
+    // Only sent when there was coalescing in the period
+    @SerializedName("sUC")
+    private Long splitUpdatesCoalesced;
+
     @SerializedName("iQ")
     private long impressionsQueued;
 
@@ -90,6 +94,10 @@ public class Stats {
         this.authRejections = authRejections;
     }
 
+    public void setSplitUpdatesCoalesced(long splitUpdatesCoalesced) {
+        this.splitUpdatesCoalesced = splitUpdatesCoalesced;
+    }
+
     public void setImpressionsQueued(long impressionsQueued) {
         this.impressionsQueued = impressionsQueued;
     }
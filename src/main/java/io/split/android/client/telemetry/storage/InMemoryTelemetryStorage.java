@@ -21,6 +21,8 @@ import io.split.android.client.telemetry.model.MethodExceptions;
 import io.split.android.client.telemetry.model.MethodLatencies;
 import io.split.android.client.telemetry.model.OperationType;
 import io.split.android.client.telemetry.model.PushCounterEvent;
+import io.split.android.client.telemetry.model.StartupPhase;
+import io.split.android.client.telemetry.model.StartupPhases;
 import io.split.android.client.telemetry.model.streaming.StreamingEvent;
 import io.split.android.client.telemetry.util.AtomicLongArray;
 
@@ -38,6 +40,8 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
     private final Map<ImpressionsDataType, AtomicLong> impressionsData = Maps.newConcurrentMap();
     private final Map<EventsDataRecordsEnum, AtomicLong> eventsData = Maps.newConcurrentMap();
 
+    private final Map<StartupPhase, AtomicLong> startupPhases = Maps.newConcurrentMap();
+
     private final Map<OperationType, AtomicLong> lastSynchronizationData = Maps.newConcurrentMap();
 
     private final AtomicLong sessionLength = new AtomicLong();
@@ -126,6 +130,21 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         return factoryCounters.get(FactoryCounter.SDK_READY_FROM_CACHE).get();
     }
 
+    @Override
+    public StartupPhases getStartupPhases() {
+        StartupPhases phases = new StartupPhases();
+
+        phases.setHttpClient(startupPhases.get(StartupPhase.HTTP_CLIENT).get());
+        phases.setDatabase(startupPhases.get(StartupPhase.DATABASE).get());
+        phases.setStorage(startupPhases.get(StartupPhase.STORAGE).get());
+        phases.setSynchronizer(startupPhases.get(StartupPhase.SYNCHRONIZER).get());
+        phases.setStreaming(startupPhases.get(StartupPhase.STREAMING).get());
+        phases.setClients(startupPhases.get(StartupPhase.CLIENTS).get());
+        phases.setTotal(startupPhases.get(StartupPhase.TOTAL).get());
+
+        return phases;
+    }
+
     @Override
     public void recordNonReadyUsage() {
         factoryCounters.get(FactoryCounter.NON_READY_USAGES).incrementAndGet();
@@ -151,6 +170,11 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         factoryCounters.get(FactoryCounter.SDK_READY_FROM_CACHE).set(time);
     }
 
+    @Override
+    public void recordStartupPhase(StartupPhase phase, long time) {
+        startupPhases.get(phase).set(time);
+    }
+
     @Override
     public long getImpressionsStats(ImpressionsDataType type) {
         return impressionsData.get(type).get();
@@ -218,6 +242,11 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         return pushCounters.get(PushCounterEvent.TOKEN_REFRESHES).getAndSet(0);
     }
 
+    @Override
+    public long popSplitUpdatesCoalesced() {
+        return pushCounters.get(PushCounterEvent.SPLIT_UPDATES_COALESCED).getAndSet(0);
+    }
+
     @Override
     public List<StreamingEvent> popStreamingEvents() {
         synchronized (streamingEventsLock) {
@@ -302,6 +331,11 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         pushCounters.get(PushCounterEvent.TOKEN_REFRESHES).incrementAndGet();
     }
 
+    @Override
+    public void recordSplitUpdatesCoalesced(long count) {
+        pushCounters.get(PushCounterEvent.SPLIT_UPDATES_COALESCED).addAndGet(count);
+    }
+
     @Override
     public void recordStreamingEvents(StreamingEvent streamingEvent) {
         synchronized (streamingEventsLock) {
@@ -320,6 +354,7 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         initializeMethodExceptionsCounter();
         initializeHttpLatenciesCounter();
         initializeFactoryCounters();
+        initializeStartupPhases();
         initializeImpressionsData();
         initializeEventsData();
         initializeLastSynchronizationData();
@@ -344,6 +379,12 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
         methodExceptionsCounter.put(Method.TRACK, new AtomicLong());
     }
 
+    private void initializeStartupPhases() {
+        for (StartupPhase phase : StartupPhase.values()) {
+            startupPhases.put(phase, new AtomicLong());
+        }
+    }
+
     private void initializeFactoryCounters() {
         factoryCounters.put(FactoryCounter.NON_READY_USAGES, new AtomicLong());
         factoryCounters.put(FactoryCounter.SDK_READY_TIME, new AtomicLong());
@@ -396,5 +437,6 @@ public class InMemoryTelemetryStorage implements TelemetryStorage {
     private void initializePushCounters() {
         pushCounters.put(PushCounterEvent.AUTH_REJECTIONS, new AtomicLong());
         pushCounters.put(PushCounterEvent.TOKEN_REFRESHES, new AtomicLong());
+        pushCounters.put(PushCounterEvent.SPLIT_UPDATES_COALESCED, new AtomicLong());
     }
 }
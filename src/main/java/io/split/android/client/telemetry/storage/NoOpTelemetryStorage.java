@@ -11,6 +11,8 @@ import io.split.android.client.telemetry.model.Method;
 import io.split.android.client.telemetry.model.MethodExceptions;
 import io.split.android.client.telemetry.model.MethodLatencies;
 import io.split.android.client.telemetry.model.OperationType;
+import io.split.android.client.telemetry.model.StartupPhase;
+import io.split.android.client.telemetry.model.StartupPhases;
 import io.split.android.client.telemetry.model.streaming.StreamingEvent;
 
 public class NoOpTelemetryStorage implements TelemetryStorage {
@@ -61,6 +63,11 @@ public class NoOpTelemetryStorage implements TelemetryStorage {
         return 0;
     }
 
+    @Override
+    public StartupPhases getStartupPhases() {
+        return null;
+    }
+
     @Override
     public void recordNonReadyUsage() {
 
@@ -86,6 +93,11 @@ public class NoOpTelemetryStorage implements TelemetryStorage {
 
     }
 
+    @Override
+    public void recordStartupPhase(StartupPhase phase, long time) {
+
+    }
+
     @Override
     public long getImpressionsStats(ImpressionsDataType type) {
         return 0;
@@ -121,6 +133,11 @@ public class NoOpTelemetryStorage implements TelemetryStorage {
         return 0;
     }
 
+    @Override
+    public long popSplitUpdatesCoalesced() {
+        return 0;
+    }
+
     @Override
     public List<StreamingEvent> popStreamingEvents() {
         return null;
@@ -176,6 +193,11 @@ public class NoOpTelemetryStorage implements TelemetryStorage {
 
     }
 
+    @Override
+    public void recordSplitUpdatesCoalesced(long count) {
+
+    }
+
     @Override
     public void recordStreamingEvents(StreamingEvent streamingEvent) {
 
@@ -43,6 +43,7 @@ public class TelemetryConfigProviderImpl implements TelemetryConfigProvider {
         config.setUrlOverrides(buildUrlOverrides(mSplitClientConfig));
         config.setImpressionsQueueSize(mSplitClientConfig.impressionsQueueSize());
         config.setEventsQueueSize(mSplitClientConfig.eventsQueueSize());
+        config.setStartupPhases(mTelemetryConsumer.getStartupPhases());
 
         return config;
     }
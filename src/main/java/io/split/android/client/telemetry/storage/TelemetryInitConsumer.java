@@ -1,5 +1,7 @@
 package io.split.android.client.telemetry.storage;
 
+import io.split.android.client.telemetry.model.StartupPhases;
+
 public interface TelemetryInitConsumer {
 
     long getNonReadyUsage();
@@ -11,4 +13,6 @@ public interface TelemetryInitConsumer {
     long getTimeUntilReady();
 
     long getTimeUntilReadyFromCache();
+
+    StartupPhases getStartupPhases();
 }
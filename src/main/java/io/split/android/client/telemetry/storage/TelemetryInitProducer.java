@@ -1,5 +1,7 @@
 package io.split.android.client.telemetry.storage;
 
+import io.split.android.client.telemetry.model.StartupPhase;
+
 public interface TelemetryInitProducer {
 
     void recordNonReadyUsage();
@@ -11,4 +13,6 @@ public interface TelemetryInitProducer {
     void recordTimeUntilReady(long time);
 
     void recordTimeUntilReadyFromCache(long timeUntilReadyFromCache);
+
+    void recordStartupPhase(StartupPhase phase, long time);
 }
@@ -25,6 +25,8 @@ public interface TelemetryRuntimeConsumer {
 
     long popTokenRefreshes();
 
+    long popSplitUpdatesCoalesced();
+
     List<StreamingEvent> popStreamingEvents();
 
     List<String> popTags();
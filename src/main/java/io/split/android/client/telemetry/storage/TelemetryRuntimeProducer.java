@@ -23,6 +23,11 @@ public interface TelemetryRuntimeProducer {
 
     void recordTokenRefreshes();
 
+    /**
+     * @param count notifications merged into another one instead of triggering their own fetch
+     */
+    void recordSplitUpdatesCoalesced(long count);
+
     void recordStreamingEvents(StreamingEvent streamingEvent);
 
     void recordSessionLength(long sessionLength);
@@ -57,6 +57,10 @@ public class TelemetryStatsProviderImpl implements TelemetryStatsProvider {
         stats.setHttpErrors(mTelemetryStorageConsumer.popHttpErrors());
         stats.setTokenRefreshes(mTelemetryStorageConsumer.popTokenRefreshes());
         stats.setAuthRejections(mTelemetryStorageConsumer.popAuthRejections());
+        long splitUpdatesCoalesced = mTelemetryStorageConsumer.popSplitUpdatesCoalesced();
+        if (splitUpdatesCoalesced > 0) {
+            stats.setSplitUpdatesCoalesced(splitUpdatesCoalesced);
+        }
         stats.setEventsQueued(mTelemetryStorageConsumer.getEventsStats(EventsDataRecordsEnum.EVENTS_QUEUED));
         stats.setEventsQueued(mTelemetryStorageConsumer.getEventsStats(EventsDataRecordsEnum.EVENTS_DROPPED));
 
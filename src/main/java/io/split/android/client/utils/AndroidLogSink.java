@@ -0,0 +1,37 @@
+package io.split.android.client.utils;
+
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+public class AndroidLogSink implements LogSink {
+
+    @Override
+    public void log(int priority, String tag, String message, @Nullable Throwable throwable) {
+        switch (priority) {
+            case Log.VERBOSE:
+                Log.v(tag, message, throwable);
+                break;
+
+            case Log.DEBUG:
+                Log.d(tag, message, throwable);
+                break;
+
+            case Log.INFO:
+                Log.i(tag, message, throwable);
+                break;
+
+            case Log.WARN:
+                Log.w(tag, message, throwable);
+                break;
+
+            case Log.ERROR:
+                Log.e(tag, message, throwable);
+                break;
+
+            case Log.ASSERT:
+                Log.wtf(tag, message, throwable);
+                break;
+        }
+    }
+}
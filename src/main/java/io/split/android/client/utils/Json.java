@@ -3,11 +3,13 @@ package io.split.android.client.utils;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -33,6 +35,14 @@ public class Json {
         return getNonNullsGsonInstance().toJson(obj);
     }
 
+    public static void toJson(Object obj, Appendable writer) throws JsonIOException {
+        mJson.toJson(obj, writer);
+    }
+
+    public static void toJsonIgnoringNulls(Object obj, Appendable writer) throws JsonIOException {
+        getNonNullsGsonInstance().toJson(obj, writer);
+    }
+
     public static <T> T fromJson(String json, Type typeOfT) throws JsonSyntaxException {
         return mJson.fromJson(json, typeOfT);
     }
@@ -47,6 +57,13 @@ public class Json {
         return mJson.fromJson(json, clz);
     }
 
+    /**
+     * Reads the next value from the reader, leaving it positioned after it.
+     */
+    public static <T> T fromJson(JsonReader reader, Class<T> clz) throws JsonIOException, JsonSyntaxException {
+        return mJson.fromJson(reader, clz);
+    }
+
     public static Map<String, Object> genericValueMapFromJson(String json, Type attributesMapType) {
         Map<String, Object> map = mJson.fromJson(json, attributesMapType);
 
@@ -0,0 +1,9 @@
+package io.split.android.client.utils;
+
+/**
+ * Builds a log message only when its level is enabled.
+ */
+public interface LogMessageSupplier {
+
+    String getMessage();
+}
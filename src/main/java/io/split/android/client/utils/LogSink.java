@@ -0,0 +1,14 @@
+package io.split.android.client.utils;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Destination of the SDK logs. By default they are written to Logcat.
+ */
+public interface LogSink {
+
+    /**
+     * @param priority One of the {@link android.util.Log} priority constants
+     */
+    void log(int priority, String tag, String message, @Nullable Throwable throwable);
+}
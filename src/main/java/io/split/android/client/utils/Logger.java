@@ -2,63 +2,62 @@ package io.split.android.client.utils;
 
 import android.util.Log;
 
+import androidx.annotation.NonNull;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * Created by sarrubia on 2/20/18.
+ *
+ * Level checks only read volatile fields, so disabled logs don't take any lock.
+ * Messages with format arguments or a {@link LogMessageSupplier} are only built
+ * when their level is enabled.
  */
 
 public class Logger {
 
     private static final String TAG = "SplitSDK";
-    private boolean _debugLevel = false;
-    private static Logger instance;
+    private static final Logger instance = new Logger();
+    private static volatile boolean _debugLevel = false;
+    private static volatile LogSink _sink = new AndroidLogSink();
 
     private Logger(){}
 
-    public static synchronized Logger instance(){
-        if(instance == null){
-            synchronized (Logger.class) { // double checked locking principle to improve performance
-                if(instance == null){
-                    instance = new Logger();
-                }
-            }
-        }
+    public static Logger instance(){
         return instance;
     }
 
-    public synchronized void debugLevel(boolean enabled) {
+    public void debugLevel(boolean enabled) {
         _debugLevel = enabled;
     }
 
-    private void log(int priority, String msg, Throwable tr){
-        switch (priority) {
-            case Log.VERBOSE:
-                if(_debugLevel) {
-                    Log.v(TAG, msg, tr);
-                }
-                break;
-
-            case Log.DEBUG:
-                if(_debugLevel) {
-                    Log.d(TAG, msg, tr);
-                }
-                break;
+    public static boolean isDebugEnabled() {
+        return _debugLevel;
+    }
 
-            case Log.INFO:
-                Log.i(TAG, msg, tr);
-                break;
+    public static void setSink(@NonNull LogSink sink) {
+        _sink = checkNotNull(sink);
+    }
 
-            case Log.WARN:
-                Log.w(TAG, msg, tr);
-                break;
+    private static boolean isEnabled(int priority) {
+        return _debugLevel || priority > Log.DEBUG;
+    }
 
-            case Log.ERROR:
-                Log.e(TAG, msg, tr);
-                break;
+    private static void log(int priority, String msg, Throwable tr){
+        if (isEnabled(priority)) {
+            _sink.log(priority, TAG, msg, tr);
+        }
+    }
 
-            case Log.ASSERT:
-                Log.wtf(TAG, msg, tr);
-                break;
+    private static void log(int priority, Throwable tr, String msg, Object[] args){
+        if (isEnabled(priority)) {
+            _sink.log(priority, TAG, formatMessage(msg, args), tr);
+        }
+    }
 
+    private static void log(int priority, LogMessageSupplier supplier){
+        if (isEnabled(priority)) {
+            _sink.log(priority, TAG, supplier.getMessage(), null);
         }
     }
 
@@ -70,86 +69,94 @@ public class Logger {
     }
 
     public static void v(String msg, Object... args){
-        v(formatMessage(msg,args));
+        log(Log.VERBOSE, null, msg, args);
     }
 
     public static void v(String msg){
-        instance().log(Log.VERBOSE, msg, null);
+        log(Log.VERBOSE, msg, null);
     }
 
     public static void v(String msg, Throwable tr){
-        instance().log(Log.VERBOSE, msg, tr);
+        log(Log.VERBOSE, msg, tr);
+    }
+
+    public static void v(LogMessageSupplier supplier){
+        log(Log.VERBOSE, supplier);
     }
 
     public static void d(String msg, Object... args){
-        d(formatMessage(msg,args));
+        log(Log.DEBUG, null, msg, args);
     }
 
     public static void d(String msg){
-        instance().log(Log.DEBUG, msg, null);
+        log(Log.DEBUG, msg, null);
     }
 
     public static void d(String msg, Throwable tr){
-        instance().log(Log.DEBUG, msg, tr);
+        log(Log.DEBUG, msg, tr);
+    }
+
+    public static void d(LogMessageSupplier supplier){
+        log(Log.DEBUG, supplier);
     }
 
     public static void i(String msg, Object... args){
-        i(formatMessage(msg,args));
+        log(Log.INFO, null, msg, args);
     }
 
     public static void i(String msg){
-        instance().log(Log.INFO, msg, null);
+        log(Log.INFO, msg, null);
     }
 
     public static void i(String msg, Throwable tr){
-        instance().log(Log.INFO, msg, tr);
+        log(Log.INFO, msg, tr);
     }
 
     public static void w(String msg, Object... args){
-        w(formatMessage(msg,args));
+        log(Log.WARN, null, msg, args);
     }
 
     public static void w(Throwable tr, String msg, Object... args ){
-        w(formatMessage(msg,args), tr);
+        log(Log.WARN, tr, msg, args);
     }
 
     public static void w(String msg){
-        instance().log(Log.WARN, msg, null);
+        log(Log.WARN, msg, null);
     }
 
     public static void w(String msg, Throwable tr){
-        instance().log(Log.WARN, msg, tr);
+        log(Log.WARN, msg, tr);
     }
 
     public static void e(String msg, Object... args){
-        e(formatMessage(msg,args));
+        log(Log.ERROR, null, msg, args);
     }
 
     public static void e(Throwable tr, String msg, Object... args ){
-        e(formatMessage(msg,args), tr);
+        log(Log.ERROR, tr, msg, args);
     }
 
     public static void e(String msg){
-        instance().log(Log.ERROR, msg, null);
+        log(Log.ERROR, msg, null);
     }
 
     public static void e(String msg, Throwable tr){
-        instance().log(Log.ERROR, msg, tr);
+        log(Log.ERROR, msg, tr);
     }
 
     public static void e(Throwable tr){
-        instance().log(Log.ERROR, "", tr);
+        log(Log.ERROR, "", tr);
     }
 
     public static void wtf(String msg, Object... args){
-        wtf(formatMessage(msg,args));
+        log(Log.ASSERT, null, msg, args);
     }
 
     public static void wtf(String msg){
-        instance().log(Log.ASSERT, msg, null);
+        log(Log.ASSERT, msg, null);
     }
 
     public static void wtf(String msg, Throwable tr){
-        instance().log(Log.ASSERT, msg, tr);
+        log(Log.ASSERT, msg, tr);
     }
 }
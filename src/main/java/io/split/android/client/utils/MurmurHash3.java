@@ -30,6 +30,133 @@ public final class MurmurHash3 {
         public long val2;
     }
 
+    /**
+     * Incremental version of {@link #murmurhash3_x86_32(CharSequence, int, int, int)}.
+     * Feeding chars one by one produces the same hash as hashing their concatenation,
+     * without having to build the concatenated string.
+     * Instances are not thread safe.
+     */
+    public static final class StreamingX86_32 {
+        private static final int NO_SURROGATE = -1;
+
+        private int h1;
+        private int k1;
+        private int shift;
+        private int nBytes;
+        private int pendingSurrogate;
+
+        public StreamingX86_32 reset(int seed) {
+            h1 = seed;
+            k1 = 0;
+            shift = 0;
+            nBytes = 0;
+            pendingSurrogate = NO_SURROGATE;
+            return this;
+        }
+
+        public StreamingX86_32 update(CharSequence data) {
+            for (int i = 0; i < data.length(); i++) {
+                update(data.charAt(i));
+            }
+            return this;
+        }
+
+        public StreamingX86_32 update(char c) {
+            int code = c;
+            if (pendingSurrogate != NO_SURROGATE) {
+                // Same as the one shot version, the char following a surrogate
+                // is always consumed as its pair
+                int utf32 = ((pendingSurrogate - 0xD7C0) << 10) + (code & 0x3FF);
+                pendingSurrogate = NO_SURROGATE;
+                mix((0xff & (0xF0 | (utf32 >> 18)))
+                        | ((0x80 | ((utf32 >> 12) & 0x3F))) << 8
+                        | ((0x80 | ((utf32 >> 6) & 0x3F))) << 16
+                        | (0x80 | (utf32 & 0x3F)) << 24, 32);
+            } else if (code < 0x80) {
+                mix(code, 8);
+            } else if (code < 0x800) {
+                mix((0xC0 | (code >> 6))
+                        | ((0x80 | (code & 0x3F)) << 8), 16);
+            } else if (code < 0xD800 || code > 0xDFFF) {
+                mixThreeBytes(code);
+            } else {
+                pendingSurrogate = code;
+            }
+            return this;
+        }
+
+        /**
+         * Same as updating with the decimal representation of the value, using ASCII digits.
+         */
+        public StreamingX86_32 updateDecimal(long value) {
+            // Digits are computed over the negative value so Long.MIN_VALUE doesn't overflow
+            if (value < 0) {
+                update('-');
+            } else {
+                value = -value;
+            }
+            long divisor = 1;
+            while (value / divisor <= -10) {
+                divisor *= 10;
+            }
+            while (divisor > 0) {
+                update((char) ('0' - (value / divisor) % 10));
+                divisor /= 10;
+            }
+            return this;
+        }
+
+        public long finish() {
+            if (pendingSurrogate != NO_SURROGATE) {
+                // unpaired surrogate at the end is encoded as 3 bytes
+                mixThreeBytes(pendingSurrogate);
+                pendingSurrogate = NO_SURROGATE;
+            }
+
+            int h = h1;
+            int n = nBytes;
+            if (shift > 0) {
+                n += shift >> 3;
+                int k = k1;
+                k *= 0xcc9e2d51;
+                k = (k << 15) | (k >>> 17);
+                k *= 0x1b873593;
+                h ^= k;
+            }
+
+            h ^= n;
+            return fmix32(h) & 0xFFFFFFFFL;
+        }
+
+        private void mixThreeBytes(int code) {
+            mix((0xE0 | (code >> 12))
+                    | ((0x80 | ((code >> 6) & 0x3F)) << 8)
+                    | ((0x80 | (code & 0x3F)) << 16), 24);
+        }
+
+        private void mix(int k2, int bits) {
+            k1 |= k2 << shift;
+            shift += bits;
+            if (shift >= 32) {
+                k1 *= 0xcc9e2d51;
+                k1 = (k1 << 15) | (k1 >>> 17);
+                k1 *= 0x1b873593;
+
+                h1 ^= k1;
+                h1 = (h1 << 13) | (h1 >>> 19);
+                h1 = h1 * 5 + 0xe6546b64;
+
+                shift -= 32;
+                if (shift != 0) {
+                    k1 = k2 >>> (bits - shift);
+                } else {
+                    k1 = 0;
+                }
+                nBytes += 4;
+            }
+        }
+    }
+
     public static int fmix32(int h) {
         h ^= h >>> 16;
         h *= 0x85ebca6b;
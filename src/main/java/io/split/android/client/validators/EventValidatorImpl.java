@@ -2,6 +2,11 @@ package io.split.android.client.validators;
 
 import com.google.common.base.Strings;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 import io.split.android.client.dtos.Event;
 import io.split.android.client.storage.splits.SplitsStorage;
 
@@ -10,7 +15,13 @@ import io.split.android.client.storage.splits.SplitsStorage;
  */
 public class EventValidatorImpl implements EventValidator {
 
+    // Names that passed validation are remembered so that later events skip the checks
+    private static final int MAX_CACHED_NAMES = 1000;
+
     private final String TYPE_REGEX = ValidationConfig.getInstance().getTrackEventNamePattern();
+    private final Pattern mTypePattern = Pattern.compile(TYPE_REGEX);
+    private final Set<String> mValidEventTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Set<String> mValidTrafficTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     private KeyValidator mKeyValidator;
     private final SplitsStorage mSplitsStorage;
 
@@ -31,43 +42,87 @@ public class EventValidatorImpl implements EventValidator {
             return errorInfo;
         }
 
-        if (event.trafficTypeName == null) {
+        ValidationErrorInfo trafficTypeErrorInfo = validateTrafficTypeName(event.trafficTypeName);
+        if (trafficTypeErrorInfo != null) {
+            return trafficTypeErrorInfo;
+        }
+
+        ValidationErrorInfo eventTypeErrorInfo = validateEventTypeId(event.eventTypeId);
+        if (eventTypeErrorInfo != null) {
+            return eventTypeErrorInfo;
+        }
+
+        if (hasUppercaseChars(event.trafficTypeName)) {
+            errorInfo = new ValidationErrorInfo(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_HAS_UPPERCASE_CHARS, "traffic_type_name should be all lowercase - converting string to lowercase", true);
+        }
+
+        if (validateTrafficType && !mSplitsStorage.isValidTrafficType(event.trafficTypeName)) {
+            String message = "Traffic Type " + event.trafficTypeName + " does not have any corresponding Splits in this environment, "
+                    + "make sure you’re tracking your events to a valid traffic type defined in the Split console";
+            if(errorInfo == null) {
+                errorInfo = new ValidationErrorInfo(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_WITHOUT_SPLIT_IN_ENVIRONMENT, message, true);
+            } else {
+                errorInfo.addWarning(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_WITHOUT_SPLIT_IN_ENVIRONMENT, message);
+            }
+        }
+
+        return errorInfo;
+    }
+
+    private ValidationErrorInfo validateTrafficTypeName(String trafficTypeName) {
+        if (trafficTypeName == null) {
             return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed a null or undefined traffic_type_name, traffic_type_name must be a non-empty string");
         }
 
-        if (Strings.isNullOrEmpty(event.trafficTypeName.trim())) {
+        if (mValidTrafficTypes.contains(trafficTypeName)) {
+            return null;
+        }
+
+        if (Strings.isNullOrEmpty(trafficTypeName.trim())) {
             return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed an empty traffic_type_name, traffic_type_name must be a non-empty string");
         }
 
-        if (event.eventTypeId == null) {
+        cache(mValidTrafficTypes, trafficTypeName);
+        return null;
+    }
+
+    private ValidationErrorInfo validateEventTypeId(String eventTypeId) {
+        if (eventTypeId == null) {
             return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed a null or undefined event_type, event_type must be a non-empty String");
         }
 
-        if (Strings.isNullOrEmpty(event.eventTypeId.trim())) {
+        if (mValidEventTypes.contains(eventTypeId)) {
+            return null;
+        }
+
+        if (Strings.isNullOrEmpty(eventTypeId.trim())) {
             return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed an empty event_type, event_type must be a non-empty String");
         }
 
-        if (!event.eventTypeId.matches(TYPE_REGEX)) {
-            return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed " + event.eventTypeId
+        if (!mTypePattern.matcher(eventTypeId).matches()) {
+            return new ValidationErrorInfo(ValidationErrorInfo.ERROR_SOME, "you passed " + eventTypeId
             + ", event name must adhere to the regular expression " + TYPE_REGEX
                     + ". This means an event name must be alphanumeric, cannot be more than 80 characters long, and can only include a dash, "
                     + " underscore, period, or colon as separators of alphanumeric characters.");
         }
 
-        if(!event.trafficTypeName.toLowerCase().equals(event.trafficTypeName)) {
-            errorInfo = new ValidationErrorInfo(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_HAS_UPPERCASE_CHARS, "traffic_type_name should be all lowercase - converting string to lowercase", true);
+        cache(mValidEventTypes, eventTypeId);
+        return null;
+    }
+
+    private static void cache(Set<String> validNames, String name) {
+        if (validNames.size() < MAX_CACHED_NAMES) {
+            validNames.add(name);
         }
+    }
 
-        if (validateTrafficType && !mSplitsStorage.isValidTrafficType(event.trafficTypeName)) {
-            String message = "Traffic Type " + event.trafficTypeName + " does not have any corresponding Splits in this environment, "
-                    + "make sure you’re tracking your events to a valid traffic type defined in the Split console";
-            if(errorInfo == null) {
-                errorInfo = new ValidationErrorInfo(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_WITHOUT_SPLIT_IN_ENVIRONMENT, message, true);
-            } else {
-                errorInfo.addWarning(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_WITHOUT_SPLIT_IN_ENVIRONMENT, message);
+    private static boolean hasUppercaseChars(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != Character.toLowerCase(c)) {
+                return true;
             }
         }
-
-        return errorInfo;
+        return false;
     }
 }
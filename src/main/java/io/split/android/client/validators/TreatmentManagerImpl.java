@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import androidx.annotation.NonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,7 @@ import io.split.android.client.attributes.AttributesMerger;
 import io.split.android.client.events.ISplitEventsManager;
 import io.split.android.client.events.ListenableEventsManager;
 import io.split.android.client.events.SplitEvent;
+import io.split.android.client.impressions.BatchImpressionListener;
 import io.split.android.client.impressions.Impression;
 import io.split.android.client.impressions.ImpressionListener;
 import io.split.android.client.telemetry.model.Method;
@@ -219,7 +221,7 @@ public class TreatmentManagerImpl implements TreatmentManager {
             return results;
         }
 
-        Map<String, Object> mergedAttributes = mAttributesMerger.merge(mAttributesManager.getAllAttributes(), attributes);
+        List<String> splitNames = new ArrayList<>(splits.size());
         for (String split : splits) {
             errorInfo = mSplitValidator.validateName(split);
             if (errorInfo != null) {
@@ -228,25 +230,38 @@ public class TreatmentManagerImpl implements TreatmentManager {
                     continue;
                 }
                 mValidationLogger.w(errorInfo, validationTag);
+                split = split.trim();
             }
+            splitNames.add(split);
+        }
 
-            EvaluationResult result = evaluateIfReady(split.trim(), mergedAttributes, validationTag);
-            results.put(split.trim(), new SplitResult(result.getTreatment(), result.getConfigurations()));
+        Map<String, EvaluationResult> evaluationResults;
+        if (isSdkReady()) {
+            Map<String, Object> mergedAttributes = mAttributesMerger.merge(mAttributesManager.getAllAttributes(), attributes);
+            evaluationResults = mEvaluator.getTreatments(mMatchingKey, mBucketingKey, splitNames, mergedAttributes);
+        } else {
+            evaluationResults = new HashMap<>();
+            for (String splitName : splitNames) {
+                evaluationResults.put(splitName, notReadyResult(validationTag));
+            }
+        }
+
+        List<Impression> impressions = new ArrayList<>(evaluationResults.size());
+        long timestamp = System.currentTimeMillis();
+        for (Map.Entry<String, EvaluationResult> entry : evaluationResults.entrySet()) {
+            String splitName = entry.getKey();
+            EvaluationResult result = entry.getValue();
+            results.put(splitName, new SplitResult(result.getTreatment(), result.getConfigurations()));
 
             if (result.getLabel().equals(TreatmentLabels.DEFINITION_NOT_FOUND)) {
-                mValidationLogger.w(mSplitValidator.splitNotFoundMessage(split), validationTag);
+                mValidationLogger.w(mSplitValidator.splitNotFoundMessage(splitName), validationTag);
                 continue;
             }
 
-            logImpression(
-                    mMatchingKey,
-                    mBucketingKey,
-                    split,
-                    result.getTreatment(),
-                    (mLabelsEnabled ? result.getLabel() : null),
-                    result.getChangeNumber(),
-                    attributes);
+            impressions.add(new Impression(mMatchingKey, mBucketingKey, splitName, result.getTreatment(), timestamp,
+                    (mLabelsEnabled ? result.getLabel() : null), result.getChangeNumber(), attributes));
         }
+        logImpressions(impressions);
 
         return results;
     }
@@ -259,6 +274,24 @@ public class TreatmentManagerImpl implements TreatmentManager {
         }
     }
 
+    private void logImpressions(List<Impression> impressions) {
+        if (impressions.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (mImpressionListener instanceof BatchImpressionListener) {
+                ((BatchImpressionListener) mImpressionListener).log(impressions);
+            } else {
+                for (Impression impression : impressions) {
+                    mImpressionListener.log(impression);
+                }
+            }
+        } catch (Throwable t) {
+            Logger.e(t);
+        }
+    }
+
     private Map<String, SplitResult> controlTreatmentsForSplitsWithConfig(List<String> splits, String validationTag) {
         return TreatmentManagerHelper.controlTreatmentsForSplitsWithConfig(splits, mSplitValidator, validationTag, mValidationLogger);
     }
@@ -270,16 +303,24 @@ public class TreatmentManagerImpl implements TreatmentManager {
 
     private EvaluationResult evaluateIfReady(String splitName,
                                              Map<String, Object> attributes, String validationTag) {
-        if (!mEventsManager.eventAlreadyTriggered(SplitEvent.SDK_READY) &&
-                !mEventsManager.eventAlreadyTriggered(SplitEvent.SDK_READY_FROM_CACHE)) {
-            mValidationLogger.w("the SDK is not ready, results may be incorrect. Make sure to wait for SDK readiness before using this method", validationTag);
-            mTelemetryStorageProducer.recordNonReadyUsage();
-
-            return new EvaluationResult(Treatments.CONTROL, TreatmentLabels.NOT_READY, null, null);
+        if (!isSdkReady()) {
+            return notReadyResult(validationTag);
         }
         return mEvaluator.getTreatment(mMatchingKey, mBucketingKey, splitName, attributes);
     }
 
+    private boolean isSdkReady() {
+        return mEventsManager.eventAlreadyTriggered(SplitEvent.SDK_READY) ||
+                mEventsManager.eventAlreadyTriggered(SplitEvent.SDK_READY_FROM_CACHE);
+    }
+
+    private EvaluationResult notReadyResult(String validationTag) {
+        mValidationLogger.w("the SDK is not ready, results may be incorrect. Make sure to wait for SDK readiness before using this method", validationTag);
+        mTelemetryStorageProducer.recordNonReadyUsage();
+
+        return new EvaluationResult(Treatments.CONTROL, TreatmentLabels.NOT_READY, null, null);
+    }
+
     private void recordLatency(Method treatment, long startTime) {
         mTelemetryStorageProducer.recordLatency(treatment, System.currentTimeMillis() - startTime);
     }
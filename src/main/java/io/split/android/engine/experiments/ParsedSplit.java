@@ -2,6 +2,9 @@ package io.split.android.engine.experiments;
 
 import com.google.common.collect.ImmutableList;
 
+import io.split.android.engine.matchers.AttributeMatcher;
+import io.split.android.engine.matchers.DependencyMatcher;
+
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +28,7 @@ public class ParsedSplit {
     private final int _trafficAllocationSeed;
     private final int _algo;
     private final Map<String, String> _configurations;
+    private final boolean _hasDependencies;
 
     public ParsedSplit(
             String feature,
@@ -48,6 +52,7 @@ public class ParsedSplit {
         _changeNumber = changeNumber;
         _algo = algo;
         _configurations = configurations;
+        _hasDependencies = hasDependencyMatcher(_parsedCondition);
 
         if (_defaultTreatment == null) {
             throw new IllegalArgumentException("DefaultTreatment is null");
@@ -101,6 +106,28 @@ public class ParsedSplit {
         return _configurations;
     }
 
+    /**
+     * @return true if any condition depends on the treatment of another split.
+     */
+    public boolean hasDependencies() {
+        return _hasDependencies;
+    }
+
+    private static boolean hasDependencyMatcher(List<ParsedCondition> conditions) {
+        for (ParsedCondition condition : conditions) {
+            if (condition == null || condition.matcher() == null) {
+                continue;
+            }
+            for (AttributeMatcher attributeMatcher : condition.matcher().attributeMatchers()) {
+                if (attributeMatcher.matcher() instanceof AttributeMatcher.NegatableMatcher
+                        && ((AttributeMatcher.NegatableMatcher) attributeMatcher.matcher()).delegate() instanceof DependencyMatcher) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public int hashCode() {
         int result = 17;
@@ -0,0 +1,62 @@
+package io.split.android.engine.experiments;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.split.android.client.dtos.Split;
+
+/**
+ * Keeps the compiled version of each split so that evaluations don't have to
+ * rebuild conditions and matchers on every call.
+ * Entries are keyed by split name and are only valid for the exact {@link Split}
+ * instance and change number they were compiled from. When the splits storage replaces
+ * or removes a split the entry is ignored and replaced on next access.
+ */
+public class ParsedSplitsCache {
+
+    private final Map<String, Entry> mCache = new ConcurrentHashMap<>();
+
+    /**
+     * @return the cached {@link ParsedSplit} for this split, or null if it was never compiled
+     * or the cached version is outdated.
+     */
+    @Nullable
+    public ParsedSplit get(@NonNull Split split) {
+        Entry entry = mCache.get(split.name);
+        if (entry == null || entry.source != split || entry.changeNumber != split.changeNumber) {
+            return null;
+        }
+        return entry.parsedSplit;
+    }
+
+    public void put(@NonNull Split split, @NonNull ParsedSplit parsedSplit) {
+        mCache.put(split.name, new Entry(split, parsedSplit));
+    }
+
+    public void remove(@NonNull String splitName) {
+        mCache.remove(splitName);
+    }
+
+    public void clear() {
+        mCache.clear();
+    }
+
+    public int size() {
+        return mCache.size();
+    }
+
+    private static final class Entry {
+        private final Split source;
+        private final long changeNumber;
+        private final ParsedSplit parsedSplit;
+
+        Entry(Split source, ParsedSplit parsedSplit) {
+            this.source = source;
+            this.changeNumber = source.changeNumber;
+            this.parsedSplit = parsedSplit;
+        }
+    }
+}
@@ -7,15 +7,19 @@ import androidx.annotation.Nullable;
 
 import com.google.common.collect.Lists;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import io.split.android.client.dtos.Condition;
 import io.split.android.client.dtos.Matcher;
+import io.split.android.client.dtos.MatcherCombiner;
 import io.split.android.client.dtos.MatcherGroup;
 import io.split.android.client.dtos.Partition;
 import io.split.android.client.dtos.Split;
 import io.split.android.client.dtos.Status;
-import io.split.android.client.storage.mysegments.EmptyMySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
 import io.split.android.client.utils.Logger;
 import io.split.android.engine.matchers.AllKeysMatcher;
@@ -27,6 +31,7 @@ import io.split.android.engine.matchers.DependencyMatcher;
 import io.split.android.engine.matchers.EqualToMatcher;
 import io.split.android.engine.matchers.GreaterThanOrEqualToMatcher;
 import io.split.android.engine.matchers.LessThanOrEqualToMatcher;
+import io.split.android.engine.matchers.MatcherCost;
 import io.split.android.engine.matchers.MySegmentsMatcher;
 import io.split.android.engine.matchers.collections.ContainsAllOfSetMatcher;
 import io.split.android.engine.matchers.collections.ContainsAnyOfSetMatcher;
@@ -42,32 +47,74 @@ public class SplitParser {
 
     public static final int CONDITIONS_UPPER_LIMIT = 50;
 
+    private static final Comparator<Matcher> MATCHER_COST_COMPARATOR = new Comparator<Matcher>() {
+        @Override
+        public int compare(Matcher m1, Matcher m2) {
+            return Integer.compare(MatcherCost.of(m1.matcherType), MatcherCost.of(m2.matcherType));
+        }
+    };
+
     private final MySegmentsStorageContainer mMySegmentsStorageContainer;
+    private final boolean mOrderMatchersByCost;
+
+    // Segments are only read on evaluation, so validating doesn't need a container
+    private static final SplitParser VALIDATION_PARSER = new SplitParser(new MySegmentsStorageContainer() {
+        @Override
+        public MySegmentsStorage getStorageForKey(String matchingKey) {
+            return null;
+        }
+
+        @Override
+        public MySegmentsStorage getStorageIfPresent(String matchingKey) {
+            return null;
+        }
+
+        @Override
+        public long getUniqueAmount() {
+            return 0;
+        }
+    }, false);
 
     public static SplitParser get(MySegmentsStorageContainer mySegmentsStorageContainer) {
         return new SplitParser(mySegmentsStorageContainer);
     }
 
     public SplitParser(MySegmentsStorageContainer mySegmentsStorageContainer) {
-        mMySegmentsStorageContainer = checkNotNull(mySegmentsStorageContainer);
+        this(mySegmentsStorageContainer, true);
     }
 
-    @Nullable
-    public ParsedSplit parse(@Nullable Split split) {
-        return parse(split, null);
+    /**
+     * @param orderMatchersByCost when true, matchers combined with AND are sorted using
+     *                            {@link MatcherCost} so that cheap ones are evaluated first.
+     */
+    public SplitParser(MySegmentsStorageContainer mySegmentsStorageContainer, boolean orderMatchersByCost) {
+        mMySegmentsStorageContainer = checkNotNull(mySegmentsStorageContainer);
+        mOrderMatchersByCost = orderMatchersByCost;
     }
 
     @Nullable
-    public ParsedSplit parse(@Nullable Split split, @Nullable String matchingKey) {
+    public ParsedSplit parse(@Nullable Split split) {
         try {
-            return parseWithoutExceptionHandling(split, matchingKey);
+            return parseWithoutExceptionHandling(split);
         } catch (Throwable t) {
             Logger.e(t, "Could not parse split: %s", split);
             return null;
         }
     }
 
-    private ParsedSplit parseWithoutExceptionHandling(Split split, String matchingKey) {
+    /**
+     * Checks if {@link #parse} accepts the split, applying the same checks
+     * to every condition and matcher, without keeping the result.
+     */
+    public static boolean canParse(@Nullable Split split) {
+        try {
+            return VALIDATION_PARSER.parseWithoutExceptionHandling(split) != null;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private ParsedSplit parseWithoutExceptionHandling(Split split) {
         if (split == null) {
             return null;
         }
@@ -86,27 +133,33 @@ public class SplitParser {
 
         for (Condition condition : split.conditions) {
             List<Partition> partitions = condition.partitions;
-            CombiningMatcher matcher = toMatcher(condition.matcherGroup, matchingKey);
+            CombiningMatcher matcher = toMatcher(condition.matcherGroup);
             parsedConditionList.add(new ParsedCondition(condition.conditionType, matcher, partitions, condition.label));
         }
 
         return new ParsedSplit(split.name, split.seed, split.killed, split.defaultTreatment, parsedConditionList, split.trafficTypeName, split.changeNumber, split.trafficAllocation, split.trafficAllocationSeed, split.algo, split.configurations);
     }
 
-    private CombiningMatcher toMatcher(MatcherGroup matcherGroup, String matchingKey) {
+    private CombiningMatcher toMatcher(MatcherGroup matcherGroup) {
         List<Matcher> matchers = matcherGroup.matchers;
         checkArgument(!matchers.isEmpty());
 
+        if (mOrderMatchersByCost && matchers.size() > 1 && matcherGroup.combiner == MatcherCombiner.AND) {
+            // Stable sort, matchers with the same cost keep their original order
+            matchers = new ArrayList<>(matchers);
+            Collections.sort(matchers, MATCHER_COST_COMPARATOR);
+        }
+
         List<AttributeMatcher> toCombine = Lists.newArrayList();
 
         for (Matcher matcher : matchers) {
-            toCombine.add(toMatcher(matcher, matchingKey));
+            toCombine.add(toMatcher(matcher));
         }
 
         return new CombiningMatcher(matcherGroup.combiner, toCombine);
     }
 
-    private AttributeMatcher toMatcher(Matcher matcher, String matchingKey) {
+    private AttributeMatcher toMatcher(Matcher matcher) {
         io.split.android.engine.matchers.Matcher delegate;
         switch (matcher.matcherType) {
             case ALL_KEYS:
@@ -114,7 +167,7 @@ public class SplitParser {
                 break;
             case IN_SEGMENT:
                 checkNotNull(matcher.userDefinedSegmentMatcherData);
-                delegate = new MySegmentsMatcher((matchingKey != null) ? mMySegmentsStorageContainer.getStorageForKey(matchingKey) : new EmptyMySegmentsStorage(), matcher.userDefinedSegmentMatcherData.segmentName);
+                delegate = new MySegmentsMatcher(mMySegmentsStorageContainer, matcher.userDefinedSegmentMatcherData.segmentName);
                 break;
             case WHITELIST:
                 checkNotNull(matcher.whitelistMatcherData);
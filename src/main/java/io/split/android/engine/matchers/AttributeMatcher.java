@@ -8,7 +8,8 @@ public final class AttributeMatcher {
 
     private final String _attribute;
     private final Matcher _matcher;
-
+    // Segments belong to the matching key, never to an attribute value
+    private final boolean _matchesKey;
 
     public static AttributeMatcher vanilla(Matcher matcher) {
         return new AttributeMatcher(null, matcher, false);
@@ -20,6 +21,7 @@ public final class AttributeMatcher {
             throw new IllegalArgumentException("Null matcher");
         }
         _matcher = new NegatableMatcher(matcher, negate);
+        _matchesKey = matcher instanceof MySegmentsMatcher;
     }
 
     public boolean match(String key, String bucketingKey, Map<String, Object> attributes, Evaluator evaluator) {
@@ -36,8 +38,7 @@ public final class AttributeMatcher {
             return false;
         }
 
-
-        return _matcher.match(value, bucketingKey, null, null);
+        return _matcher.match(_matchesKey ? key : value, bucketingKey, null, null);
     }
 
     @Override
@@ -0,0 +1,58 @@
+package io.split.android.engine.matchers;
+
+import androidx.annotation.Nullable;
+
+import io.split.android.client.dtos.MatcherType;
+
+/**
+ * Static estimation of how expensive a matcher is to evaluate.
+ * Used to run cheap checks first when combining matchers with AND.
+ * All matchers are side effect free, so their order doesn't change the result.
+ */
+public final class MatcherCost {
+
+    private static final int CONSTANT = 0;
+    private static final int SIMPLE_COMPARISON = 1;
+    private static final int STRING_SCAN = 2;
+    private static final int COLLECTION = 3;
+    private static final int SEGMENT_LOOKUP = 4;
+    private static final int REGULAR_EXPRESSION = 5;
+    private static final int DEPENDENCY = 6;
+
+    private MatcherCost() {
+    }
+
+    public static int of(@Nullable MatcherType matcherType) {
+        if (matcherType == null) {
+            return DEPENDENCY;
+        }
+
+        switch (matcherType) {
+            case ALL_KEYS:
+                return CONSTANT;
+            case WHITELIST:
+            case EQUAL_TO:
+            case GREATER_THAN_OR_EQUAL_TO:
+            case LESS_THAN_OR_EQUAL_TO:
+            case BETWEEN:
+            case EQUAL_TO_BOOLEAN:
+                return SIMPLE_COMPARISON;
+            case STARTS_WITH:
+            case ENDS_WITH:
+            case CONTAINS_STRING:
+                return STRING_SCAN;
+            case EQUAL_TO_SET:
+            case CONTAINS_ANY_OF_SET:
+            case CONTAINS_ALL_OF_SET:
+            case PART_OF_SET:
+                return COLLECTION;
+            case IN_SEGMENT:
+                return SEGMENT_LOOKUP;
+            case MATCHES_STRING:
+                return REGULAR_EXPRESSION;
+            case IN_SPLIT_TREATMENT:
+            default:
+                return DEPENDENCY;
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.util.Set;
 
 import io.split.android.client.Evaluator;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsSnapshot;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
+import io.split.android.client.storage.mysegments.SegmentIds;
 
 /**
  * Created by guillermo on 12/12/17.
@@ -14,15 +16,41 @@ import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
 public class MySegmentsMatcher implements Matcher {
 
     private final String mSegmentName;
-    private final MySegmentsStorage mMySegmentsStorage;
+    private final int mSegmentId;
+    private final MySegmentsStorageContainer mMySegmentsStorageContainer;
 
-    public MySegmentsMatcher(MySegmentsStorage mySegmentsStorage, String segmentName) {
-        mMySegmentsStorage = mySegmentsStorage;
+    /**
+     * The storage is resolved for the evaluated matching key on each match, so the same
+     * matcher instance can be shared by every client of the factory.
+     * The segment id is resolved once, when the split is parsed.
+     * When used on an attribute, {@link AttributeMatcher} still passes the matching key.
+     */
+    public MySegmentsMatcher(MySegmentsStorageContainer mySegmentsStorageContainer, String segmentName) {
+        mMySegmentsStorageContainer = mySegmentsStorageContainer;
         mSegmentName = segmentName;
+        mSegmentId = (segmentName != null) ? SegmentIds.idFor(segmentName) : -1;
     }
 
     @Override
     public boolean match(Object matchValue, String bucketingKey, Map<String, Object> attributes, Evaluator evaluator) {
-        return mMySegmentsStorage.getAll().contains(mSegmentName);
+        if (!(matchValue instanceof String)) {
+            return false;
+        }
+
+        MySegmentsStorage mySegmentsStorage = mMySegmentsStorageContainer.getStorageIfPresent((String) matchValue);
+        if (mySegmentsStorage == null) {
+            return false;
+        }
+
+        Set<String> segments = mySegmentsStorage.getAll();
+        if (segments instanceof MySegmentsSnapshot) {
+            return ((MySegmentsSnapshot) segments).containsId(mSegmentId);
+        }
+        return segments.contains(mSegmentName);
+    }
+
+    @Override
+    public String toString() {
+        return "in segment " + mSegmentName;
     }
 }
@@ -1,8 +1,13 @@
 package io.split.android.engine.scheduler;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 
 public interface PausableScheduledThreadPoolExecutor extends ScheduledExecutorService {
     void pause();
     void resume();
+
+    int getPoolSize();
+    int getActiveCount();
+    BlockingQueue<Runnable> getQueue();
 }
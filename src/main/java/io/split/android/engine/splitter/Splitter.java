@@ -1,5 +1,7 @@
 package io.split.android.engine.splitter;
 
+import androidx.annotation.Nullable;
+
 import io.split.android.client.dtos.Partition;
 import io.split.android.client.utils.MurmurHash3;
 import io.split.android.grammar.Treatments;
@@ -16,17 +18,47 @@ public class Splitter {
 
     public static String getTreatment(String key, int seed, List<Partition> partitions, int algo) {
 
+        String treatment = getTreatmentWithoutBucket(partitions);
+        if (treatment != null) {
+            return treatment;
+        }
+
+        return getTreatment(bucket(hash(key, seed, algo)), partitions);
+    }
+
+    /**
+     * Treatment for the partitions that don't need a bucket to be resolved.
+     * @return null when the treatment depends on the bucket
+     */
+    @Nullable
+    public static String getTreatmentWithoutBucket(List<Partition> partitions) {
+
         // 1. when there are no partitions, we just return control
         if (partitions.isEmpty()) {
             return Treatments.CONTROL;
         }
 
-
         if (hundredPercentOneTreatment(partitions)) {
             return partitions.get(0).treatment;
         }
 
-        return getTreatment(bucket(hash(key, seed, algo)), partitions);
+        return null;
+    }
+
+    /**
+     * Same as {@link #getTreatment(String, int, List, int)} but for a bucket that
+     * has already been computed with {@link #getBucket(String, int, int)}.
+     * Callers check {@link #getTreatmentWithoutBucket(List)} first, so that the
+     * bucket is only computed when needed.
+     */
+    public static String getTreatmentForBucket(int bucket, List<Partition> partitions) {
+
+        String treatment = getTreatmentWithoutBucket(partitions);
+        if (treatment != null) {
+            return treatment;
+        }
+
+        return getTreatment(bucket, partitions);
     }
 
     static long hash(String key, int seed, int algo) {
@@ -72,7 +104,8 @@ public class Splitter {
 
         int bucketsCoveredThusFar = 0;
 
-        for (Partition partition : partitions) {
+        for (int i = 0; i < partitions.size(); i++) {
+            Partition partition = partitions.get(i);
             bucketsCoveredThusFar += partition.size;
 
             if (bucketsCoveredThusFar >= bucket) {
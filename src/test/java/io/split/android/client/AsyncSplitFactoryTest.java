@@ -0,0 +1,158 @@
+package io.split.android.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import io.split.android.client.api.Key;
+import io.split.android.client.events.SplitEvent;
+import io.split.android.client.events.SplitEventTask;
+import io.split.android.grammar.Treatments;
+
+public class AsyncSplitFactoryTest {
+
+    private static final Key DEFAULT_KEY = new Key("default_key");
+
+    @Mock
+    private SplitFactory mFactory;
+    @Mock
+    private SplitClient mDefaultClient;
+    @Mock
+    private SplitClient mOtherClient;
+
+    private AsyncSplitFactory mAsyncFactory;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mFactory.client(DEFAULT_KEY)).thenReturn(mDefaultClient);
+        when(mFactory.client(new Key("other_key"))).thenReturn(mOtherClient);
+        mAsyncFactory = new AsyncSplitFactory(DEFAULT_KEY);
+    }
+
+    @Test
+    public void clientReturnsControlUntilFactoryIsBuilt() {
+        SplitClient client = mAsyncFactory.client();
+
+        assertEquals(Treatments.CONTROL, client.getTreatment("split"));
+        assertEquals(Treatments.CONTROL, client.getTreatmentWithConfig("split", null).treatment());
+        Map<String, String> treatments = client.getTreatments(Arrays.asList("split1", "split2"), null);
+        assertEquals(Treatments.CONTROL, treatments.get("split1"));
+        assertEquals(Treatments.CONTROL, treatments.get("split2"));
+        assertFalse(client.isReady());
+        assertTrue(mAsyncFactory.manager().splits().isEmpty());
+        assertNull(mAsyncFactory.manager().split("split"));
+    }
+
+    @Test
+    public void clientDelegatesOnceFactoryIsBuilt() {
+        SplitClient client = mAsyncFactory.client();
+        when(mDefaultClient.getTreatment("split")).thenReturn("on");
+        when(mDefaultClient.isReady()).thenReturn(true);
+
+        mAsyncFactory.onFactoryBuilt(mFactory);
+
+        assertEquals("on", client.getTreatment("split"));
+        assertTrue(client.isReady());
+        assertSame(client, mAsyncFactory.client());
+    }
+
+    @Test
+    public void pendingCallsAreReplayedInOrderOnActualClient() {
+        SplitClient client = mAsyncFactory.client();
+        SplitEventTask task = mock(SplitEventTask.class);
+        Map<String, Object> properties = Collections.<String, Object>singletonMap("prop", 1);
+
+        client.on(SplitEvent.SDK_READY, task);
+        client.setAttribute("att", "value");
+        assertTrue(client.track("event"));
+        assertTrue(client.track("user", "event", 2.0, properties));
+
+        verify(mDefaultClient, never()).track(any(), anyMap());
+        mAsyncFactory.onFactoryBuilt(mFactory);
+
+        InOrder inOrder = inOrder(mDefaultClient);
+        inOrder.verify(mDefaultClient).on(SplitEvent.SDK_READY, task);
+        inOrder.verify(mDefaultClient).setAttribute("att", "value");
+        inOrder.verify(mDefaultClient).track("event", (Map<String, Object>) null);
+        inOrder.verify(mDefaultClient).track("user", "event", 2.0, properties);
+    }
+
+    @Test
+    public void clientsForOtherKeysAreAttached() {
+        SplitClient client = mAsyncFactory.client("other_key");
+        client.track("event");
+
+        mAsyncFactory.onFactoryBuilt(mFactory);
+
+        verify(mOtherClient).track("event", (Map<String, Object>) null);
+        assertSame(client, mAsyncFactory.client("other_key"));
+    }
+
+    @Test
+    public void factoryDestroyedBeforeBeingBuiltIsDestroyedWhenBuilt() {
+        SplitClient client = mAsyncFactory.client();
+        mAsyncFactory.destroy();
+
+        mAsyncFactory.onFactoryBuilt(mFactory);
+
+        verify(mFactory).destroy();
+        verify(mFactory, never()).client(any(Key.class));
+        assertEquals(Treatments.CONTROL, client.getTreatment("split"));
+    }
+
+    @Test
+    public void failedBuildNotifiesTimedOutListenersAndDiscardsPendingCalls() {
+        AsyncSplitClient client = spy(new AsyncSplitClient());
+        doNothing().when(client).executeEventTask(any(SplitEventTask.class));
+        SplitEventTask readyTask = mock(SplitEventTask.class);
+        SplitEventTask timedOutTask = mock(SplitEventTask.class);
+        SplitEventTask lateTimedOutTask = mock(SplitEventTask.class);
+        client.on(SplitEvent.SDK_READY, readyTask);
+        client.on(SplitEvent.SDK_READY_TIMED_OUT, timedOutTask);
+        client.track("event");
+
+        client.fail();
+        client.on(SplitEvent.SDK_READY_TIMED_OUT, lateTimedOutTask);
+        client.attach(mDefaultClient);
+
+        verify(client).executeEventTask(timedOutTask);
+        verify(client).executeEventTask(lateTimedOutTask);
+        verify(client, never()).executeEventTask(readyTask);
+        verify(mDefaultClient, never()).on(any(SplitEvent.class), any(SplitEventTask.class));
+        verify(mDefaultClient, never()).track(any(), anyMap());
+    }
+
+    @Test
+    public void failedFactoryBehavesAsDestroyed() {
+        SplitClient client = mAsyncFactory.client();
+
+        mAsyncFactory.onFactoryBuildFailed();
+
+        assertFalse(client.track("event"));
+        assertFalse(mAsyncFactory.client("other_key").track("event"));
+        assertEquals(Treatments.CONTROL, client.getTreatment("split"));
+        assertFalse(mAsyncFactory.isReady());
+    }
+}
@@ -34,6 +34,13 @@ public class SplitClientConfigTest {
                 .build();
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void cannot_set_thread_pool_size_to_zero() {
+        SplitClientConfig.builder()
+                .threadPoolSize(0)
+                .build();
+    }
+
     @Test
     public void can_set_refresh_rates_to__30() {
         SplitClientConfig.builder()
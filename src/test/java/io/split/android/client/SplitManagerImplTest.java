@@ -6,12 +6,12 @@ import io.split.android.client.dtos.Condition;
 import io.split.android.client.dtos.Split;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
+import io.split.android.client.storage.splits.SplitViews;
 import io.split.android.client.storage.splits.SplitsStorage;
 import io.split.android.client.validators.SplitValidator;
 import io.split.android.client.validators.SplitValidatorImpl;
 import io.split.android.engine.ConditionsTestUtil;
 import io.split.android.engine.experiments.SplitFetcher;
-import io.split.android.engine.experiments.SplitParser;
 import io.split.android.engine.matchers.AllKeysMatcher;
 import io.split.android.engine.matchers.CombiningMatcher;
 import io.split.android.helpers.SplitHelper;
@@ -22,6 +22,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.HashMap;
 import java.util.List;
@@ -51,14 +53,19 @@ public class SplitManagerImplTest {
         MockitoAnnotations.openMocks(this);
         SplitValidator validator = new SplitValidatorImpl();
         when(mMySegmentsStorageContainer.getStorageForKey("")).thenReturn(mMySegmentsStorage);
-        SplitParser parser = new SplitParser(mMySegmentsStorageContainer);
-        mSplitManager = new SplitManagerImpl(mSplitsStorage, validator, parser);
+        when(mSplitsStorage.getSplitViews()).thenAnswer(new Answer<SplitViews>() {
+            @Override
+            public SplitViews answer(InvocationOnMock invocation) {
+                return SplitViews.build(mSplitsStorage.getAll().values(), SplitViews.EMPTY);
+            }
+        });
+        mSplitManager = new SplitManagerImpl(mSplitsStorage, validator);
     }
 
     @Test
     public void splitCallWithNonExistentSplit() {
         String nonExistent = "nonExistent";
-        when(mSplitsStorage.get(nonExistent)).thenReturn(null);
+        when(mSplitsStorage.getAll()).thenReturn(new HashMap<>());
         assertThat(mSplitManager.split("nonExistent"), is(nullValue()));
     }
 
@@ -73,7 +80,9 @@ public class SplitManagerImplTest {
         Split response = SplitHelper.createSplit("existent", 123,
                 true, "off", Lists.newArrayList(getTestCondition()),
                 "traffic", 456L, 1, configs);
-        when(mSplitsStorage.get(existent)).thenReturn(response);
+        Map<String, Split> splitsMap = new HashMap<>();
+        splitsMap.put(existent, response);
+        when(mSplitsStorage.getAll()).thenReturn(splitsMap);
 
         SplitManager splitManager = mSplitManager;
         SplitView theOne = splitManager.split(existent);
@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,6 +13,7 @@ import com.google.common.base.Strings;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
@@ -28,6 +30,8 @@ import io.split.android.client.dtos.Split;
 import io.split.android.client.events.ISplitEventsManager;
 import io.split.android.client.events.ListenableEventsManager;
 import io.split.android.client.events.SplitEvent;
+import io.split.android.client.impressions.BatchImpressionListener;
+import io.split.android.client.impressions.Impression;
 import io.split.android.client.impressions.ImpressionListener;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
@@ -69,11 +73,12 @@ public class TreatmentManagerTest {
 
             Map<String, Split> splitsMap = splitsMap(splits);
             when(splitsStorage.getAll()).thenReturn(splitsMap);
+            when(splitsStorage.getMany(any())).thenReturn(splitsMap);
             when(splitsStorage.get("FACUNDO_TEST")).thenReturn(splitsMap.get("FACUNDO_TEST"));
             when(splitsStorage.get("testo2222")).thenReturn(splitsMap.get("testo2222"));
             when(splitsStorage.get("Test")).thenReturn(splitsMap.get("Test"));
 
-            when(mySegmentsStorageContainer.getStorageForKey(any())).thenReturn(mySegmentsStorage);
+            when(mySegmentsStorageContainer.getStorageIfPresent(any())).thenReturn(mySegmentsStorage);
             when(mySegmentsStorage.getAll()).thenReturn(mySegments);
 
             evaluator = new EvaluatorImpl(splitsStorage, splitParser);
@@ -275,6 +280,28 @@ public class TreatmentManagerTest {
         verify(attributesManager).getAllAttributes();
     }
 
+    @Test
+    public void getTreatmentsLogsImpressionsAsSingleBatch() {
+        BatchImpressionListener batchImpressionListener = mock(BatchImpressionListener.class);
+        TreatmentManager treatmentManager = new TreatmentManagerImpl(
+                "thekey", "thekey", evaluator,
+                new KeyValidatorImpl(), new SplitValidatorImpl(),
+                batchImpressionListener, true, eventsManagerStub, mock(AttributesManager.class), mock(AttributesMerger.class), mock(TelemetryStorageProducer.class));
+
+        Map<String, String> treatments = treatmentManager.getTreatments(Arrays.asList("FACUNDO_TEST", " testo2222 ", "non_existing"), null, false);
+
+        ArgumentCaptor<List<Impression>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchImpressionListener).log(captor.capture());
+        verify(batchImpressionListener, never()).log(any(Impression.class));
+        Assert.assertEquals("pesto", treatments.get("testo2222"));
+        Assert.assertEquals(Treatments.CONTROL, treatments.get("non_existing"));
+        Set<String> loggedSplits = new HashSet<>();
+        for (Impression impression : captor.getValue()) {
+            loggedSplits.add(impression.split());
+        }
+        Assert.assertEquals(new HashSet<>(Arrays.asList("FACUNDO_TEST", "testo2222")), loggedSplits);
+    }
+
     private void assertControl(List<String> splitList, String treatment, Map<String, String> treatmentList, SplitResult splitResult, Map<String, SplitResult> splitResultList) {
         Assert.assertNotNull(treatment);
         Assert.assertEquals(Treatments.CONTROL, treatment);
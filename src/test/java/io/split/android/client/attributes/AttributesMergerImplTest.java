@@ -61,4 +61,35 @@ public class AttributesMergerImplTest {
 
         Assert.assertEquals(oneTimeAttributes, mergedAttributes);
     }
+
+    @Test
+    public void mergedAttributesLookUpOneTimeAttributesFirst() {
+        Map<String, Object> storedAttributes = new HashMap<>();
+        storedAttributes.put("key1", "value1");
+        storedAttributes.put("key2", 120);
+
+        Map<String, Object> oneTimeAttributes = new HashMap<>();
+        oneTimeAttributes.put("key1", "newValue1");
+        oneTimeAttributes.put("key3", null);
+
+        Map<String, Object> mergedAttributes = attributesMerger.merge(storedAttributes, oneTimeAttributes);
+
+        Assert.assertEquals("newValue1", mergedAttributes.get("key1"));
+        Assert.assertEquals(120, mergedAttributes.get("key2"));
+        Assert.assertNull(mergedAttributes.get("key3"));
+        Assert.assertTrue(mergedAttributes.containsKey("key3"));
+        Assert.assertFalse(mergedAttributes.containsKey("key4"));
+        Assert.assertEquals(3, mergedAttributes.size());
+    }
+
+    @Test
+    public void mapIsNotCopiedWhenOnlyOneSideHasValues() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("key1", "value1");
+
+        Assert.assertSame(attributes, attributesMerger.merge(attributes, null));
+        Assert.assertSame(attributes, attributesMerger.merge(attributes, new HashMap<>()));
+        Assert.assertSame(attributes, attributesMerger.merge(null, attributes));
+        Assert.assertTrue(attributesMerger.merge(null, null).isEmpty());
+    }
 }
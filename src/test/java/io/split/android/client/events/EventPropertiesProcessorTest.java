@@ -6,6 +6,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -80,4 +81,19 @@ public class EventPropertiesProcessorTest {
         Assert.assertTrue(result.isValid());
         Assert.assertEquals(100, result.getSizeInBytes());
     }
+
+    @Test
+    public void multibyteCharactersAreCountedInBytes() throws UnsupportedEncodingException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("clé", "日本語 ✓ \uD83D\uDE00");
+        properties.put("broken", "\uD83D");
+        ProcessedEventProperties result = processor.process(properties);
+
+        int expected = 0;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            expected += entry.getKey().getBytes("UTF-8").length + ((String) entry.getValue()).getBytes("UTF-8").length;
+        }
+        Assert.assertTrue(result.isValid());
+        Assert.assertEquals(expected, result.getSizeInBytes());
+    }
 }
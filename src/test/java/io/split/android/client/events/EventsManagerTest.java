@@ -229,4 +229,27 @@ public class EventsManagerTest {
 
         assertThat(eventManager.eventAlreadyTriggered(SplitEvent.SDK_READY_FROM_CACHE), is(equalTo(true)));
     }
+
+    @Test
+    public void managersSharingDispatcherKeepTheirOwnReadiness() throws InterruptedException {
+        EventsDispatcher dispatcher = new EventsDispatcher();
+        SplitEventsManager readyManager = new SplitEventsManager(SplitClientConfig.builder().ready(5000).build(), dispatcher);
+        SplitEventsManager timedOutManager = new SplitEventsManager(SplitClientConfig.builder().ready(200).build(), dispatcher);
+
+        readyManager.notifyInternalEvent(SplitInternalEvent.SPLITS_UPDATED);
+        readyManager.notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
+        timedOutManager.notifyInternalEvent(SplitInternalEvent.SPLITS_UPDATED);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline &&
+                !(readyManager.eventAlreadyTriggered(SplitEvent.SDK_READY) &&
+                        timedOutManager.eventAlreadyTriggered(SplitEvent.SDK_READY_TIMED_OUT))) {
+            Thread.sleep(50);
+        }
+
+        Assert.assertTrue(readyManager.eventAlreadyTriggered(SplitEvent.SDK_READY));
+        Assert.assertFalse(readyManager.eventAlreadyTriggered(SplitEvent.SDK_READY_TIMED_OUT));
+        Assert.assertFalse(timedOutManager.eventAlreadyTriggered(SplitEvent.SDK_READY));
+        Assert.assertTrue(timedOutManager.eventAlreadyTriggered(SplitEvent.SDK_READY_TIMED_OUT));
+    }
 }
@@ -23,6 +23,7 @@ import io.split.android.client.api.Key;
 import io.split.android.client.attributes.AttributesManager;
 import io.split.android.client.attributes.AttributesManagerFactory;
 import io.split.android.client.attributes.AttributesMerger;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.events.EventsManagerCoordinator;
 import io.split.android.client.localhost.LocalhostSplitFactory;
 import io.split.android.client.storage.splits.SplitsStorage;
@@ -92,6 +93,6 @@ public class LocalhostSplitClientContainerImplTest {
 
     @NonNull
     private LocalhostSplitClientContainerImpl getClientContainer() {
-        return new LocalhostSplitClientContainerImpl(mFactory, mConfig, mSplitsStorage, mSplitParser, mAttributesManagerFactory, mAttributesMerger, mTelemetryStorageProducer, mEventsManagerCoordinator);
+        return new LocalhostSplitClientContainerImpl(mFactory, mConfig, mSplitsStorage, mSplitParser, mAttributesManagerFactory, mAttributesMerger, mTelemetryStorageProducer, mEventsManagerCoordinator, new EventsDispatcher());
     }
 }
@@ -0,0 +1,115 @@
+package io.split.android.client.network;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.split.android.client.dtos.KeyImpression;
+import io.split.android.client.service.impressions.ImpressionsRequestBodySerializer;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.GzipSource;
+
+public class CompressedRequestTest {
+
+    private MockWebServer mWebServer;
+    private OkHttpClient mOkHttpClient;
+
+    @Before
+    public void setUp() throws IOException {
+        mWebServer = new MockWebServer();
+        mWebServer.start();
+        mOkHttpClient = new OkHttpClient.Builder().build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        mWebServer.shutdown();
+    }
+
+    @Test
+    public void compressedImpressionsAreSmallerAndDecodeToSamePayload() throws Exception {
+        final List<KeyImpression> impressions = createImpressions(500);
+        final ImpressionsRequestBodySerializer serializer = new ImpressionsRequestBodySerializer();
+        URI uri = mWebServer.url("/testImpressions/bulk").uri();
+        mWebServer.enqueue(new MockResponse().setResponseCode(200));
+        mWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        HttpResponse plainResponse = new HttpRequestImpl(mOkHttpClient, uri, HttpMethod.POST,
+                serializer.serialize(impressions), Collections.<String, String>emptyMap()).execute();
+        RecordedRequest plainRequest = mWebServer.takeRequest();
+
+        HttpResponse compressedResponse = new HttpRequestImpl(mOkHttpClient, uri, HttpMethod.POST,
+                new HttpRequestBodyWriter() {
+                    @Override
+                    public void writeTo(Writer writer) throws IOException {
+                        serializer.serialize(impressions, writer);
+                    }
+                }, Collections.<String, String>emptyMap()).execute();
+        RecordedRequest compressedRequest = mWebServer.takeRequest();
+
+        assertTrue(plainResponse.isSuccess());
+        assertTrue(compressedResponse.isSuccess());
+        assertNull(plainRequest.getHeader("Content-Encoding"));
+        assertEquals("gzip", compressedRequest.getHeader("Content-Encoding"));
+        assertEquals("chunked", compressedRequest.getHeader("Transfer-Encoding"));
+        assertTrue(compressedRequest.getBodySize() * 5 < plainRequest.getBodySize());
+        assertEquals(plainRequest.getBody().readUtf8(), gunzip(compressedRequest.getBody()));
+    }
+
+    @Test
+    public void commonHeadersAreSentWithCompressedBody() throws Exception {
+        mWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        new HttpRequestImpl(mOkHttpClient, mWebServer.url("/events/bulk").uri(), HttpMethod.POST,
+                new HttpRequestBodyWriter() {
+                    @Override
+                    public void writeTo(Writer writer) throws IOException {
+                        writer.write("[]");
+                    }
+                }, Collections.singletonMap("Authorization", "Bearer key")).execute();
+        RecordedRequest request = mWebServer.takeRequest();
+
+        assertEquals("Bearer key", request.getHeader("Authorization"));
+        assertEquals("application/json; charset=utf-8", request.getHeader("Content-Type"));
+        assertEquals("[]", gunzip(request.getBody()));
+    }
+
+    private static String gunzip(Buffer body) throws IOException {
+        Buffer decoded = new Buffer();
+        GzipSource source = new GzipSource(body);
+        while (source.read(decoded, 8192) != -1) {
+        }
+        source.close();
+        return decoded.readUtf8();
+    }
+
+    private static List<KeyImpression> createImpressions(int count) {
+        List<KeyImpression> impressions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            KeyImpression impression = new KeyImpression();
+            impression.keyName = "user_key_" + i;
+            impression.feature = "feature_" + (i % 10);
+            impression.treatment = (i % 2 == 0) ? "on" : "off";
+            impression.label = "default rule";
+            impression.changeNumber = 1602796638344L;
+            impression.time = 1602796638344L + i;
+            impressions.add(impression);
+        }
+        return impressions;
+    }
+}
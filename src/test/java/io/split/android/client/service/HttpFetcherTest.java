@@ -3,6 +3,7 @@ package io.split.android.client.service;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,12 +12,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import io.split.android.client.dtos.MySegment;
@@ -25,8 +29,9 @@ import io.split.android.client.network.HttpClient;
 import io.split.android.client.network.HttpException;
 import io.split.android.client.network.HttpMethod;
 import io.split.android.client.network.HttpRequest;
-import io.split.android.client.network.HttpResponse;
 import io.split.android.client.network.HttpResponseImpl;
+import io.split.android.client.network.HttpStreamResponse;
+import io.split.android.client.network.HttpStreamResponseImpl;
 import io.split.android.client.network.SdkTargetPath;
 import io.split.android.client.network.URIBuilder;
 import io.split.android.client.service.http.HttpFetcher;
@@ -85,8 +90,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mSplitChangesUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, dummySplitChangeResponse());
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, dummySplitChangeResponse());
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(uri, HttpMethod.GET, null, null)).thenReturn(request);
 
         HttpFetcher<SplitChange> fetcher = new HttpFetcherImpl<>(mClientMock, mSplitChangesUrl, mNetworkHelperMock, mSplitChangeResponseParser);
@@ -117,8 +122,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mSplitChangesUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, dummySplitChangeResponse());
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, dummySplitChangeResponse());
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(uri, HttpMethod.GET, null, headers)).thenReturn(request);
 
         HttpFetcher<SplitChange> fetcher = new HttpFetcherImpl<>(mClientMock, mSplitChangesUrl, mNetworkHelperMock, mSplitChangeResponseParser);
@@ -142,8 +147,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mSplitChangesUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(500, "");
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(500, "");
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(uri, HttpMethod.GET, null, null)).thenReturn(request);
 
         HttpFetcher<SplitChange> fetcher = new HttpFetcherImpl<>(mClientMock, mSplitChangesUrl, mNetworkHelperMock, mSplitChangeResponseParser);
@@ -167,8 +172,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mSplitChangesUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, "");
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, "");
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(uri, HttpMethod.GET, null, null)).thenReturn(request);
 
         HttpFetcher<SplitChange> fetcher = new HttpFetcherImpl<>(mClientMock, mSplitChangesUrl, mNetworkHelperMock, mSplitChangeResponseParser);
@@ -193,8 +198,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mMySegmentsUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, dummyMySegmentsResponse());
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, dummyMySegmentsResponse());
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(mMySegmentsUrl, HttpMethod.GET, null, null)).thenReturn(request);
 
         HttpFetcher<List<MySegment>> fetcher = new HttpFetcherImpl<>(mClientMock, mMySegmentsUrl, mNetworkHelperMock, mMySegmentsResponseParser);
@@ -223,8 +228,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mMySegmentsUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, dummyMySegmentsResponse());
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, dummyMySegmentsResponse());
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(mMySegmentsUrl, HttpMethod.GET, null, headers)).thenReturn(request);
 
         HttpFetcher<List<MySegment>> fetcher = new HttpFetcherImpl<>(mClientMock, mMySegmentsUrl, mNetworkHelperMock, mMySegmentsResponseParser);
@@ -247,8 +252,8 @@ public class HttpFetcherTest {
         when(mNetworkHelperMock.isReachable(mMySegmentsUrl)).thenReturn(true);
         HttpRequest request = mock(HttpRequest.class);
 
-        HttpResponse response = new HttpResponseImpl(200, "wrong response here");
-        when(request.execute()).thenReturn(response);
+        HttpStreamResponse response = streamResponse(200, "wrong response here");
+        when(request.executeStreaming()).thenReturn(response);
         when(mClientMock.request(mMySegmentsUrl, HttpMethod.GET)).thenReturn(request);
 
 
@@ -264,6 +269,55 @@ public class HttpFetcherTest {
         Assert.assertTrue(exceptionWasThrown);
     }
 
+    @Test
+    public void streamedResponseReaderIsClosed() throws URISyntaxException, HttpException {
+        when(mNetworkHelperMock.isReachable(mMySegmentsUrl)).thenReturn(true);
+        HttpRequest request = mock(HttpRequest.class);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        BufferedReader reader = new BufferedReader(new StringReader(dummyMySegmentsResponse()) {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        });
+        when(request.executeStreaming()).thenReturn(new HttpStreamResponseImpl(200, reader));
+        when(mClientMock.request(mMySegmentsUrl, HttpMethod.GET, null, null)).thenReturn(request);
+
+        HttpFetcher<List<MySegment>> fetcher = new HttpFetcherImpl<>(mClientMock, mMySegmentsUrl, mNetworkHelperMock, mMySegmentsResponseParser);
+        List<MySegment> mySegments = null;
+        try {
+            mySegments = fetcher.execute(new HashMap<>(), null);
+        } catch (HttpFetcherException e) {
+        }
+
+        Assert.assertEquals(2, mySegments.size());
+        Assert.assertTrue(closed.get());
+        verify(request, never()).execute();
+    }
+
+    @Test
+    public void nonStreamingParserUsesBufferedResponse() throws URISyntaxException, HttpException {
+        when(mNetworkHelperMock.isReachable(mMySegmentsUrl)).thenReturn(true);
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.execute()).thenReturn(new HttpResponseImpl(200, "data"));
+        when(mClientMock.request(mMySegmentsUrl, HttpMethod.GET, null, null)).thenReturn(request);
+
+        HttpFetcher<String> fetcher = new HttpFetcherImpl<>(mClientMock, mMySegmentsUrl, mNetworkHelperMock, responseData -> responseData);
+        String data = null;
+        try {
+            data = fetcher.execute(new HashMap<>(), null);
+        } catch (HttpFetcherException e) {
+        }
+
+        Assert.assertEquals("data", data);
+        verify(request, never()).executeStreaming();
+    }
+
+    private HttpStreamResponse streamResponse(int status, String data) {
+        return new HttpStreamResponseImpl(status, new BufferedReader(new StringReader(data)));
+    }
+
     private String dummySplitChangeResponse() {
         return "{\"splits\":[{\"name\":\"sample_feature\", \"status\":\"ACTIVE\"}],\n" +
                 "  \"since\":-1,\n" +
@@ -3,8 +3,11 @@ package io.split.android.client.service;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
@@ -19,6 +22,7 @@ import io.split.android.client.network.HttpClient;
 import io.split.android.client.network.HttpException;
 import io.split.android.client.network.HttpMethod;
 import io.split.android.client.network.HttpRequest;
+import io.split.android.client.network.HttpRequestBodyWriter;
 import io.split.android.client.network.HttpResponse;
 import io.split.android.client.network.HttpResponseImpl;
 import io.split.android.client.network.SdkTargetPath;
@@ -32,7 +36,10 @@ import io.split.android.client.utils.Json;
 import io.split.android.client.utils.NetworkHelper;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -192,6 +199,54 @@ public class HttpRecorderTest {
 
     }
 
+    @Test
+    public void compressedEventsAreWrittenByTheSerializer() throws HttpException, IOException {
+        List<Event> events = createEvents();
+        String jsonEvents = Json.toJson(createSerializedEventsObjects(events));
+        when(mNetworkHelperMock.isReachable(mEventsUrl)).thenReturn(true);
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.execute()).thenReturn(new HttpResponseImpl(200, ""));
+        when(mClientMock.compressedRequest(eq(mEventsUrl), eq(HttpMethod.POST), any())).thenReturn(request);
+
+        HttpRecorder<List<Event>> recorder = new HttpRecorderImpl<>(mClientMock, mEventsUrl, mNetworkHelperMock, mEventsRequestSerializer, true);
+        boolean exceptionWasThrown = false;
+        try {
+            recorder.execute(events);
+        } catch (HttpRecorderException e) {
+            exceptionWasThrown = true;
+        }
+
+        ArgumentCaptor<HttpRequestBodyWriter> bodyWriterCaptor = ArgumentCaptor.forClass(HttpRequestBodyWriter.class);
+        verify(mClientMock).compressedRequest(eq(mEventsUrl), eq(HttpMethod.POST), bodyWriterCaptor.capture());
+        verify(mClientMock, never()).request(any(), any(), anyString());
+        StringWriter body = new StringWriter();
+        bodyWriterCaptor.getValue().writeTo(body);
+        Assert.assertFalse(exceptionWasThrown);
+        Assert.assertEquals(jsonEvents, body.toString());
+    }
+
+    @Test
+    public void compressionIsIgnoredForNonStreamingSerializer() throws HttpException {
+        List<Event> events = createEvents();
+        when(mNetworkHelperMock.isReachable(mEventsUrl)).thenReturn(true);
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.execute()).thenReturn(new HttpResponseImpl(200, ""));
+        when(mClientMock.request(mEventsUrl, HttpMethod.POST, "body")).thenReturn(request);
+        HttpRequestBodySerializer<List<Event>> serializer = data -> "body";
+
+        HttpRecorder<List<Event>> recorder = new HttpRecorderImpl<>(mClientMock, mEventsUrl, mNetworkHelperMock, serializer, true);
+        boolean exceptionWasThrown = false;
+        try {
+            recorder.execute(events);
+        } catch (HttpRecorderException e) {
+            exceptionWasThrown = true;
+        }
+
+        Assert.assertFalse(exceptionWasThrown);
+        verify(mClientMock).request(mEventsUrl, HttpMethod.POST, "body");
+        verify(mClientMock, never()).compressedRequest(any(), any(), any());
+    }
+
     private List<KeyImpression> createImpressions(String feature) {
         List<KeyImpression> impressions = new ArrayList<>();
         for(int i = 0; i <= 5; i++) {
@@ -4,8 +4,11 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Locale;
+
 import io.split.android.client.impressions.Impression;
 import io.split.android.client.service.impressions.ImpressionHasher;
+import io.split.android.client.utils.MurmurHash3;
 
 public class ImpressionHasherTest {
 
@@ -194,6 +197,32 @@ public class ImpressionHasherTest {
         Assert.assertNull(hash);
     }
 
+    @Test
+    public void hashMatchesFormattedStringHash() {
+        String[] values = {null, "", "someKey", "clave_ñandú", "キー", "emoji_\uD83D\uDE00", "unpaired_\uD83D", "\uDE00", "a:b"};
+        Long[] changeNumbers = {null, 0L, 1L, 123L, 1602796638344L, -1L, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        for (String key : values) {
+            for (String value : values) {
+                for (Long changeNumber : changeNumbers) {
+                    Impression impression = new Impression(key, null, value, value, 0L, value, changeNumber, null);
+
+                    Assert.assertEquals(legacyHash(impression), ImpressionHasher.process(impression));
+                }
+            }
+        }
+    }
+
+    private static Long legacyHash(Impression impression) {
+        String data = String.format(Locale.US, "%s:%s:%s:%s:%d",
+                impression.key() == null ? "UNKNOWN" : impression.key(),
+                impression.split() == null ? "UNKNOWN" : impression.split(),
+                impression.treatment() == null ? "UNKNOWN" : impression.treatment(),
+                impression.appliedRule() == null ? "UNKNOWN" : impression.appliedRule(),
+                impression.changeNumber() == null ? 0 : impression.changeNumber());
+        return MurmurHash3.murmurhash3_x86_32(data, 0, data.length(), 0);
+    }
+
     private Impression baseImpression() {
         return new Impression("someKey",
                 null,
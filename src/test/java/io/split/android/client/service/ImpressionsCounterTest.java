@@ -111,6 +111,64 @@ public class ImpressionsCounterTest {
         assertThat(counted.get(new ImpressionsCounter.Key("feature2", ImpressionUtils.truncateTimeframe(nextHourTimestamp))), is(equalTo(iterations * 3)));
     }
 
+    @Test
+    public void currentHourCountsAreResetOnPop() {
+        final ImpressionsCounter counter = new ImpressionsCounter();
+        final long now = System.currentTimeMillis();
+        counter.inc("feature1", now, 2);
+
+        List<ImpressionsCountPerFeature> counts = counter.popAll();
+        assertThat(counts.size(), is(equalTo(1)));
+        assertThat(counts.get(0).count, is(equalTo(2)));
+        assertThat(counter.isEmpty(), is(true));
+        assertThat(counter.popAll().size(), is(equalTo(0)));
+
+        counter.inc("feature1", now, 3);
+        Map<ImpressionsCounter.Key, Integer> counted = countedMap(counter.popAll());
+        assertThat(counted.get(new ImpressionsCounter.Key("feature1", ImpressionUtils.truncateTimeframe(now))), is(equalTo(3)));
+    }
+
+    @Test
+    public void pastHourCountsAreNotLostWhilePopping() throws InterruptedException {
+        final long pastHour = makeTimestamp(2020, 9, 2, 10, 10, 12);
+        final int iterations = 1000000;
+        final ImpressionsCounter counter = new ImpressionsCounter();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < iterations; i++) {
+                counter.inc("feature1", pastHour, 1);
+            }
+        });
+
+        thread.start();
+        long total = 0;
+        while (thread.isAlive()) {
+            total += sum(counter.popAll());
+        }
+        thread.join();
+        total += sum(counter.popAll());
+        total += sum(counter.popAll());
+
+        assertThat(total, is(equalTo((long) iterations)));
+        assertThat(counter.isEmpty(), is(true));
+    }
+
+    @Test
+    public void keysWithSameValuesAreEqual() {
+        ImpressionsCounter.Key key = new ImpressionsCounter.Key("feature1", 100);
+        ImpressionsCounter.Key sameKey = new ImpressionsCounter.Key("feature1", 100);
+
+        assertThat(key, is(equalTo(sameKey)));
+        assertThat(key.hashCode(), is(equalTo(sameKey.hashCode())));
+    }
+
+    private long sum(List<ImpressionsCountPerFeature> counts) {
+        long sum = 0;
+        for (ImpressionsCountPerFeature count : counts) {
+            sum += count.count;
+        }
+        return sum;
+    }
+
     private Map<ImpressionsCounter.Key, Integer> countedMap(List<ImpressionsCountPerFeature> counts) {
 
         Map<ImpressionsCounter.Key, Integer> map = new HashMap<>();
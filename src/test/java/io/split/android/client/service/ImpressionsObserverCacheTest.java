@@ -0,0 +1,65 @@
+package io.split.android.client.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import io.split.android.client.service.impressions.ImpressionsObserverCache;
+
+public class ImpressionsObserverCacheTest {
+
+    private static final long MISSING = Long.MIN_VALUE;
+
+    @Test
+    public void putReturnsPreviousValue() {
+        ImpressionsObserverCache cache = new ImpressionsObserverCache(10);
+
+        Assert.assertEquals(MISSING, cache.put(1L, 100L, MISSING));
+        Assert.assertEquals(100L, cache.put(1L, 200L, MISSING));
+        Assert.assertEquals(200L, cache.put(1L, 300L, MISSING));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        ImpressionsObserverCache cache = new ImpressionsObserverCache(100);
+
+        for (long i = 0; i < 10000; i++) {
+            cache.put(i * 7919, i, MISSING);
+        }
+
+        Assert.assertTrue(cache.size() <= 100);
+        Assert.assertTrue(cache.size() >= 90);
+    }
+
+    @Test
+    public void recentlyUsedEntryIsKept() {
+        ImpressionsObserverCache cache = new ImpressionsObserverCache(64);
+        long hotKey = 42L;
+        cache.put(hotKey, 1L, MISSING);
+
+        for (long i = 0; i < 1000; i++) {
+            Assert.assertNotEquals(MISSING, cache.put(hotKey, i, MISSING));
+            cache.put(1000 + i, i, MISSING);
+        }
+    }
+
+    @Test
+    public void presentValuesAreAlwaysTheLastOnesStored() {
+        ImpressionsObserverCache cache = new ImpressionsObserverCache(64);
+        Map<Long, Long> lastValues = new HashMap<>();
+        Random random = new Random(1234);
+
+        for (long i = 0; i < 200000; i++) {
+            long key = random.nextInt(256);
+            long previous = cache.put(key, i, MISSING);
+            if (previous != MISSING) {
+                Assert.assertEquals(lastValues.get(key).longValue(), previous);
+            }
+            lastValues.put(key, i);
+        }
+    }
+}
@@ -20,11 +20,14 @@ import org.mockito.MockitoAnnotations;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.split.android.client.dtos.MySegment;
 import io.split.android.client.events.SplitEventsManager;
+import io.split.android.client.events.SplitInternalEvent;
 import io.split.android.client.network.SplitHttpHeadersBuilder;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.http.HttpFetcher;
@@ -146,13 +149,45 @@ public class MySegmentsSyncTaskTest {
         verify(mTelemetryRuntimeProducer).recordSuccessfulSync(eq(OperationType.MY_SEGMENT), longThat(arg -> arg > 0));
     }
 
+    @Test
+    public void unchangedSegmentsAreNotStored() throws HttpFetcherException {
+        when(mMySegmentsFetcher.execute(noParams, null)).thenReturn(mMySegments);
+        when(mySegmentsStorage.getAll()).thenReturn(segmentNames());
+
+        mTask.execute();
+
+        verify(mySegmentsStorage, never()).set(any());
+        verify(mEventsManager).notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_FETCHED);
+    }
+
+    @Test
+    public void changedSegmentsAreStored() throws HttpFetcherException {
+        when(mMySegmentsFetcher.execute(noParams, null)).thenReturn(mMySegments);
+        when(mySegmentsStorage.getAll()).thenReturn(Collections.singleton("segment_0"));
+
+        mTask.execute();
+
+        ArgumentCaptor<List<String>> segmentsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mySegmentsStorage).set(segmentsCaptor.capture());
+        Assert.assertEquals(segmentNames(), new HashSet<>(segmentsCaptor.getValue()));
+        verify(mEventsManager).notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
+    }
+
+    private Set<String> segmentNames() {
+        Set<String> names = new HashSet<>();
+        for (MySegment segment : mMySegments) {
+            names.add(segment.name);
+        }
+        return names;
+    }
+
     private void loadMySegments() {
         if (mMySegments == null) {
             mMySegments = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 MySegment s = new MySegment();
                 s.id = "id_" + i;
-                s.id = "segment_" + i;
+                s.name = "segment_" + i;
                 mMySegments.add(s);
             }
         }
@@ -4,17 +4,14 @@ import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import io.split.android.client.events.SplitEventsManager;
+import io.split.android.client.events.SplitInternalEvent;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.executor.SplitTaskExecutionStatus;
 import io.split.android.client.service.executor.SplitTaskType;
@@ -56,14 +53,12 @@ public class MySegmentsUpdateTaskTest {
     @Test
     public void correctExecution() throws HttpFetcherException {
         mTask = new MySegmentsUpdateTask(mySegmentsStorage, false, mSegmentToRemove, mEventsManager);
-
-        ArgumentCaptor<List<String>> segmentsCaptor = ArgumentCaptor.forClass(List.class);
+        when(mySegmentsStorage.remove(mSegmentToRemove)).thenReturn(true);
 
         SplitTaskExecutionInfo result = mTask.execute();
 
-        verify(mySegmentsStorage, times(1)).set(segmentsCaptor.capture());
-        Assert.assertTrue(isSegmentRemoved(segmentsCaptor.getValue(), mSegmentToRemove));
-        Assert.assertFalse(isSegmentRemoved(segmentsCaptor.getValue(), mCustomerSegment));
+        verify(mySegmentsStorage, times(1)).remove(mSegmentToRemove);
+        verify(mEventsManager, times(1)).notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
         Assert.assertEquals(SplitTaskExecutionStatus.SUCCESS, result.getStatus());
         Assert.assertEquals(SplitTaskType.MY_SEGMENTS_UPDATE, result.getTaskType());
     }
@@ -72,11 +67,11 @@ public class MySegmentsUpdateTaskTest {
     public void correctExecutionToEraseNotInSegments() throws HttpFetcherException {
         String otherSegment = "OtherSegment";
         mTask = new MySegmentsUpdateTask(mySegmentsStorage, false, otherSegment, mEventsManager);
-        ArgumentCaptor<List<String>> segmentsCaptor = ArgumentCaptor.forClass(List.class);
 
         SplitTaskExecutionInfo result = mTask.execute();
 
         verify(mySegmentsStorage, never()).set(any());
+        verify(mEventsManager, never()).notifyInternalEvent(any());
         Assert.assertEquals(SplitTaskExecutionStatus.SUCCESS, result.getStatus());
         Assert.assertEquals(SplitTaskType.MY_SEGMENTS_UPDATE, result.getTaskType());
     }
@@ -85,19 +80,28 @@ public class MySegmentsUpdateTaskTest {
     public void storageException() {
 
         mTask = new MySegmentsUpdateTask(mySegmentsStorage, false, mSegmentToRemove, mEventsManager);
-        doThrow(NullPointerException.class).when(mySegmentsStorage).set(any());
+        doThrow(NullPointerException.class).when(mySegmentsStorage).remove(any());
 
         SplitTaskExecutionInfo result = mTask.execute();
 
         Assert.assertEquals(SplitTaskExecutionStatus.ERROR, result.getStatus());
     }
 
+    @Test
+    public void addIsDoneByStorage() {
+        mTask = new MySegmentsUpdateTask(mySegmentsStorage, true, "new_segment", mEventsManager);
+        when(mySegmentsStorage.add("new_segment")).thenReturn(true);
+
+        SplitTaskExecutionInfo result = mTask.execute();
+
+        verify(mySegmentsStorage, times(1)).add("new_segment");
+        verify(mySegmentsStorage, never()).set(any());
+        verify(mEventsManager, times(1)).notifyInternalEvent(SplitInternalEvent.MY_SEGMENTS_UPDATED);
+        Assert.assertEquals(SplitTaskExecutionStatus.SUCCESS, result.getStatus());
+    }
+
     @After
     public void tearDown() {
         reset(mySegmentsStorage);
     }
-
-    private boolean isSegmentRemoved(List<String> segments, String segment) {
-        return !(new HashSet<>(segments).contains(segment));
-    }
 }
\ No newline at end of file
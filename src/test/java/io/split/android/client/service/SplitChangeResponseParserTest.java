@@ -0,0 +1,54 @@
+package io.split.android.client.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import io.split.android.client.dtos.SplitChange;
+import io.split.android.client.service.http.HttpResponseParserException;
+import io.split.android.client.service.splits.SplitChangeResponseParser;
+import io.split.android.client.utils.Json;
+import io.split.android.helpers.FileHelper;
+
+public class SplitChangeResponseParserTest {
+
+    private final SplitChangeResponseParser mParser = new SplitChangeResponseParser();
+
+    @Test
+    public void streamedParseMatchesStringParse() throws HttpResponseParserException {
+        String json = new FileHelper().loadFileContent("split_changes_1.json");
+
+        SplitChange expected = mParser.parse(json);
+        SplitChange streamed = mParser.parse(new StringReader(json));
+
+        assertEquals(expected.since, streamed.since);
+        assertEquals(expected.till, streamed.till);
+        assertEquals(expected.splits.size(), streamed.splits.size());
+        for (int i = 0; i < expected.splits.size(); i++) {
+            assertEquals(Json.toJson(expected.splits.get(i)), Json.toJson(streamed.splits.get(i)));
+        }
+    }
+
+    @Test
+    public void unknownFieldsAndNullsAreIgnored() throws HttpResponseParserException {
+        SplitChange splitChange = mParser.parse(new StringReader(
+                "{\"other\":{\"a\":[1,2]},\"splits\":null,\"since\":null,\"till\":10}"));
+
+        assertNull(splitChange.splits);
+        assertEquals(0, splitChange.since);
+        assertEquals(10, splitChange.till);
+    }
+
+    @Test(expected = HttpResponseParserException.class)
+    public void truncatedResponseFails() throws HttpResponseParserException {
+        mParser.parse(new StringReader("{\"splits\":[{\"name\":\"split\", \"status\":\"ACT"));
+    }
+
+    @Test(expected = HttpResponseParserException.class)
+    public void emptyResponseFails() throws HttpResponseParserException {
+        mParser.parse(new StringReader(""));
+    }
+}
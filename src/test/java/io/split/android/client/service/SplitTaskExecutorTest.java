@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.split.android.client.service.executor.SplitTask;
 import io.split.android.client.service.executor.SplitTaskBatchItem;
@@ -254,6 +255,44 @@ public class SplitTaskExecutorTest {
         Assert.assertEquals(4, task.callCount);
     }
 
+    @Test
+    public void threadsAreBoundedByPoolSize() throws InterruptedException {
+        SplitTaskExecutorImpl taskExecutor = new SplitTaskExecutorImpl(2);
+        final CountDownLatch startedLatch = new CountDownLatch(2);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final CountDownLatch finishedLatch = new CountDownLatch(4);
+        final AtomicInteger startedCount = new AtomicInteger(0);
+        for (int i = 0; i < 4; i++) {
+            taskExecutor.submit(new SplitTask() {
+                @NonNull
+                @Override
+                public SplitTaskExecutionInfo execute() {
+                    startedCount.incrementAndGet();
+                    startedLatch.countDown();
+                    try {
+                        releaseLatch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    finishedLatch.countDown();
+                    return SplitTaskExecutionInfo.success(SplitTaskType.GENERIC_TASK);
+                }
+            }, null);
+        }
+        startedLatch.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        Assert.assertEquals(2, startedCount.get());
+        Assert.assertEquals(2, taskExecutor.getThreadCount());
+        Assert.assertEquals(2, taskExecutor.getActiveThreadCount());
+        Assert.assertEquals(2, taskExecutor.getQueuedTaskCount());
+
+        releaseLatch.countDown();
+        Assert.assertTrue(finishedLatch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(4, startedCount.get());
+        taskExecutor.stop();
+    }
+
     @After
     public void tearDown() {
     }
@@ -1,11 +1,14 @@
 package io.split.android.client.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -28,6 +31,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -70,11 +74,13 @@ import io.split.android.client.service.synchronizer.mysegments.MySegmentsSynchro
 import io.split.android.client.service.synchronizer.mysegments.MySegmentsSynchronizerRegistry;
 import io.split.android.client.service.synchronizer.mysegments.MySegmentsSynchronizerRegistryImpl;
 import io.split.android.client.storage.SplitStorageContainer;
+import io.split.android.client.storage.StoragePusher;
 import io.split.android.client.storage.events.PersistentEventsStorage;
 import io.split.android.client.storage.impressions.PersistentImpressionsStorage;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.storage.splits.PersistentSplitsStorage;
 import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.client.telemetry.model.ImpressionsDataType;
 import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
 import io.split.android.fake.SplitTaskExecutorStub;
 
@@ -86,6 +92,8 @@ public class SynchronizerTest {
     @Mock
     SplitTaskExecutor mSingleThreadedTaskExecutor;
     @Mock
+    SplitTaskExecutor mBackgroundTaskExecutor;
+    @Mock
     SplitApiFacade mSplitApiFacade;
     @Mock
     SplitStorageContainer mSplitStorageContainer;
@@ -165,7 +173,7 @@ public class SynchronizerTest {
                 .thenReturn(mRetryTimerSplitsSync)
                 .thenReturn(mRetryTimerSplitsUpdate);
 
-        mSynchronizer = new SynchronizerImpl(splitClientConfig, mTaskExecutor, mSingleThreadedTaskExecutor,
+        mSynchronizer = new SynchronizerImpl(splitClientConfig, mTaskExecutor, mSingleThreadedTaskExecutor, mBackgroundTaskExecutor,
                 mSplitStorageContainer, mTaskFactory, mEventsManager, mWorkManagerWrapper, mRetryBackoffFactory, mTelemetryRuntimeProducer, mAttributesSynchronizerRegistry, mMySegmentsSynchronizerRegistry);
     }
 
@@ -264,6 +272,28 @@ public class SynchronizerTest {
                 any(SaveImpressionsCountTask.class), isNull());
     }
 
+    @Test
+    public void pauseStoresQueuedRecords() {
+        SplitClientConfig config = SplitClientConfig.builder()
+                .eventsQueueSize(10)
+                .sychronizeInBackground(false)
+                .impressionsQueueSize(3)
+                .build();
+        setup(config);
+        // Persist tasks wait in the executor, as they would while paused
+        doNothing().when(mTaskExecutor).submit(any(), any());
+        Event event = new Event();
+        mSynchronizer.pushEvent(event);
+
+        mSynchronizer.pause();
+
+        ArgumentCaptor<SplitTask> taskCaptor = ArgumentCaptor.forClass(SplitTask.class);
+        verify(mBackgroundTaskExecutor).submit(taskCaptor.capture(), any());
+        taskCaptor.getValue().execute();
+        verify(mEventsStorage).pushMany(Collections.singletonList(event));
+        verify(mBackgroundTaskExecutor, never()).pause();
+    }
+
     @Test
     public void resume() {
         SplitClientConfig config = SplitClientConfig.builder()
@@ -292,10 +322,8 @@ public class SynchronizerTest {
         mSynchronizer.startPeriodicRecording();
         mSynchronizer.pushEvent(event);
         Thread.sleep(200);
-        verify(mTaskExecutor, times(0)).submit(
-                any(EventsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
-        verify(mEventsStorage, times(1)).push(event);
+        assertEquals(0, recorderTaskSubmissions(EventsRecorderTask.class));
+        verify(mEventsStorage, times(1)).pushMany(Collections.singletonList(event));
     }
 
     @Test
@@ -311,10 +339,8 @@ public class SynchronizerTest {
             mSynchronizer.pushEvent(new Event());
         }
         Thread.sleep(200);
-        verify(mEventsStorage, times(22)).push(any(Event.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(EventsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
+        assertEquals(22, pushedRecords(mEventsStorage));
+        assertEquals(2, recorderTaskSubmissions(EventsRecorderTask.class));
     }
 
     @Test
@@ -332,10 +358,8 @@ public class SynchronizerTest {
             mSynchronizer.pushEvent(event);
         }
         Thread.sleep(200);
-        verify(mEventsStorage, times(6)).push(any(Event.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(EventsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
+        assertEquals(6, pushedRecords(mEventsStorage));
+        assertEquals(2, recorderTaskSubmissions(EventsRecorderTask.class));
     }
 
     @Test
@@ -348,21 +372,20 @@ public class SynchronizerTest {
                 .build();
         setup(config);
         Impression impression = createImpression();
-        ArgumentCaptor<KeyImpression> impressionCaptor = ArgumentCaptor.forClass(KeyImpression.class);
+        ArgumentCaptor<List<KeyImpression>> impressionCaptor = ArgumentCaptor.forClass(List.class);
         mSynchronizer.startPeriodicRecording();
         mSynchronizer.pushImpression(impression);
         Thread.sleep(200);
-        verify(mTaskExecutor, times(0)).submit(
-                any(ImpressionsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
-        verify(mImpressionsStorage, times(1)).push(impressionCaptor.capture());
-        Assert.assertEquals("key", impressionCaptor.getValue().keyName);
-        Assert.assertEquals("bkey", impressionCaptor.getValue().bucketingKey);
-        Assert.assertEquals("split", impressionCaptor.getValue().feature);
-        Assert.assertEquals("on", impressionCaptor.getValue().treatment);
-        Assert.assertEquals(100L, impressionCaptor.getValue().time);
-        Assert.assertEquals("default rule", impressionCaptor.getValue().label);
-        Assert.assertEquals(999, impressionCaptor.getValue().changeNumber.longValue());
+        assertEquals(0, recorderTaskSubmissions(ImpressionsRecorderTask.class));
+        verify(mImpressionsStorage, times(1)).pushMany(impressionCaptor.capture());
+        KeyImpression keyImpression = impressionCaptor.getValue().get(0);
+        Assert.assertEquals("key", keyImpression.keyName);
+        Assert.assertEquals("bkey", keyImpression.bucketingKey);
+        Assert.assertEquals("split", keyImpression.feature);
+        Assert.assertEquals("on", keyImpression.treatment);
+        Assert.assertEquals(100L, keyImpression.time);
+        Assert.assertEquals("default rule", keyImpression.label);
+        Assert.assertEquals(999, keyImpression.changeNumber.longValue());
     }
 
     @Test
@@ -379,10 +402,8 @@ public class SynchronizerTest {
             mSynchronizer.pushImpression(createImpression());
         }
         Thread.sleep(200);
-        verify(mImpressionsStorage, times(8)).push(any(KeyImpression.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(ImpressionsRecorderTask.class),
-                any(RecorderSyncHelper.class));
+        assertEquals(8, pushedRecords(mImpressionsStorage));
+        assertEquals(2, recorderTaskSubmissions(ImpressionsRecorderTask.class));
     }
 
     @Test
@@ -399,10 +420,29 @@ public class SynchronizerTest {
             mSynchronizer.pushImpression(createUniqueImpression());
         }
         Thread.sleep(200);
-        verify(mImpressionsStorage, times(8)).push(any(KeyImpression.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(ImpressionsRecorderTask.class),
-                any(RecorderSyncHelper.class));
+        assertEquals(8, pushedRecords(mImpressionsStorage));
+        assertEquals(2, recorderTaskSubmissions(ImpressionsRecorderTask.class));
+    }
+
+    @Test
+    public void pushImpressionsSubmitsSingleRecorderTask() throws InterruptedException {
+        SplitClientConfig config = SplitClientConfig.builder()
+                .eventsQueueSize(10)
+                .sychronizeInBackground(false)
+                .impressionsMode(ImpressionsMode.DEBUG)
+                .impressionsQueueSize(3)
+                .build();
+        setup(config);
+        mSynchronizer.startPeriodicRecording();
+        List<Impression> impressions = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            impressions.add(createImpression());
+        }
+        mSynchronizer.pushImpressions(impressions);
+        Thread.sleep(200);
+        assertEquals(8, pushedRecords(mImpressionsStorage));
+        assertEquals(1, recorderTaskSubmissions(ImpressionsRecorderTask.class));
+        verify(mTelemetryRuntimeProducer).recordImpressionStats(ImpressionsDataType.IMPRESSIONS_QUEUED, 8);
     }
 
     @Test
@@ -420,10 +460,8 @@ public class SynchronizerTest {
             mSynchronizer.pushImpression(createImpression());
         }
         Thread.sleep(200);
-        verify(mImpressionsStorage, times(10)).push(any(KeyImpression.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(ImpressionsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
+        assertEquals(10, pushedRecords(mImpressionsStorage));
+        assertEquals(2, recorderTaskSubmissions(ImpressionsRecorderTask.class));
     }
 
     @Test
@@ -441,10 +479,8 @@ public class SynchronizerTest {
             mSynchronizer.pushImpression(createUniqueImpression());
         }
         Thread.sleep(200);
-        verify(mImpressionsStorage, times(10)).push(any(KeyImpression.class));
-        verify(mTaskExecutor, times(2)).submit(
-                any(ImpressionsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
+        assertEquals(10, pushedRecords(mImpressionsStorage));
+        assertEquals(2, recorderTaskSubmissions(ImpressionsRecorderTask.class));
     }
 
     @Test
@@ -463,7 +499,7 @@ public class SynchronizerTest {
                 .thenReturn(mRetryTimerSplitsSync)
                 .thenReturn(mRetryTimerSplitsUpdate);
 
-        mSynchronizer = new SynchronizerImpl(config, executor, executor,
+        mSynchronizer = new SynchronizerImpl(config, executor, executor, mBackgroundTaskExecutor,
                 mSplitStorageContainer, mTaskFactory, mEventsManager, mWorkManagerWrapper, mRetryBackoffFactory, mTelemetryRuntimeProducer, mAttributesSynchronizerRegistry, mMySegmentsSynchronizerRegistry);
 
         LoadMySegmentsTask loadMySegmentsTask = mock(LoadMySegmentsTask.class);
@@ -498,7 +534,7 @@ public class SynchronizerTest {
                 .thenReturn(mRetryTimerMySegmentsSync)
                 .thenReturn(mRetryTimerSplitsUpdate);
 
-        mSynchronizer = new SynchronizerImpl(config, executor, executor,
+        mSynchronizer = new SynchronizerImpl(config, executor, executor, mBackgroundTaskExecutor,
                 mSplitStorageContainer, mTaskFactory, mEventsManager, mWorkManagerWrapper, mRetryBackoffFactory, mTelemetryRuntimeProducer, mAttributesSynchronizerRegistry, mMySegmentsSynchronizerRegistry);
         mSynchronizer.loadAndSynchronizeSplits();
         verify(mEventsManager, times(1))
@@ -517,12 +553,8 @@ public class SynchronizerTest {
 
         verify(mRetryTimerSplitsUpdate).stop();
         verify(mRetryTimerSplitsSync).stop();
-        verify(mTaskExecutor).submit(
-                any(ImpressionsRecorderTask.class),
-                any(RecorderSyncHelper.class));
-        verify(mTaskExecutor).submit(
-                any(EventsRecorderTask.class),
-                any(SplitTaskExecutionListener.class));
+        assertEquals(1, recorderTaskSubmissions(ImpressionsRecorderTask.class));
+        assertEquals(1, recorderTaskSubmissions(EventsRecorderTask.class));
     }
 
     @Test
@@ -614,6 +646,30 @@ public class SynchronizerTest {
         return result;
     }
 
+    private int recorderTaskSubmissions(Class<? extends SplitTask> taskClass) {
+        ArgumentCaptor<List<SplitTaskBatchItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mTaskExecutor, atLeast(0)).executeSerially(captor.capture());
+        int count = 0;
+        for (List<SplitTaskBatchItem> items : captor.getAllValues()) {
+            for (SplitTaskBatchItem item : items) {
+                if (taskClass.isInstance(item.getTask())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private int pushedRecords(StoragePusher<?> storage) {
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        verify(storage, atLeast(0)).pushMany(captor.capture());
+        int count = 0;
+        for (List<?> records : captor.getAllValues()) {
+            count += records.size();
+        }
+        return count;
+    }
+
     static class SplitTaskExecutorSub implements SplitTaskExecutor {
 
         List<SplitTaskExecutionInfo> mInfoList;
@@ -673,6 +729,21 @@ public class SynchronizerTest {
 
         }
 
+        @Override
+        public int getThreadCount() {
+            return 0;
+        }
+
+        @Override
+        public int getActiveThreadCount() {
+            return 0;
+        }
+
+        @Override
+        public int getQueuedTaskCount() {
+            return 0;
+        }
+
         @Override
         public String schedule(@NonNull SplitTask task, long initialDelayInSecs, @Nullable SplitTaskExecutionListener executionListener) {
             return null;
@@ -1,27 +1,94 @@
 package io.split.android.client.service.mysegments;
 
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.junit.After;
 import org.junit.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.split.android.client.service.http.HttpFetcherException;
+import io.split.android.client.telemetry.model.OperationType;
+import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
 
 public class MySegmentsBulkSyncTaskTest {
 
+    private final TelemetryRuntimeProducer mTelemetryRuntimeProducer = mock(TelemetryRuntimeProducer.class);
+    private final ExecutorService mExecutor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        mExecutor.shutdownNow();
+    }
+
     @Test
-    public void allTasksAreExecuted() {
-        Set<MySegmentsSyncTask> taskSet = new HashSet<>();
-        for (int i = 0; i < 5; i++) {
-            taskSet.add(mock(MySegmentsSyncTask.class));
+    public void allTasksAreExecuted() throws HttpFetcherException {
+        Set<MySegmentsSyncTask> taskSet = getTasks(5);
+
+        MySegmentsBulkSyncTask mTask = new MySegmentsBulkSyncTask(taskSet, mTelemetryRuntimeProducer, mExecutor);
+        mTask.execute();
+
+        for (MySegmentsSyncTask subTask : taskSet) {
+            verify(subTask).sync();
+            verify(subTask, never()).execute();
+        }
+    }
+
+    @Test
+    public void roundIsTrackedOnceInTelemetry() {
+        MySegmentsBulkSyncTask mTask = new MySegmentsBulkSyncTask(getTasks(5), mTelemetryRuntimeProducer, mExecutor);
+        mTask.execute();
+
+        verify(mTelemetryRuntimeProducer, times(1)).recordSuccessfulSync(eq(OperationType.MY_SEGMENT), anyLong());
+        verify(mTelemetryRuntimeProducer, times(1)).recordSyncLatency(eq(OperationType.MY_SEGMENT), anyLong());
+    }
+
+    @Test
+    public void failedFetchIsTrackedAsRoundError() throws HttpFetcherException {
+        Set<MySegmentsSyncTask> taskSet = getTasks(3);
+        MySegmentsSyncTask failingTask = mock(MySegmentsSyncTask.class);
+        doThrow(new HttpFetcherException("", "", 500)).when(failingTask).sync();
+        taskSet.add(failingTask);
+
+        MySegmentsBulkSyncTask mTask = new MySegmentsBulkSyncTask(taskSet, mTelemetryRuntimeProducer, mExecutor);
+        mTask.execute();
+
+        for (MySegmentsSyncTask subTask : taskSet) {
+            verify(subTask).sync();
         }
+        verify(mTelemetryRuntimeProducer).recordSyncError(OperationType.MY_SEGMENT, 500);
+        verify(mTelemetryRuntimeProducer, never()).recordSuccessfulSync(eq(OperationType.MY_SEGMENT), anyLong());
+    }
+
+    @Test
+    public void sharedExecutorIsReusedAcrossRounds() throws HttpFetcherException {
+        Set<MySegmentsSyncTask> taskSet = getTasks(3);
+        MySegmentsBulkSyncTask mTask = new MySegmentsBulkSyncTask(taskSet, mTelemetryRuntimeProducer, mExecutor);
 
-        MySegmentsBulkSyncTask mTask = new MySegmentsBulkSyncTask(taskSet);
+        mTask.execute();
         mTask.execute();
 
+        assertFalse(mExecutor.isShutdown());
         for (MySegmentsSyncTask subTask : taskSet) {
-            verify(subTask).execute();
+            verify(subTask, times(2)).sync();
+        }
+    }
+
+    private static Set<MySegmentsSyncTask> getTasks(int count) {
+        Set<MySegmentsSyncTask> taskSet = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            taskSet.add(mock(MySegmentsSyncTask.class));
         }
+        return taskSet;
     }
 }
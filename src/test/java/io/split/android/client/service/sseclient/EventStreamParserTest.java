@@ -93,5 +93,28 @@ public class EventStreamParserTest {
         Assert.assertEquals(0, mValues.size());
     }
 
+    @Test
+    public void parseTrimsFieldAndValue() {
+        boolean res = mParser.parseLineAndAppendValue("  data : {\"c1\":1}  \r", mValues);
+
+        Assert.assertFalse(res);
+        Assert.assertEquals(1, mValues.size());
+        Assert.assertEquals("{\"c1\":1}", mValues.get("data"));
+    }
+
+    @Test
+    public void parseKeepAlive() {
+        boolean res = mParser.parseLineAndAppendValue(" :keepalive ", mValues);
 
+        Assert.assertTrue(res);
+        Assert.assertTrue(mParser.isKeepAlive(mValues));
+    }
+
+    @Test
+    public void parseFieldWithEmptyValue() {
+        boolean res = mParser.parseLineAndAppendValue("event:  ", mValues);
+
+        Assert.assertFalse(res);
+        Assert.assertEquals("", mValues.get("event"));
+    }
 }
@@ -7,9 +7,12 @@ import org.junit.Test;
 import java.util.HashMap;
 import java.util.Map;
 
+import io.split.android.client.common.CompressionType;
 import io.split.android.client.service.sseclient.notifications.ControlNotification;
 import io.split.android.client.service.sseclient.notifications.IncomingNotification;
 import io.split.android.client.service.sseclient.notifications.MySegmentChangeNotification;
+import io.split.android.client.service.sseclient.notifications.MySegmentChangeV2Notification;
+import io.split.android.client.service.sseclient.notifications.MySegmentUpdateStrategy;
 import io.split.android.client.service.sseclient.notifications.NotificationParser;
 import io.split.android.client.service.sseclient.notifications.NotificationType;
 import io.split.android.client.service.sseclient.notifications.OccupancyNotification;
@@ -103,6 +106,54 @@ public class NotificationParserTest {
         Assert.assertEquals(ControlNotification.ControlType.STREAMING_RESUMED, notification.getControlType());
     }
 
+    @Test
+    public void incomingNotificationIsBoundToItsType() {
+        IncomingNotification incoming = mParser.parseIncoming(SPLIT_KILL_NOTIFICATION);
+
+        Assert.assertTrue(incoming instanceof SplitKillNotification);
+        SplitKillNotification splitKill = (SplitKillNotification) incoming;
+        Assert.assertEquals(NotificationType.SPLIT_KILL, splitKill.getType());
+        Assert.assertEquals(1584647606125L, splitKill.getChangeNumber());
+        Assert.assertEquals("dep_split", splitKill.getSplitName());
+        Assert.assertEquals("MzM5Njc0ODcyNg==_MTExMzgwNjgx_splits", splitKill.getChannel());
+        Assert.assertEquals(1584647606489L, splitKill.getTimestamp());
+    }
+
+    @Test
+    public void incomingOccupancyIsBoundWithEnvelopeValues() {
+        IncomingNotification incoming = mParser.parseIncoming(OCCUPANCY);
+
+        Assert.assertTrue(incoming instanceof OccupancyNotification);
+        OccupancyNotification occupancy = (OccupancyNotification) incoming;
+        Assert.assertEquals(NotificationType.OCCUPANCY, occupancy.getType());
+        Assert.assertEquals(1, occupancy.getMetrics().getPublishers());
+        Assert.assertTrue(occupancy.isControlPriChannel());
+        Assert.assertEquals(1584647533288L, occupancy.getTimestamp());
+    }
+
+    @Test
+    public void incomingMySegmentsV2IsBoundToItsType() {
+        String notification = "{\"id\":\"x2dE2TEiJL:0:0\",\"timestamp\":1584647533288,\"channel\":\"MzM5Njc0ODcyNg==_MTExMzgwNjgx_mySegments\",\"data\":\"{\\\"type\\\":\\\"MY_SEGMENTS_UPDATE_V2\\\",\\\"changeNumber\\\":5,\\\"segmentName\\\":\\\"segment1\\\",\\\"c\\\":2,\\\"u\\\":3,\\\"d\\\":\\\"payload\\\"}\"}";
+
+        IncomingNotification incoming = mParser.parseIncoming(notification);
+
+        Assert.assertTrue(incoming instanceof MySegmentChangeV2Notification);
+        MySegmentChangeV2Notification update = (MySegmentChangeV2Notification) incoming;
+        Assert.assertEquals(NotificationType.MY_SEGMENTS_UPDATE_V2, update.getType());
+        Assert.assertEquals(Long.valueOf(5), update.getChangeNumber());
+        Assert.assertEquals("segment1", update.getSegmentName());
+        Assert.assertEquals(CompressionType.ZLIB, update.getCompression());
+        Assert.assertEquals(MySegmentUpdateStrategy.SEGMENT_REMOVAL, update.getUpdateStrategy());
+        Assert.assertEquals("payload", update.getData());
+    }
+
+    @Test
+    public void invalidIncomingNotificationReturnsNull() {
+        Assert.assertNull(mParser.parseIncoming("{\"id\":\"1\",\"channel\":\"control_pri\"}"));
+        Assert.assertNull(mParser.parseIncoming("{\"id\":\"1\",\"data\":\"{invalid\"}"));
+        Assert.assertNull(mParser.parseIncoming("not json"));
+    }
+
     @Test
     public void parseErrorMessage() {
 
@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -128,4 +129,15 @@ public class NotificationProcessorTest {
 
         verify(mySegmentsNotificationProcessor).processMySegmentsUpdateV2(mySegmentChangeNotification);
     }
+
+    @Test
+    public void boundNotificationIsNotParsedAgain() {
+        SplitsChangeNotification updateNotification = mock(SplitsChangeNotification.class);
+        when(updateNotification.getType()).thenReturn(NotificationType.SPLIT_UPDATE);
+
+        mNotificationProcessor.process(updateNotification);
+
+        verify(mNotificationParser, never()).parseSplitUpdate(anyString());
+        verify(mSplitsChangeQueue).offer(updateNotification);
+    }
 }
@@ -14,6 +14,8 @@ import java.util.concurrent.BlockingQueue;
 import io.split.android.client.service.sseclient.notifications.SplitsChangeNotification;
 import io.split.android.client.service.sseclient.reactor.SplitUpdatesWorker;
 import io.split.android.client.service.synchronizer.Synchronizer;
+import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.client.telemetry.storage.TelemetryRuntimeProducer;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
@@ -23,6 +25,8 @@ import static org.mockito.Mockito.when;
 
 public class SplitUpdateWorkerTest {
 
+    private static final long COALESCING_WINDOW = 200;
+
     BlockingQueue<SplitsChangeNotification> mNotificationsQueue;
 
     SplitUpdatesWorker mWorker;
@@ -30,11 +34,18 @@ public class SplitUpdateWorkerTest {
     @Mock
     Synchronizer mSynchronizer;
 
+    @Mock
+    SplitsStorage mSplitsStorage;
+
+    @Mock
+    TelemetryRuntimeProducer mTelemetryRuntimeProducer;
+
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
         mNotificationsQueue = new ArrayBlockingQueue<>(50);
-        mWorker = new SplitUpdatesWorker(mSynchronizer, mNotificationsQueue);
+        mWorker = new SplitUpdatesWorker(mSynchronizer, mNotificationsQueue, mSplitsStorage,
+                mTelemetryRuntimeProducer, COALESCING_WINDOW);
         mWorker.start();
     }
 
@@ -65,8 +76,46 @@ public class SplitUpdateWorkerTest {
 
         Thread.sleep(2000);
 
-        verify(mSynchronizer, times(4))
+        verify(mSynchronizer, times(1))
                 .synchronizeSplits(anyLong());
+        verify(mTelemetryRuntimeProducer).recordSplitUpdatesCoalesced(3);
+    }
+
+    @Test
+    public void burstOfUpdatesFetchesHighestChangeNumber() throws InterruptedException {
+        mNotificationsQueue.offer(notification(1000L));
+        mNotificationsQueue.offer(notification(3000L));
+        Thread.sleep(COALESCING_WINDOW / 4);
+        mNotificationsQueue.offer(notification(2000L));
+
+        Thread.sleep(2000);
+
+        verify(mSynchronizer, times(1)).synchronizeSplits(3000L);
+        verify(mSynchronizer, times(1)).synchronizeSplits(anyLong());
+        verify(mTelemetryRuntimeProducer).recordSplitUpdatesCoalesced(2);
+    }
+
+    @Test
+    public void updatesAfterWindowAreFetchedSeparately() throws InterruptedException {
+        mNotificationsQueue.offer(notification(1000L));
+        Thread.sleep(COALESCING_WINDOW * 3);
+        mNotificationsQueue.offer(notification(2000L));
+
+        Thread.sleep(2000);
+
+        verify(mSynchronizer).synchronizeSplits(1000L);
+        verify(mSynchronizer).synchronizeSplits(2000L);
+        verify(mTelemetryRuntimeProducer, never()).recordSplitUpdatesCoalesced(anyLong());
+    }
+
+    @Test
+    public void updateIsSkippedWhenStorageIsUpToDate() throws InterruptedException {
+        when(mSplitsStorage.getTill()).thenReturn(1000L);
+        mNotificationsQueue.offer(notification(1000L));
+
+        Thread.sleep(2000);
+
+        verify(mSynchronizer, never()).synchronizeSplits(anyLong());
     }
 
     @Test
@@ -82,4 +131,10 @@ public class SplitUpdateWorkerTest {
         verify(mSynchronizer, never())
                 .synchronizeSplits(anyLong());
     }
+
+    private static SplitsChangeNotification notification(long changeNumber) {
+        SplitsChangeNotification notification = Mockito.mock(SplitsChangeNotification.class);
+        when(notification.getChangeNumber()).thenReturn(changeNumber);
+        return notification;
+    }
 }
@@ -0,0 +1,147 @@
+package io.split.android.client.service.synchronizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.split.android.client.dtos.Event;
+import io.split.android.client.service.executor.SplitTask;
+import io.split.android.client.service.executor.SplitTaskExecutionListener;
+import io.split.android.client.service.executor.SplitTaskType;
+import io.split.android.client.storage.events.PersistentEventsStorage;
+import io.split.android.fake.SplitTaskExecutorStub;
+
+public class RecorderSyncHelperImplTest {
+
+    @Mock
+    private PersistentEventsStorage mStorage;
+    private QueueingTaskExecutor mTaskExecutor;
+    private RecorderSyncHelperImpl<Event> mSyncHelper;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mTaskExecutor = new QueueingTaskExecutor();
+        mSyncHelper = new RecorderSyncHelperImpl<>(SplitTaskType.EVENTS_RECORDER, mStorage, 1000, 1000000, mTaskExecutor);
+    }
+
+    @Test
+    public void recordsPushedWhileTaskIsPendingArePersistedInOneBatch() {
+        for (int i = 0; i < 10; i++) {
+            mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+        }
+
+        assertEquals(1, mTaskExecutor.tasks.size());
+        verify(mStorage, never()).pushMany(any());
+
+        mTaskExecutor.runAll();
+
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mStorage).pushMany(captor.capture());
+        assertEquals(10, captor.getValue().size());
+    }
+
+    @Test
+    public void newTaskIsSubmittedAfterPendingOneRuns() {
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+        mTaskExecutor.runAll();
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+
+        assertEquals(1, mTaskExecutor.tasks.size());
+    }
+
+    @Test
+    public void largeBatchesAreSplit() {
+        for (int i = 0; i < RecorderSyncHelperImpl.MAX_RECORDS_PER_INSERT + 1; i++) {
+            mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+        }
+
+        mTaskExecutor.runAll();
+
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mStorage, times(2)).pushMany(captor.capture());
+        assertEquals(RecorderSyncHelperImpl.MAX_RECORDS_PER_INSERT, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+    }
+
+    @Test
+    public void persistPendingTaskStoresQueuedRecords() {
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+
+        mSyncHelper.createPersistPendingTask().execute();
+
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mStorage).pushMany(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    public void recordsAreKeptWhenBatchCannotBeStored() {
+        doThrow(new RuntimeException("db error")).doNothing().when(mStorage).pushMany(any());
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+
+        mSyncHelper.persistPending();
+        mSyncHelper.persistPending();
+
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mStorage, times(2)).pushMany(captor.capture());
+        assertEquals(2, captor.getAllValues().get(1).size());
+    }
+
+    @Test
+    public void recordsAreDroppedAfterMaxAttempts() {
+        doThrow(new RuntimeException("db error")).when(mStorage).pushMany(any());
+        mSyncHelper.pushAndCheckIfFlushNeeded(new Event());
+
+        for (int i = 0; i < RecorderSyncHelperImpl.MAX_PERSIST_ATTEMPTS + 1; i++) {
+            mSyncHelper.persistPending();
+        }
+
+        verify(mStorage, times(RecorderSyncHelperImpl.MAX_PERSIST_ATTEMPTS)).pushMany(any());
+    }
+
+    @Test
+    public void flushIsNeededWhenQueueSizeIsExceeded() {
+        mSyncHelper = new RecorderSyncHelperImpl<>(SplitTaskType.EVENTS_RECORDER, mStorage, 2, 1000000, mTaskExecutor);
+
+        assertFalse(mSyncHelper.pushAndCheckIfFlushNeeded(new Event()));
+        assertFalse(mSyncHelper.pushAndCheckIfFlushNeeded(new Event()));
+        assertTrue(mSyncHelper.pushAndCheckIfFlushNeeded(new Event()));
+    }
+
+    private static class QueueingTaskExecutor extends SplitTaskExecutorStub {
+        final List<SplitTask> tasks = new ArrayList<>();
+
+        @Override
+        public void submit(@NonNull SplitTask task, @Nullable SplitTaskExecutionListener executionListener) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<SplitTask> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            for (SplitTask task : pending) {
+                task.execute();
+            }
+        }
+    }
+}
@@ -120,6 +120,7 @@ public class WorkManagerWrapperTest {
         Data inputData = new Data.Builder()
                 .putString("endpoint", "https://test.split.io/events")
                 .putInt("eventsPerPush", 526)
+                .putBoolean("requestCompressionEnabled", false)
                 .putBoolean("shouldRecordTelemetry", true)
                 .build();
 
@@ -148,6 +149,7 @@ public class WorkManagerWrapperTest {
         Data inputData = new Data.Builder()
                 .putString("endpoint", "https://test.split.io/events")
                 .putInt("impressionsPerPush", 256)
+                .putBoolean("requestCompressionEnabled", false)
                 .putBoolean("shouldRecordTelemetry", true).build();
 
         PeriodicWorkRequest expectedRequest = new PeriodicWorkRequest
@@ -13,6 +13,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.concurrent.TimeUnit;
+
 import io.split.android.client.events.SplitEventsManager;
 import io.split.android.client.service.executor.SplitTaskExecutor;
 import io.split.android.client.service.mysegments.LoadMySegmentsTask;
@@ -100,6 +102,16 @@ public class MySegmentsSynchronizerImplTest {
         assertEquals("TaskID", argumentCaptor.getValue());
     }
 
+    @Test
+    public void initialDelayIsAlignedToFirstSchedule() {
+        long anchor = TimeUnit.SECONDS.toNanos(1000);
+
+        assertEquals(60, MySegmentsSynchronizerImpl.getAlignedInitialDelay(60, anchor, anchor));
+        assertEquals(45, MySegmentsSynchronizerImpl.getAlignedInitialDelay(60, anchor, anchor + TimeUnit.SECONDS.toNanos(15)));
+        assertEquals(60, MySegmentsSynchronizerImpl.getAlignedInitialDelay(60, anchor, anchor + TimeUnit.SECONDS.toNanos(120)));
+        assertEquals(59, MySegmentsSynchronizerImpl.getAlignedInitialDelay(60, anchor, anchor + TimeUnit.SECONDS.toNanos(121)));
+    }
+
     @Test
     public void destroyCallsStopOnSyncRetryTimer() {
         mMySegmentsSynchronizer.destroy();
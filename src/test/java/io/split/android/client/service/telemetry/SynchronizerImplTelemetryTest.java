@@ -29,6 +29,7 @@ import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.executor.SplitTaskExecutor;
 import io.split.android.client.service.executor.SplitTaskFactory;
 import io.split.android.client.service.executor.SplitTaskType;
+import io.split.android.client.service.impressions.ImpressionsRecorderTask;
 import io.split.android.client.service.splits.SplitsSyncTask;
 import io.split.android.client.service.sseclient.sseclient.RetryBackoffCounterTimer;
 import io.split.android.client.service.synchronizer.SynchronizerImpl;
@@ -71,6 +72,7 @@ public class SynchronizerImplTelemetryTest {
 
         SplitTaskFactory mTaskFactory = mock(SplitTaskFactory.class);
         when(mTaskFactory.createEventsRecorderTask()).thenReturn(eventsRecorderTask);
+        when(mTaskFactory.createImpressionsRecorderTask()).thenReturn(mock(ImpressionsRecorderTask.class));
         when(mTaskFactory.createSplitsSyncTask(anyBoolean())).thenReturn(mock(SplitsSyncTask.class));
 
         SplitTaskExecutor mTaskExecutor = mock(SplitTaskExecutor.class);
@@ -86,6 +88,7 @@ public class SynchronizerImplTelemetryTest {
                 mConfig,
                 mTaskExecutor,
                 mSingleThreadTaskExecutor,
+                mock(SplitTaskExecutor.class),
                 mSplitStorageContainer,
                 mTaskFactory,
                 mEventsManager,
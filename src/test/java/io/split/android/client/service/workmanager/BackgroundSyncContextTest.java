@@ -0,0 +1,27 @@
+package io.split.android.client.service.workmanager;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import io.split.android.client.storage.db.SplitRoomDatabase;
+
+public class BackgroundSyncContextTest {
+
+    @Test
+    public void contextIsSharedByAllWorkers() {
+        assertSame(BackgroundSyncContext.getInstance(), BackgroundSyncContext.getInstance());
+        assertSame(BackgroundSyncContext.getInstance().getNetworkHelper(), BackgroundSyncContext.getInstance().getNetworkHelper());
+    }
+
+    @Test
+    public void persistentSplitsStorageIsReusedPerDatabase() {
+        BackgroundSyncContext context = BackgroundSyncContext.getInstance();
+        SplitRoomDatabase database = mock(SplitRoomDatabase.class);
+
+        assertSame(context.getPersistentSplitsStorage("db", database), context.getPersistentSplitsStorage("db", database));
+        assertNotSame(context.getPersistentSplitsStorage("db", database), context.getPersistentSplitsStorage("other_db", mock(SplitRoomDatabase.class)));
+    }
+}
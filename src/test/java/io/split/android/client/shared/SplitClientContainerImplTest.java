@@ -31,6 +31,7 @@ import io.split.android.client.SplitClient;
 import io.split.android.client.SplitClientConfig;
 import io.split.android.client.SplitClientFactory;
 import io.split.android.client.api.Key;
+import io.split.android.client.events.EventsDispatcher;
 import io.split.android.client.service.SplitApiFacade;
 import io.split.android.client.service.executor.SplitTaskExecutionInfo;
 import io.split.android.client.service.executor.SplitTaskExecutor;
@@ -282,7 +283,8 @@ public class SplitClientContainerImplTest {
                 mConfig,
                 mSplitClientFactory,
                 mClientComponentsRegister,
-                mWorkManagerWrapper
+                mWorkManagerWrapper,
+                new EventsDispatcher()
         );
     }
 
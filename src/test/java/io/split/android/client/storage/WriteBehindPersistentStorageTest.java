@@ -0,0 +1,145 @@
+package io.split.android.client.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.split.android.client.storage.attributes.PersistentAttributesStorage;
+import io.split.android.client.storage.attributes.WriteBehindPersistentAttributesStorage;
+import io.split.android.client.storage.mysegments.PersistentMySegmentsStorage;
+import io.split.android.client.storage.mysegments.WriteBehindPersistentMySegmentsStorage;
+
+public class WriteBehindPersistentStorageTest {
+
+    private static final long LONG_WINDOW = 60000;
+
+    @Mock
+    private PersistentMySegmentsStorage mMySegmentsStorage;
+    @Mock
+    private PersistentAttributesStorage mAttributesStorage;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void burstOfSegmentUpdatesIsWrittenOnce() {
+        WriteBehindScheduler scheduler = new WriteBehindScheduler(LONG_WINDOW);
+        WriteBehindPersistentMySegmentsStorage storage = new WriteBehindPersistentMySegmentsStorage(mMySegmentsStorage, scheduler);
+
+        storage.set("key", Arrays.asList("s1"));
+        storage.set("key", Arrays.asList("s1", "s2"));
+        storage.set("other_key", Arrays.asList("s3"));
+        verify(mMySegmentsStorage, never()).set(any(), anyList());
+
+        scheduler.flushAll();
+        scheduler.flushAll();
+
+        verify(mMySegmentsStorage, times(1)).set("key", Arrays.asList("s1", "s2"));
+        verify(mMySegmentsStorage, times(1)).set("other_key", Arrays.asList("s3"));
+        verify(mMySegmentsStorage, times(2)).set(any(), anyList());
+    }
+
+    @Test
+    public void pendingSegmentsAreReturnedBeforeBeingWritten() {
+        WriteBehindScheduler scheduler = new WriteBehindScheduler(LONG_WINDOW);
+        WriteBehindPersistentMySegmentsStorage storage = new WriteBehindPersistentMySegmentsStorage(mMySegmentsStorage, scheduler);
+        when(mMySegmentsStorage.getSnapshot("key")).thenReturn(Collections.singletonList("old"));
+
+        storage.set("key", Arrays.asList("s1", "s2"));
+
+        assertEquals(Arrays.asList("s1", "s2"), storage.getSnapshot("key"));
+        verify(mMySegmentsStorage, never()).getSnapshot("key");
+    }
+
+    @Test
+    public void closeWritesPendingSegments() {
+        WriteBehindPersistentMySegmentsStorage storage = new WriteBehindPersistentMySegmentsStorage(mMySegmentsStorage, new WriteBehindScheduler(LONG_WINDOW));
+
+        storage.set("key", Arrays.asList("s1"));
+        storage.close();
+
+        verify(mMySegmentsStorage).set("key", Arrays.asList("s1"));
+        verify(mMySegmentsStorage).close();
+    }
+
+    @Test
+    public void pendingWritesAreFlushedAfterWindow() {
+        WriteBehindPersistentMySegmentsStorage storage = new WriteBehindPersistentMySegmentsStorage(mMySegmentsStorage, new WriteBehindScheduler(50));
+
+        storage.set("key", Arrays.asList("s1"));
+
+        verify(mMySegmentsStorage, timeout(2000)).set("key", Arrays.asList("s1"));
+    }
+
+    @Test
+    public void lastAttributesChangeWins() {
+        WriteBehindScheduler scheduler = new WriteBehindScheduler(LONG_WINDOW);
+        WriteBehindPersistentAttributesStorage storage = new WriteBehindPersistentAttributesStorage(mAttributesStorage, scheduler);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("att1", 1);
+
+        storage.set("key", attributes);
+        storage.clear("key");
+        assertTrue(storage.getAll("key").isEmpty());
+
+        storage.set("key", attributes);
+        assertEquals(attributes, storage.getAll("key"));
+
+        scheduler.flushAll();
+
+        verify(mAttributesStorage).set("key", attributes);
+        verify(mAttributesStorage, never()).clear("key");
+        verify(mAttributesStorage, never()).getAll("key");
+    }
+
+    @Test
+    public void pendingClearIsWritten() {
+        WriteBehindScheduler scheduler = new WriteBehindScheduler(LONG_WINDOW);
+        WriteBehindPersistentAttributesStorage storage = new WriteBehindPersistentAttributesStorage(mAttributesStorage, scheduler);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("att1", 1);
+
+        storage.set("key", attributes);
+        storage.clear("key");
+        scheduler.flushAll();
+
+        verify(mAttributesStorage).clear("key");
+        verify(mAttributesStorage, never()).set(any(), any());
+    }
+
+    @Test
+    public void closedStorageIsNoLongerFlushedByScheduler() {
+        WriteBehindScheduler scheduler = new WriteBehindScheduler(LONG_WINDOW);
+        WriteBehindPersistentAttributesStorage storage = new WriteBehindPersistentAttributesStorage(mAttributesStorage, scheduler);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("att1", 1);
+
+        storage.set("key", attributes);
+        storage.close();
+        verify(mAttributesStorage).set("key", attributes);
+
+        storage.set("key", attributes);
+        scheduler.flushAll();
+
+        verify(mAttributesStorage, times(1)).set("key", attributes);
+    }
+}
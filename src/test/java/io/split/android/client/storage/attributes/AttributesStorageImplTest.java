@@ -2,6 +2,7 @@ package io.split.android.client.storage.attributes;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -103,6 +104,18 @@ public class AttributesStorageImplTest {
         assertEquals(0, attributesStorage.getAll().size());
     }
 
+    @Test
+    public void getAllReturnsSnapshotNotAffectedByLaterWrites() {
+        attributesStorage.set(getDefaultValuesMap());
+        Map<String, Object> snapshot = attributesStorage.getAll();
+
+        attributesStorage.set("newKey", "newValue");
+        attributesStorage.remove("key1");
+
+        assertEquals(getDefaultValuesMap(), snapshot);
+        assertSame(attributesStorage.getAll(), attributesStorage.getAll());
+    }
+
     private Map<String, Object> getDefaultValuesMap() {
         if (defaultValuesMap == null) {
             defaultValuesMap = new HashMap<>();
@@ -0,0 +1,74 @@
+package io.split.android.client.storage.mysegments;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class MySegmentsSnapshotTest {
+
+    @Test
+    public void containsByNameAndId() {
+        MySegmentsSnapshot snapshot = MySegmentsSnapshot.of(Arrays.asList("s1", "s2"));
+
+        assertTrue(snapshot.contains("s1"));
+        assertTrue(snapshot.containsId(SegmentIds.idFor("s1")));
+        assertTrue(snapshot.containsId(SegmentIds.idFor("s2")));
+        assertFalse(snapshot.contains("s3"));
+        assertFalse(snapshot.containsId(SegmentIds.idFor("s3")));
+        assertFalse(snapshot.containsId(-1));
+        assertEquals(2, snapshot.size());
+    }
+
+    @Test
+    public void idsAreStablePerName() {
+        assertEquals(SegmentIds.idFor("segment"), SegmentIds.idFor("segment"));
+        assertFalse(SegmentIds.idFor("segment") == SegmentIds.idFor("other_segment"));
+    }
+
+    @Test
+    public void idsBeyondFirstWordAreIndexed() {
+        List<String> segments = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            segments.add("many_" + i);
+        }
+        MySegmentsSnapshot snapshot = MySegmentsSnapshot.of(segments);
+
+        for (String segment : segments) {
+            assertTrue(snapshot.containsId(SegmentIds.idFor(segment)));
+        }
+    }
+
+    @Test
+    public void emptyInputReturnsEmptySnapshot() {
+        assertSame(MySegmentsSnapshot.EMPTY, MySegmentsSnapshot.of(Collections.<String>emptyList()));
+        assertFalse(MySegmentsSnapshot.EMPTY.containsId(SegmentIds.idFor("s1")));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotCanNotBeModified() {
+        MySegmentsSnapshot.of(Arrays.asList("s1")).add("s2");
+    }
+
+    @Test
+    public void storageUpdatesDoNotChangePreviousSnapshot() {
+        MySegmentsStorageImpl storage = new MySegmentsStorageImpl("key", mock(PersistentMySegmentsStorage.class));
+        storage.set(Arrays.asList("s1", "s2"));
+
+        Set<String> previous = storage.getAll();
+        storage.set(Collections.singletonList("s3"));
+
+        assertEquals(2, previous.size());
+        assertTrue(previous.contains("s1"));
+        assertEquals(Collections.singleton("s3"), storage.getAll());
+    }
+}
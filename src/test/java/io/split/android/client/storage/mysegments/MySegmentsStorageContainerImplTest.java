@@ -1,15 +1,21 @@
 package io.split.android.client.storage.mysegments;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 public class MySegmentsStorageContainerImplTest {
 
@@ -62,4 +68,45 @@ public class MySegmentsStorageContainerImplTest {
 
         assertEquals(4, distinctAmount);
     }
+
+    @Test
+    public void concurrentAddsAreNotLost() throws InterruptedException {
+        MySegmentsStorage storage = mContainer.getStorageForKey("user_key");
+        int threads = 8;
+        int segmentsPerThread = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < segmentsPerThread; i++) {
+                    storage.add("segment_" + thread + "_" + i);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * segmentsPerThread, storage.getAll().size());
+    }
+
+    @Test
+    public void removeOnlyReportsChangeWhenSegmentWasPresent() {
+        MySegmentsStorage storage = mContainer.getStorageForKey("user_key");
+        storage.set(Arrays.asList("s1", "s2"));
+
+        assertTrue(storage.remove("s1"));
+        assertFalse(storage.remove("s1"));
+        assertEquals(Collections.singleton("s2"), storage.getAll());
+    }
 }
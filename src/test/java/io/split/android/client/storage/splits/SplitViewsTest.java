@@ -0,0 +1,128 @@
+package io.split.android.client.storage.splits;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.split.android.client.api.SplitView;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.MatcherType;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.dtos.Status;
+import io.split.android.engine.ConditionsTestUtil;
+import io.split.android.engine.matchers.AllKeysMatcher;
+import io.split.android.engine.matchers.CombiningMatcher;
+import io.split.android.helpers.SplitHelper;
+
+public class SplitViewsTest {
+
+    private SplitsStorageImpl mSplitsStorage;
+
+    @Before
+    public void setUp() {
+        mSplitsStorage = new SplitsStorageImpl(mock(PersistentSplitsStorage.class));
+    }
+
+    @Test
+    public void viewsAreReusedUntilStorageChanges() {
+        mSplitsStorage.update(change(1, split("split1", 1), split("split2", 1)));
+
+        SplitViews views = mSplitsStorage.getSplitViews();
+
+        assertSame(views, mSplitsStorage.getSplitViews());
+        assertEquals(2, views.getAll().size());
+        assertEquals(Arrays.asList("on", "off"), views.get("split1").treatments);
+    }
+
+    @Test
+    public void onlyChangedSplitsAreRebuilt() {
+        mSplitsStorage.update(change(1, split("split1", 1), split("split2", 1)));
+        SplitViews views = mSplitsStorage.getSplitViews();
+
+        mSplitsStorage.update(change(2, split("split2", 2)));
+        SplitViews updatedViews = mSplitsStorage.getSplitViews();
+
+        assertNotSame(views, updatedViews);
+        assertSame(views.get("split1"), updatedViews.get("split1"));
+        assertNotSame(views.get("split2"), updatedViews.get("split2"));
+        assertEquals(2, updatedViews.get("split2").changeNumber);
+    }
+
+    @Test
+    public void killedSplitIsRebuilt() {
+        Split split = split("split1", 1);
+        mSplitsStorage.update(change(1, split));
+        SplitView view = mSplitsStorage.getSplitViews().get("split1");
+
+        split.killed = true;
+        split.changeNumber = 2;
+        mSplitsStorage.updateWithoutChecks(split);
+
+        SplitView killedView = mSplitsStorage.getSplitViews().get("split1");
+        assertNotSame(view, killedView);
+        assertTrue(killedView.killed);
+    }
+
+    @Test
+    public void archivedSplitIsRemoved() {
+        mSplitsStorage.update(change(1, split("split1", 1), split("split2", 1)));
+        mSplitsStorage.getSplitViews();
+
+        mSplitsStorage.update(new ProcessedSplitChange(Collections.<Split>emptyList(),
+                Collections.singletonList(split("split1", 2)), 2, 0));
+
+        SplitViews views = mSplitsStorage.getSplitViews();
+        assertNull(views.get("split1"));
+        assertEquals(Collections.singletonList("split2"), views.getNames());
+    }
+
+    @Test
+    public void splitsTheParserDropsHaveNoView() {
+        Split archived = split("archived", 1);
+        archived.status = Status.ARCHIVED;
+
+        SplitViews views = SplitViews.build(Arrays.asList(archived, split("split1", 1)), SplitViews.EMPTY);
+
+        assertNull(views.get("archived"));
+        assertEquals(1, views.getAll().size());
+        assertEquals(Arrays.asList("archived", "split1"), views.getNames());
+    }
+
+    @Test
+    public void splitsWithInvalidMatchersHaveNoView() {
+        Split nullType = split("null_type", 1);
+        nullType.conditions.get(0).matcherGroup.matchers.get(0).matcherType = null;
+        Split missingData = split("missing_data", 1);
+        missingData.conditions.get(0).matcherGroup.matchers.get(0).matcherType = MatcherType.IN_SEGMENT;
+        Split invalidRegex = split("invalid_regex", 1);
+        invalidRegex.conditions.get(0).matcherGroup.matchers.get(0).matcherType = MatcherType.MATCHES_STRING;
+        invalidRegex.conditions.get(0).matcherGroup.matchers.get(0).stringMatcherData = "[";
+
+        SplitViews views = SplitViews.build(Arrays.asList(nullType, missingData, invalidRegex, split("split1", 1)), SplitViews.EMPTY);
+
+        assertNull(views.get("null_type"));
+        assertNull(views.get("missing_data"));
+        assertNull(views.get("invalid_regex"));
+        assertEquals(1, views.getAll().size());
+    }
+
+    private static ProcessedSplitChange change(long changeNumber, Split... splits) {
+        return new ProcessedSplitChange(Arrays.asList(splits), Collections.<Split>emptyList(), changeNumber, 0);
+    }
+
+    private static Split split(String name, long changeNumber) {
+        Condition condition = SplitHelper.createCondition(CombiningMatcher.of(new AllKeysMatcher()),
+                Arrays.asList(ConditionsTestUtil.partition("on", 50), ConditionsTestUtil.partition("off", 50)));
+        return SplitHelper.createSplit(name, 1, false, "off", Collections.singletonList(condition),
+                "user", changeNumber, 1, null);
+    }
+}
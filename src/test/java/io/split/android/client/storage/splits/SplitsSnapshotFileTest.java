@@ -0,0 +1,103 @@
+package io.split.android.client.storage.splits;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.split.android.client.dtos.Split;
+import io.split.android.client.utils.Json;
+import io.split.android.helpers.FileHelper;
+
+public class SplitsSnapshotFileTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private File mFile;
+    private SplitsSnapshotFile mSnapshotFile;
+    private List<Split> mSplits;
+
+    @Before
+    public void setUp() {
+        mFile = new File(mFolder.getRoot(), "db_splits.bin");
+        mSnapshotFile = new SplitsSnapshotFile(mFile);
+        mSplits = new FileHelper().loadAndParseSplitChangeFile("split_changes_1.json");
+    }
+
+    @Test
+    public void readReturnsWrittenSplits() {
+        mSnapshotFile.write(mSplits, 100);
+
+        List<Split> splits = mSnapshotFile.read(100);
+
+        assertEquals(mSplits.size(), splits.size());
+        for (int i = 0; i < mSplits.size(); i++) {
+            assertEquals(Json.toJson(mSplits.get(i)), Json.toJson(splits.get(i)));
+        }
+    }
+
+    @Test
+    public void repeatedStringsAreShared() {
+        mSnapshotFile.write(mSplits, 100);
+
+        List<Split> splits = mSnapshotFile.read(100);
+
+        assertSame(splits.get(0).trafficTypeName, splits.get(1).trafficTypeName);
+    }
+
+    @Test
+    public void readReturnsNullWhenChangeNumberDoesNotMatch() {
+        mSnapshotFile.write(mSplits, 100);
+
+        assertNull(mSnapshotFile.read(101));
+    }
+
+    @Test
+    public void readReturnsNullWhenThereIsNoFile() {
+        assertNull(mSnapshotFile.read(100));
+    }
+
+    @Test
+    public void corruptedFileIsDiscarded() throws IOException {
+        mSnapshotFile.write(mSplits, 100);
+        try (RandomAccessFile file = new RandomAccessFile(mFile, "rw")) {
+            file.seek(file.length() / 2);
+            int value = file.read();
+            file.seek(file.length() / 2);
+            file.write(value ^ 0xff);
+        }
+
+        assertNull(mSnapshotFile.read(100));
+        assertFalse(mFile.exists());
+    }
+
+    @Test
+    public void truncatedFileIsDiscarded() throws IOException {
+        mSnapshotFile.write(mSplits, 100);
+        try (RandomAccessFile file = new RandomAccessFile(mFile, "rw")) {
+            file.setLength(file.length() - 20);
+        }
+
+        assertNull(mSnapshotFile.read(100));
+        assertFalse(mFile.exists());
+    }
+
+    @Test
+    public void emptySnapshot() {
+        mSnapshotFile.write(new ArrayList<>(), 100);
+
+        assertEquals(0, mSnapshotFile.read(100).size());
+    }
+}
@@ -0,0 +1,59 @@
+package io.split.android.client.storage.splits;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import io.split.android.client.dtos.Split;
+
+public class SplitsStorageImplTest {
+
+    @Mock
+    private PersistentSplitsStorage mPersistentStorage;
+    private SplitsStorageImpl mSplitsStorage;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mSplitsStorage = new SplitsStorageImpl(mPersistentStorage);
+    }
+
+    @Test
+    public void snapshotIsUpdatedAfterCompleteLoad() {
+        when(mPersistentStorage.getSnapshot(any(SplitsPageConsumer.class)))
+                .thenReturn(new SplitsSnapshot(new ArrayList<>(), 100, 0, "", true));
+        mSplitsStorage.loadLocal();
+
+        mSplitsStorage.update(change(101));
+
+        verify(mPersistentStorage).updateSnapshot(any(), anyLong());
+    }
+
+    @Test
+    public void snapshotIsNotUpdatedAfterIncompleteLoad() {
+        when(mPersistentStorage.getSnapshot(any(SplitsPageConsumer.class)))
+                .thenReturn(new SplitsSnapshot(new ArrayList<>(), 100, 0, "", false));
+        mSplitsStorage.loadLocal();
+
+        mSplitsStorage.update(change(101));
+
+        verify(mPersistentStorage, never()).updateSnapshot(any(), anyLong());
+    }
+
+    private static ProcessedSplitChange change(long changeNumber) {
+        Split split = new Split();
+        split.name = "split";
+        split.trafficTypeName = "user";
+        return new ProcessedSplitChange(Collections.singletonList(split), new ArrayList<>(), changeNumber, 0);
+    }
+}
@@ -1,5 +1,15 @@
 package io.split.android.client.storage.splits;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,11 +19,16 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import io.split.android.client.dtos.Split;
+import io.split.android.client.storage.db.GeneralInfoDao;
+import io.split.android.client.storage.db.GeneralInfoEntity;
 import io.split.android.client.storage.db.SplitDao;
 import io.split.android.client.storage.db.SplitEntity;
+import io.split.android.client.storage.db.SplitQueryDao;
 import io.split.android.client.storage.db.SplitRoomDatabase;
 
 public class SqLitePersistentSplitsStorageTest {
@@ -26,6 +41,12 @@ public class SqLitePersistentSplitsStorageTest {
     private SplitListTransformer<Split, SplitEntity> mSplitToSplitEntityTransformer;
     @Mock
     private SplitDao mSplitDao;
+    @Mock
+    private SplitQueryDao mSplitQueryDao;
+    @Mock
+    private GeneralInfoDao mGeneralInfoDao;
+    @Mock
+    private SplitsSnapshotFile mSnapshotFile;
     private SqLitePersistentSplitsStorage mStorage;
 
     @Before
@@ -35,17 +56,150 @@ public class SqLitePersistentSplitsStorageTest {
         mStorage = new SqLitePersistentSplitsStorage(mDatabase, mEntityToSplitTransformer, mSplitToSplitEntityTransformer);
     }
 
+    @Test
+    public void getSnapshotUsesSnapshotFileWhenAvailable() {
+        mStorage = storageWithSnapshotFile();
+        List<Split> splits = new ArrayList<>();
+        when(mSnapshotFile.read(100)).thenReturn(splits);
+
+        SplitsSnapshot snapshot = mStorage.getSnapshot();
+
+        assertSame(splits, snapshot.getSplits());
+        verify(mDatabase, never()).splitDao();
+    }
+
+    @Test
+    public void getSnapshotLoadsFromDatabaseAndWritesSnapshotFileWhenNotAvailable() {
+        mStorage = storageWithSnapshotFile();
+        List<SplitEntity> entities = getMockEntities();
+        List<Split> splits = newSplits(1, entities.size());
+        when(mSnapshotFile.read(100)).thenReturn(null);
+        when(mDatabase.splitQueryDao()).thenReturn(mSplitQueryDao);
+        when(mSplitQueryDao.get(0, SqLitePersistentSplitsStorage.LOAD_PAGE_SIZE)).thenReturn(entities);
+        when(mEntityToSplitTransformer.transform(entities)).thenReturn(splits);
+
+        SplitsSnapshot snapshot = mStorage.getSnapshot();
+
+        assertEquals(splits, snapshot.getSplits());
+        assertTrue(snapshot.isComplete());
+        verify(mSnapshotFile).write(snapshot.getSplits(), 100);
+    }
+
+    @Test
+    public void incompleteLoadIsNotWrittenToSnapshotFile() {
+        mStorage = storageWithSnapshotFile();
+        List<SplitEntity> entities = getMockEntities();
+        // e.g. the parallel transformation timed out
+        when(mSnapshotFile.read(100)).thenReturn(null);
+        when(mDatabase.splitQueryDao()).thenReturn(mSplitQueryDao);
+        when(mSplitQueryDao.get(0, SqLitePersistentSplitsStorage.LOAD_PAGE_SIZE)).thenReturn(entities);
+        when(mEntityToSplitTransformer.transform(entities)).thenReturn(new ArrayList<>());
+
+        SplitsSnapshot snapshot = mStorage.getSnapshot();
+
+        assertFalse(snapshot.isComplete());
+        verify(mSnapshotFile, never()).write(any(), anyLong());
+        verify(mSnapshotFile).delete();
+    }
+
+    @Test
+    public void getSnapshotReadsSplitsInPagesAndPassesThemToConsumer() {
+        mStorage = storageWithSnapshotFile();
+        int pageSize = SqLitePersistentSplitsStorage.LOAD_PAGE_SIZE;
+        List<SplitEntity> firstPage = getMockEntities(1, pageSize);
+        List<SplitEntity> secondPage = getMockEntities(pageSize + 1, 3);
+        List<Split> firstSplits = newSplits(1, pageSize);
+        List<Split> secondSplits = newSplits(pageSize + 1, 3);
+        when(mSnapshotFile.read(100)).thenReturn(null);
+        when(mDatabase.splitQueryDao()).thenReturn(mSplitQueryDao);
+        when(mSplitQueryDao.get(0, pageSize)).thenReturn(firstPage);
+        when(mSplitQueryDao.get(pageSize, pageSize)).thenReturn(secondPage);
+        when(mEntityToSplitTransformer.transform(firstPage)).thenReturn(firstSplits);
+        when(mEntityToSplitTransformer.transform(secondPage)).thenReturn(secondSplits);
+        List<List<Split>> consumedPages = new ArrayList<>();
+
+        SplitsSnapshot snapshot = mStorage.getSnapshot(consumedPages::add);
+
+        assertEquals(Arrays.asList(firstSplits, secondSplits), consumedPages);
+        List<Split> allSplits = new ArrayList<>(firstSplits);
+        allSplits.addAll(secondSplits);
+        assertEquals(allSplits, snapshot.getSplits());
+        assertTrue(snapshot.isComplete());
+        verify(mSplitQueryDao, times(2)).get(anyLong(), anyInt());
+        verify(mDatabase, never()).splitDao();
+    }
+
+    @Test
+    public void getSnapshotPassesSnapshotFileSplitsToConsumer() {
+        mStorage = storageWithSnapshotFile();
+        List<Split> splits = Collections.singletonList(newSplit("split"));
+        when(mSnapshotFile.read(100)).thenReturn(splits);
+        List<List<Split>> consumedPages = new ArrayList<>();
+
+        mStorage.getSnapshot(consumedPages::add);
+
+        assertEquals(Collections.singletonList(splits), consumedPages);
+        verify(mDatabase, never()).splitQueryDao();
+    }
+
+    @Test
+    public void updatingSingleSplitDeletesSnapshotFile() {
+        mStorage = storageWithSnapshotFile();
+        when(mDatabase.splitDao()).thenReturn(mSplitDao);
+
+        mStorage.update(new Split());
+
+        verify(mSnapshotFile).delete();
+    }
+
+    private SqLitePersistentSplitsStorage storageWithSnapshotFile() {
+        when(mDatabase.generalInfoDao()).thenReturn(mGeneralInfoDao);
+        when(mGeneralInfoDao.getByName(GeneralInfoEntity.CHANGE_NUMBER_INFO))
+                .thenReturn(new GeneralInfoEntity(GeneralInfoEntity.CHANGE_NUMBER_INFO, 100));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(mDatabase).runInTransaction(any(Runnable.class));
+
+        return new SqLitePersistentSplitsStorage(mDatabase, mEntityToSplitTransformer, mSplitToSplitEntityTransformer, mSnapshotFile);
+    }
+
     @Test
     public void getAllUsesTransformer() {
         List<SplitEntity> mockEntities = getMockEntities();
-        when(mSplitDao.getAll()).thenReturn(mockEntities);
-        when(mDatabase.splitDao()).thenReturn(mSplitDao);
+        when(mSplitQueryDao.get(0, SqLitePersistentSplitsStorage.LOAD_PAGE_SIZE)).thenReturn(mockEntities);
+        when(mDatabase.splitQueryDao()).thenReturn(mSplitQueryDao);
 
         mStorage.getAll();
 
         verify(mEntityToSplitTransformer).transform(mockEntities);
     }
 
+    private List<SplitEntity> getMockEntities(long firstRowId, int count) {
+        List<SplitEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SplitEntity entity = new SplitEntity();
+            entity.setRowId(firstRowId + i);
+            entity.setName("split-" + (firstRowId + i));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static List<Split> newSplits(int first, int count) {
+        List<Split> splits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            splits.add(newSplit("split-" + (first + i)));
+        }
+        return splits;
+    }
+
+    private static Split newSplit(String name) {
+        Split split = new Split();
+        split.name = name;
+        return split;
+    }
+
     private List<SplitEntity> getMockEntities() {
         ArrayList<SplitEntity> entities = new ArrayList<>();
         String jsonTemplate = "{\"name\":\"%s\", \"changeNumber\": %d}";
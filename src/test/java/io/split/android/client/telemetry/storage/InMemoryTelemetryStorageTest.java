@@ -23,6 +23,8 @@ import io.split.android.client.telemetry.model.Method;
 import io.split.android.client.telemetry.model.MethodExceptions;
 import io.split.android.client.telemetry.model.MethodLatencies;
 import io.split.android.client.telemetry.model.OperationType;
+import io.split.android.client.telemetry.model.StartupPhase;
+import io.split.android.client.telemetry.model.StartupPhases;
 import io.split.android.client.telemetry.model.streaming.AblyErrorStreamingEvent;
 import io.split.android.client.telemetry.model.streaming.ConnectionEstablishedStreamingEvent;
 import io.split.android.client.telemetry.model.streaming.OccupancySecStreamingEvent;
@@ -396,6 +398,19 @@ public class InMemoryTelemetryStorageTest {
         assertEquals(0, telemetryStorage.popTokenRefreshes());
     }
 
+    @Test
+    public void coalescedSplitUpdatesAreProperlyCounted() {
+
+        assertEquals(0, telemetryStorage.popSplitUpdatesCoalesced());
+
+        telemetryStorage.recordSplitUpdatesCoalesced(3);
+        telemetryStorage.recordSplitUpdatesCoalesced(2);
+
+        assertEquals(5, telemetryStorage.popSplitUpdatesCoalesced());
+
+        assertEquals(0, telemetryStorage.popSplitUpdatesCoalesced());
+    }
+
     @Test
     public void tagsAreStoredCorrectly() {
         assertTrue(telemetryStorage.popTags().isEmpty());
@@ -513,6 +528,20 @@ public class InMemoryTelemetryStorageTest {
         assertEquals(300, telemetryStorage.getTimeUntilReadyFromCache());
     }
 
+    @Test
+    public void startupPhasesAreRecordedCorrectly() {
+        telemetryStorage.recordStartupPhase(StartupPhase.DATABASE, 40);
+        telemetryStorage.recordStartupPhase(StartupPhase.STORAGE, 25);
+        telemetryStorage.recordStartupPhase(StartupPhase.TOTAL, 120);
+
+        StartupPhases startupPhases = telemetryStorage.getStartupPhases();
+
+        assertEquals(40, startupPhases.getDatabase());
+        assertEquals(25, startupPhases.getStorage());
+        assertEquals(120, startupPhases.getTotal());
+        assertEquals(0, startupPhases.getHttpClient());
+    }
+
     public void recordSdkReadyFromCacheValueIsStoreCorrectly() {
         telemetryStorage.recordTimeUntilReadyFromCache(500);
 
@@ -0,0 +1,88 @@
+package io.split.android.client.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoggerTest {
+
+    private final List<String> mMessages = new ArrayList<>();
+    private final List<Integer> mPriorities = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        Logger.instance().debugLevel(false);
+        Logger.setSink(new LogSink() {
+            @Override
+            public void log(int priority, String tag, String message, Throwable throwable) {
+                mPriorities.add(priority);
+                mMessages.add(message);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        Logger.instance().debugLevel(false);
+        Logger.setSink(new AndroidLogSink());
+    }
+
+    @Test
+    public void disabledDebugMessagesAreNotBuilt() {
+        Logger.d(new LogMessageSupplier() {
+            @Override
+            public String getMessage() {
+                fail("Message should not be built");
+                return null;
+            }
+        });
+        Logger.d("Value %s", new Object() {
+            @Override
+            public String toString() {
+                fail("Argument should not be formatted");
+                return null;
+            }
+        });
+        Logger.v("Value %d", 1);
+
+        assertTrue(mMessages.isEmpty());
+    }
+
+    @Test
+    public void enabledMessagesAreSentToSink() {
+        Logger.instance().debugLevel(true);
+
+        Logger.d("Value %d", 1);
+        Logger.d(new LogMessageSupplier() {
+            @Override
+            public String getMessage() {
+                return "supplied";
+            }
+        });
+        Logger.e("error");
+
+        assertEquals(3, mMessages.size());
+        assertEquals("Value 1", mMessages.get(0));
+        assertEquals("supplied", mMessages.get(1));
+        assertEquals("error", mMessages.get(2));
+        assertEquals(Integer.valueOf(Log.ERROR), mPriorities.get(2));
+    }
+
+    @Test
+    public void infoAndAboveAreLoggedWithoutDebug() {
+        Logger.i("info %d", 1);
+        Logger.w("warn");
+
+        assertEquals(2, mMessages.size());
+        assertEquals("info 1", mMessages.get(0));
+    }
+}
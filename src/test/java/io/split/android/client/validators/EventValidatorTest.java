@@ -276,6 +276,34 @@ public class EventValidatorTest {
                 + "make sure you’re tracking your events to a valid traffic type defined in the Split console", errorInfo.getWarnings().get(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_WITHOUT_SPLIT_IN_ENVIRONMENT));
     }
 
+    @Test
+    public void validatedNamesAreStillCheckedForWarningsWhenRepeated() {
+        Event event = newEventUppercase();
+        event.trafficTypeName = "Custom";
+
+        for (int i = 0; i < 3; i++) {
+            ValidationErrorInfo errorInfo = validator.validate(event, false);
+            Assert.assertNotNull(errorInfo);
+            Assert.assertFalse(errorInfo.isError());
+            Assert.assertEquals("traffic_type_name should be all lowercase - converting string to lowercase", errorInfo.getWarnings().get(ValidationErrorInfo.WARNING_TRAFFIC_TYPE_HAS_UPPERCASE_CHARS));
+        }
+    }
+
+    @Test
+    public void invalidTypeIsRejectedAfterValidOnes() {
+        Event event = newEventTypeName();
+        event.eventTypeId = "type1";
+        Assert.assertNull(validator.validate(event, true));
+        Assert.assertNull(validator.validate(event, true));
+
+        event.eventTypeId = "type1!";
+        ValidationErrorInfo errorInfo = validator.validate(event, true);
+
+        Assert.assertNotNull(errorInfo);
+        Assert.assertTrue(errorInfo.isError());
+        Assert.assertEquals(buildEventTypeValidationMessage("type1!"), errorInfo.getErrorMessage());
+    }
+
     private Event newEventTypeName()  {
         Event event = new Event();
         event.trafficTypeName = "traffic1";
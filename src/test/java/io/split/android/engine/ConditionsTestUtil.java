@@ -323,6 +323,17 @@ public class ConditionsTestUtil {
         return c;
     }
 
+    public static Matcher dependencyMatcher(String split, List<String> treatments) {
+        DependencyMatcherData data = new DependencyMatcherData();
+        data.split = split;
+        data.treatments = treatments;
+
+        Matcher matcher = new Matcher();
+        matcher.matcherType = MatcherType.IN_SPLIT_TREATMENT;
+        matcher.dependencyMatcherData = data;
+        return matcher;
+    }
+
     public static Partition partition(String treatment, int size) {
         Partition p = new Partition();
         p.treatment = treatment;
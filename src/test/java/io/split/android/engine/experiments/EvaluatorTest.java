@@ -2,12 +2,19 @@ package io.split.android.engine.experiments;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.Lists;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,12 +26,17 @@ import io.split.android.client.EvaluationResult;
 import io.split.android.client.Evaluator;
 import io.split.android.client.EvaluatorImpl;
 import io.split.android.client.TreatmentLabels;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.ConditionType;
+import io.split.android.client.dtos.Partition;
 import io.split.android.client.dtos.Split;
 import io.split.android.client.storage.mysegments.MySegmentsStorage;
 import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
 import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.engine.ConditionsTestUtil;
 import io.split.android.grammar.Treatments;
 import io.split.android.helpers.FileHelper;
+import io.split.android.helpers.SplitHelper;
 
 public class EvaluatorTest {
 
@@ -48,7 +60,7 @@ public class EvaluatorTest {
             when(splitsStorage.get("a_new_split_2")).thenReturn(splitsMap.get("a_new_split_2"));
             when(splitsStorage.get("Test")).thenReturn(splitsMap.get("Test"));
 
-            when(mySegmentsStorageContainer.getStorageForKey(any())).thenReturn(mySegmentsStorage);
+            when(mySegmentsStorageContainer.getStorageIfPresent(any())).thenReturn(mySegmentsStorage);
             when(mySegmentsStorage.getAll()).thenReturn(mySegments);
 
             evaluator = new EvaluatorImpl(splitsStorage, splitParser);
@@ -131,6 +143,135 @@ public class EvaluatorTest {
         Assert.assertEquals(TreatmentLabels.DEFINITION_NOT_FOUND, result.getLabel());
     }
 
+    @Test
+    public void batchEvaluationMatchesSingleEvaluations() {
+        List<Split> splits = new FileHelper().loadAndParseSplitChangeFile("split_changes_1.json");
+        Map<String, Split> splitsMap = splitsMap(splits);
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        when(splitsStorage.get(any())).thenAnswer(invocation -> splitsMap.get(invocation.getArgument(0)));
+        when(splitsStorage.getMany(any())).thenReturn(splitsMap);
+        MySegmentsStorageContainer mySegmentsStorageContainer = mock(MySegmentsStorageContainer.class);
+        MySegmentsStorage mySegmentsStorage = mock(MySegmentsStorage.class);
+        when(mySegmentsStorageContainer.getStorageIfPresent(any())).thenReturn(mySegmentsStorage);
+        when(mySegmentsStorage.getAll()).thenReturn(new HashSet<>(Arrays.asList("s1", "s2", "test_copy")));
+        Evaluator batchEvaluator = new EvaluatorImpl(splitsStorage, new SplitParser(mySegmentsStorageContainer));
+
+        List<String> splitNames = new ArrayList<>(splitsMap.keySet());
+        splitNames.add("non_existing_split");
+        for (String key : Arrays.asList("nico_test", "anyKey", "bla", "key_123")) {
+            Map<String, EvaluationResult> results = batchEvaluator.getTreatments(key, null, splitNames, new HashMap<>());
+
+            Assert.assertEquals(splitNames.size(), results.size());
+            for (String splitName : splitNames) {
+                EvaluationResult expected = batchEvaluator.getTreatment(key, null, splitName, new HashMap<>());
+                EvaluationResult result = results.get(splitName);
+                Assert.assertEquals(expected.getTreatment(), result.getTreatment());
+                Assert.assertEquals(expected.getLabel(), result.getLabel());
+                Assert.assertEquals(expected.getChangeNumber(), result.getChangeNumber());
+                Assert.assertEquals(expected.getConfigurations(), result.getConfigurations());
+            }
+        }
+        Assert.assertEquals(TreatmentLabels.DEFINITION_NOT_FOUND,
+                batchEvaluator.getTreatments("key", null, splitNames, new HashMap<>()).get("non_existing_split").getLabel());
+    }
+
+    @Test
+    public void batchEvaluationWithNoSplitsDoesNotReadStorage() {
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        Evaluator batchEvaluator = new EvaluatorImpl(splitsStorage, new SplitParser(mock(MySegmentsStorageContainer.class)));
+
+        Map<String, EvaluationResult> results = batchEvaluator.getTreatments("key", null, new ArrayList<>(), null);
+
+        Assert.assertTrue(results.isEmpty());
+        verifyNoInteractions(splitsStorage);
+    }
+
+    @Test
+    public void sharedDependenciesAreEvaluatedOncePerCall() {
+        // top depends on left and right, which both depend on base
+        Map<String, Split> splitsMap = new HashMap<>();
+        splitsMap.put("base", dependencySplit("base"));
+        splitsMap.put("left", dependencySplit("left", "base"));
+        splitsMap.put("right", dependencySplit("right", "base"));
+        splitsMap.put("top", dependencySplit("top", "left", "right"));
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        when(splitsStorage.get(any())).thenAnswer(invocation -> splitsMap.get(invocation.getArgument(0)));
+        Evaluator dependencyEvaluator = new EvaluatorImpl(splitsStorage, new SplitParser(mock(MySegmentsStorageContainer.class)));
+
+        EvaluationResult result = dependencyEvaluator.getTreatment("key", null, "top", null);
+
+        Assert.assertEquals("on", result.getTreatment());
+        verify(splitsStorage, times(1)).get("base");
+        verify(splitsStorage, times(1)).get("left");
+        verify(splitsStorage, times(1)).get("right");
+        verify(splitsStorage, times(1)).get("top");
+    }
+
+    @Test
+    public void onlySplitsWithDependencyMatchersHaveDependencies() {
+        SplitParser parser = new SplitParser(mock(MySegmentsStorageContainer.class));
+
+        Assert.assertFalse(parser.parse(dependencySplit("base")).hasDependencies());
+        Assert.assertTrue(parser.parse(dependencySplit("top", "base")).hasDependencies());
+    }
+
+    @Test
+    public void sharedDependenciesAreEvaluatedOncePerBatch() {
+        Map<String, Split> splitsMap = new HashMap<>();
+        splitsMap.put("base", dependencySplit("base"));
+        splitsMap.put("left", dependencySplit("left", "base"));
+        splitsMap.put("right", dependencySplit("right", "base"));
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        when(splitsStorage.getMany(any())).thenReturn(new HashMap<>(splitsMap));
+        when(splitsStorage.get(any())).thenAnswer(invocation -> splitsMap.get(invocation.getArgument(0)));
+        Evaluator dependencyEvaluator = new EvaluatorImpl(splitsStorage, new SplitParser(mock(MySegmentsStorageContainer.class)));
+
+        Map<String, EvaluationResult> results = dependencyEvaluator.getTreatments("key", null, Arrays.asList("left", "right", "base"), null);
+
+        Assert.assertEquals("on", results.get("left").getTreatment());
+        Assert.assertEquals("on", results.get("right").getTreatment());
+        Assert.assertEquals("on", results.get("base").getTreatment());
+        // everything comes from the batch snapshot
+        verify(splitsStorage, never()).get(any());
+    }
+
+    @Test
+    public void circularDependencyDoesNotRecurseForever() {
+        Map<String, Split> splitsMap = new HashMap<>();
+        splitsMap.put("first", dependencySplit("first", "second"));
+        splitsMap.put("second", dependencySplit("second", "first"));
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        when(splitsStorage.get(any())).thenAnswer(invocation -> splitsMap.get(invocation.getArgument(0)));
+        Evaluator dependencyEvaluator = new EvaluatorImpl(splitsStorage, new SplitParser(mock(MySegmentsStorageContainer.class)));
+
+        EvaluationResult result = dependencyEvaluator.getTreatment("key", null, "first", null);
+
+        // the inner "first" evaluates to control so the dependency chain doesn't match
+        Assert.assertEquals("off", result.getTreatment());
+        Assert.assertEquals(TreatmentLabels.DEFAULT_RULE, result.getLabel());
+    }
+
+    /**
+     * Split returning "on" when all the given splits return "on", otherwise "off".
+     */
+    private static Split dependencySplit(String name, String... dependencies) {
+        List<Partition> partitions = Lists.newArrayList(ConditionsTestUtil.partition("on", 100));
+        Condition condition;
+        if (dependencies.length == 0) {
+            condition = ConditionsTestUtil.makeAllKeysCondition(partitions);
+        } else {
+            List<io.split.android.client.dtos.Matcher> matchers = new ArrayList<>();
+            for (String dependency : dependencies) {
+                matchers.add(ConditionsTestUtil.dependencyMatcher(dependency, Lists.newArrayList("on")));
+            }
+            condition = ConditionsTestUtil.and(matchers.get(0), partitions);
+            condition.matcherGroup.matchers = matchers;
+        }
+        condition.conditionType = ConditionType.ROLLOUT;
+        condition.label = "in dependencies";
+        return SplitHelper.createSplit(name, 123, false, "off", Lists.newArrayList(condition), "user", 1, 2, null);
+    }
+
     private Map<String, Split> splitsMap(List<Split> splits) {
         Map<String, Split> splitsMap = new HashMap<>();
         for(Split split : splits) {
@@ -0,0 +1,290 @@
+package io.split.android.engine.experiments;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import io.split.android.client.EvaluationResult;
+import io.split.android.client.Evaluator;
+import io.split.android.client.EvaluatorImpl;
+import io.split.android.client.dtos.Condition;
+import io.split.android.client.dtos.Matcher;
+import io.split.android.client.dtos.MatcherCombiner;
+import io.split.android.client.dtos.MatcherGroup;
+import io.split.android.client.dtos.MatcherType;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.dtos.Status;
+import io.split.android.client.storage.mysegments.MySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
+import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.client.utils.Json;
+import io.split.android.engine.matchers.AttributeMatcher;
+import io.split.android.engine.matchers.DependencyMatcher;
+import io.split.android.engine.matchers.strings.RegularExpressionMatcher;
+import io.split.android.engine.matchers.strings.WhitelistMatcher;
+import io.split.android.helpers.FileHelper;
+
+public class MatcherOrderingTest {
+
+    private static final String FIXTURE = "split_changes_1.json";
+
+    private final Random mRandom = new Random(20211018);
+    private MySegmentsStorageContainer mMySegmentsStorageContainer;
+    private Set<String> mSegmentNames;
+
+    @Before
+    public void setUp() {
+        mMySegmentsStorageContainer = mock(MySegmentsStorageContainer.class);
+        mSegmentNames = new LinkedHashSet<>();
+    }
+
+    @Test
+    public void matchersAreSortedByCost() {
+        Split split = splitWithGroup(MatcherCombiner.AND,
+                matcher(MatcherType.IN_SPLIT_TREATMENT), matcher(MatcherType.MATCHES_STRING), matcher(MatcherType.WHITELIST));
+
+        List<AttributeMatcher> ordered = new SplitParser(mMySegmentsStorageContainer).parse(split)
+                .parsedConditions().get(0).matcher().attributeMatchers();
+        List<AttributeMatcher> original = new SplitParser(mMySegmentsStorageContainer, false).parse(split)
+                .parsedConditions().get(0).matcher().attributeMatchers();
+
+        assertTrue(delegateOf(ordered.get(0)) instanceof WhitelistMatcher);
+        assertTrue(delegateOf(ordered.get(1)) instanceof RegularExpressionMatcher);
+        assertTrue(delegateOf(ordered.get(2)) instanceof DependencyMatcher);
+        assertTrue(delegateOf(original.get(0)) instanceof DependencyMatcher);
+        assertTrue(delegateOf(original.get(2)) instanceof WhitelistMatcher);
+    }
+
+    @Test
+    public void sortedMatchersGiveSameResultsForFixtures() {
+        List<Split> splits = loadActiveSplits(FIXTURE);
+
+        assertEquivalent(splits, splits);
+    }
+
+    @Test
+    public void reversedMatchersGiveSameResultsForFixtures() {
+        List<Split> splits = loadActiveSplits(FIXTURE);
+
+        assertEquivalent(splits, reverseMatchers(splits));
+    }
+
+    private static List<Split> loadActiveSplits(String fixture) {
+        List<Split> splits = new ArrayList<>();
+        for (Split split : new FileHelper().loadAndParseSplitChangeFile(fixture)) {
+            if (split.status == Status.ACTIVE && split.conditions != null) {
+                splits.add(split);
+            }
+        }
+        return splits;
+    }
+
+    private void assertEquivalent(List<Split> originalSplits, List<Split> otherSplits) {
+        List<Map<String, Object>> attributeSets = attributeSets(originalSplits);
+        List<String> keys = keys(originalSplits);
+        Evaluator unordered = evaluator(originalSplits, false);
+        Evaluator ordered = evaluator(otherSplits, true);
+
+        Set<String> labels = new HashSet<>();
+        for (String key : keys) {
+            for (Map<String, Object> attributes : attributeSets) {
+                for (Split split : originalSplits) {
+                    EvaluationResult expected = unordered.getTreatment(key, null, split.name, attributes);
+                    EvaluationResult result = ordered.getTreatment(key, null, split.name, attributes);
+
+                    String description = split.name + " " + key + " " + attributes;
+                    assertEquals(description, expected.getTreatment(), result.getTreatment());
+                    assertEquals(description, expected.getLabel(), result.getLabel());
+                    assertEquals(description, expected.getChangeNumber(), result.getChangeNumber());
+                    assertEquals(description, expected.getConfigurations(), result.getConfigurations());
+                    labels.add(result.getLabel());
+                }
+            }
+        }
+        // Inputs must reach different conditions for the comparison to be meaningful
+        assertTrue(labels.toString(), labels.size() > 5);
+    }
+
+    private Evaluator evaluator(List<Split> splits, boolean orderMatchersByCost) {
+        Map<String, Split> splitsMap = new HashMap<>();
+        for (Split split : splits) {
+            splitsMap.put(split.name, split);
+            for (Condition condition : split.conditions) {
+                for (Matcher matcher : condition.matcherGroup.matchers) {
+                    if (matcher.userDefinedSegmentMatcherData != null) {
+                        mSegmentNames.add(matcher.userDefinedSegmentMatcherData.segmentName);
+                    }
+                }
+            }
+        }
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        when(splitsStorage.get(any())).thenAnswer(invocation -> splitsMap.get(invocation.getArgument(0)));
+        when(mMySegmentsStorageContainer.getStorageIfPresent(anyString())).thenAnswer(invocation -> segmentsStorage(invocation.getArgument(0)));
+
+        return new EvaluatorImpl(splitsStorage, new SplitParser(mMySegmentsStorageContainer, orderMatchersByCost));
+    }
+
+    /**
+     * Each key belongs to a different, but stable, subset of the segments.
+     */
+    private MySegmentsStorage segmentsStorage(String key) {
+        Set<String> segments = new HashSet<>();
+        int i = 0;
+        for (String segment : mSegmentNames) {
+            if (((key.hashCode() >> i) & 1) == 1) {
+                segments.add(segment);
+            }
+            i++;
+        }
+        MySegmentsStorage storage = mock(MySegmentsStorage.class);
+        when(storage.getAll()).thenReturn(segments);
+        return storage;
+    }
+
+    private List<String> keys(List<Split> splits) {
+        Set<String> keys = new LinkedHashSet<>(Arrays.asList("key", "nico_test", "anyKey", "user_1", "user_22", "user_333"));
+        for (Split split : splits) {
+            for (Condition condition : split.conditions) {
+                for (Matcher matcher : condition.matcherGroup.matchers) {
+                    if (matcher.whitelistMatcherData != null && (matcher.keySelector == null || matcher.keySelector.attribute == null)) {
+                        keys.addAll(matcher.whitelistMatcherData.whitelist);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Random attribute maps built from the values the matchers compare against,
+     * so that every matcher gets both matching and non matching inputs.
+     */
+    private List<Map<String, Object>> attributeSets(List<Split> splits) {
+        Map<String, List<Object>> candidates = new HashMap<>();
+        for (Split split : splits) {
+            for (Condition condition : split.conditions) {
+                for (Matcher matcher : condition.matcherGroup.matchers) {
+                    if (matcher.keySelector == null || matcher.keySelector.attribute == null) {
+                        continue;
+                    }
+                    List<Object> values = candidates.get(matcher.keySelector.attribute);
+                    if (values == null) {
+                        values = new ArrayList<>(Collections.singletonList("no_match"));
+                        candidates.put(matcher.keySelector.attribute, values);
+                    }
+                    addCandidates(matcher, values);
+                }
+            }
+        }
+
+        List<Map<String, Object>> attributeSets = new ArrayList<>();
+        attributeSets.add(new HashMap<>());
+        for (int i = 0; i < 150; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            for (Map.Entry<String, List<Object>> entry : candidates.entrySet()) {
+                if (mRandom.nextInt(10) < 7) {
+                    List<Object> values = entry.getValue();
+                    attributes.put(entry.getKey(), values.get(mRandom.nextInt(values.size())));
+                }
+            }
+            attributeSets.add(attributes);
+        }
+        return attributeSets;
+    }
+
+    private static void addCandidates(Matcher matcher, List<Object> values) {
+        if (matcher.whitelistMatcherData != null) {
+            for (String value : matcher.whitelistMatcherData.whitelist) {
+                values.add(value);
+                values.add(value + "_suffix");
+                values.add("prefix_" + value);
+            }
+            values.add(new ArrayList<>(matcher.whitelistMatcherData.whitelist));
+        }
+        if (matcher.unaryNumericMatcherData != null) {
+            long value = matcher.unaryNumericMatcherData.value;
+            values.addAll(Arrays.asList(value - 1, value, value + 1));
+        }
+        if (matcher.betweenMatcherData != null) {
+            long start = matcher.betweenMatcherData.start;
+            long end = matcher.betweenMatcherData.end;
+            values.addAll(Arrays.asList(start - 1, start, (start + end) / 2, end, end + 1));
+        }
+        if (matcher.booleanMatcherData != null) {
+            values.addAll(Arrays.asList(true, false, "true"));
+        }
+        if (matcher.stringMatcherData != null) {
+            values.add(matcher.stringMatcherData);
+        }
+    }
+
+    private static List<Split> reverseMatchers(List<Split> splits) {
+        List<Split> reversed = new ArrayList<>();
+        for (Split split : splits) {
+            Split copy = Json.fromJson(Json.toJson(split), Split.class);
+            for (Condition condition : copy.conditions) {
+                Collections.reverse(condition.matcherGroup.matchers);
+            }
+            reversed.add(copy);
+        }
+        return reversed;
+    }
+
+    private static Object delegateOf(AttributeMatcher attributeMatcher) {
+        return ((AttributeMatcher.NegatableMatcher) attributeMatcher.matcher()).delegate();
+    }
+
+    private static Split splitWithGroup(MatcherCombiner combiner, Matcher... matchers) {
+        Split split = new Split();
+        split.name = "split";
+        split.status = Status.ACTIVE;
+        split.defaultTreatment = "off";
+        split.trafficAllocation = 100;
+        split.trafficAllocationSeed = 1;
+        split.conditions = new ArrayList<>();
+        Condition condition = new Condition();
+        condition.matcherGroup = new MatcherGroup();
+        condition.matcherGroup.combiner = combiner;
+        condition.matcherGroup.matchers = Arrays.asList(matchers);
+        condition.partitions = new ArrayList<>();
+        split.conditions.add(condition);
+        return split;
+    }
+
+    private static Matcher matcher(MatcherType matcherType) {
+        Matcher matcher = new Matcher();
+        matcher.matcherType = matcherType;
+        switch (matcherType) {
+            case IN_SPLIT_TREATMENT:
+                matcher.dependencyMatcherData = new io.split.android.client.dtos.DependencyMatcherData();
+                matcher.dependencyMatcherData.split = "other_split";
+                matcher.dependencyMatcherData.treatments = Collections.singletonList("on");
+                break;
+            case MATCHES_STRING:
+                matcher.stringMatcherData = "^a.*";
+                break;
+            case WHITELIST:
+                matcher.whitelistMatcherData = new io.split.android.client.dtos.WhitelistMatcherData();
+                matcher.whitelistMatcherData.whitelist = Collections.singletonList("a");
+                break;
+        }
+        return matcher;
+    }
+}
@@ -0,0 +1,137 @@
+package io.split.android.engine.experiments;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import io.split.android.client.EvaluationResult;
+import io.split.android.client.EvaluatorImpl;
+import io.split.android.client.dtos.ConditionType;
+import io.split.android.client.dtos.Split;
+import io.split.android.client.storage.mysegments.MySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
+import io.split.android.client.storage.splits.SplitsStorage;
+import io.split.android.engine.ConditionsTestUtil;
+import io.split.android.helpers.SplitHelper;
+
+public class ParsedSplitsCacheTest {
+
+    private MySegmentsStorageContainer mMySegmentsStorageContainer;
+    private SplitParser mSplitParser;
+    private ParsedSplitsCache mCache;
+
+    @Before
+    public void setUp() {
+        mMySegmentsStorageContainer = mock(MySegmentsStorageContainer.class);
+        mSplitParser = spy(new SplitParser(mMySegmentsStorageContainer));
+        mCache = new ParsedSplitsCache();
+    }
+
+    @Test
+    public void cachedSplitIsReturnedForSameInstance() {
+        Split split = newSplit("split", 1);
+        ParsedSplit parsedSplit = mSplitParser.parse(split);
+
+        mCache.put(split, parsedSplit);
+
+        assertSame(parsedSplit, mCache.get(split));
+    }
+
+    @Test
+    public void cachedSplitIsIgnoredWhenInstanceChanges() {
+        Split split = newSplit("split", 1);
+        mCache.put(split, mSplitParser.parse(split));
+
+        assertNull(mCache.get(newSplit("split", 1)));
+    }
+
+    @Test
+    public void cachedSplitIsIgnoredWhenChangeNumberChanges() {
+        Split split = newSplit("split", 1);
+        mCache.put(split, mSplitParser.parse(split));
+
+        split.changeNumber = 2;
+
+        assertNull(mCache.get(split));
+    }
+
+    @Test
+    public void removeAndClear() {
+        Split split = newSplit("split", 1);
+        Split split2 = newSplit("split2", 1);
+        mCache.put(split, mSplitParser.parse(split));
+        mCache.put(split2, mSplitParser.parse(split2));
+
+        mCache.remove("split");
+        assertNull(mCache.get(split));
+        assertEquals(1, mCache.size());
+
+        mCache.clear();
+        assertEquals(0, mCache.size());
+    }
+
+    @Test
+    public void evaluatorParsesSplitOnlyOnceForAllKeys() {
+        Split split = newSplit("segment_split", 1);
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        MySegmentsStorage keyStorage = mock(MySegmentsStorage.class);
+        MySegmentsStorage otherKeyStorage = mock(MySegmentsStorage.class);
+        when(splitsStorage.get("segment_split")).thenReturn(split);
+        when(mMySegmentsStorageContainer.getStorageIfPresent("key")).thenReturn(keyStorage);
+        when(mMySegmentsStorageContainer.getStorageIfPresent("other_key")).thenReturn(otherKeyStorage);
+        when(keyStorage.getAll()).thenReturn(new HashSet<>(Collections.singletonList("segment")));
+        when(otherKeyStorage.getAll()).thenReturn(new HashSet<>());
+
+        EvaluatorImpl evaluator = new EvaluatorImpl(splitsStorage, mSplitParser, mCache);
+        EvaluationResult first = evaluator.getTreatment("key", null, "segment_split", null);
+        EvaluationResult second = evaluator.getTreatment("other_key", null, "segment_split", null);
+        EvaluationResult third = evaluator.getTreatment("key", null, "segment_split", null);
+
+        verify(mSplitParser, times(1)).parse(any());
+        assertEquals("on", first.getTreatment());
+        assertEquals("off", second.getTreatment());
+        assertEquals("on", third.getTreatment());
+    }
+
+    @Test
+    public void evaluatorParsesAgainWhenSplitIsUpdated() {
+        Split split = newSplit("segment_split", 1);
+        Split updatedSplit = newSplit("segment_split", 2);
+        updatedSplit.killed = true;
+        SplitsStorage splitsStorage = mock(SplitsStorage.class);
+        MySegmentsStorage keyStorage = mock(MySegmentsStorage.class);
+        when(splitsStorage.get("segment_split")).thenReturn(split).thenReturn(updatedSplit);
+        when(mMySegmentsStorageContainer.getStorageIfPresent("key")).thenReturn(keyStorage);
+        when(keyStorage.getAll()).thenReturn(new HashSet<>(Collections.singletonList("segment")));
+
+        EvaluatorImpl evaluator = new EvaluatorImpl(splitsStorage, mSplitParser, mCache);
+        EvaluationResult first = evaluator.getTreatment("key", null, "segment_split", null);
+        EvaluationResult second = evaluator.getTreatment("key", null, "segment_split", null);
+
+        verify(mSplitParser, times(2)).parse(any());
+        assertEquals("on", first.getTreatment());
+        assertEquals("off", second.getTreatment());
+        assertEquals(Long.valueOf(2), second.getChangeNumber());
+    }
+
+    private Split newSplit(String name, long changeNumber) {
+        return SplitHelper.createSplit(name, 123, false, "off",
+                Lists.newArrayList(ConditionsTestUtil.makeUserDefinedSegmentCondition(ConditionType.ROLLOUT,
+                        "segment", Lists.newArrayList(ConditionsTestUtil.partition("on", 100)))),
+                "user", changeNumber, 2, null);
+    }
+}
@@ -10,16 +10,24 @@ import io.split.android.engine.matchers.BooleanMatcher;
 import io.split.android.engine.matchers.GreaterThanOrEqualToMatcher;
 import io.split.android.engine.matchers.LessThanOrEqualToMatcher;
 import io.split.android.client.dtos.DataType;
+import io.split.android.client.storage.mysegments.MySegmentsStorage;
+import io.split.android.client.storage.mysegments.MySegmentsStorageContainer;
 import io.split.android.engine.matchers.strings.WhitelistMatcher;
 import org.junit.Test;
 
 import java.util.Calendar;
+import java.util.HashSet;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for AllKeysMatcher
@@ -37,6 +45,21 @@ public class AttributeMatcherTest {
         assertThat(matcher.match("ignore", null, ImmutableMap.of("creation_date", new Date()), null), is(false));
     }
 
+    @Test
+    public void segmentMatcherOnAttributeUsesMatchingKey() {
+        MySegmentsStorageContainer container = mock(MySegmentsStorageContainer.class);
+        MySegmentsStorage storage = mock(MySegmentsStorage.class);
+        when(container.getStorageIfPresent("key")).thenReturn(storage);
+        when(storage.getAll()).thenReturn(new HashSet<>(Collections.singletonList("segment")));
+
+        AttributeMatcher matcher = new AttributeMatcher("user", new MySegmentsMatcher(container, "segment"), false);
+        assertThat(matcher.match("key", null, ImmutableMap.<String, Object>of("user", "other_key"), null), is(true));
+        assertThat(matcher.match("key", null, ImmutableMap.<String, Object>of("user", 10L), null), is(true));
+        assertThat(matcher.match("key", null, Collections.<String, Object>emptyMap(), null), is(false));
+        verify(container, never()).getStorageIfPresent("other_key");
+        verify(container, never()).getStorageForKey(anyString());
+    }
+
     @Test
     public void works_negation() {
         AttributeMatcher matcher = new AttributeMatcher("creation_date", new GreaterThanOrEqualToMatcher(100L, DataType.NUMBER), true);
@@ -11,6 +11,10 @@ import org.junit.Test;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -31,4 +35,15 @@ public class CombiningMatcherTest {
         assertThat(combiner.match("c", null, null, null), is(false));
     }
 
+    @Test
+    public void and_stops_at_first_non_matching() {
+        Matcher expensive = mock(Matcher.class);
+        AttributeMatcher matcher1 = AttributeMatcher.vanilla(new WhitelistMatcher(Lists.newArrayList("a")));
+        AttributeMatcher matcher2 = AttributeMatcher.vanilla(expensive);
+
+        CombiningMatcher combiner = new CombiningMatcher(MatcherCombiner.AND, Lists.newArrayList(matcher1, matcher2));
+
+        assertThat(combiner.match("c", null, null, null), is(false));
+        verify(expensive, never()).match(any(), any(), any(), any());
+    }
 }
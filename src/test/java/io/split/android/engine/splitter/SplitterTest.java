@@ -20,6 +20,7 @@ import java.util.Random;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -138,6 +139,17 @@ public class SplitterTest {
         assertThat(Splitter.getTreatment("13", 15, partitions, 1), is(equalTo("on")));
     }
 
+    @Test
+    public void treatmentWithoutBucketIsOnlyResolvedWhenBucketIsNotNeeded() {
+        List<Partition> single = Lists.newArrayList(partition("on", 100));
+        List<Partition> split = Lists.newArrayList(partition("on", 50), partition("off", 50));
+
+        assertThat(Splitter.getTreatmentWithoutBucket(single), is(equalTo("on")));
+        assertThat(Splitter.getTreatmentWithoutBucket(Lists.<Partition>newArrayList()), is(equalTo("control")));
+        assertThat(Splitter.getTreatmentWithoutBucket(split), is(nullValue()));
+        assertThat(Splitter.getTreatmentForBucket(51, split), is(equalTo("off")));
+    }
+
     private Partition partition(String treatment, int size) {
         Partition p = new Partition();
         p.treatment = treatment;
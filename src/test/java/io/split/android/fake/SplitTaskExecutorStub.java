@@ -45,6 +45,21 @@ public class SplitTaskExecutorStub implements SplitTaskExecutor {
 
     }
 
+    @Override
+    public int getThreadCount() {
+        return 0;
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return 0;
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return 0;
+    }
+
     @Override
     public void stop() {
 